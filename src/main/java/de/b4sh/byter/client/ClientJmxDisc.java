@@ -1,6 +1,7 @@
 package de.b4sh.byter.client;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -8,6 +9,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.Deflater;
 
 import com.udojava.jmx.wrapper.JMXBean;
 import com.udojava.jmx.wrapper.JMXBeanAttribute;
@@ -16,17 +18,46 @@ import com.udojava.jmx.wrapper.JMXBeanParameter;
 import de.b4sh.byter.utils.data.ChunkGenerator;
 import de.b4sh.byter.utils.data.DateGenerator;
 import de.b4sh.byter.utils.data.StringGenerator;
+import de.b4sh.byter.utils.data.PayloadGenerator;
+import de.b4sh.byter.utils.data.PayloadProfile;
 import de.b4sh.byter.utils.exception.ClientDiscError;
 import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.io.IoHintProfile;
 import de.b4sh.byter.utils.jmx.JmxEntity;
 import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.measurements.PerformanceTimerHelper;
+import de.b4sh.byter.utils.measurements.RatePacer;
+import de.b4sh.byter.utils.writer.Durability;
+import de.b4sh.byter.utils.writer.DurabilityPolicy;
 import de.b4sh.byter.utils.writer.WriterArchival;
+import de.b4sh.byter.utils.writer.WriterAsyncFileChannel;
 import de.b4sh.byter.utils.writer.WriterBuffered;
+import de.b4sh.byter.utils.writer.WriterDirectIO;
 import de.b4sh.byter.utils.writer.WriterFileChannel;
+import de.b4sh.byter.utils.writer.WriterGathering;
 import de.b4sh.byter.utils.writer.WriterInterface;
+import de.b4sh.byter.utils.writer.WriterMemoryMapped;
 import de.b4sh.byter.utils.writer.WriterNull;
 import de.b4sh.byter.utils.writer.WriterRandomAccessFile;
+import de.b4sh.byter.utils.writer.WriterStriped;
+import de.b4sh.byter.utils.writer.WriterCompressing;
+import de.b4sh.byter.utils.writer.WriterChecksumming;
+import de.b4sh.byter.utils.writer.WriterSegmented;
+import de.b4sh.byter.utils.writer.WriterCombining;
+import de.b4sh.byter.utils.writer.WriterDoubleBuffered;
+import de.b4sh.byter.utils.writer.EncryptionMode;
+import de.b4sh.byter.utils.writer.WriterEncrypting;
+import de.b4sh.byter.utils.writer.ErasureMap;
+import de.b4sh.byter.utils.writer.WriterErasureCoded;
+import de.b4sh.byter.utils.writer.PipelineStage;
+import de.b4sh.byter.utils.writer.WriterPipeline;
+import de.b4sh.byter.utils.writer.WriterSharedFile;
+import de.b4sh.byter.utils.writer.WriterPaced;
+import de.b4sh.byter.utils.writer.SharedFileGroup;
+import de.b4sh.byter.utils.writer.WriterTransfer;
+import de.b4sh.byter.utils.writer.ReplicationMode;
 import de.b4sh.byter.utils.writer.WriterType;
+import de.b4sh.byter.utils.writer.WriterUring;
 import de.b4sh.byter.utils.writer.WriterWorkpile;
 
 /**
@@ -43,6 +74,27 @@ public final class ClientJmxDisc extends JmxEntity {
     private int chunkSize;
     private long byteTarget;
     private int writerBufferSize;
+    private int writerBatchSize;
+    private int writerQueueDepth;
+    private DurabilityPolicy durabilityPolicy;
+    private long durabilityParameter;
+    private List<String> stripePaths;
+    private long replicationSliceSize;
+    private ReplicationMode replicationMode;
+    private long targetBytesPerSecond;
+    private long targetOpsPerSecond;
+    private long warmupBytes;
+    private long warmupMillis;
+    private int erasureDataShards;
+    private int erasureParityShards;
+    private List<String> pipelineStages;
+    private IoHintProfile ioHintProfile;
+    private long ioHintWindow;
+    private PayloadProfile payloadProfile;
+    private double payloadParameter;
+    private int payloadBlockSize;
+    private long payloadSeed;
+    private String payloadCorpusPath;
     private int measurementVolume;
     private String fileName;
     private boolean automaticFileRemoval;
@@ -60,6 +112,27 @@ public final class ClientJmxDisc extends JmxEntity {
         super(packageName, type);
         this.writerType = WriterType.None;
         this.writerBufferSize = 8192;
+        this.writerBatchSize = 0; //0 = writer default
+        this.writerQueueDepth = 0; //0 = writer default
+        this.durabilityPolicy = DurabilityPolicy.None;
+        this.durabilityParameter = 0; //0 = policy default
+        this.stripePaths = new ArrayList<>(); //empty = output path only
+        this.replicationSliceSize = 0; //0 = writer default
+        this.replicationMode = ReplicationMode.TransferTo;
+        this.targetBytesPerSecond = 0; //0 = closed loop
+        this.targetOpsPerSecond = 0; //0 = closed loop
+        this.warmupBytes = 0; //0 = no warmup
+        this.warmupMillis = 0; //0 = no warmup
+        this.erasureDataShards = WriterErasureCoded.DEFAULT_DATA_SHARDS;
+        this.erasureParityShards = WriterErasureCoded.DEFAULT_PARITY_SHARDS;
+        this.pipelineStages = WriterPipeline.DEFAULT_STAGES;
+        this.ioHintProfile = IoHintProfile.None;
+        this.ioHintWindow = 0; //0 = hint default
+        this.payloadProfile = PayloadProfile.Random;
+        this.payloadParameter = 1;
+        this.payloadBlockSize = 0; //0 = generator default
+        this.payloadSeed = 0; //0 = fresh seed per writer
+        this.payloadCorpusPath = "";
         this.outputPath = System.getProperty("user.dir");
         this.chunkSize = 8192;
         this.byteTarget = 8192 * 10;
@@ -102,6 +175,85 @@ public final class ClientJmxDisc extends JmxEntity {
         }
     }
 
+    /**
+     * Starts multiple writer threads that append to one shared file.
+     * Every thread writes the byte target, ranges are reserved through the SharedFileGroup.
+     * Uses the servicePool for actions.
+     * @param count how many threads should share the file
+     */
+    @JMXBeanOperation(name = "startSharedFileWriter", description = "start multiple writer threads on one shared file")
+    public void startSharedFileWriter(
+        @JMXBeanParameter(name = "count", description = "count of threads that share the file")final int count
+    ){
+        if(count <= 0){
+            log.log(Level.WARNING, "given count is zero or below. stopping here");
+            return;
+        }
+        if(!activeWriter.isEmpty())
+            return;
+        final String name = this.getFileNameOrRandom();
+        final File writeFile = new File(this.outputPath, name +".data");
+        final PayloadGenerator payload = this.createPayloadGenerator();
+        final byte[] chunk = payload.generate(this.chunkSize);
+        final int iterations = (int)(byteTarget / chunk.length);
+        final byte[] edge = payload.generate((int)(byteTarget % chunk.length));
+        final int measurementSteps = PerformanceTimer.calculateSkippedMeasurements(this.byteTarget * count,this.measurementVolume,this.writerBufferSize);
+        final PerformanceTimer workingTimer = new PerformanceTimer(WriterSharedFile.class.getName(),measurementVolume,measurementSteps);
+        final SharedFileGroup group = new SharedFileGroup(count, writeFile, this.warmup(workingTimer));
+        group.setAutomaticFileRemoval(this.automaticFileRemoval);
+        if(this.durabilityPolicy != DurabilityPolicy.None){
+            final PerformanceTimer syncTimer = new PerformanceTimer(Durability.class.getName(),measurementVolume,0);
+            group.setDurabilityPolicy(this.durabilityPolicy,this.durabilityParameter,syncTimer);
+        }
+        if(this.ioHintProfile != IoHintProfile.None)
+            group.setIoHints(this.ioHintProfile,this.ioHintWindow);
+        for(final WriterSharedFile wi: group.getMembers()){
+            wi.setRunParameters(chunk,edge,iterations);
+            this.activeWriter.add(wi);
+        }
+        for(final WriterSharedFile wi: group.getMembers()){
+            this.servicePool.submit(createThreadFromWriter(wi));
+        }
+        log.log(Level.INFO, "successfully added " + count + " Writer on shared file " + writeFile.getName() + ".");
+    }
+
+    /**
+     * Starts the replication of an existing file into the output path.
+     * The replication is tracked like a writer (activeWritersDone, stopServicePool, evaluation data).
+     * @param param1 path of the file to replicate (relative paths are resolved on the client side)
+     * @return String with error or success message
+     */
+    @JMXBeanOperation(name = "StartReplication", description = "replicate an existing file to the output path")
+    public String startReplication(
+        @JMXBeanParameter(name = "sourcePath", description = "file to replicate") final String param1
+    ){
+        final String sourcePath = String.valueOf(param1);
+        final File source = FileManager.isPathRelative(sourcePath)
+                ? new File(FileManager.operationSystemBasedPathCorrection(FileManager.transformRelativeToAbsolutPath(sourcePath)))
+                : new File(sourcePath);
+        if(!source.isFile())
+            return "ERROR: SOURCE NOT EXISTING! \n" + source.getAbsolutePath() + " is not a file.";
+        if(!activeWriter.isEmpty())
+            return "ERROR: writers are still active. Stop the service pool first.";
+        final String name = this.getFileNameOrRandom();
+        final File writeFile = new File(this.outputPath, name +".data");
+        final int sliceSize = (int) (this.replicationSliceSize > 0 ? Math.min(this.replicationSliceSize, Integer.MAX_VALUE) : WriterTransfer.DEFAULT_SLICE_SIZE);
+        final int measurementSteps = PerformanceTimer.calculateSkippedMeasurements(source.length(),this.measurementVolume,sliceSize);
+        final PerformanceTimer workingTimer = new PerformanceTimer(WriterTransfer.class.getName(),measurementVolume,measurementSteps);
+        final WriterTransfer wi = new WriterTransfer(source, writeFile, this.replicationSliceSize, this.replicationMode, this.warmup(workingTimer));
+        wi.setAutomaticFileRemoval(this.automaticFileRemoval);
+        if(this.durabilityPolicy != DurabilityPolicy.None){
+            final PerformanceTimer syncTimer = new PerformanceTimer(Durability.class.getName(),measurementVolume,0);
+            wi.setDurabilityPolicy(this.durabilityPolicy,this.durabilityParameter,syncTimer);
+        }
+        if(this.ioHintProfile != IoHintProfile.None)
+            wi.setIoHints(this.ioHintProfile,this.ioHintWindow);
+        this.activeWriter.add(wi);
+        this.servicePool.submit(new Thread(wi));
+        return "Started replication of " + source.getAbsolutePath() + " to " + writeFile.getAbsolutePath()
+                + " with mode " + this.replicationMode.name();
+    }
+
     /**
      * Shuts down and resets the service pool + list for every "active" writer currently.
      * @return String message with success or failure
@@ -256,6 +408,201 @@ public final class ClientJmxDisc extends JmxEntity {
         return writerBufferSize;
     }
 
+    /**
+     * get the current set writer batch size.
+     * @return count of chunks per gathering write | 0 (writer default)
+     */
+    @JMXBeanAttribute(name = "WriterBatchSize", description = "count of chunks a batching writer collects")
+    public int getWriterBatchSize() {
+        return writerBatchSize;
+    }
+
+    /**
+     * get the current set writer queue depth.
+     * @return count of writes in flight | 0 (writer default)
+     */
+    @JMXBeanAttribute(name = "WriterQueueDepth", description = "count of writes an asynchronous writer keeps in flight")
+    public int getWriterQueueDepth() {
+        return writerQueueDepth;
+    }
+
+    /**
+     * get the current set durability policy.
+     * @return key of the durability policy
+     */
+    @JMXBeanAttribute(name = "DurabilityPolicy", description = "policy when written data is forced onto the device")
+    public String getDurabilityPolicy() {
+        return durabilityPolicy.getKey();
+    }
+
+    /**
+     * get the current set durability parameter.
+     * @return bytes or milliseconds between syncs | 0 (policy default)
+     */
+    @JMXBeanAttribute(name = "DurabilityParameter", description = "bytes or milliseconds between syncs")
+    public long getDurabilityParameter() {
+        return durabilityParameter;
+    }
+
+    /**
+     * get the current set stripe directories.
+     * @return directories separated by the path separator of the os
+     */
+    @JMXBeanAttribute(name = "StripePaths", description = "directories a striped writer writes to")
+    public String getStripePaths() {
+        final StringBuilder sb = new StringBuilder();
+        for(String path: this.stripePaths){
+            if(sb.length() > 0)
+                sb.append(File.pathSeparator);
+            sb.append(path);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * get the current set replication slice size.
+     * @return bytes per transfer call | 0 (writer default)
+     */
+    @JMXBeanAttribute(name = "ReplicationSliceSize", description = "bytes per transfer call of a replication")
+    public long getReplicationSliceSize() {
+        return replicationSliceSize;
+    }
+
+    /**
+     * get the current set target byte rate for paced (open loop) writers.
+     * @return bytes per second | 0 (closed loop)
+     */
+    @JMXBeanAttribute(name = "TargetBytesPerSecond", description = "byte rate writers are paced to, 0 for closed loop")
+    public long getTargetBytesPerSecond() {
+        return targetBytesPerSecond;
+    }
+
+    /**
+     * get the current set target chunk rate for paced (open loop) writers.
+     * @return chunks per second | 0 (closed loop)
+     */
+    @JMXBeanAttribute(name = "TargetOpsPerSecond", description = "chunk rate writers are paced to, 0 for closed loop")
+    public long getTargetOpsPerSecond() {
+        return targetOpsPerSecond;
+    }
+
+    /**
+     * get the current set warmup in bytes.
+     * @return bytes | 0 (no warmup)
+     */
+    @JMXBeanAttribute(name = "WarmupBytes", description = "bytes excluded from the measurements at the start of a writer")
+    public long getWarmupBytes() {
+        return warmupBytes;
+    }
+
+    /**
+     * get the current set warmup in milliseconds.
+     * @return milliseconds | 0 (no warmup)
+     */
+    @JMXBeanAttribute(name = "WarmupMillis", description = "milliseconds excluded from the measurements at the start of a writer")
+    public long getWarmupMillis() {
+        return warmupMillis;
+    }
+
+    /**
+     * get the current set count of data shards for the erasure coding writer.
+     * @return count of data shards
+     */
+    @JMXBeanAttribute(name = "ErasureDataShards", description = "data shards per stripe of the erasure coding writer")
+    public int getErasureDataShards() {
+        return erasureDataShards;
+    }
+
+    /**
+     * get the current set count of parity shards for the erasure coding writer.
+     * @return count of parity shards
+     */
+    @JMXBeanAttribute(name = "ErasureParityShards", description = "parity shards per stripe of the erasure coding writer")
+    public int getErasureParityShards() {
+        return erasureParityShards;
+    }
+
+    /**
+     * get the current set stages of the pipeline writer.
+     * @return stage keys separated by comma, the last one is the sink
+     */
+    @JMXBeanAttribute(name = "PipelineStages", description = "stages of the pipeline writer")
+    public String getPipelineStages() {
+        return String.join(",", this.pipelineStages);
+    }
+
+    /**
+     * get the current set native I/O hint profile.
+     * @return key of the hint profile
+     */
+    @JMXBeanAttribute(name = "IoHintProfile", description = "native I/O hints of the writers")
+    public String getIoHintProfile() {
+        return ioHintProfile.getKey();
+    }
+
+    /**
+     * get the current set window of the native I/O hints.
+     * @return bytes of a hint window | 0 (hint default)
+     */
+    @JMXBeanAttribute(name = "IoHintWindow", description = "bytes of a native I/O hint window")
+    public long getIoHintWindow() {
+        return ioHintWindow;
+    }
+
+    /**
+     * get the current set payload profile.
+     * @return key of the payload profile
+     */
+    @JMXBeanAttribute(name = "PayloadProfile", description = "kind of data the writers write")
+    public String getPayloadProfile() {
+        return payloadProfile.getKey();
+    }
+
+    /**
+     * get the current set payload parameter.
+     * @return compression or dedup ratio
+     */
+    @JMXBeanAttribute(name = "PayloadParameter", description = "compression or dedup ratio of the payload")
+    public double getPayloadParameter() {
+        return payloadParameter;
+    }
+
+    /**
+     * get the current set payload block size.
+     * @return bytes | 0 (generator default)
+     */
+    @JMXBeanAttribute(name = "PayloadBlockSize", description = "block size the payload ratios are applied on")
+    public int getPayloadBlockSize() {
+        return payloadBlockSize;
+    }
+
+    /**
+     * get the current set payload seed.
+     * @return seed | 0 (fresh seed per writer)
+     */
+    @JMXBeanAttribute(name = "PayloadSeed", description = "seed of the payload generator")
+    public long getPayloadSeed() {
+        return payloadSeed;
+    }
+
+    /**
+     * get the current set corpus path.
+     * @return path of the corpus file
+     */
+    @JMXBeanAttribute(name = "PayloadCorpusPath", description = "file the corpus payload replays")
+    public String getPayloadCorpusPath() {
+        return payloadCorpusPath;
+    }
+
+    /**
+     * get the current set replication mode.
+     * @return key of the replication mode
+     */
+    @JMXBeanAttribute(name = "ReplicationMode", description = "how a replication copies the source file")
+    public String getReplicationMode() {
+        return replicationMode.getKey();
+    }
+
     /**
      * get the current set target of how many measurements should be taken.
      * @return max size of measurement list
@@ -370,6 +717,353 @@ public final class ClientJmxDisc extends JmxEntity {
         this.writerBufferSize = writerBufferSize;
     }
 
+    /**
+     * set a new batch size for batching writer implementations.
+     * @param writerBatchSize new batch size (0 for the writer default)
+     */
+    @JMXBeanOperation(name = "SetWriterBatchSize", description = "set a writer batch size")
+    public void setWriterBatchSize(
+        @JMXBeanParameter(name = "NewWriterBatchSize") final int writerBatchSize
+    ){
+        this.writerBatchSize = writerBatchSize;
+    }
+
+    /**
+     * set a new queue depth for asynchronous writer implementations.
+     * @param writerQueueDepth new queue depth (0 for the writer default)
+     */
+    @JMXBeanOperation(name = "SetWriterQueueDepth", description = "set a writer queue depth")
+    public void setWriterQueueDepth(
+        @JMXBeanParameter(name = "NewWriterQueueDepth") final int writerQueueDepth
+    ){
+        this.writerQueueDepth = writerQueueDepth;
+    }
+
+    /**
+     * set a new durability policy.
+     * @see de.b4sh.byter.utils.writer.DurabilityPolicy
+     * @param param1 new policy as string. requires a key from DurabilityPolicy Enum.
+     * @return String with errorMessage or success msg.
+     */
+    @JMXBeanOperation(name = "SetDurabilityPolicy", description = "set a new durability policy")
+    public String setDurabilityPolicy(
+        @JMXBeanParameter(name = "newDurabilityPolicy") final String param1
+    ){
+        final String newPolicy = String.valueOf(param1).toLowerCase();
+        for(DurabilityPolicy dp: DurabilityPolicy.values()){
+            if(dp.getKey().equals(newPolicy)){
+                this.durabilityPolicy = dp;
+                return "Set the new DurabilityPolicy to " + this.durabilityPolicy.name();
+            }
+        }
+        //error out
+        return DurabilityPolicy.getOptionList();
+    }
+
+    /**
+     * set a new durability parameter.
+     * @param durabilityParameter bytes or milliseconds between syncs (0 for the policy default)
+     */
+    @JMXBeanOperation(name = "SetDurabilityParameter", description = "set a durability parameter")
+    public void setDurabilityParameter(
+        @JMXBeanParameter(name = "NewDurabilityParameter") final long durabilityParameter
+    ){
+        this.durabilityParameter = durabilityParameter;
+    }
+
+    /**
+     * Set new directories for the striped writer.
+     * Relative paths are resolved on the client side like the output path. Missing directories are created by the writer.
+     * @param param1 directories separated by the path separator of the os (empty for the output path only)
+     * @return String with the resolved directories
+     */
+    @JMXBeanOperation(name = "SetStripePaths", description = "set the directories of the striped writer")
+    public String setStripePaths(
+        @JMXBeanParameter(name = "newStripePaths") final String param1
+    ){
+        final List<String> paths = new ArrayList<>();
+        for(String path: String.valueOf(param1).split(File.pathSeparator)){
+            if("".equals(path.trim()) || "null".equals(path))
+                continue;
+            if(FileManager.isPathRelative(path))
+                paths.add(FileManager.operationSystemBasedPathCorrection(FileManager.transformRelativeToAbsolutPath(path)));
+            else
+                paths.add(path);
+        }
+        this.stripePaths = paths;
+        return "Set the stripe paths to: " + this.getStripePaths();
+    }
+
+    /**
+     * set a new replication slice size.
+     * @param replicationSliceSize bytes per transfer call (0 for the writer default)
+     */
+    @JMXBeanOperation(name = "SetReplicationSliceSize", description = "set a new replication slice size")
+    public void setReplicationSliceSize(
+        @JMXBeanParameter(name = "NewReplicationSliceSize") final long replicationSliceSize
+    ){
+        this.replicationSliceSize = replicationSliceSize;
+    }
+
+    /**
+     * set a new target byte rate. Writers are paced to this rate and measured from the planned start of every chunk.
+     * @param targetBytesPerSecond bytes per second (0 for closed loop)
+     */
+    @JMXBeanOperation(name = "SetTargetBytesPerSecond", description = "set a new target byte rate")
+    public void setTargetBytesPerSecond(
+        @JMXBeanParameter(name = "NewTargetBytesPerSecond") final long targetBytesPerSecond
+    ){
+        this.targetBytesPerSecond = Math.max(0, targetBytesPerSecond);
+    }
+
+    /**
+     * set a new target chunk rate. Wins over the byte rate if set.
+     * @param targetOpsPerSecond chunks per second (0 for closed loop)
+     */
+    @JMXBeanOperation(name = "SetTargetOpsPerSecond", description = "set a new target chunk rate")
+    public void setTargetOpsPerSecond(
+        @JMXBeanParameter(name = "NewTargetOpsPerSecond") final long targetOpsPerSecond
+    ){
+        this.targetOpsPerSecond = Math.max(0, targetOpsPerSecond);
+    }
+
+    /**
+     * set a new warmup in bytes. The first bytes of every writer are not part of its measurements.
+     * @param warmupBytes bytes (0 for no warmup)
+     */
+    @JMXBeanOperation(name = "SetWarmupBytes", description = "set a new warmup in bytes")
+    public void setWarmupBytes(
+        @JMXBeanParameter(name = "NewWarmupBytes") final long warmupBytes
+    ){
+        this.warmupBytes = Math.max(0, warmupBytes);
+    }
+
+    /**
+     * set a new warmup in milliseconds. If bytes are set as well the later end counts.
+     * @param warmupMillis milliseconds (0 for no warmup)
+     */
+    @JMXBeanOperation(name = "SetWarmupMillis", description = "set a new warmup in milliseconds")
+    public void setWarmupMillis(
+        @JMXBeanParameter(name = "NewWarmupMillis") final long warmupMillis
+    ){
+        this.warmupMillis = Math.max(0, warmupMillis);
+    }
+
+    /**
+     * set a new count of data shards for the erasure coding writer.
+     * @param erasureDataShards count of data shards (at least 1)
+     */
+    @JMXBeanOperation(name = "SetErasureDataShards", description = "set a new count of data shards")
+    public void setErasureDataShards(
+        @JMXBeanParameter(name = "NewErasureDataShards") final int erasureDataShards
+    ){
+        this.erasureDataShards = Math.max(1, erasureDataShards);
+    }
+
+    /**
+     * set a new count of parity shards for the erasure coding writer.
+     * @param erasureParityShards count of parity shards (at least 1)
+     */
+    @JMXBeanOperation(name = "SetErasureParityShards", description = "set a new count of parity shards")
+    public void setErasureParityShards(
+        @JMXBeanParameter(name = "NewErasureParityShards") final int erasureParityShards
+    ){
+        this.erasureParityShards = Math.max(1, erasureParityShards);
+    }
+
+    /**
+     * set new stages for the pipeline writer.
+     * Every entry but the last has to be a pipeline stage key, the last one is the writer type key of the sink.
+     * @param param1 stage keys separated by comma (empty for the default pipeline)
+     * @return String with the set stages
+     */
+    @JMXBeanOperation(name = "SetPipelineStages", description = "set the stages of the pipeline writer")
+    public String setPipelineStages(
+        @JMXBeanParameter(name = "NewPipelineStages") final String param1
+    ){
+        final List<String> stages = new ArrayList<>();
+        for(String stage: String.valueOf(param1).split(",")){
+            if(!"".equals(stage.trim()) && !"null".equals(stage))
+                stages.add(stage.trim());
+        }
+        if(stages.isEmpty()){
+            this.pipelineStages = WriterPipeline.DEFAULT_STAGES;
+            return "Set the pipeline stages to: " + this.getPipelineStages();
+        }
+        for(int i = 0; i < stages.size() - 1; i++){
+            if(PipelineStage.fromKey(stages.get(i)) == null){
+                log.log(Level.WARNING, PipelineStage.getOptionList());
+                return "Unknown pipeline stage " + stages.get(i) + ". Kept: " + this.getPipelineStages();
+            }
+        }
+        final String sink = stages.get(stages.size() - 1);
+        if(!WriterType.isImplementationAvailable(sink) || WriterType.PipelineWriter.getKey().equals(sink)){
+            log.log(Level.WARNING, WriterType.getOptionList());
+            return "Unknown pipeline sink " + sink + ". Kept: " + this.getPipelineStages();
+        }
+        this.pipelineStages = stages;
+        return "Set the pipeline stages to: " + this.getPipelineStages();
+    }
+
+    /**
+     * set a new native I/O hint profile.
+     * @see de.b4sh.byter.utils.io.IoHintProfile
+     * @param param1 new profile as string. requires a key from IoHintProfile Enum.
+     * @return String with errorMessage or success msg.
+     */
+    @JMXBeanOperation(name = "SetIoHintProfile", description = "set a new native I/O hint profile")
+    public String setIoHintProfile(
+        @JMXBeanParameter(name = "newIoHintProfile") final String param1
+    ){
+        final String newProfile = String.valueOf(param1).toLowerCase();
+        for(IoHintProfile hp: IoHintProfile.values()){
+            if(hp.getKey().equals(newProfile)){
+                this.ioHintProfile = hp;
+                return "Set the new IoHintProfile to " + this.ioHintProfile.name();
+            }
+        }
+        //error out
+        return IoHintProfile.getOptionList();
+    }
+
+    /**
+     * set a new window for the native I/O hints.
+     * @param ioHintWindow bytes of a hint window (0 for the hint default)
+     */
+    @JMXBeanOperation(name = "SetIoHintWindow", description = "set a native I/O hint window")
+    public void setIoHintWindow(
+        @JMXBeanParameter(name = "NewIoHintWindow") final long ioHintWindow
+    ){
+        this.ioHintWindow = ioHintWindow;
+    }
+
+    /**
+     * Rebuilds the stream of an erasure coding writer from its shard files (missing shards are decoded).
+     * The decode time of every stripe is written as "reader-decode" evaluation next to the writer evaluation.
+     * @param param1 path of the shard map (relative paths are resolved on the client side)
+     * @return String with error or success message
+     */
+    @JMXBeanOperation(name = "StartErasureReconstruction", description = "rebuild the stream of an erasure coding writer")
+    public String startErasureReconstruction(
+        @JMXBeanParameter(name = "mapPath", description = "shard map of the erasure coding writer") final String param1
+    ){
+        final String mapPath = String.valueOf(param1);
+        final File mapFile = FileManager.isPathRelative(mapPath)
+                ? new File(FileManager.operationSystemBasedPathCorrection(FileManager.transformRelativeToAbsolutPath(mapPath)))
+                : new File(mapPath);
+        final ErasureMap map = mapFile.isFile() ? ErasureMap.read(mapFile) : null;
+        if(map == null)
+            return "ERROR: SHARD MAP NOT READABLE! \n" + mapFile.getAbsolutePath();
+        final String name = mapFile.getName().substring(0, mapFile.getName().length() - ".ecmap".length());
+        final File target = new File(mapFile.getAbsoluteFile().getParentFile(), name + ".rebuilt");
+        final PerformanceTimer decodeTimer = new PerformanceTimer(ErasureMap.class.getName(),measurementVolume,0);
+        try {
+            final long tStart = System.nanoTime();
+            final int missing = map.reconstruct(target, decodeTimer);
+            final double seconds = (System.nanoTime() - tStart) / 1e9;
+            PerformanceTimerHelper.createEvaluationData(name.contains(".") ? name.split("\\.")[0] : name,"reader-decode",decodeTimer);
+            return "Rebuilt " + map.getTotalBytes() + " bytes to " + target.getAbsolutePath() + " with " + missing
+                    + " missing shard files in " + seconds + "s ("
+                    + (float) (map.getTotalBytes() / seconds / (1024 * 1024)) + " MB/s)";
+        } catch (IOException e) {
+            log.log(Level.WARNING, "IO Exception while rebuilding " + mapFile.getAbsolutePath(),e);
+            return "ERROR: " + e.getMessage();
+        }
+    }
+
+    /**
+     * set a new payload profile.
+     * @see de.b4sh.byter.utils.data.PayloadProfile
+     * @param param1 new profile as string. requires a key from PayloadProfile Enum.
+     * @return String with errorMessage or success msg.
+     */
+    @JMXBeanOperation(name = "SetPayloadProfile", description = "set a new payload profile")
+    public String setPayloadProfile(
+        @JMXBeanParameter(name = "newPayloadProfile") final String param1
+    ){
+        final String newProfile = String.valueOf(param1).toLowerCase();
+        for(PayloadProfile pp: PayloadProfile.values()){
+            if(pp.getKey().equals(newProfile)){
+                this.payloadProfile = pp;
+                return "Set the new PayloadProfile to " + this.payloadProfile.name();
+            }
+        }
+        //error out
+        return PayloadProfile.getOptionList();
+    }
+
+    /**
+     * set a new payload parameter (compression or dedup ratio).
+     * passed as string, the jmx helpers don't transmit floating point values.
+     * @param param1 new ratio (1 or above)
+     * @return String with errorMessage or success msg.
+     */
+    @JMXBeanOperation(name = "SetPayloadParameter", description = "set a new compression or dedup ratio")
+    public String setPayloadParameter(
+        @JMXBeanParameter(name = "newPayloadParameter") final String param1
+    ){
+        try{
+            this.payloadParameter = Math.max(1, Double.parseDouble(String.valueOf(param1)));
+            return "Set the new PayloadParameter to " + this.payloadParameter;
+        }catch (NumberFormatException e){
+            return "ERROR: " + param1 + " is not a number.";
+        }
+    }
+
+    /**
+     * set a new payload block size.
+     * @param payloadBlockSize bytes (0 for the generator default)
+     */
+    @JMXBeanOperation(name = "SetPayloadBlockSize", description = "set a new payload block size")
+    public void setPayloadBlockSize(
+        @JMXBeanParameter(name = "NewPayloadBlockSize") final int payloadBlockSize
+    ){
+        this.payloadBlockSize = Math.max(0, payloadBlockSize);
+    }
+
+    /**
+     * set a new payload seed.
+     * @param payloadSeed seed (0 for a fresh seed per writer)
+     */
+    @JMXBeanOperation(name = "SetPayloadSeed", description = "set a new payload seed")
+    public void setPayloadSeed(
+        @JMXBeanParameter(name = "NewPayloadSeed") final long payloadSeed
+    ){
+        this.payloadSeed = payloadSeed;
+    }
+
+    /**
+     * set a new corpus path for the corpus payload (relative paths are resolved on the client side).
+     * @param param1 path of the corpus file
+     */
+    @JMXBeanOperation(name = "SetPayloadCorpusPath", description = "set a new corpus file")
+    public void setPayloadCorpusPath(
+        @JMXBeanParameter(name = "NewPayloadCorpusPath") final String param1
+    ){
+        this.payloadCorpusPath = param1 == null ? "" : String.valueOf(param1);
+    }
+
+    /**
+     * set a new replication mode.
+     * @see de.b4sh.byter.utils.writer.ReplicationMode
+     * @param param1 new mode as string. requires a key from ReplicationMode Enum.
+     * @return String with errorMessage or success msg.
+     */
+    @JMXBeanOperation(name = "SetReplicationMode", description = "set a new replication mode")
+    public String setReplicationMode(
+        @JMXBeanParameter(name = "newReplicationMode") final String param1
+    ){
+        final String newMode = String.valueOf(param1).toLowerCase();
+        for(ReplicationMode rm: ReplicationMode.values()){
+            if(rm.getKey().equals(newMode)){
+                this.replicationMode = rm;
+                return "Set the new ReplicationMode to " + this.replicationMode.name();
+            }
+        }
+        //error out
+        return ReplicationMode.getOptionList();
+    }
+
     /**
      * set a new measurement list max size.
      * @param measurementVolume new max size of the measurements list
@@ -411,12 +1105,13 @@ public final class ClientJmxDisc extends JmxEntity {
     private void startWriterThreaded(final String name){
         //basic informations
         final File writeFile = new File(this.outputPath, name +".data");
-        final byte[] chunk = ChunkGenerator.generateChunk(this.chunkSize); //generate a new randomized chunk of data
+        final PayloadGenerator payload = this.createPayloadGenerator();
+        final byte[] chunk = payload.generate(this.chunkSize); //generate a new chunk of data with the set payload profile
         //calculate runs to fulfill
         final int iterations = (int)(byteTarget / chunk.length);
         final int edgeSize = (int)(byteTarget % chunk.length);
-        final byte[] edge = ChunkGenerator.generateChunk(edgeSize);
-        final WriterInterface wi = initWriter(this.writerType,writeFile,name);
+        final byte[] edge = payload.generate(edgeSize);
+        final WriterInterface wi = this.pace(initWriter(this.writerType,writeFile,name));
         wi.setRunParameters(chunk,edge,iterations);
         wi.setAutomaticFileRemoval(this.automaticFileRemoval);
         if(wi == null){
@@ -434,6 +1129,44 @@ public final class ClientJmxDisc extends JmxEntity {
         log.log(Level.INFO, "successfully added Writer " + this.activeWriter.size() + ".");
     }
 
+    /**
+     * creates the generator for the chunks of a writer with the set payload profile.
+     * @return PayloadGenerator
+     */
+    private PayloadGenerator createPayloadGenerator(){
+        File corpus = null;
+        if(this.payloadProfile == PayloadProfile.Corpus && !this.payloadCorpusPath.isEmpty()){
+            corpus = FileManager.isPathRelative(this.payloadCorpusPath)
+                    ? new File(FileManager.operationSystemBasedPathCorrection(FileManager.transformRelativeToAbsolutPath(this.payloadCorpusPath)))
+                    : new File(this.payloadCorpusPath);
+        }
+        return new PayloadGenerator(this.payloadProfile,this.payloadSeed,this.payloadParameter,this.payloadBlockSize,corpus);
+    }
+
+    /**
+     * sets the warmup on the timer of a writer, this also reports the detected steady state in the evaluation.
+     * @param timer timer to set the warmup on (nullable)
+     * @return the given timer
+     */
+    private PerformanceTimer warmup(final PerformanceTimer timer){
+        if(timer != null)
+            timer.setWarmup(this.warmupBytes, this.warmupMillis * 1000000L);
+        return timer;
+    }
+
+    /**
+     * wraps the writer into a paced writer if a target rate is set.
+     * @param wi writer to pace
+     * @return paced writer or the given one for closed loop runs
+     */
+    private WriterInterface pace(final WriterInterface wi){
+        if(wi == null || !RatePacer.isPaced(this.targetBytesPerSecond,this.targetOpsPerSecond))
+            return wi;
+        final int measurementSteps = PerformanceTimer.calculateSkippedMeasurements(this.byteTarget,this.measurementVolume,this.chunkSize);
+        final PerformanceTimer pacedTimer = new PerformanceTimer(WriterPaced.class.getName(),measurementVolume,measurementSteps);
+        return new WriterPaced(wi,new RatePacer(this.targetBytesPerSecond,this.targetOpsPerSecond,this.chunkSize),this.warmup(pacedTimer));
+    }
+
     private Thread createThreadFromWriter(final WriterInterface wi){
         if(wi instanceof WriterArchival){
             return new Thread((WriterArchival)wi);
@@ -452,6 +1185,57 @@ public final class ClientJmxDisc extends JmxEntity {
         }
         else if(wi instanceof WriterFileChannel){
             return new Thread((WriterFileChannel)wi);
+        }
+        else if(wi instanceof WriterMemoryMapped){
+            return new Thread((WriterMemoryMapped)wi);
+        }
+        else if(wi instanceof WriterGathering){
+            return new Thread((WriterGathering)wi);
+        }
+        else if(wi instanceof WriterDirectIO){
+            return new Thread((WriterDirectIO)wi);
+        }
+        else if(wi instanceof WriterAsyncFileChannel){
+            return new Thread((WriterAsyncFileChannel)wi);
+        }
+        else if(wi instanceof WriterStriped){
+            return new Thread((WriterStriped)wi);
+        }
+        else if(wi instanceof WriterCompressing){
+            return new Thread((WriterCompressing)wi);
+        }
+        else if(wi instanceof WriterChecksumming){
+            return new Thread((WriterChecksumming)wi);
+        }
+        else if(wi instanceof WriterSegmented){
+            return new Thread((WriterSegmented)wi);
+        }
+        else if(wi instanceof WriterTransfer){
+            return new Thread((WriterTransfer)wi);
+        }
+        else if(wi instanceof WriterCombining){
+            return new Thread((WriterCombining)wi);
+        }
+        else if(wi instanceof WriterDoubleBuffered){
+            return new Thread((WriterDoubleBuffered)wi);
+        }
+        else if(wi instanceof WriterEncrypting){
+            return new Thread((WriterEncrypting)wi);
+        }
+        else if(wi instanceof WriterErasureCoded){
+            return new Thread((WriterErasureCoded)wi);
+        }
+        else if(wi instanceof WriterPipeline){
+            return new Thread((WriterPipeline)wi);
+        }
+        else if(wi instanceof WriterUring){
+            return new Thread((WriterUring)wi);
+        }
+        else if(wi instanceof WriterPaced){
+            return new Thread((WriterPaced)wi);
+        }
+        else if(wi instanceof WriterSharedFile){
+            return new Thread((WriterSharedFile)wi);
         }else{
             return null;
         }
@@ -486,10 +1270,69 @@ public final class ClientJmxDisc extends JmxEntity {
             case FileChannelWriter:
                 writer = createWriterCaseFileChannel(measurementSteps,file);
                 break;
+            case MappedWriter:
+                writer = createWriterCaseMemoryMapped(measurementSteps,file);
+                break;
+            case PooledFileChannelWriter:
+                writer = createWriterCasePooledFileChannel(measurementSteps,file);
+                break;
+            case GatheringWriter:
+                writer = createWriterCaseGathering(measurementSteps,file);
+                break;
+            case DirectIOWriter:
+                writer = createWriterCaseDirectIO(measurementSteps,file);
+                break;
+            case AsyncWriter:
+                writer = createWriterCaseAsync(measurementSteps,file);
+                break;
+            case StripedWriter:
+                writer = createWriterCaseStriped(measurementSteps,file);
+                break;
+            case PreallocatedRAFWriter:
+                writer = createWriterCasePreallocatedRAF(measurementSteps,file);
+                break;
+            case CompressingWriter:
+                writer = createWriterCaseCompressing(measurementSteps,file);
+                break;
+            case ChecksummingWriter:
+                writer = createWriterCaseChecksumming(measurementSteps,file);
+                break;
+            case SegmentedWriter:
+                writer = createWriterCaseSegmented(measurementSteps,file);
+                break;
+            case CombiningWriter:
+                writer = createWriterCaseCombining(measurementSteps,file);
+                break;
+            case DoubleBufferedWriter:
+                writer = createWriterCaseDoubleBuffered(measurementSteps,file);
+                break;
+            case EncryptingCtrWriter:
+                writer = createWriterCaseEncrypting(measurementSteps,file,EncryptionMode.Ctr);
+                break;
+            case EncryptingGcmWriter:
+                writer = createWriterCaseEncrypting(measurementSteps,file,EncryptionMode.Gcm);
+                break;
+            case ErasureCodedWriter:
+                writer = createWriterCaseErasureCoded(measurementSteps,file);
+                break;
+            case PipelineWriter:
+                writer = createWriterCasePipeline(measurementSteps,file);
+                break;
+            case UringWriter:
+                writer = createWriterCaseUring(measurementSteps,file);
+                break;
             default:
                 writer = createWriterCaseNone();
                 break;
         }
+        if(writer != null && this.durabilityPolicy != DurabilityPolicy.None){
+            final PerformanceTimer syncTimer = new PerformanceTimer(Durability.class.getName(),measurementVolume,0);
+            writer.setDurabilityPolicy(this.durabilityPolicy,this.durabilityParameter,syncTimer);
+        }
+        if(writer != null && this.ioHintProfile != IoHintProfile.None)
+            writer.setIoHints(this.ioHintProfile,this.ioHintWindow);
+        if(writer != null)
+            this.warmup(writer.getTimer());
         return writer;
     }
 
@@ -498,6 +1341,88 @@ public final class ClientJmxDisc extends JmxEntity {
         return new WriterFileChannel(this.writerBufferSize, file, workingTimer);
     }
 
+    private WriterInterface createWriterCasePooledFileChannel(final int measurementSteps, final File file){
+        final PerformanceTimer workingTimer = new PerformanceTimer(WriterFileChannel.class.getName(),measurementVolume,measurementSteps);
+        return new WriterFileChannel(this.writerBufferSize, file, workingTimer, true);
+    }
+
+    private WriterInterface createWriterCasePreallocatedRAF(final int measurementSteps, final File file){
+        final PerformanceTimer workingTimer = new PerformanceTimer(WriterRandomAccessFile.class.getName(),measurementVolume,measurementSteps);
+        return new WriterRandomAccessFile(this.writerBufferSize, file, workingTimer, this.byteTarget);
+    }
+
+    private WriterInterface createWriterCaseErasureCoded(final int measurementSteps, final File file){
+        final PerformanceTimer workingTimer = new PerformanceTimer(WriterErasureCoded.class.getName(),measurementVolume,measurementSteps);
+        return new WriterErasureCoded(this.writerBufferSize, this.erasureDataShards, this.erasureParityShards,
+                this.stripePaths, file, workingTimer);
+    }
+
+    private WriterInterface createWriterCasePipeline(final int measurementSteps, final File file){
+        final PerformanceTimer workingTimer = new PerformanceTimer(WriterPipeline.class.getName(),measurementVolume,measurementSteps);
+        return new WriterPipeline(this.pipelineStages, this.writerBufferSize, file, workingTimer);
+    }
+
+    private WriterInterface createWriterCaseUring(final int measurementSteps, final File file){
+        final PerformanceTimer workingTimer = new PerformanceTimer(WriterUring.class.getName(),measurementVolume,measurementSteps);
+        return new WriterUring(this.writerBufferSize, this.writerQueueDepth, this.writerBatchSize, file, workingTimer);
+    }
+
+    private WriterInterface createWriterCaseEncrypting(final int measurementSteps, final File file, final EncryptionMode mode){
+        final PerformanceTimer workingTimer = new PerformanceTimer(WriterEncrypting.class.getName(),measurementVolume,measurementSteps);
+        return new WriterEncrypting(new WriterFileChannel(this.writerBufferSize, file), mode, 0, 0, null, workingTimer);
+    }
+
+    private WriterInterface createWriterCaseDoubleBuffered(final int measurementSteps, final File file){
+        final PerformanceTimer workingTimer = new PerformanceTimer(WriterDoubleBuffered.class.getName(),measurementVolume,measurementSteps);
+        return new WriterDoubleBuffered(this.writerBufferSize, this.writerQueueDepth, file, workingTimer);
+    }
+
+    private WriterInterface createWriterCaseCombining(final int measurementSteps, final File file){
+        final PerformanceTimer workingTimer = new PerformanceTimer(WriterCombining.class.getName(),measurementVolume,measurementSteps);
+        return new WriterCombining(new WriterFileChannel(this.writerBufferSize, file), WriterCombining.DEFAULT_INITIAL_BLOCK_SIZE,
+                WriterCombining.DEFAULT_MIN_BLOCK_SIZE, WriterCombining.DEFAULT_MAX_BLOCK_SIZE, workingTimer);
+    }
+
+    private WriterInterface createWriterCaseSegmented(final int measurementSteps, final File file){
+        final PerformanceTimer workingTimer = new PerformanceTimer(WriterSegmented.class.getName(),measurementVolume,measurementSteps);
+        return new WriterSegmented(0, WriterSegmented.DEFAULT_RETAINED_SEGMENTS, file, workingTimer);
+    }
+
+    private WriterInterface createWriterCaseChecksumming(final int measurementSteps, final File file){
+        final PerformanceTimer workingTimer = new PerformanceTimer(WriterChecksumming.class.getName(),measurementVolume,measurementSteps);
+        return new WriterChecksumming(new WriterFileChannel(this.writerBufferSize, file), file, 0, workingTimer);
+    }
+
+    private WriterInterface createWriterCaseCompressing(final int measurementSteps, final File file){
+        final PerformanceTimer workingTimer = new PerformanceTimer(WriterCompressing.class.getName(),measurementVolume,measurementSteps);
+        return new WriterCompressing(new WriterFileChannel(this.writerBufferSize, file), 0, Deflater.DEFAULT_COMPRESSION, workingTimer);
+    }
+
+    private WriterInterface createWriterCaseStriped(final int measurementSteps, final File file){
+        final PerformanceTimer workingTimer = new PerformanceTimer(WriterStriped.class.getName(),measurementVolume,measurementSteps);
+        return new WriterStriped(this.writerBufferSize, this.stripePaths, file, workingTimer);
+    }
+
+    private WriterInterface createWriterCaseAsync(final int measurementSteps, final File file){
+        final PerformanceTimer workingTimer = new PerformanceTimer(WriterAsyncFileChannel.class.getName(),measurementVolume,measurementSteps);
+        return new WriterAsyncFileChannel(this.writerBufferSize, this.writerQueueDepth, file, workingTimer);
+    }
+
+    private WriterInterface createWriterCaseDirectIO(final int measurementSteps, final File file){
+        final PerformanceTimer workingTimer = new PerformanceTimer(WriterDirectIO.class.getName(),measurementVolume,measurementSteps);
+        return new WriterDirectIO(this.writerBufferSize, file, workingTimer);
+    }
+
+    private WriterInterface createWriterCaseGathering(final int measurementSteps, final File file){
+        final PerformanceTimer workingTimer = new PerformanceTimer(WriterGathering.class.getName(),measurementVolume,measurementSteps);
+        return new WriterGathering(this.writerBufferSize, this.writerBatchSize, file, workingTimer);
+    }
+
+    private WriterInterface createWriterCaseMemoryMapped(final int measurementSteps, final File file){
+        final PerformanceTimer workingTimer = new PerformanceTimer(WriterMemoryMapped.class.getName(),measurementVolume,measurementSteps);
+        return new WriterMemoryMapped(this.writerBufferSize, file, workingTimer);
+    }
+
     private WriterInterface createWriterCaseNull(final int measurementSteps, final File file){
         final PerformanceTimer workingTimer = new PerformanceTimer(WriterNull.class.getName(),measurementVolume,measurementSteps);
         return new WriterNull(this.writerBufferSize, file, workingTimer);
@@ -1,5 +1,6 @@
 package de.b4sh.byter.client;
 
+import java.io.File;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.logging.Level;
@@ -11,9 +12,12 @@ import com.udojava.jmx.wrapper.JMXBeanOperation;
 import com.udojava.jmx.wrapper.JMXBeanParameter;
 import de.b4sh.byter.client.network.NetworkClientInterface;
 import de.b4sh.byter.client.network.PlainNetworkClient;
+import de.b4sh.byter.utils.data.PayloadGenerator;
+import de.b4sh.byter.utils.data.PayloadProfile;
 import de.b4sh.byter.utils.io.FileManager;
 import de.b4sh.byter.utils.jmx.JmxEntity;
 import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.measurements.RatePacer;
 
 /**
  * Client Network Controller Class.
@@ -29,6 +33,13 @@ public final class ClientJmxNetwork extends JmxEntity {
     private int networkBufferSize;
     private boolean takeMeasurements;
     private int measurementVolume;
+    private long targetBytesPerSecond;
+    private long targetOpsPerSecond;
+    private PayloadProfile payloadProfile;
+    private double payloadParameter;
+    private int payloadBlockSize;
+    private long payloadSeed;
+    private String payloadCorpusPath;
     private String testName;
 
     //Implementation and Pool
@@ -49,6 +60,13 @@ public final class ClientJmxNetwork extends JmxEntity {
         this.networkBufferSize = 8192;
         this.takeMeasurements = true;
         this.measurementVolume = 0;
+        this.targetBytesPerSecond = 0; //0 = closed loop
+        this.targetOpsPerSecond = 0; //0 = closed loop
+        this.payloadProfile = PayloadProfile.Random;
+        this.payloadParameter = 1;
+        this.payloadBlockSize = 0; //0 = generator default
+        this.payloadSeed = 0; //0 = fresh seed per run
+        this.payloadCorpusPath = "";
         this.networkService = Executors.newFixedThreadPool(1);
         this.nci = null;
     }
@@ -262,24 +280,210 @@ public final class ClientJmxNetwork extends JmxEntity {
             if(nci.isRunning())
                 log.log(Level.WARNING,"There is a running Task and you want to start a second one?");
             else{
-                if(this.takeMeasurements){
+                if(RatePacer.isPaced(this.targetBytesPerSecond,this.targetOpsPerSecond)){
+                    this.startPacedPlainNetwork(PerformanceTimer.calculateSkippedMeasurements(this.transmitSize,this.measurementVolume,this.pregeneratedChunkSize));
+                }else if(this.takeMeasurements){
                     final int measurementSteps = PerformanceTimer.calculateSkippedMeasurements(this.transmitSize,this.measurementVolume,this.networkBufferSize);
                     final PerformanceTimer pt = new PerformanceTimer("ClientJmxNetwork-PlainNetworkClient",this.measurementVolume,measurementSteps);
-                    nci = new PlainNetworkClient(this.serverIp,this.serverPort,this.networkBufferSize,this.pregeneratedChunkSize,this.transmitSize,pt,testName);
+                    nci = new PlainNetworkClient(this.serverIp,this.serverPort,this.networkBufferSize,this.pregeneratedChunkSize,this.transmitSize,pt,null,this.createPayloadGenerator(),testName);
                 }else{
-                    nci = new PlainNetworkClient(this.serverIp,this.serverPort,this.networkBufferSize,this.pregeneratedChunkSize,this.transmitSize,testName);
+                    nci = new PlainNetworkClient(this.serverIp,this.serverPort,this.networkBufferSize,this.pregeneratedChunkSize,this.transmitSize,null,null,this.createPayloadGenerator(),testName);
                 }
             }
         }else{
-            if(this.takeMeasurements){
+            if(RatePacer.isPaced(this.targetBytesPerSecond,this.targetOpsPerSecond)){
+                this.startPacedPlainNetwork(0);
+            }else if(this.takeMeasurements){
                 final PerformanceTimer pt = new PerformanceTimer("ClientJmxNetwork-PlainNetworkClient");
-                nci = new PlainNetworkClient(this.serverIp,this.serverPort,this.networkBufferSize,this.pregeneratedChunkSize,this.transmitSize,pt,testName);
+                nci = new PlainNetworkClient(this.serverIp,this.serverPort,this.networkBufferSize,this.pregeneratedChunkSize,this.transmitSize,pt,null,this.createPayloadGenerator(),testName);
             }else{
-                nci = new PlainNetworkClient(this.serverIp,this.serverPort,this.networkBufferSize,this.pregeneratedChunkSize,this.transmitSize,testName);
+                nci = new PlainNetworkClient(this.serverIp,this.serverPort,this.networkBufferSize,this.pregeneratedChunkSize,this.transmitSize,null,null,this.createPayloadGenerator(),testName);
             }
         }
     }
 
+    /**
+     * Start a Plain Network Implementation in open loop mode.
+     * Chunks are sent at the target rate, latencies are measured from the planned start of every chunk.
+     * @param measurementSteps steps between tracked measurements
+     */
+    private void startPacedPlainNetwork(final int measurementSteps){
+        final RatePacer pacer = new RatePacer(this.targetBytesPerSecond,this.targetOpsPerSecond,this.pregeneratedChunkSize);
+        final PerformanceTimer pt = this.takeMeasurements
+                ? new PerformanceTimer("ClientJmxNetwork-PlainNetworkClient-Paced",this.measurementVolume,measurementSteps) : null;
+        nci = new PlainNetworkClient(this.serverIp,this.serverPort,this.networkBufferSize,this.pregeneratedChunkSize,this.transmitSize,pt,pacer,this.createPayloadGenerator(),testName);
+    }
+
+    /**
+     * creates the generator for the chunks with the set payload profile.
+     * @return PayloadGenerator
+     */
+    private PayloadGenerator createPayloadGenerator(){
+        File corpus = null;
+        if(this.payloadProfile == PayloadProfile.Corpus && !this.payloadCorpusPath.isEmpty()){
+            corpus = FileManager.isPathRelative(this.payloadCorpusPath)
+                    ? new File(FileManager.operationSystemBasedPathCorrection(FileManager.transformRelativeToAbsolutPath(this.payloadCorpusPath)))
+                    : new File(this.payloadCorpusPath);
+        }
+        return new PayloadGenerator(this.payloadProfile,this.payloadSeed,this.payloadParameter,this.payloadBlockSize,corpus);
+    }
+
+    /**
+     * Get the current payload profile.
+     * @return key of the payload profile
+     */
+    @JMXBeanAttribute(name = "PayloadProfile", description = "kind of data the client transmits")
+    public String getPayloadProfile(){
+        return this.payloadProfile.getKey();
+    }
+
+    /**
+     * Set a new payload profile.
+     * @see de.b4sh.byter.utils.data.PayloadProfile
+     * @param param1 new profile as string. requires a key from PayloadProfile Enum.
+     * @return String with errorMessage or success msg.
+     */
+    @JMXBeanOperation(name = "SetPayloadProfile", description = "set a new payload profile")
+    public String setPayloadProfile(
+        @JMXBeanParameter(name = "profile", description = "key of the payload profile")final String param1
+    ){
+        final String newProfile = String.valueOf(param1).toLowerCase();
+        for(PayloadProfile pp: PayloadProfile.values()){
+            if(pp.getKey().equals(newProfile)){
+                this.payloadProfile = pp;
+                return "Set the new PayloadProfile to " + this.payloadProfile.name();
+            }
+        }
+        return PayloadProfile.getOptionList();
+    }
+
+    /**
+     * Get the current payload parameter.
+     * @return compression or dedup ratio
+     */
+    @JMXBeanAttribute(name = "PayloadParameter", description = "compression or dedup ratio of the payload")
+    public double getPayloadParameter(){
+        return this.payloadParameter;
+    }
+
+    /**
+     * Set a new payload parameter (compression or dedup ratio).
+     * passed as string, the jmx helpers don't transmit floating point values.
+     * @param param1 new ratio (1 or above)
+     * @return String with errorMessage or success msg.
+     */
+    @JMXBeanOperation(name = "SetPayloadParameter", description = "set a new compression or dedup ratio")
+    public String setPayloadParameter(
+        @JMXBeanParameter(name = "parameter", description = "ratio as string")final String param1
+    ){
+        try{
+            this.payloadParameter = Math.max(1, Double.parseDouble(String.valueOf(param1)));
+            return "Set the new PayloadParameter to " + this.payloadParameter;
+        }catch (NumberFormatException e){
+            return "ERROR: " + param1 + " is not a number.";
+        }
+    }
+
+    /**
+     * Get the current payload block size.
+     * @return bytes | 0 (generator default)
+     */
+    @JMXBeanAttribute(name = "PayloadBlockSize", description = "block size the payload ratios are applied on")
+    public int getPayloadBlockSize(){
+        return this.payloadBlockSize;
+    }
+
+    /**
+     * Set a new payload block size.
+     * @param param1 bytes (0 for the generator default)
+     */
+    @JMXBeanOperation(name = "SetPayloadBlockSize", description = "set a new payload block size")
+    public void setPayloadBlockSize(
+        @JMXBeanParameter(name = "blockSize", description = "bytes")final int param1
+    ){
+        this.payloadBlockSize = Math.max(0, param1);
+    }
+
+    /**
+     * Get the current payload seed.
+     * @return seed | 0 (fresh seed per run)
+     */
+    @JMXBeanAttribute(name = "PayloadSeed", description = "seed of the payload generator")
+    public long getPayloadSeed(){
+        return this.payloadSeed;
+    }
+
+    /**
+     * Set a new payload seed.
+     * @param param1 seed (0 for a fresh seed per run)
+     */
+    @JMXBeanOperation(name = "SetPayloadSeed", description = "set a new payload seed")
+    public void setPayloadSeed(
+        @JMXBeanParameter(name = "seed", description = "seed")final long param1
+    ){
+        this.payloadSeed = param1;
+    }
+
+    /**
+     * Get the current corpus path.
+     * @return path of the corpus file
+     */
+    @JMXBeanAttribute(name = "PayloadCorpusPath", description = "file the corpus payload replays")
+    public String getPayloadCorpusPath(){
+        return this.payloadCorpusPath;
+    }
+
+    /**
+     * Set a new corpus path (relative paths are resolved on the client side).
+     * @param param1 path of the corpus file
+     */
+    @JMXBeanOperation(name = "SetPayloadCorpusPath", description = "set a new corpus file")
+    public void setPayloadCorpusPath(
+        @JMXBeanParameter(name = "path", description = "corpus file")final String param1
+    ){
+        this.payloadCorpusPath = param1 == null ? "" : String.valueOf(param1);
+    }
+
+    /**
+     * Get the current target byte rate for open loop runs.
+     * @return bytes per second | 0 (closed loop)
+     */
+    @JMXBeanAttribute(name = "TargetBytesPerSecond", description = "byte rate the client is paced to, 0 for closed loop")
+    public long getTargetBytesPerSecond(){
+        return this.targetBytesPerSecond;
+    }
+
+    /**
+     * Set a new target byte rate for open loop runs.
+     * @param param1 bytes per second (0 for closed loop)
+     */
+    @JMXBeanOperation(name = "SetTargetBytesPerSecond", description = "set a new target byte rate")
+    public void setTargetBytesPerSecond(
+        @JMXBeanParameter(name = "rate", description = "bytes per second")final long param1
+    ){
+        this.targetBytesPerSecond = Math.max(0, param1);
+    }
+
+    /**
+     * Get the current target chunk rate for open loop runs.
+     * @return chunks per second | 0 (closed loop)
+     */
+    @JMXBeanAttribute(name = "TargetOpsPerSecond", description = "chunk rate the client is paced to, 0 for closed loop")
+    public long getTargetOpsPerSecond(){
+        return this.targetOpsPerSecond;
+    }
+
+    /**
+     * Set a new target chunk rate for open loop runs. Wins over the byte rate if set.
+     * @param param1 chunks per second (0 for closed loop)
+     */
+    @JMXBeanOperation(name = "SetTargetOpsPerSecond", description = "set a new target chunk rate")
+    public void setTargetOpsPerSecond(
+        @JMXBeanParameter(name = "rate", description = "chunks per second")final long param1
+    ){
+        this.targetOpsPerSecond = Math.max(0, param1);
+    }
+
     /**
      * Get the currently set network buffer size for a implementation.
      * @return int with the current set desired buffer size.
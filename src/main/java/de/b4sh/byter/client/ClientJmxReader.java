@@ -1,7 +1,7 @@
 package de.b4sh.byter.client;
 
 import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
@@ -18,6 +18,7 @@ import de.b4sh.byter.utils.jmx.JmxEntity;
 import de.b4sh.byter.utils.reader.ReaderInterface;
 import de.b4sh.byter.utils.reader.ReaderRandomAccessFile;
 import de.b4sh.byter.utils.reader.ReaderType;
+import de.b4sh.byter.utils.reader.ReaderUring;
 
 /**
  * Client Disc Test Controller Class.
@@ -278,9 +279,21 @@ public final class ClientJmxReader extends JmxEntity {
                     final Thread runTime = new Thread(ri);
                     this.activeReader.add(ri);
                     this.servicePool.submit(runTime);
+                    break;
+                }
+                case urng:{
+                    final File file = new File(this.path,this.fileName);
+                    if(!file.exists()){
+                        log.log(Level.WARNING,"File is not existing that should be read. ");
+                    }
+                    final ReaderUring ri = new ReaderUring(this.chunkSize,0,file);
+                    final Thread runTime = new Thread(ri);
+                    this.activeReader.add(ri);
+                    this.servicePool.submit(runTime);
+                    break;
                 }
             }
-        } catch (final FileNotFoundException e) {
+        } catch (final IOException e) {
             e.printStackTrace();
         }
     }
@@ -11,13 +11,15 @@ import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.net.Socket;
 import java.net.UnknownHostException;
-import java.util.Random;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import de.b4sh.byter.utils.data.PayloadGenerator;
 import de.b4sh.byter.utils.measurements.Measurement;
 import de.b4sh.byter.utils.measurements.PerformanceTimer;
 import de.b4sh.byter.utils.measurements.PerformanceTimerHelper;
+import de.b4sh.byter.utils.measurements.RatePacer;
+import de.b4sh.byter.utils.measurements.evaluators.LatencyPercentileEvaluator;
 
 /**
  * Class for network based tasks.
@@ -35,6 +37,8 @@ public final class PlainNetworkClient implements NetworkClientInterface,Runnable
     private final byte[] pregeneratedChunk;
     private final int networkBufferSize;
     private final PerformanceTimer pt;
+    private final RatePacer pacer;
+    private final PayloadGenerator payload;
     private boolean isRunning;
 
 
@@ -56,8 +60,10 @@ public final class PlainNetworkClient implements NetworkClientInterface,Runnable
         this.networkBufferSize = networkBufferSize;
         this.pregeneratedChunkSize = pregeneratedChunkSize;
         this.transmitSize = transmitSize;
+        this.payload = new PayloadGenerator();
         this.pregeneratedChunk = this.pregenerateChunk(new byte[this.pregeneratedChunkSize]);
         this.pt = null;
+        this.pacer = null;
         this.run();
     }
 
@@ -81,8 +87,44 @@ public final class PlainNetworkClient implements NetworkClientInterface,Runnable
         this.networkBufferSize = networkBufferSize;
         this.pregeneratedChunkSize = pregeneratedChunkSize;
         this.transmitSize = transmitSize;
+        this.payload = new PayloadGenerator();
         this.pregeneratedChunk = this.pregenerateChunk(new byte[this.pregeneratedChunkSize]);
         this.pt = pt;
+        this.pacer = null;
+        this.run();
+    }
+
+    /**
+     * Constructor with a payload profile and an optional open loop schedule.
+     * With a pacer the chunks are sent on its schedule and measurements are taken from the planned start of every chunk.
+     * @param hostAddress host address of server
+     * @param hostPort host port of server
+     * @param pregeneratedChunkSize size of the chunk that should be pregenerated
+     * @param networkBufferSize the network buffer size
+     * @param transmitSize the size of data to transmit
+     * @param pt performance timer to use (nullable)
+     * @param pacer schedule to send the chunks on (null for closed loop)
+     * @param payload generator of the chunk content (null for random bytes)
+     * @param testName the current active testName
+     */
+    public PlainNetworkClient(final String hostAddress, final int hostPort, final int networkBufferSize,
+                              final int pregeneratedChunkSize, final long transmitSize,
+                              final PerformanceTimer pt, final RatePacer pacer, final PayloadGenerator payload,
+                              final String testName) {
+        this.testName = testName;
+        this.hostAddress = hostAddress;
+        this.hostPort = hostPort;
+        this.networkBufferSize = networkBufferSize;
+        this.pregeneratedChunkSize = pregeneratedChunkSize;
+        this.transmitSize = transmitSize;
+        this.payload = payload != null ? payload : new PayloadGenerator();
+        this.pregeneratedChunk = this.pregenerateChunk(new byte[this.pregeneratedChunkSize]);
+        this.pt = pt;
+        this.pacer = pacer;
+        if(this.pt != null && this.pacer != null){
+            this.pt.addEvaluator(new LatencyPercentileEvaluator());
+            this.pt.addEvaluator(perfTimer -> this.pacer.evaluate());
+        }
         this.run();
     }
 
@@ -91,7 +133,9 @@ public final class PlainNetworkClient implements NetworkClientInterface,Runnable
                 + "Host: " + this.hostAddress + ":" + this.hostPort + " \n"
                 + "BufferSize: " + this.networkBufferSize + " \n"
                 + "ChunkSize: " + this.pregeneratedChunk.length + " \n"
-                + "TransmitTarget: " + this.transmitSize
+                + "TransmitTarget: " + this.transmitSize + " \n"
+                + "Payload: " + this.payload.getProfile().name() + " \n"
+                + "Paced: " + (this.pacer != null ? this.pacer.getIntervalNanos() + "ns interval" : "no")
         );
     }
 
@@ -111,17 +155,25 @@ public final class PlainNetworkClient implements NetworkClientInterface,Runnable
             //calculate the edge case to fulfill the target
             final byte[] edgeCase = this.pregenerateChunk(new byte[(int)(this.transmitSize % pregeneratedChunkSize)]);
             //transmit data
-            for(int i = 0; i < fulfillmentRuns; i++){
+            if(this.pacer != null){
+                for(int i = 0; i < fulfillmentRuns; i++){
+                    this.sendDataPaced(outStream,this.pregeneratedChunk);
+                }
+                if(edgeCase.length > 0)
+                    this.sendDataPaced(outStream,edgeCase);
+            }else{
+                for(int i = 0; i < fulfillmentRuns; i++){
+                    if(this.pt == null)
+                        this.sendData(outStream,this.pregeneratedChunk);
+                    else
+                        this.sendDataWithMeasurement(outStream,this.pregeneratedChunk);
+                }
+                //edge work
                 if(this.pt == null)
-                    this.sendData(outStream,this.pregeneratedChunk);
+                    this.sendData(outStream,edgeCase);
                 else
-                    this.sendDataWithMeasurement(outStream,this.pregeneratedChunk);
+                    this.sendDataWithMeasurement(outStream,edgeCase);
             }
-            //edge work
-            if(this.pt == null)
-                this.sendData(outStream,edgeCase);
-            else
-                this.sendDataWithMeasurement(outStream,edgeCase);
         } catch (UnknownHostException e) {
             log.log(Level.WARNING,"cannot resolve host. UnknownHostException in PlainNetworkClient run");
         } catch (IOException e) {
@@ -138,14 +190,22 @@ public final class PlainNetworkClient implements NetworkClientInterface,Runnable
         this.pt.addNewMeasurement(new Measurement("PlainNetworkClient",data.length,tStart,tEnd));
     }
 
+    private void sendDataPaced(final BufferedOutputStream outputStream, final byte[] data) throws IOException {
+        final long tPlanned = this.pacer.awaitNext();
+        outputStream.write(data);
+        if(this.pt != null){
+            final long tEnd = System.nanoTime();
+            this.pt.addNewMeasurement(new Measurement("PlainNetworkClient",data.length,tPlanned,tEnd));
+        }
+    }
+
     private void sendData(final BufferedOutputStream outputStream, final byte[] data) throws IOException {
         outputStream.write(data);
     }
 
     @Override
     public byte[] pregenerateChunk(final byte[] chunkToFill) {
-        new Random().nextBytes(chunkToFill);
-        return chunkToFill;
+        return this.payload.fill(chunkToFill);
     }
 
     /**
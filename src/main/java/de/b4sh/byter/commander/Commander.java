@@ -30,6 +30,7 @@ import de.b4sh.byter.utils.jmx.JmxClientNetworkHelper;
 import de.b4sh.byter.utils.jmx.JmxConnectionHelper;
 import de.b4sh.byter.utils.jmx.JmxServerHelper;
 import de.b4sh.byter.utils.jmx.MBeanHelper;
+import de.b4sh.byter.utils.writer.DurabilityPolicy;
 import de.b4sh.byter.utils.writer.WriterType;
 
 /**
@@ -126,6 +127,8 @@ public final class Commander implements Runnable {
                 //set filepath (transmit realative path and resolv on client side to generate the real path, not the once from the commander)
                 //old code: https://gist.github.com/deB4SH/edfe1975e4886ab7efcf99c177348f32
                 JmxClientDiscHelper.setOutputPath(clientMbs,clientDiscController, rc.getWriteFilePath());
+                //stripe directories (optional, only used by the striped writer)
+                JmxClientDiscHelper.setStripePaths(clientMbs,clientDiscController, rc.getWriteFilePaths());
                 //automatic removal flag
                 if(this.junitRun){
                     log.log(Level.INFO, "Junit Run. Setting AutomaticFileRemoval for Writer to false.");
@@ -133,7 +136,24 @@ public final class Commander implements Runnable {
                 }
                 //set missing parameters
                 JmxClientDiscHelper.setWriterBufferSize(clientMbs,clientDiscController,cc.getBufferSize());
+                JmxClientDiscHelper.setWriterBatchSize(clientMbs,clientDiscController,cc.getWriteBatchSize());
+                JmxClientDiscHelper.setWriterQueueDepth(clientMbs,clientDiscController,cc.getWriteQueueDepth());
+                JmxClientDiscHelper.setDurabilityPolicy(clientMbs,clientDiscController,durabilityKey(cc.getDurabilityPolicy()));
+                JmxClientDiscHelper.setDurabilityParameter(clientMbs,clientDiscController,cc.getDurabilityParameter());
                 JmxClientDiscHelper.setWriterImplementation(clientMbs,clientDiscController, cc.getIoImplementation());
+                //open loop pacing (optional, 0 keeps the closed loop behaviour)
+                JmxClientDiscHelper.setTargetBytesPerSecond(clientMbs,clientDiscController,cc.getTargetBytesPerSecond());
+                JmxClientDiscHelper.setTargetOpsPerSecond(clientMbs,clientDiscController,cc.getTargetOpsPerSecond());
+                JmxClientDiscHelper.setWarmup(clientMbs,clientDiscController,cc.getWarmupBytes(),cc.getWarmupMillis());
+                if(cc.getErasureDataShards() > 0 && cc.getErasureParityShards() > 0)
+                    JmxClientDiscHelper.setErasureCoding(clientMbs,clientDiscController,cc.getErasureDataShards(),cc.getErasureParityShards());
+                if(cc.getPipelineStages() != null)
+                    JmxClientDiscHelper.setPipelineStages(clientMbs,clientDiscController,cc.getPipelineStages());
+                if(cc.getIoHintProfile() != null)
+                    JmxClientDiscHelper.setIoHints(clientMbs,clientDiscController,cc.getIoHintProfile(),cc.getIoHintWindow());
+                if(cc.getPayloadProfile() != null)
+                    JmxClientDiscHelper.setPayload(clientMbs,clientDiscController,cc.getPayloadProfile(),cc.getPayloadParameter(),
+                            cc.getPayloadBlockSize(),cc.getPayloadSeed(),cc.getPayloadCorpusPath());
                 //measurement volume
                 JmxClientDiscHelper.setMeasurementVolume(clientMbs,clientDiscController,rc.getMeasurementCount());
                 //rebuild evaluation path
@@ -264,6 +284,15 @@ public final class Commander implements Runnable {
                 this.errorLogConfiguration(rc.getTestName(), "Writerbuffer < 0");
                 continue;
             }
+            //setting writer batch size to server (optional, 0 keeps the writer default)
+            JmxServerHelper.setNetworkManagerWriterBatchSize(serverMbs,serverNetworkManager,sc.getWriteBatchSize());
+            //setting writer queue depth to server (optional, 0 keeps the writer default)
+            JmxServerHelper.setNetworkManagerWriterQueueDepth(serverMbs,serverNetworkManager,sc.getWriteQueueDepth());
+            //setting durability policy to server (optional, none keeps the page cache behaviour)
+            JmxServerHelper.setNetworkManagerDurabilityPolicy(serverMbs,serverNetworkManager,durabilityKey(sc.getDurabilityPolicy()));
+            JmxServerHelper.setNetworkManagerDurabilityParameter(serverMbs,serverNetworkManager,sc.getDurabilityParameter());
+            //setting writer warmup to server (optional, 0 measures from the first chunk)
+            JmxServerHelper.setNetworkManagerWarmup(serverMbs,serverNetworkManager,sc.getWarmupBytes(),sc.getWarmupMillis());
             //setting network buffer to server
             if(sc.getNetworkBufferSize() > 0)
                 JmxServerHelper.setNetworkManagerNetworkBufferSize(serverMbs,serverNetworkManager,sc.getNetworkBufferSize());
@@ -316,6 +345,12 @@ public final class Commander implements Runnable {
                 final int serverSocketPort = JmxServerHelper.getNetworkManagerServerSocketPort(serverMbs,serverNetworkManager);
                 JmxClientNetworkHelper.changeServerHostPort(mbs,nmOn,serverSocketPort);
                 JmxClientNetworkHelper.changeTransmitTarget(mbs,nmOn,cc.getTransmitTarget());
+                //open loop pacing (optional, 0 keeps the closed loop behaviour)
+                JmxClientNetworkHelper.changeTargetBytesPerSecond(mbs,nmOn,cc.getTargetBytesPerSecond());
+                JmxClientNetworkHelper.changeTargetOpsPerSecond(mbs,nmOn,cc.getTargetOpsPerSecond());
+                if(cc.getPayloadProfile() != null)
+                    JmxClientNetworkHelper.changePayload(mbs,nmOn,cc.getPayloadProfile(),cc.getPayloadParameter(),
+                            cc.getPayloadBlockSize(),cc.getPayloadSeed(),cc.getPayloadCorpusPath());
                 //rebuild evaluation folder
                 JmxClientNetworkHelper.rebuildEvaluationFolder(mbs,nmOn);
             }
@@ -531,6 +566,16 @@ public final class Commander implements Runnable {
         return connectorPort;
     }
 
+    /**
+     * Resolve the durability key of a configuration.
+     * Older configurations don't contain a policy and keep the page cache behaviour.
+     * @param key key out of the configuration | null
+     * @return key of the policy
+     */
+    private static String durabilityKey(final String key){
+        return key == null ? DurabilityPolicy.None.getKey() : key;
+    }
+
     /**
      * Let the Thread sleep a bit.
      * @param napTime time to sleep in ms
@@ -2,6 +2,8 @@ package de.b4sh.byter.commander.config;
 
 import java.util.List;
 
+import de.b4sh.byter.utils.data.TransformValues;
+
 /**
  * POJO Class for Client Configurations.
  */
@@ -12,6 +14,25 @@ public final class ClientConfiguration {
     private final String ioImplementation;
     private final int pregeneratedChunkSize;
     private final long transmitTarget;
+    //optional parameters - older configurations don't contain them and fall back to the defaults
+    private int writeBatchSize;
+    private int writeQueueDepth;
+    private String durabilityPolicy;
+    private long durabilityParameter;
+    private double targetMegaBytesPerSecond;
+    private long targetOpsPerSecond;
+    private String payloadProfile;
+    private double payloadParameter;
+    private int payloadBlockSize;
+    private long payloadSeed;
+    private String payloadCorpusPath;
+    private long warmupBytes;
+    private long warmupMillis;
+    private int erasureDataShards;
+    private int erasureParityShards;
+    private List<String> pipelineStages;
+    private String ioHintProfile;
+    private long ioHintWindow;
 
     /**
      * Constructor.
@@ -70,4 +91,301 @@ public final class ClientConfiguration {
     public long getTransmitTarget() {
         return transmitTarget;
     }
+
+    /**
+     * get the count of chunks a batching writer collects before writing them.
+     * @return batch size | 0 (writer default)
+     */
+    public int getWriteBatchSize() {
+        return writeBatchSize;
+    }
+
+    /**
+     * set the count of chunks a batching writer collects before writing them.
+     * @param writeBatchSize batch size | 0 for the writer default
+     */
+    public void setWriteBatchSize(final int writeBatchSize) {
+        this.writeBatchSize = writeBatchSize;
+    }
+
+    /**
+     * get the count of writes an asynchronous writer keeps in flight.
+     * @return queue depth | 0 (writer default)
+     */
+    public int getWriteQueueDepth() {
+        return writeQueueDepth;
+    }
+
+    /**
+     * set the count of writes an asynchronous writer keeps in flight.
+     * @param writeQueueDepth queue depth | 0 for the writer default
+     */
+    public void setWriteQueueDepth(final int writeQueueDepth) {
+        this.writeQueueDepth = writeQueueDepth;
+    }
+
+    /**
+     * get the key of the durability policy the writer applies.
+     * @return policy key | null (no syncs)
+     */
+    public String getDurabilityPolicy() {
+        return durabilityPolicy;
+    }
+
+    /**
+     * set the key of the durability policy the writer applies.
+     * @param durabilityPolicy policy key (see DurabilityPolicy)
+     */
+    public void setDurabilityPolicy(final String durabilityPolicy) {
+        this.durabilityPolicy = durabilityPolicy;
+    }
+
+    /**
+     * get the parameter of the durability policy.
+     * @return bytes or milliseconds between syncs | 0 (policy default)
+     */
+    public long getDurabilityParameter() {
+        return durabilityParameter;
+    }
+
+    /**
+     * set the parameter of the durability policy.
+     * @param durabilityParameter bytes or milliseconds between syncs | 0 for the policy default
+     */
+    public void setDurabilityParameter(final long durabilityParameter) {
+        this.durabilityParameter = durabilityParameter;
+    }
+
+    /**
+     * get the target rate for open loop runs.
+     * @return megabytes per second | 0 (closed loop)
+     */
+    public double getTargetMegaBytesPerSecond() {
+        return targetMegaBytesPerSecond;
+    }
+
+    /**
+     * set the target rate for open loop runs.
+     * @param targetMegaBytesPerSecond megabytes per second | 0 for closed loop
+     */
+    public void setTargetMegaBytesPerSecond(final double targetMegaBytesPerSecond) {
+        this.targetMegaBytesPerSecond = targetMegaBytesPerSecond;
+    }
+
+    /**
+     * get the target chunk rate for open loop runs. Wins over the megabyte rate if set.
+     * @return chunks per second | 0 (closed loop)
+     */
+    public long getTargetOpsPerSecond() {
+        return targetOpsPerSecond;
+    }
+
+    /**
+     * set the target chunk rate for open loop runs.
+     * @param targetOpsPerSecond chunks per second | 0 for closed loop
+     */
+    public void setTargetOpsPerSecond(final long targetOpsPerSecond) {
+        this.targetOpsPerSecond = targetOpsPerSecond;
+    }
+
+    /**
+     * get the target rate for open loop runs in bytes.
+     * @return bytes per second | 0 (closed loop)
+     */
+    public long getTargetBytesPerSecond() {
+        return (long) (targetMegaBytesPerSecond * TransformValues.MEGABYTE);
+    }
+
+    /**
+     * get the payload profile.
+     * @see de.b4sh.byter.utils.data.PayloadProfile
+     * @return key of the profile | null (random)
+     */
+    public String getPayloadProfile() {
+        return payloadProfile;
+    }
+
+    /**
+     * set the payload profile.
+     * @param payloadProfile key of the profile
+     */
+    public void setPayloadProfile(final String payloadProfile) {
+        this.payloadProfile = payloadProfile;
+    }
+
+    /**
+     * get the compression or dedup ratio of the payload.
+     * @return ratio | 0 (profile default)
+     */
+    public double getPayloadParameter() {
+        return payloadParameter;
+    }
+
+    /**
+     * set the compression or dedup ratio of the payload.
+     * @param payloadParameter ratio
+     */
+    public void setPayloadParameter(final double payloadParameter) {
+        this.payloadParameter = payloadParameter;
+    }
+
+    /**
+     * get the block size the payload ratios are applied on.
+     * @return bytes | 0 (generator default)
+     */
+    public int getPayloadBlockSize() {
+        return payloadBlockSize;
+    }
+
+    /**
+     * set the block size the payload ratios are applied on.
+     * @param payloadBlockSize bytes
+     */
+    public void setPayloadBlockSize(final int payloadBlockSize) {
+        this.payloadBlockSize = payloadBlockSize;
+    }
+
+    /**
+     * get the seed of the payload generator.
+     * @return seed | 0 (fresh seed per run)
+     */
+    public long getPayloadSeed() {
+        return payloadSeed;
+    }
+
+    /**
+     * set the seed of the payload generator.
+     * @param payloadSeed seed
+     */
+    public void setPayloadSeed(final long payloadSeed) {
+        this.payloadSeed = payloadSeed;
+    }
+
+    /**
+     * get the corpus file the corpus profile replays.
+     * @return path | null
+     */
+    public String getPayloadCorpusPath() {
+        return payloadCorpusPath;
+    }
+
+    /**
+     * set the corpus file the corpus profile replays.
+     * @param payloadCorpusPath path
+     */
+    public void setPayloadCorpusPath(final String payloadCorpusPath) {
+        this.payloadCorpusPath = payloadCorpusPath;
+    }
+
+    /**
+     * get the warmup in bytes that is excluded from the writer measurements.
+     * @return bytes | 0 (no warmup)
+     */
+    public long getWarmupBytes() {
+        return warmupBytes;
+    }
+
+    /**
+     * set the warmup in bytes that is excluded from the writer measurements.
+     * @param warmupBytes bytes
+     */
+    public void setWarmupBytes(final long warmupBytes) {
+        this.warmupBytes = warmupBytes;
+    }
+
+    /**
+     * get the warmup in milliseconds that is excluded from the writer measurements.
+     * @return milliseconds | 0 (no warmup)
+     */
+    public long getWarmupMillis() {
+        return warmupMillis;
+    }
+
+    /**
+     * set the warmup in milliseconds that is excluded from the writer measurements.
+     * @param warmupMillis milliseconds
+     */
+    public void setWarmupMillis(final long warmupMillis) {
+        this.warmupMillis = warmupMillis;
+    }
+
+    /**
+     * get the data shards per stripe of the erasure coding writer.
+     * @return count | 0 (writer default)
+     */
+    public int getErasureDataShards() {
+        return erasureDataShards;
+    }
+
+    /**
+     * set the data shards per stripe of the erasure coding writer.
+     * @param erasureDataShards count
+     */
+    public void setErasureDataShards(final int erasureDataShards) {
+        this.erasureDataShards = erasureDataShards;
+    }
+
+    /**
+     * get the parity shards per stripe of the erasure coding writer.
+     * @return count | 0 (writer default)
+     */
+    public int getErasureParityShards() {
+        return erasureParityShards;
+    }
+
+    /**
+     * set the parity shards per stripe of the erasure coding writer.
+     * @param erasureParityShards count
+     */
+    public void setErasureParityShards(final int erasureParityShards) {
+        this.erasureParityShards = erasureParityShards;
+    }
+
+    /**
+     * get the stages of the pipeline writer.
+     * @return stage keys, the last one is the writer type key of the sink | null (writer default)
+     */
+    public List<String> getPipelineStages() {
+        return pipelineStages;
+    }
+
+    /**
+     * set the stages of the pipeline writer.
+     * @param pipelineStages stage keys, the last one is the writer type key of the sink
+     */
+    public void setPipelineStages(final List<String> pipelineStages) {
+        this.pipelineStages = pipelineStages;
+    }
+
+    /**
+     * get the native I/O hint profile of the writers.
+     * @return key of the hint profile | null (no hints)
+     */
+    public String getIoHintProfile() {
+        return ioHintProfile;
+    }
+
+    /**
+     * set the native I/O hint profile of the writers.
+     * @param ioHintProfile key of the hint profile
+     */
+    public void setIoHintProfile(final String ioHintProfile) {
+        this.ioHintProfile = ioHintProfile;
+    }
+
+    /**
+     * get the window of the native I/O hints.
+     * @return bytes of a hint window | 0 (hint default)
+     */
+    public long getIoHintWindow() {
+        return ioHintWindow;
+    }
+
+    /**
+     * set the window of the native I/O hints.
+     * @param ioHintWindow bytes of a hint window
+     */
+    public void setIoHintWindow(final long ioHintWindow) {
+        this.ioHintWindow = ioHintWindow;
+    }
 }
@@ -1,5 +1,7 @@
 package de.b4sh.byter.commander.config;
 
+import java.util.List;
+
 /**
  * Root Configuration that combines server and client configurations.
  */
@@ -10,6 +12,8 @@ public final class DirectConfiguration {
     private final int measurementCount;
     private final int writerCount;
     private final String writeFilePath;
+    //optional parameters - older configurations don't contain them and fall back to the defaults
+    private List<String> writeFilePaths;
 
     /**
      * Constructor for NetworkConfiguration.
@@ -70,4 +74,21 @@ public final class DirectConfiguration {
     public int getWriterCount() {
         return writerCount;
     }
+
+    /**
+     * get the directories a striped writer writes to.
+     * @return list of paths | null (writeFilePath only)
+     */
+    public List<String> getWriteFilePaths() {
+        return writeFilePaths;
+    }
+
+    /**
+     * set the directories a striped writer writes to.
+     * Usually one directory per device.
+     * @param writeFilePaths list of paths
+     */
+    public void setWriteFilePaths(final List<String> writeFilePaths) {
+        this.writeFilePaths = writeFilePaths;
+    }
 }
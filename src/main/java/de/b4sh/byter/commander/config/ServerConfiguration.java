@@ -17,6 +17,13 @@ public final class ServerConfiguration {
     private final String networkImplementation;
     private final int networkBufferSize;
     private final String filePath;
+    //optional parameters - older configurations don't contain them and fall back to the defaults
+    private int writeBatchSize;
+    private int writeQueueDepth;
+    private String durabilityPolicy;
+    private long durabilityParameter;
+    private long warmupBytes;
+    private long warmupMillis;
 
     /**
      * Constructor with all needed params.
@@ -142,4 +149,100 @@ public final class ServerConfiguration {
     public String getPassword() {
         return password;
     }
+
+    /**
+     * get the count of chunks a batching writer collects before writing them.
+     * @return batch size | 0 (writer default)
+     */
+    public int getWriteBatchSize() {
+        return writeBatchSize;
+    }
+
+    /**
+     * set the count of chunks a batching writer collects before writing them.
+     * @param writeBatchSize batch size | 0 for the writer default
+     */
+    public void setWriteBatchSize(final int writeBatchSize) {
+        this.writeBatchSize = writeBatchSize;
+    }
+
+    /**
+     * get the count of writes an asynchronous writer keeps in flight.
+     * @return queue depth | 0 (writer default)
+     */
+    public int getWriteQueueDepth() {
+        return writeQueueDepth;
+    }
+
+    /**
+     * set the count of writes an asynchronous writer keeps in flight.
+     * @param writeQueueDepth queue depth | 0 for the writer default
+     */
+    public void setWriteQueueDepth(final int writeQueueDepth) {
+        this.writeQueueDepth = writeQueueDepth;
+    }
+
+    /**
+     * get the key of the durability policy the writer applies.
+     * @return policy key | null (no syncs)
+     */
+    public String getDurabilityPolicy() {
+        return durabilityPolicy;
+    }
+
+    /**
+     * set the key of the durability policy the writer applies.
+     * @param durabilityPolicy policy key (see DurabilityPolicy)
+     */
+    public void setDurabilityPolicy(final String durabilityPolicy) {
+        this.durabilityPolicy = durabilityPolicy;
+    }
+
+    /**
+     * get the parameter of the durability policy.
+     * @return bytes or milliseconds between syncs | 0 (policy default)
+     */
+    public long getDurabilityParameter() {
+        return durabilityParameter;
+    }
+
+    /**
+     * set the parameter of the durability policy.
+     * @param durabilityParameter bytes or milliseconds between syncs | 0 for the policy default
+     */
+    public void setDurabilityParameter(final long durabilityParameter) {
+        this.durabilityParameter = durabilityParameter;
+    }
+
+    /**
+     * get the warmup in bytes that is excluded from the writer measurements.
+     * @return bytes | 0 (no warmup)
+     */
+    public long getWarmupBytes() {
+        return warmupBytes;
+    }
+
+    /**
+     * set the warmup in bytes that is excluded from the writer measurements.
+     * @param warmupBytes bytes
+     */
+    public void setWarmupBytes(final long warmupBytes) {
+        this.warmupBytes = warmupBytes;
+    }
+
+    /**
+     * get the warmup in milliseconds that is excluded from the writer measurements.
+     * @return milliseconds | 0 (no warmup)
+     */
+    public long getWarmupMillis() {
+        return warmupMillis;
+    }
+
+    /**
+     * set the warmup in milliseconds that is excluded from the writer measurements.
+     * @param warmupMillis milliseconds
+     */
+    public void setWarmupMillis(final long warmupMillis) {
+        this.warmupMillis = warmupMillis;
+    }
 }
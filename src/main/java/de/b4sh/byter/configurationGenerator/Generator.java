@@ -67,23 +67,26 @@ public final class Generator {
             for(GlobalBuffer globalBuffer: GlobalBuffer.values()){
                 for(NetworkType nt: NetworkType.values()){ //server impl network
                     for(WriterType wt: WriterType.values()){ //server impl writer
-                        //server configuration
-                        final ServerConfiguration sc = new ServerConfiguration(cData.getServerIp(), cData.getServerPort(),
-                                username,password,wt.getKey(),globalBuffer.getAmount(),nt.getKey(),globalBuffer.getAmount(),filePath);
-                        //client configuration
-                        final List<ClientConnection> clientConnections = new ArrayList<>();
-                        clientConnections.add(new ClientConnection(cData.getClientIp(),cData.getClientPort(),username,password));
-                        final ClientConfiguration cc = new ClientConfiguration(clientConnections,globalBuffer.getAmount(),
-                                "unused_here",globalBuffer.getAmount(),dataAmount.getAmount());
-                        //construct testname
-                        final StringBuilder testNameBuilder = new StringBuilder(400);
-                        testNameBuilder.append("network_").append(i).append("_").append(nt.getKey()).append("_")
-                                .append(wt.getKey()).append("_buffer_").append(globalBuffer.amount)
-                                .append("_trans_").append(dataAmount);
-                        final NetworkConfiguration nc = new NetworkConfiguration(testNameBuilder.toString(),sc,cc,measurementCount);
-                        i++;
-                        final String exportString = new GsonBuilder().setPrettyPrinting().create().toJson(nc);
-                        writeToFile(exportString, new File(outputDirectory,testNameBuilder.toString()+".network"));
+                        for(int queueDepth: queueDepthsFor(wt)){ //only the async writers scale with the queue depth
+                            //server configuration
+                            final ServerConfiguration sc = new ServerConfiguration(cData.getServerIp(), cData.getServerPort(),
+                                    username,password,wt.getKey(),globalBuffer.getAmount(),nt.getKey(),globalBuffer.getAmount(),filePath);
+                            sc.setWriteQueueDepth(queueDepth);
+                            //client configuration
+                            final List<ClientConnection> clientConnections = new ArrayList<>();
+                            clientConnections.add(new ClientConnection(cData.getClientIp(),cData.getClientPort(),username,password));
+                            final ClientConfiguration cc = new ClientConfiguration(clientConnections,globalBuffer.getAmount(),
+                                    "unused_here",globalBuffer.getAmount(),dataAmount.getAmount());
+                            //construct testname
+                            final StringBuilder testNameBuilder = new StringBuilder(400);
+                            testNameBuilder.append("network_").append(i).append("_").append(nt.getKey()).append("_")
+                                    .append(wt.getKey()).append(queueDepthSuffix(queueDepth)).append("_buffer_").append(globalBuffer.amount)
+                                    .append("_trans_").append(dataAmount);
+                            final NetworkConfiguration nc = new NetworkConfiguration(testNameBuilder.toString(),sc,cc,measurementCount);
+                            i++;
+                            final String exportString = new GsonBuilder().setPrettyPrinting().create().toJson(nc);
+                            writeToFile(exportString, new File(outputDirectory,testNameBuilder.toString()+".network"));
+                        }
                     }
                 }
             }
@@ -98,25 +101,52 @@ public final class Generator {
         for(DataAmount dataAmount: DataAmount.values()){
             for(GlobalBuffer globalBuffer: GlobalBuffer.values()){
                 for(WriterType wt: WriterType.values()) { //client impl writer
-                    //client configuration
-                    final List<ClientConnection> clientConnections = new ArrayList<>();
-                    clientConnections.add(new ClientConnection(cData.getClientIp(),cData.getClientPort(),username,password));
-                    final ClientConfiguration cc = new ClientConfiguration(clientConnections,globalBuffer.getAmount(),
-                            wt.getKey(),globalBuffer.getAmount(),dataAmount.getAmount());
-                    //construct testname
-                    final StringBuilder testNameBuilder = new StringBuilder(400);
-                    testNameBuilder.append("direct_").append(i).append("_").append(wt.getKey())
-                            .append("_buffer_").append(globalBuffer.amount).append("_trans_").append(dataAmount);
-                    //direct configuration
-                    final DirectConfiguration dc = new DirectConfiguration(testNameBuilder.toString(),cc,measurementCount,writerCount,filePath);
-                    i++;
-                    final String exportString = new GsonBuilder().setPrettyPrinting().create().toJson(dc);
-                    writeToFile(exportString, new File(outputDirectory,testNameBuilder.toString()+".direct"));
+                    for(int queueDepth: queueDepthsFor(wt)){ //only the async writers scale with the queue depth
+                        //client configuration
+                        final List<ClientConnection> clientConnections = new ArrayList<>();
+                        clientConnections.add(new ClientConnection(cData.getClientIp(),cData.getClientPort(),username,password));
+                        final ClientConfiguration cc = new ClientConfiguration(clientConnections,globalBuffer.getAmount(),
+                                wt.getKey(),globalBuffer.getAmount(),dataAmount.getAmount());
+                        cc.setWriteQueueDepth(queueDepth);
+                        //construct testname
+                        final StringBuilder testNameBuilder = new StringBuilder(400);
+                        testNameBuilder.append("direct_").append(i).append("_").append(wt.getKey()).append(queueDepthSuffix(queueDepth))
+                                .append("_buffer_").append(globalBuffer.amount).append("_trans_").append(dataAmount);
+                        //direct configuration
+                        final DirectConfiguration dc = new DirectConfiguration(testNameBuilder.toString(),cc,measurementCount,writerCount,filePath);
+                        i++;
+                        final String exportString = new GsonBuilder().setPrettyPrinting().create().toJson(dc);
+                        writeToFile(exportString, new File(outputDirectory,testNameBuilder.toString()+".direct"));
+                    }
                 }
             }
         }
     }
 
+    /**
+     * get all queue depths that should be generated for the given writer type.
+     * @param wt writer type
+     * @return every QueueDepth for the async and io_uring writer | 0 (writer default) for every other writer
+     */
+    private static int[] queueDepthsFor(final WriterType wt){
+        if(wt != WriterType.AsyncWriter && wt != WriterType.UringWriter)
+            return new int[]{0};
+        final int[] depths = new int[QueueDepth.values().length];
+        for(int i = 0; i < depths.length; i++){
+            depths[i] = QueueDepth.values()[i].getAmount();
+        }
+        return depths;
+    }
+
+    /**
+     * build the test name part for a queue depth.
+     * @param queueDepth queue depth
+     * @return _qd_[depth] | empty string for the writer default
+     */
+    private static String queueDepthSuffix(final int queueDepth){
+        return queueDepth > 0 ? "_qd_" + queueDepth : "";
+    }
+
     /**
      * Write given content to file.
      * @param content configuration content eg.
@@ -234,6 +264,26 @@ public final class Generator {
         }
     }
 
+    /**
+     * Queue depth Configuration Enum for asynchronous writers.
+     */
+    enum QueueDepth{
+        One(1),
+        Four(4),
+        Sixteen(16),
+        SixtyFour(64);
+
+        private final int amount;
+
+        QueueDepth(final int v) {
+            this.amount = v;
+        }
+
+        public int getAmount() {
+            return amount;
+        }
+    }
+
     /**
      * Dataamount Configuration Enum.
      */
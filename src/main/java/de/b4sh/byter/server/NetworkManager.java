@@ -17,6 +17,7 @@ import de.b4sh.byter.server.store.DirectStoreHandler;
 import de.b4sh.byter.server.store.StoreType;
 import de.b4sh.byter.utils.io.PortScanner;
 import de.b4sh.byter.utils.jmx.MBeanHelper;
+import de.b4sh.byter.utils.writer.DurabilityPolicy;
 import de.b4sh.byter.utils.writer.WriterType;
 
 /**
@@ -34,6 +35,12 @@ final class NetworkManager {
     private boolean takeWriterMeasurements;
     private long byteTarget;
     private int measurementVolume;
+    private int writerBatchSize;
+    private int writerQueueDepth;
+    private DurabilityPolicy durabilityPolicy;
+    private long durabilityParameter;
+    private long warmupBytes;
+    private long warmupMillis;
     //socket related
     private int serverSocketStartPort;
     private int serverSocketPort;
@@ -66,6 +73,12 @@ final class NetworkManager {
         this.takeWriterMeasurements = true;
         this.byteTarget = -1;
         this.measurementVolume = -1;
+        this.writerBatchSize = 0;
+        this.writerQueueDepth = 0;
+        this.durabilityPolicy = DurabilityPolicy.None;
+        this.durabilityParameter = 0;
+        this.warmupBytes = 0;
+        this.warmupMillis = 0;
         this.automaticFileRemoval = true;
     }
     /**
@@ -186,6 +199,102 @@ final class NetworkManager {
         this.measurementVolume = measurementVolume;
     }
 
+    /**
+     * get the count of chunks a batching writer collects.
+     * @return batch size | 0 (writer default)
+     */
+    int getWriterBatchSize() {
+        return writerBatchSize;
+    }
+
+    /**
+     * set the count of chunks a batching writer collects.
+     * @param writerBatchSize batch size | 0 for the writer default
+     */
+    void setWriterBatchSize(final int writerBatchSize) {
+        this.writerBatchSize = writerBatchSize;
+    }
+
+    /**
+     * get the count of writes an asynchronous writer keeps in flight.
+     * @return queue depth | 0 (writer default)
+     */
+    int getWriterQueueDepth() {
+        return writerQueueDepth;
+    }
+
+    /**
+     * set the count of writes an asynchronous writer keeps in flight.
+     * @param writerQueueDepth queue depth | 0 for the writer default
+     */
+    void setWriterQueueDepth(final int writerQueueDepth) {
+        this.writerQueueDepth = writerQueueDepth;
+    }
+
+    /**
+     * get the durability policy the writer applies.
+     * @return policy
+     */
+    DurabilityPolicy getDurabilityPolicy() {
+        return durabilityPolicy;
+    }
+
+    /**
+     * set the durability policy the writer applies.
+     * @param durabilityPolicy policy
+     */
+    void setDurabilityPolicy(final DurabilityPolicy durabilityPolicy) {
+        this.durabilityPolicy = durabilityPolicy;
+    }
+
+    /**
+     * get the parameter of the durability policy.
+     * @return bytes or milliseconds between syncs | 0 (policy default)
+     */
+    long getDurabilityParameter() {
+        return durabilityParameter;
+    }
+
+    /**
+     * set the parameter of the durability policy.
+     * @param durabilityParameter bytes or milliseconds between syncs | 0 for the policy default
+     */
+    void setDurabilityParameter(final long durabilityParameter) {
+        this.durabilityParameter = durabilityParameter;
+    }
+
+    /**
+     * get the warmup in bytes that is excluded from the writer measurements.
+     * @return bytes | 0 (no warmup)
+     */
+    long getWarmupBytes() {
+        return warmupBytes;
+    }
+
+    /**
+     * set the warmup in bytes that is excluded from the writer measurements.
+     * @param warmupBytes bytes
+     */
+    void setWarmupBytes(final long warmupBytes) {
+        this.warmupBytes = warmupBytes;
+    }
+
+    /**
+     * get the warmup in milliseconds that is excluded from the writer measurements.
+     * @return milliseconds | 0 (no warmup)
+     */
+    long getWarmupMillis() {
+        return warmupMillis;
+    }
+
+    /**
+     * set the warmup in milliseconds that is excluded from the writer measurements.
+     * @param warmupMillis milliseconds
+     */
+    void setWarmupMillis(final long warmupMillis) {
+        this.warmupMillis = warmupMillis;
+    }
+
     /**
      * Get the current set value of takeNetworkMeasurements.
      * @return true | false
@@ -399,7 +508,8 @@ final class NetworkManager {
                         if(this.storeType.equals(StoreType.DirectStore)){
                             store = new DirectStoreHandler(client,writerBufferSize,networkBufferSize,networkType,
                                     writerType,filePath,getFileName(),takeNetworkMeasurements,
-                                    takeWriterMeasurements,byteTarget,measurementVolume,automaticFileRemoval);
+                                    takeWriterMeasurements,byteTarget,measurementVolume,automaticFileRemoval,writerBatchSize,writerQueueDepth,
+                                    durabilityPolicy,durabilityParameter,warmupBytes,warmupMillis);
                             //mBeanHelper.registerElement(dhs, dhs.getObjectName());
                             //the jmx implementation of the stores is for the current use-case unused.
                             threadPool.execute(store);
@@ -11,6 +11,7 @@ import com.udojava.jmx.wrapper.JMXBeanParameter;
 import de.b4sh.byter.server.network.NetworkType;
 import de.b4sh.byter.utils.io.FileManager;
 import de.b4sh.byter.utils.jmx.JmxEntity;
+import de.b4sh.byter.utils.writer.DurabilityPolicy;
 import de.b4sh.byter.utils.writer.WriterType;
 
 /**
@@ -195,6 +196,81 @@ public final class ServerJmxNetworkManager extends JmxEntity {
         this.writerBufferSize = writerBufferSize;
     }
 
+    /**
+     * JMX function for changing the writer batch size.
+     * @param writerBatchSize the desired count of chunks per batch (0 for the writer default)
+     */
+    @JMXBeanOperation(name = "changeWriterBatchSize", description = "change the writer batch size")
+    public void changeWriterBatchSize(
+        @JMXBeanParameter(name = "batchSize", description = "count of chunks a batching writer collects") final int writerBatchSize
+    ){
+        this.networkManager.setWriterBatchSize(writerBatchSize);
+    }
+
+    /**
+     * JMX function for changing the writer queue depth.
+     * @param writerQueueDepth the desired count of writes in flight (0 for the writer default)
+     */
+    @JMXBeanOperation(name = "changeWriterQueueDepth", description = "change the writer queue depth")
+    public void changeWriterQueueDepth(
+        @JMXBeanParameter(name = "queueDepth", description = "count of writes an asynchronous writer keeps in flight") final int writerQueueDepth
+    ){
+        this.networkManager.setWriterQueueDepth(writerQueueDepth);
+    }
+
+    /**
+     * JMX function for changing the durability policy.
+     * @param param1 key of the new durability policy
+     * @return String with errorMessage or success msg.
+     */
+    @JMXBeanOperation(name = "changeDurabilityPolicy", description = "change the durability policy of the writer")
+    public String changeDurabilityPolicy(
+        @JMXBeanParameter(name = "durabilityPolicy", description = "key of the new durability policy") final String param1
+    ){
+        final String newPolicy = String.valueOf(param1).toLowerCase();
+        for(DurabilityPolicy dp: DurabilityPolicy.values()){
+            if(dp.getKey().equals(newPolicy)){
+                this.networkManager.setDurabilityPolicy(dp);
+                return "changed DurabilityPolicy to " + dp.toString();
+            }
+        }
+        //error out that this wasn't a valid key
+        return DurabilityPolicy.getOptionList();
+    }
+
+    /**
+     * JMX function for changing the durability parameter.
+     * @param durabilityParameter bytes or milliseconds between syncs (0 for the policy default)
+     */
+    @JMXBeanOperation(name = "changeDurabilityParameter", description = "change the durability parameter")
+    public void changeDurabilityParameter(
+        @JMXBeanParameter(name = "durabilityParameter", description = "bytes or milliseconds between syncs") final long durabilityParameter
+    ){
+        this.networkManager.setDurabilityParameter(durabilityParameter);
+    }
+
+    /**
+     * JMX function for changing the writer warmup in bytes.
+     * @param warmupBytes bytes excluded from the writer measurements (0 for none)
+     */
+    @JMXBeanOperation(name = "changeWarmupBytes", description = "change the writer warmup in bytes")
+    public void changeWarmupBytes(
+        @JMXBeanParameter(name = "warmupBytes", description = "bytes excluded from the writer measurements") final long warmupBytes
+    ){
+        this.networkManager.setWarmupBytes(warmupBytes);
+    }
+
+    /**
+     * JMX function for changing the writer warmup in milliseconds.
+     * @param warmupMillis milliseconds excluded from the writer measurements (0 for none)
+     */
+    @JMXBeanOperation(name = "changeWarmupMillis", description = "change the writer warmup in milliseconds")
+    public void changeWarmupMillis(
+        @JMXBeanParameter(name = "warmupMillis", description = "milliseconds excluded from the writer measurements") final long warmupMillis
+    ){
+        this.networkManager.setWarmupMillis(warmupMillis);
+    }
+
     /**
      * Get the current used storage type.
      * @return String with StorageType
@@ -329,6 +405,60 @@ public final class ServerJmxNetworkManager extends JmxEntity {
         return this.writerBufferSize;
     }
 
+    /**
+     * get the current writer batch size.
+     * @return int with writerBatchSize
+     */
+    @JMXBeanAttribute(name = "WriterBatchSize", description = "currently active writer batch size")
+    public int getWriterBatchSize(){
+        return this.networkManager.getWriterBatchSize();
+    }
+
+    /**
+     * get the current writer queue depth.
+     * @return int with writerQueueDepth
+     */
+    @JMXBeanAttribute(name = "WriterQueueDepth", description = "currently active writer queue depth")
+    public int getWriterQueueDepth(){
+        return this.networkManager.getWriterQueueDepth();
+    }
+
+    /**
+     * get the current durability policy.
+     * @return String with the key of the policy
+     */
+    @JMXBeanAttribute(name = "DurabilityPolicy", description = "currently active durability policy")
+    public String getDurabilityPolicy(){
+        return this.networkManager.getDurabilityPolicy().getKey();
+    }
+
+    /**
+     * get the current durability parameter.
+     * @return long with durabilityParameter
+     */
+    @JMXBeanAttribute(name = "DurabilityParameter", description = "currently active durability parameter")
+    public long getDurabilityParameter(){
+        return this.networkManager.getDurabilityParameter();
+    }
+
+    /**
+     * get the current writer warmup in bytes.
+     * @return long with warmupBytes
+     */
+    @JMXBeanAttribute(name = "WarmupBytes", description = "currently active writer warmup in bytes")
+    public long getWarmupBytes(){
+        return this.networkManager.getWarmupBytes();
+    }
+
+    /**
+     * get the current writer warmup in milliseconds.
+     * @return long with warmupMillis
+     */
+    @JMXBeanAttribute(name = "WarmupMillis", description = "currently active writer warmup in milliseconds")
+    public long getWarmupMillis(){
+        return this.networkManager.getWarmupMillis();
+    }
+
     /**
      * get the current network buffer size.
      * @return int with networkBufferSize
@@ -11,6 +11,7 @@ import java.io.File;
 import java.net.Socket;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.Deflater;
 
 import com.udojava.jmx.wrapper.JMXBean;
 import com.udojava.jmx.wrapper.JMXBeanAttribute;
@@ -21,13 +22,29 @@ import de.b4sh.byter.server.network.NetworkType;
 import de.b4sh.byter.server.network.NetworkWorkpile;
 import de.b4sh.byter.utils.data.StringGenerator;
 import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.writer.DurabilityPolicy;
 import de.b4sh.byter.utils.writer.WriterArchival;
+import de.b4sh.byter.utils.writer.WriterAsyncFileChannel;
 import de.b4sh.byter.utils.writer.WriterBuffered;
+import de.b4sh.byter.utils.writer.WriterDirectIO;
 import de.b4sh.byter.utils.writer.WriterFileChannel;
+import de.b4sh.byter.utils.writer.WriterGathering;
 import de.b4sh.byter.utils.writer.WriterInterface;
+import de.b4sh.byter.utils.writer.WriterMemoryMapped;
 import de.b4sh.byter.utils.writer.WriterNull;
 import de.b4sh.byter.utils.writer.WriterRandomAccessFile;
+import de.b4sh.byter.utils.writer.WriterStriped;
+import de.b4sh.byter.utils.writer.WriterCompressing;
+import de.b4sh.byter.utils.writer.WriterChecksumming;
+import de.b4sh.byter.utils.writer.WriterSegmented;
+import de.b4sh.byter.utils.writer.WriterCombining;
+import de.b4sh.byter.utils.writer.WriterDoubleBuffered;
+import de.b4sh.byter.utils.writer.EncryptionMode;
+import de.b4sh.byter.utils.writer.WriterEncrypting;
+import de.b4sh.byter.utils.writer.WriterErasureCoded;
+import de.b4sh.byter.utils.writer.WriterPipeline;
 import de.b4sh.byter.utils.writer.WriterType;
+import de.b4sh.byter.utils.writer.WriterUring;
 
 /**
  * Implementation that directly fills a desired puffer and writes it onto the disc.
@@ -47,6 +64,12 @@ public final class DirectStoreHandler extends BaseStore{
     //working
     private WriterType writerType;
     private int writerBufferSize;
+    private int writerBatchSize;
+    private int writerQueueDepth;
+    private DurabilityPolicy durabilityPolicy;
+    private long durabilityParameter;
+    private long warmupBytes;
+    private long warmupMillis;
     private NetworkType networkType;
     private int networkBufferSize;
     private NetworkInterface network;
@@ -69,13 +92,22 @@ public final class DirectStoreHandler extends BaseStore{
      * @param byteTarget byte target to reach
      * @param takeNetworkMeasurements should the application take network measurements
      * @param takeWriterMeasurements should the application take writer measurements
+     * @param writerBatchSize count of chunks a batching writer collects (0 for the writer default)
+     * @param writerQueueDepth count of writes an asynchronous writer keeps in flight (0 for the writer default)
+     * @param durabilityPolicy policy when the writer forces its data onto the device
+     * @param durabilityParameter bytes or milliseconds between syncs (0 for the policy default)
+     * @param warmupBytes bytes excluded from the writer measurements (0 for none)
+     * @param warmupMillis milliseconds excluded from the writer measurements (0 for none)
      */
     public DirectStoreHandler(final Socket client, final int writerBufferSize,
                               final int networkBufferSize, final NetworkType networkType,
                               final WriterType writerType, final String filePath,
                               final String fileName,
                               final boolean takeNetworkMeasurements, final boolean takeWriterMeasurements,
-                              final long byteTarget, final int measurementVolume, final boolean automaticFileRemoval) {
+                              final long byteTarget, final int measurementVolume, final boolean automaticFileRemoval,
+                              final int writerBatchSize, final int writerQueueDepth,
+                              final DurabilityPolicy durabilityPolicy, final long durabilityParameter,
+                              final long warmupBytes, final long warmupMillis) {
         super(StoreType.DirectStore);
         this.clientSocket = client;
         this.writerBufferSize = writerBufferSize;
@@ -89,6 +121,12 @@ public final class DirectStoreHandler extends BaseStore{
         this.byteTarget = byteTarget;
         this.measurementVolume = measurementVolume;
         this.automaticFileRemoval = automaticFileRemoval;
+        this.writerBatchSize = writerBatchSize;
+        this.writerQueueDepth = writerQueueDepth;
+        this.durabilityPolicy = durabilityPolicy == null ? DurabilityPolicy.None : durabilityPolicy;
+        this.durabilityParameter = durabilityParameter;
+        this.warmupBytes = warmupBytes;
+        this.warmupMillis = warmupMillis;
         this.initService();
     }
 
@@ -97,6 +135,8 @@ public final class DirectStoreHandler extends BaseStore{
         if(this.takeWriterMeasurements){
             final int skippedSteps = calculateSkippedMeasurements(this.byteTarget,this.measurementVolume,this.networkBufferSize);
             this.writerPerformanceTimer = new PerformanceTimer("DirectStoreHandler-Writer",this.measurementVolume,skippedSteps);
+            //excludes the warmup from the measurements and reports the detected steady state
+            this.writerPerformanceTimer.setWarmup(this.warmupBytes,this.warmupMillis * 1000000L);
         }
         if(this.takeNetworkMeasurements){
             final int skippedSteps = calculateSkippedMeasurements(this.byteTarget,this.measurementVolume,this.writerBufferSize);
@@ -146,6 +186,13 @@ public final class DirectStoreHandler extends BaseStore{
                 else
                     this.writer = new WriterFileChannel(this.writerBufferSize,fileToWriteTo);
                 break;
+            case PooledFileChannelWriter:
+                log.log(Level.INFO, "FileChannel Writer with pooled direct staging buffers selected.");
+                if(takeWriterMeasurements)
+                    this.writer = new WriterFileChannel(this.writerBufferSize,fileToWriteTo,writerPerformanceTimer,true);
+                else
+                    this.writer = new WriterFileChannel(this.writerBufferSize,fileToWriteTo,null,true);
+                break;
             case Archival:
                 log.log(Level.INFO, "Archival Writer selected.");
                 final File indexFile = new File(filePath,this.fileName + ".index");
@@ -154,6 +201,94 @@ public final class DirectStoreHandler extends BaseStore{
                 else
                     this.writer = new WriterArchival(fileToWriteTo,indexFile,this.writerBufferSize);
                 break;
+            case MappedWriter:
+                log.log(Level.INFO, "MemoryMapped Writer selected.");
+                if(takeWriterMeasurements)
+                    this.writer = new WriterMemoryMapped(this.writerBufferSize,fileToWriteTo,writerPerformanceTimer);
+                else
+                    this.writer = new WriterMemoryMapped(this.writerBufferSize,fileToWriteTo);
+                break;
+            case GatheringWriter:
+                log.log(Level.INFO, "Gathering Writer selected.");
+                if(takeWriterMeasurements)
+                    this.writer = new WriterGathering(this.writerBufferSize,this.writerBatchSize,fileToWriteTo,writerPerformanceTimer);
+                else
+                    this.writer = new WriterGathering(this.writerBufferSize,this.writerBatchSize,fileToWriteTo);
+                break;
+            case DirectIOWriter:
+                log.log(Level.INFO, "O_DIRECT Writer selected.");
+                if(takeWriterMeasurements)
+                    this.writer = new WriterDirectIO(this.writerBufferSize,fileToWriteTo,writerPerformanceTimer);
+                else
+                    this.writer = new WriterDirectIO(this.writerBufferSize,fileToWriteTo);
+                break;
+            case AsyncWriter:
+                log.log(Level.INFO, "AsynchronousFileChannel Writer selected.");
+                if(takeWriterMeasurements)
+                    this.writer = new WriterAsyncFileChannel(this.writerBufferSize,this.writerQueueDepth,fileToWriteTo,writerPerformanceTimer);
+                else
+                    this.writer = new WriterAsyncFileChannel(this.writerBufferSize,this.writerQueueDepth,fileToWriteTo);
+                break;
+            case PreallocatedRAFWriter:
+                log.log(Level.INFO, "RandomAccessFile Writer with preallocation selected.");
+                this.writer = new WriterRandomAccessFile(this.writerBufferSize,fileToWriteTo,
+                        takeWriterMeasurements ? writerPerformanceTimer : null,this.byteTarget);
+                break;
+            case StripedWriter:
+                log.log(Level.INFO, "Striped Writer selected. The server stripes into its file path only.");
+                if(takeWriterMeasurements)
+                    this.writer = new WriterStriped(this.writerBufferSize,null,fileToWriteTo,writerPerformanceTimer);
+                else
+                    this.writer = new WriterStriped(this.writerBufferSize,null,fileToWriteTo);
+                break;
+            case CompressingWriter:
+                log.log(Level.INFO, "Compressing Writer selected. Blocks are written with a FileChannel Writer.");
+                this.writer = new WriterCompressing(new WriterFileChannel(this.writerBufferSize,fileToWriteTo),0,
+                        Deflater.DEFAULT_COMPRESSION,takeWriterMeasurements ? writerPerformanceTimer : null);
+                break;
+            case ChecksummingWriter:
+                log.log(Level.INFO, "Checksumming Writer selected. Data is written with a FileChannel Writer.");
+                this.writer = new WriterChecksumming(new WriterFileChannel(this.writerBufferSize,fileToWriteTo),fileToWriteTo,0,
+                        takeWriterMeasurements ? writerPerformanceTimer : null);
+                break;
+            case SegmentedWriter:
+                log.log(Level.INFO, "Segmented Writer selected.");
+                this.writer = new WriterSegmented(0,WriterSegmented.DEFAULT_RETAINED_SEGMENTS,fileToWriteTo,
+                        takeWriterMeasurements ? writerPerformanceTimer : null);
+                break;
+            case CombiningWriter:
+                log.log(Level.INFO, "Combining Writer selected. Blocks are written with a FileChannel Writer.");
+                this.writer = new WriterCombining(new WriterFileChannel(this.writerBufferSize,fileToWriteTo),
+                        WriterCombining.DEFAULT_INITIAL_BLOCK_SIZE,WriterCombining.DEFAULT_MIN_BLOCK_SIZE,WriterCombining.DEFAULT_MAX_BLOCK_SIZE,
+                        takeWriterMeasurements ? writerPerformanceTimer : null);
+                break;
+            case DoubleBufferedWriter:
+                log.log(Level.INFO, "Double Buffered Writer selected. Buffer count is the writer queue depth.");
+                this.writer = new WriterDoubleBuffered(this.writerBufferSize,this.writerQueueDepth,fileToWriteTo,
+                        takeWriterMeasurements ? writerPerformanceTimer : null);
+                break;
+            case EncryptingCtrWriter:
+            case EncryptingGcmWriter:
+                log.log(Level.INFO, "Encrypting Writer selected. Blocks are written with a FileChannel Writer.");
+                this.writer = new WriterEncrypting(new WriterFileChannel(this.writerBufferSize,fileToWriteTo),
+                        this.writerType == WriterType.EncryptingGcmWriter ? EncryptionMode.Gcm : EncryptionMode.Ctr,
+                        0,0,null,takeWriterMeasurements ? writerPerformanceTimer : null);
+                break;
+            case ErasureCodedWriter:
+                log.log(Level.INFO, "Erasure Coded Writer selected. Shards are written next to the data file.");
+                this.writer = new WriterErasureCoded(this.writerBufferSize,WriterErasureCoded.DEFAULT_DATA_SHARDS,
+                        WriterErasureCoded.DEFAULT_PARITY_SHARDS,null,fileToWriteTo,takeWriterMeasurements ? writerPerformanceTimer : null);
+                break;
+            case PipelineWriter:
+                log.log(Level.INFO, "Pipeline Writer selected. Stages: " + WriterPipeline.DEFAULT_STAGES);
+                this.writer = new WriterPipeline(WriterPipeline.DEFAULT_STAGES,this.writerBufferSize,fileToWriteTo,
+                        takeWriterMeasurements ? writerPerformanceTimer : null);
+                break;
+            case UringWriter:
+                log.log(Level.INFO, "io_uring Writer selected.");
+                this.writer = new WriterUring(this.writerBufferSize,this.writerQueueDepth,this.writerBatchSize,fileToWriteTo,
+                        takeWriterMeasurements ? writerPerformanceTimer : null);
+                break;
             default:
                 break;
         }
@@ -161,6 +296,12 @@ public final class DirectStoreHandler extends BaseStore{
         //mainly useful for test to set it to false (so the data is avail. after test and could be asserted)
         if(!automaticFileRemoval)
             this.writer.setAutomaticFileRemoval(false);
+        if(this.writer != null && this.durabilityPolicy != DurabilityPolicy.None){
+            log.log(Level.INFO, "Durability policy " + this.durabilityPolicy.name() + " selected.");
+            final PerformanceTimer syncTimer = takeWriterMeasurements
+                    ? new PerformanceTimer("DirectStoreHandler-Writer-Sync",this.measurementVolume,0) : null;
+            this.writer.setDurabilityPolicy(this.durabilityPolicy,this.durabilityParameter,syncTimer);
+        }
     }
 
     private void initSocket(){
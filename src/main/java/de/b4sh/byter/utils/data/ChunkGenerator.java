@@ -1,9 +1,8 @@
 package de.b4sh.byter.utils.data;
 
-import java.util.Random;
-
 /**
  * Class for a chunk generated that pre generates a byte array for the client.
+ * Random bytes come from the PayloadGenerator, use one directly for other payload profiles.
  */
 public final class ChunkGenerator {
 
@@ -17,9 +16,7 @@ public final class ChunkGenerator {
      * @return byte array with specific length
      */
     public static byte[] generateChunk(final int length){
-        final byte[] tmp = new byte[length];
-        new Random().nextBytes(tmp);
-        return tmp;
+        return new PayloadGenerator().generate(length);
     }
 
 }
@@ -0,0 +1,228 @@
+/*
+ * File: PayloadGenerator
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.data;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+/**
+ * Seeded payload generator for the chunks of writers and network clients.
+ * Random bytes come from a SplittableRandom. Chunks from PARALLEL_THRESHOLD on are filled in slices of
+ * PARALLEL_SLICE in parallel, every slice with its own split of the generator, so the content only depends on the seed.
+ * Profiles:
+ * Random - random bytes.
+ * Zeros - zero bytes.
+ * Compressible - every block holds 1/parameter random bytes and zeros after that, it compresses about by the factor parameter.
+ * Dedupable - only every parameter-th block is unique, the others repeat the unique blocks.
+ * Corpus - replays a corpus file, consecutive chunks continue where the last one stopped.
+ */
+public final class PayloadGenerator {
+
+    private static final Logger log = Logger.getLogger(PayloadGenerator.class.getName());
+    public static final int DEFAULT_BLOCK_SIZE = 4096;
+    public static final int PARALLEL_THRESHOLD = 1024 * 1024;
+    public static final int PARALLEL_SLICE = 256 * 1024;
+    public static final int MAX_CORPUS_SIZE = 64 * 1024 * 1024;
+    private final PayloadProfile profile;
+    private final double parameter;
+    private final int blockSize;
+    private final SplittableRandom random;
+    private byte[] corpus;
+    private int corpusPosition;
+
+    /**
+     * Constructor for a random payload with a fresh seed.
+     */
+    public PayloadGenerator() {
+        this(PayloadProfile.Random,0,0,0,null);
+    }
+
+    /**
+     * Constructor.
+     * @param profile kind of payload
+     * @param seed seed of the generator (0 for a fresh seed)
+     * @param parameter compression ratio (Compressible) or dedup ratio (Dedupable) - ignored by the other profiles
+     * @param blockSize block size the ratios are applied on (0 or below for the default of 4KB)
+     * @param corpusFile file to replay (Corpus only - falls back to Random if not readable)
+     */
+    public PayloadGenerator(final PayloadProfile profile, final long seed, final double parameter,
+                            final int blockSize, final File corpusFile) {
+        this.random = seed == 0 ? new SplittableRandom() : new SplittableRandom(seed);
+        this.parameter = Math.max(1, parameter);
+        this.blockSize = blockSize <= 0 ? DEFAULT_BLOCK_SIZE : blockSize;
+        if(profile == PayloadProfile.Corpus){
+            this.corpus = readCorpus(corpusFile);
+            if(this.corpus != null)
+                this.corpusPosition = this.random.nextInt(this.corpus.length);
+        }
+        if(profile == PayloadProfile.Corpus && this.corpus == null){
+            log.log(Level.WARNING, "Corpus is not available, falling back to random payload.");
+            this.profile = PayloadProfile.Random;
+        }else{
+            this.profile = profile == null ? PayloadProfile.Random : profile;
+        }
+    }
+
+    private static byte[] readCorpus(final File corpusFile){
+        if(corpusFile == null || !corpusFile.isFile() || corpusFile.length() == 0)
+            return null;
+        final byte[] data = new byte[(int) Math.min(corpusFile.length(), MAX_CORPUS_SIZE)];
+        try(
+            final InputStream in = new FileInputStream(corpusFile)
+        ){
+            int read = 0;
+            int r;
+            while(read < data.length && (r = in.read(data, read, data.length - read)) >= 0){
+                read += r;
+            }
+            return read == data.length ? data : Arrays.copyOf(data, read);
+        } catch (IOException e) {
+            log.log(Level.WARNING, "IO Exception while reading the corpus " + corpusFile.getAbsolutePath() + ". Check stacktrace",e);
+            return null;
+        }
+    }
+
+    /**
+     * Generate a new chunk.
+     * @param length length of the chunk
+     * @return byte array with the payload
+     */
+    public byte[] generate(final int length){
+        return this.fill(new byte[length]);
+    }
+
+    /**
+     * Fill the whole array with payload.
+     * @param chunk array to fill
+     * @return the filled array
+     */
+    public byte[] fill(final byte[] chunk){
+        switch (this.profile){
+            case Zeros:
+                Arrays.fill(chunk,(byte) 0);
+                break;
+            case Compressible:
+                this.fillCompressible(chunk);
+                break;
+            case Dedupable:
+                this.fillDedupable(chunk);
+                break;
+            case Corpus:
+                this.fillCorpus(chunk);
+                break;
+            default:
+                this.fillRandom(chunk,0,chunk.length);
+                break;
+        }
+        return chunk;
+    }
+
+    /**
+     * Fill a range with random bytes - in parallel slices for big ranges.
+     * @param chunk array to fill
+     * @param offset start of the range
+     * @param length length of the range
+     */
+    private void fillRandom(final byte[] chunk, final int offset, final int length){
+        if(length < PARALLEL_THRESHOLD){
+            fillRandom(this.random,chunk,offset,length);
+            return;
+        }
+        final int slices = (length + PARALLEL_SLICE - 1) / PARALLEL_SLICE;
+        final SplittableRandom[] splits = new SplittableRandom[slices];
+        for(int i = 0; i < slices; i++){
+            splits[i] = this.random.split(); //split up front - the content does not depend on the scheduling
+        }
+        IntStream.range(0, slices).parallel().forEach(i -> {
+            final int start = offset + i * PARALLEL_SLICE;
+            fillRandom(splits[i],chunk,start,Math.min(PARALLEL_SLICE, offset + length - start));
+        });
+    }
+
+    private static void fillRandom(final SplittableRandom rnd, final byte[] chunk, final int offset, final int length){
+        final int end = offset + length;
+        int i = offset;
+        while(i + 8 <= end){
+            long value = rnd.nextLong();
+            for(int b = 0; b < 8; b++){
+                chunk[i++] = (byte) value;
+                value >>>= 8;
+            }
+        }
+        if(i < end){
+            long value = rnd.nextLong();
+            while(i < end){
+                chunk[i++] = (byte) value;
+                value >>>= 8;
+            }
+        }
+    }
+
+    private void fillCompressible(final byte[] chunk){
+        this.fillRandom(chunk,0,chunk.length);
+        final int randomPart = (int) Math.round(this.blockSize / this.parameter);
+        for(int block = 0; block < chunk.length; block += this.blockSize){
+            final int end = Math.min(chunk.length, block + this.blockSize);
+            if(block + randomPart < end)
+                Arrays.fill(chunk, block + randomPart, end, (byte) 0);
+        }
+    }
+
+    private void fillDedupable(final byte[] chunk){
+        final int blocks = (chunk.length + this.blockSize - 1) / this.blockSize;
+        final int uniqueBlocks = Math.max(1, (int) Math.ceil(blocks / this.parameter));
+        final int uniqueBytes = (int) Math.min(chunk.length, (long) uniqueBlocks * this.blockSize);
+        this.fillRandom(chunk,0,uniqueBytes);
+        for(int block = uniqueBlocks; block < blocks; block++){
+            final int start = block * this.blockSize;
+            final int source = (block % uniqueBlocks) * this.blockSize;
+            System.arraycopy(chunk, source, chunk, start, Math.min(this.blockSize, chunk.length - start));
+        }
+    }
+
+    private void fillCorpus(final byte[] chunk){
+        int filled = 0;
+        while(filled < chunk.length){
+            final int length = Math.min(chunk.length - filled, this.corpus.length - this.corpusPosition);
+            System.arraycopy(this.corpus, this.corpusPosition, chunk, filled, length);
+            filled += length;
+            this.corpusPosition = (this.corpusPosition + length) % this.corpus.length;
+        }
+    }
+
+    /**
+     * get the used profile.
+     * @return PayloadProfile (Random if a corpus was not readable)
+     */
+    public PayloadProfile getProfile() {
+        return this.profile;
+    }
+
+    /**
+     * get the ratio parameter.
+     * @return ratio (at least 1)
+     */
+    public double getParameter() {
+        return this.parameter;
+    }
+
+    /**
+     * get the block size the ratios are applied on.
+     * @return bytes
+     */
+    public int getBlockSize() {
+        return this.blockSize;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * File: PayloadProfile
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Enum
+ */
+package de.b4sh.byter.utils.data;
+
+/**
+ * ENum for payload profiles.
+ * Decides which kind of data the generated chunks contain.
+ */
+public enum PayloadProfile {
+    Random("rand"),
+    Zeros("zero"),
+    Compressible("comp"),
+    Dedupable("dedp"),
+    Corpus("corp");
+
+    private final String key;
+
+    /**
+     * Constructor for Enum Key.
+     * @param value key to present.
+     */
+    PayloadProfile(final String value) {
+        this.key = value;
+    }
+
+    /**
+     * Get a String List of all possible Options.
+     * @return String with a list content
+     */
+    public static String getOptionList(){
+        final StringBuilder sb = new StringBuilder();
+        sb.append("You passed a wrong Payload Profile. Please chose one of those. \n");
+        for(PayloadProfile n: PayloadProfile.values()){
+            sb.append(n.name()); sb.append(" | key: "); sb.append(n.getKey()); sb.append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * get key of profile.
+     * @return String
+     */
+    public String getKey(){
+        return this.key;
+    }
+
+    /**
+     * get the profile for a key.
+     * @param key key of the profile
+     * @return profile | Random (unknown or null key)
+     */
+    public static PayloadProfile fromKey(final String key){
+        for(PayloadProfile pp: PayloadProfile.values()){
+            if(pp.getKey().equals(key))
+                return pp;
+        }
+        return Random;
+    }
+}
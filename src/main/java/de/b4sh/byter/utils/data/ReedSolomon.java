@@ -0,0 +1,239 @@
+/*
+ * File: ReedSolomon
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.data;
+
+import java.util.Arrays;
+
+/**
+ * Systematic Reed-Solomon codec over GF(2^8) (polynomial 0x11D).
+ * The encoding matrix is a Vandermonde matrix multiplied with the inverse of its top square, so the first
+ * dataShards rows are the identity (data shards are stored as they are) and every dataShards rows are invertible.
+ * Any dataShards of the dataShards + parityShards shards are enough to rebuild the data.
+ * Instances are immutable and can be used by multiple threads.
+ */
+public final class ReedSolomon {
+
+    private static final int FIELD_SIZE = 256;
+    private static final byte[] EXP = new byte[FIELD_SIZE * 2];
+    private static final int[] LOG = new int[FIELD_SIZE];
+    private static final byte[][] MUL = new byte[FIELD_SIZE][FIELD_SIZE];
+    private final int dataShards;
+    private final int parityShards;
+    private final byte[][] matrix;
+
+    static {
+        int x = 1;
+        for(int i = 0; i < FIELD_SIZE - 1; i++){
+            EXP[i] = (byte) x;
+            LOG[x] = i;
+            x <<= 1;
+            if(x >= FIELD_SIZE)
+                x ^= 0x11D;
+        }
+        for(int i = FIELD_SIZE - 1; i < EXP.length; i++){
+            EXP[i] = EXP[i - (FIELD_SIZE - 1)];
+        }
+        for(int a = 1; a < FIELD_SIZE; a++){
+            for(int b = 1; b < FIELD_SIZE; b++){
+                MUL[a][b] = EXP[LOG[a] + LOG[b]];
+            }
+        }
+    }
+
+    /**
+     * Constructor.
+     * @param dataShards count of data shards (at least 1)
+     * @param parityShards count of parity shards (at least 1)
+     */
+    public ReedSolomon(final int dataShards, final int parityShards) {
+        if(dataShards < 1 || parityShards < 1 || dataShards + parityShards > FIELD_SIZE)
+            throw new IllegalArgumentException("Shard counts must be at least 1 and at most " + FIELD_SIZE + " in total.");
+        this.dataShards = dataShards;
+        this.parityShards = parityShards;
+        final int total = dataShards + parityShards;
+        final byte[][] vandermonde = new byte[total][dataShards];
+        for(int r = 0; r < total; r++){
+            for(int c = 0; c < dataShards; c++){
+                vandermonde[r][c] = power(r, c);
+            }
+        }
+        final byte[][] top = new byte[dataShards][];
+        for(int r = 0; r < dataShards; r++){
+            top[r] = vandermonde[r].clone();
+        }
+        this.matrix = multiply(vandermonde, invert(top));
+    }
+
+    /**
+     * Calculate the parity shards of a stripe.
+     * @param shards dataShards + parityShards arrays, the data shards are read, the parity shards are overwritten
+     * @param length bytes of every shard to encode
+     */
+    public void encodeParity(final byte[][] shards, final int length){
+        for(int p = 0; p < this.parityShards; p++){
+            final byte[] row = this.matrix[this.dataShards + p];
+            final byte[] out = shards[this.dataShards + p];
+            Arrays.fill(out, 0, length, (byte) 0);
+            for(int c = 0; c < this.dataShards; c++){
+                multiplyAdd(MUL[row[c] & 0xFF], shards[c], 0, out, length);
+            }
+        }
+    }
+
+    /**
+     * Calculate the parity shards of a stripe whose data shards follow each other in a single array.
+     * @param data dataShards * length bytes, data shard c starts at c * length
+     * @param parity parityShards arrays, overwritten
+     * @param length bytes of every shard to encode
+     */
+    public void encodeParity(final byte[] data, final byte[][] parity, final int length){
+        for(int p = 0; p < this.parityShards; p++){
+            final byte[] row = this.matrix[this.dataShards + p];
+            final byte[] out = parity[p];
+            Arrays.fill(out, 0, length, (byte) 0);
+            for(int c = 0; c < this.dataShards; c++){
+                multiplyAdd(MUL[row[c] & 0xFF], data, c * length, out, length);
+            }
+        }
+    }
+
+    /**
+     * Rebuild the missing data shards of a stripe.
+     * @param shards dataShards + parityShards arrays, missing data shards are overwritten
+     * @param present which shards hold valid data
+     * @param length bytes of every shard to decode
+     * @throws IllegalArgumentException if less than dataShards shards are present
+     */
+    public void decodeMissing(final byte[][] shards, final boolean[] present, final int length){
+        boolean complete = true;
+        for(int c = 0; c < this.dataShards; c++){
+            complete &= present[c];
+        }
+        if(complete)
+            return;
+        //take the first dataShards present shards and invert their rows of the encoding matrix
+        final int[] rows = new int[this.dataShards];
+        int found = 0;
+        for(int i = 0; i < shards.length && found < this.dataShards; i++){
+            if(present[i])
+                rows[found++] = i;
+        }
+        if(found < this.dataShards)
+            throw new IllegalArgumentException("Only " + found + " of the " + this.dataShards + " needed shards are present.");
+        final byte[][] sub = new byte[this.dataShards][];
+        for(int i = 0; i < this.dataShards; i++){
+            sub[i] = this.matrix[rows[i]].clone();
+        }
+        final byte[][] decode = invert(sub);
+        for(int c = 0; c < this.dataShards; c++){
+            if(present[c])
+                continue;
+            final byte[] out = shards[c];
+            Arrays.fill(out, 0, length, (byte) 0);
+            for(int i = 0; i < this.dataShards; i++){
+                multiplyAdd(MUL[decode[c][i] & 0xFF], shards[rows[i]], 0, out, length);
+            }
+        }
+    }
+
+    private static void multiplyAdd(final byte[] table, final byte[] in, final int inOffset, final byte[] out, final int length){
+        for(int i = 0; i < length; i++){
+            out[i] ^= table[in[inOffset + i] & 0xFF];
+        }
+    }
+
+    private static byte multiply(final byte a, final byte b){
+        return MUL[a & 0xFF][b & 0xFF];
+    }
+
+    private static byte power(final int base, final int exponent){
+        if(exponent == 0)
+            return 1;
+        if(base == 0)
+            return 0;
+        return EXP[(LOG[base] * exponent) % (FIELD_SIZE - 1)];
+    }
+
+    private static byte inverse(final byte a){
+        return EXP[(FIELD_SIZE - 1) - LOG[a & 0xFF]];
+    }
+
+    private static byte[][] multiply(final byte[][] a, final byte[][] b){
+        final byte[][] result = new byte[a.length][b[0].length];
+        for(int r = 0; r < a.length; r++){
+            for(int c = 0; c < b[0].length; c++){
+                byte value = 0;
+                for(int i = 0; i < b.length; i++){
+                    value ^= multiply(a[r][i], b[i][c]);
+                }
+                result[r][c] = value;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Invert a square matrix with gauss jordan elimination.
+     * @param source matrix to invert (is modified)
+     * @return inverted matrix
+     */
+    private static byte[][] invert(final byte[][] source){
+        final int n = source.length;
+        final byte[][] inverse = new byte[n][n];
+        for(int i = 0; i < n; i++){
+            inverse[i][i] = 1;
+        }
+        for(int col = 0; col < n; col++){
+            int pivot = col;
+            while(pivot < n && source[pivot][col] == 0){
+                pivot++;
+            }
+            if(pivot == n)
+                throw new IllegalArgumentException("Matrix is singular.");
+            swap(source, col, pivot);
+            swap(inverse, col, pivot);
+            final byte scale = inverse(source[col][col]);
+            for(int c = 0; c < n; c++){
+                source[col][c] = multiply(source[col][c], scale);
+                inverse[col][c] = multiply(inverse[col][c], scale);
+            }
+            for(int r = 0; r < n; r++){
+                if(r == col || source[r][col] == 0)
+                    continue;
+                final byte factor = source[r][col];
+                for(int c = 0; c < n; c++){
+                    source[r][c] ^= multiply(factor, source[col][c]);
+                    inverse[r][c] ^= multiply(factor, inverse[col][c]);
+                }
+            }
+        }
+        return inverse;
+    }
+
+    private static void swap(final byte[][] matrix, final int a, final int b){
+        final byte[] tmp = matrix[a];
+        matrix[a] = matrix[b];
+        matrix[b] = tmp;
+    }
+
+    /**
+     * get the count of data shards.
+     * @return count
+     */
+    public int getDataShards() {
+        return this.dataShards;
+    }
+
+    /**
+     * get the count of parity shards.
+     * @return count
+     */
+    public int getParityShards() {
+        return this.parityShards;
+    }
+}
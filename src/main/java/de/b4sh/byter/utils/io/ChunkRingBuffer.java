@@ -0,0 +1,130 @@
+/*
+ * File: ChunkRingBuffer
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.io;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pre-sized single-producer/single-consumer ring of reusable byte slots.
+ * The producer copies a chunk into the next free slot and publishes it, the consumer reads the oldest slot
+ * in place and releases it afterwards. No locks and no allocation per chunk (slots only grow if a bigger chunk arrives).
+ * Only one thread may publish and only one other thread may consume.
+ */
+public final class ChunkRingBuffer {
+
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong head; //next sequence to consume
+    private final AtomicLong tail; //next sequence to publish
+
+    /**
+     * Constructor for ChunkRingBuffer.
+     * @param capacity count of slots (rounded up to the next power of two)
+     */
+    public ChunkRingBuffer(final int capacity) {
+        int size = 1;
+        while(size < capacity){
+            size <<= 1;
+        }
+        this.slots = new Slot[size];
+        for(int i = 0; i < size; i++){
+            this.slots[i] = new Slot();
+        }
+        this.mask = size - 1;
+        this.head = new AtomicLong(0);
+        this.tail = new AtomicLong(0);
+    }
+
+    /**
+     * Copy the chunk into the next free slot and publish it to the consumer.
+     * Producer side only.
+     * @param bytes byte array
+     * @param length count of bytes to copy
+     * @return true | false (ring is full)
+     */
+    public boolean offer(final byte[] bytes, final int length){
+        final long t = this.tail.get();
+        if(t - this.head.get() == this.slots.length)
+            return false;
+        final Slot slot = this.slots[(int) t & this.mask];
+        if(slot.data.length < length)
+            slot.data = new byte[length];
+        System.arraycopy(bytes,0,slot.data,0,length);
+        slot.length = length;
+        this.tail.lazySet(t + 1); //publish after the copy is visible
+        return true;
+    }
+
+    /**
+     * Get the oldest published slot without removing it.
+     * Consumer side only. Call release() when the slot is processed.
+     * @return slot | null (ring is empty)
+     */
+    public Slot peek(){
+        final long h = this.head.get();
+        if(h == this.tail.get())
+            return null;
+        return this.slots[(int) h & this.mask];
+    }
+
+    /**
+     * Give the slot returned by peek() back to the producer.
+     * Consumer side only.
+     */
+    public void release(){
+        this.head.lazySet(this.head.get() + 1);
+    }
+
+    /**
+     * get the count of published but not yet released slots.
+     * @return current depth of the ring
+     */
+    public int size(){
+        return (int) (this.tail.get() - this.head.get());
+    }
+
+    /**
+     * is the ring empty?
+     * @return true | false
+     */
+    public boolean isEmpty(){
+        return this.size() == 0;
+    }
+
+    /**
+     * get the count of slots.
+     * @return capacity
+     */
+    public int capacity(){
+        return this.slots.length;
+    }
+
+    /**
+     * Reusable slot of the ring.
+     */
+    public static final class Slot {
+        private byte[] data = new byte[0];
+        private int length;
+
+        /**
+         * get the backing array of this slot. Only the first getLength() bytes are valid.
+         * @return byte array
+         */
+        public byte[] getData() {
+            return data;
+        }
+
+        /**
+         * get the count of valid bytes in this slot.
+         * @return length
+         */
+        public int getLength() {
+            return length;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * File: DirectBufferPool
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.io;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Pool of reusable direct ByteBuffers with a fixed capacity.
+ * Capacities are rounded up to a multiple of the page size and the buffers are page aligned
+ * if the running jvm supports ByteBuffer.alignedSlice (java 9+).
+ * Pools are shared by capacity, so writers with the same buffer size reuse each others buffers.
+ * The hit and miss counters of a shared pool cover every writer, a writer that needs its own numbers
+ * acquires through poll and allocate and counts them itself.
+ */
+public final class DirectBufferPool {
+
+    private static final Logger log = Logger.getLogger(DirectBufferPool.class.getName());
+    public static final int PAGE_SIZE = 4096;
+    private static final int DEFAULT_MAX_POOLED = 16;
+    private static final Map<Integer, DirectBufferPool> pools = new HashMap<>();
+    private static final Method alignedSlice = lookupAlignedSlice();
+    private final ArrayDeque<ByteBuffer> buffers;
+    private final int bufferCapacity;
+    private final int maxPooled;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+
+    /**
+     * Constructor for a DirectBufferPool.
+     * @param bufferCapacity capacity of each buffer (rounded up to the page size)
+     * @param maxPooled how many released buffers are kept for reuse
+     */
+    public DirectBufferPool(final int bufferCapacity, final int maxPooled) {
+        this.bufferCapacity = roundUpToPageSize(bufferCapacity);
+        this.maxPooled = maxPooled;
+        this.buffers = new ArrayDeque<>(maxPooled);
+        this.hits = new AtomicLong(0);
+        this.misses = new AtomicLong(0);
+    }
+
+    /**
+     * Get the shared pool for the given buffer capacity.
+     * @param bufferCapacity capacity of each buffer (rounded up to the page size)
+     * @return shared pool for this capacity
+     */
+    public static DirectBufferPool getPool(final int bufferCapacity){
+        final int capacity = roundUpToPageSize(bufferCapacity);
+        synchronized (pools){
+            DirectBufferPool pool = pools.get(capacity);
+            if(pool == null){
+                pool = new DirectBufferPool(capacity, DEFAULT_MAX_POOLED);
+                pools.put(capacity,pool);
+            }
+            return pool;
+        }
+    }
+
+    /**
+     * Take a cleared buffer out of the pool.
+     * Allocates a new buffer if the pool is empty.
+     * @return cleared direct buffer with bufferCapacity
+     */
+    public ByteBuffer acquire(){
+        final ByteBuffer buffer = this.poll();
+        return buffer != null ? buffer : this.allocate();
+    }
+
+    /**
+     * Take a cleared buffer out of the pool without allocating.
+     * @return cleared direct buffer with bufferCapacity | null if the pool is empty (not counted)
+     */
+    public ByteBuffer poll(){
+        final ByteBuffer buffer;
+        synchronized (buffers){
+            buffer = buffers.poll();
+        }
+        if(buffer != null)
+            hits.incrementAndGet();
+        return buffer;
+    }
+
+    /**
+     * Allocate a new buffer for this pool, counted as miss.
+     * @return direct buffer with bufferCapacity
+     */
+    public ByteBuffer allocate(){
+        misses.incrementAndGet();
+        return allocateAligned(this.bufferCapacity);
+    }
+
+    /**
+     * Return a buffer to the pool.
+     * The buffer is dropped if the pool is already full or the capacity doesn't match.
+     * @param buffer buffer to give back
+     */
+    public void release(final ByteBuffer buffer){
+        if(buffer == null || buffer.capacity() != this.bufferCapacity)
+            return;
+        buffer.clear();
+        synchronized (buffers){
+            if(buffers.size() < this.maxPooled)
+                buffers.offer(buffer);
+        }
+    }
+
+    /**
+     * get the capacity of every buffer in this pool.
+     * @return capacity in bytes
+     */
+    public int getBufferCapacity() {
+        return bufferCapacity;
+    }
+
+    /**
+     * get the count of acquires that were served from the pool.
+     * @return hit count
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * get the count of acquires that needed a new allocation.
+     * @return miss count
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * round the given size up to the next multiple of the page size.
+     * @param size size to round
+     * @return rounded size
+     */
+    public static int roundUpToPageSize(final int size){
+        if(size <= 0)
+            return PAGE_SIZE;
+        return ((size + PAGE_SIZE - 1) / PAGE_SIZE) * PAGE_SIZE;
+    }
+
+    /**
+     * Allocate a direct buffer that starts at a page boundary.
+     * Falls back to a plain direct buffer on jvms without alignedSlice.
+     * @param capacity capacity of the buffer
+     * @return direct buffer
+     */
+    public static ByteBuffer allocateAligned(final int capacity){
+        return allocateAligned(capacity, PAGE_SIZE);
+    }
+
+    /**
+     * Allocate a direct buffer that starts at a multiple of the given alignment.
+     * Falls back to a plain direct buffer on jvms without alignedSlice.
+     * @param capacity capacity of the buffer
+     * @param alignment alignment in bytes (power of two)
+     * @return direct buffer
+     */
+    public static ByteBuffer allocateAligned(final int capacity, final int alignment){
+        if(alignedSlice != null){
+            final ByteBuffer raw = ByteBuffer.allocateDirect(capacity + alignment);
+            try {
+                final ByteBuffer aligned = (ByteBuffer) alignedSlice.invoke(raw, alignment);
+                aligned.limit(capacity);
+                return aligned.slice();
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                log.log(Level.FINE, "alignedSlice failed, using an unaligned direct buffer.", e);
+            }
+        }
+        return ByteBuffer.allocateDirect(capacity);
+    }
+
+    private static Method lookupAlignedSlice(){
+        try {
+            return ByteBuffer.class.getMethod("alignedSlice", int.class);
+        } catch (NoSuchMethodException e) {
+            log.log(Level.FINE, "ByteBuffer.alignedSlice not available on this jvm. Direct buffers are not page aligned.");
+            return null;
+        }
+    }
+}
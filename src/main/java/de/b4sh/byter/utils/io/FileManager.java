@@ -160,6 +160,26 @@ public final class FileManager {
         return false;
     }
 
+    /**
+     * Reserve the blocks of a range with fallocate, so later writes into it don't allocate.
+     * Nothing is written: without the native calls (below JDK 22) or on filesystems without fallocate
+     * the range stays as sparse as the caller left it (setLength).
+     * @param file file to reserve the blocks in
+     * @param offset start of the range
+     * @param length length of the range
+     * @return true (blocks reserved) | false (sparse only)
+     */
+    public static boolean reserveBlocks(final File file, final long offset, final long length){
+        if(length <= 0)
+            return true;
+        final int fd = NativeIo.openFile(file,NativeIo.O_RDWR);
+        if(fd < 0)
+            return false;
+        final int result = NativeIo.fallocate(fd,0,offset,length);
+        NativeIo.closeFile(fd);
+        return result == 0;
+    }
+
     /**
      * Removes a file from disc.
      * @param file file to remove.
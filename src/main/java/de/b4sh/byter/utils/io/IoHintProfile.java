@@ -0,0 +1,115 @@
+/*
+ * File: IoHintProfile
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Enum
+ */
+package de.b4sh.byter.utils.io;
+
+/**
+ * ENum for native I/O hint profiles of writers and readers (see IoHints).
+ * None - no hints
+ * Sequential - posix_fadvise / madvise SEQUENTIAL, larger readahead
+ * Writeback - sync_file_range starts the writeback of every full window, smooths the writeback of dirty pages
+ * DropBehind - Writeback and every window before the last one is dropped from the page cache (no cache pollution)
+ * Preallocate - fallocate reserves the blocks window by window ahead of the writes (file size is kept)
+ * Streaming - Sequential, Preallocate and DropBehind in one
+ */
+public enum IoHintProfile {
+    None("none",false,false,false,false),
+    Sequential("seqn",true,false,false,false),
+    Writeback("wrbk",false,true,false,false),
+    DropBehind("drop",false,true,true,false),
+    Preallocate("prea",false,false,false,true),
+    Streaming("strm",true,true,true,true);
+
+    private final String key;
+    private final boolean sequential;
+    private final boolean writeback;
+    private final boolean dropBehind;
+    private final boolean preallocate;
+
+    /**
+     * Constructor for Enum Key.
+     * @param value key to present.
+     * @param sequential announce sequential access
+     * @param writeback start the writeback of every full window
+     * @param dropBehind drop written or read windows from the page cache
+     * @param preallocate reserve blocks ahead of the writes
+     */
+    IoHintProfile(final String value, final boolean sequential, final boolean writeback, final boolean dropBehind,
+                  final boolean preallocate) {
+        this.key = value;
+        this.sequential = sequential;
+        this.writeback = writeback;
+        this.dropBehind = dropBehind;
+        this.preallocate = preallocate;
+    }
+
+    /**
+     * Get a String List of all possible Options.
+     * @return String with a list content
+     */
+    public static String getOptionList(){
+        final StringBuilder sb = new StringBuilder();
+        sb.append("You passed a wrong I/O Hint Profile. Please chose one of those. \n");
+        for(IoHintProfile n: IoHintProfile.values()){
+            sb.append(n.name()); sb.append(" | key: "); sb.append(n.getKey()); sb.append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * get key of profile.
+     * @return String
+     */
+    public String getKey(){
+        return this.key;
+    }
+
+    /**
+     * get the profile for a key.
+     * @param key key of the profile
+     * @return profile | None (unknown or null key)
+     */
+    public static IoHintProfile fromKey(final String key){
+        for(IoHintProfile hp: IoHintProfile.values()){
+            if(hp.getKey().equals(key))
+                return hp;
+        }
+        return None;
+    }
+
+    /**
+     * announce sequential access.
+     * @return true | false
+     */
+    public boolean isSequential() {
+        return sequential;
+    }
+
+    /**
+     * start the writeback of every full window.
+     * @return true | false
+     */
+    public boolean isWriteback() {
+        return writeback;
+    }
+
+    /**
+     * drop written or read windows from the page cache.
+     * @return true | false
+     */
+    public boolean isDropBehind() {
+        return dropBehind;
+    }
+
+    /**
+     * reserve blocks ahead of the writes.
+     * @return true | false
+     */
+    public boolean isPreallocate() {
+        return preallocate;
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * File: IoHints
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.io;
+
+import java.io.File;
+import java.nio.Buffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+
+/**
+ * Applies an IoHintProfile for a single file of a writer or reader.
+ * The writer reports every write with onWrite (a reader every read with onRead) and the hints follow the position
+ * window by window: writeback of the last full window, drop behind of the window before it (the classic streaming
+ * write pattern) and preallocation ahead of the position. Mapped buffers get their advice with adviseMapping.
+ * The native calls run on an own file descriptor (see NativeIo), without native access every call is a no-op.
+ * Parameter meaning: bytes of a window (0 or below for the default of 8MB).
+ */
+public final class IoHints {
+
+    private static final Logger log = Logger.getLogger(IoHints.class.getName());
+    public static final long DEFAULT_WINDOW = 8L * 1024 * 1024;
+    /** Hints without any native calls. */
+    public static final IoHints NONE = new IoHints(IoHintProfile.None,0,null,false,null);
+    private final IoHintProfile profile;
+    private final long window;
+    private final File file;
+    private final boolean writable;
+    private int fd;
+    private boolean opened;
+    private long position;
+    private long flushedUntil;
+    private long droppedUntil;
+    private long allocatedUntil;
+    //metrics
+    private long calls;
+    private long failures;
+    private long hintNanos;
+    private long droppedBytes;
+    private long preallocatedBytes;
+
+    /**
+     * Constructor for IoHints.
+     * @param profile profile to apply
+     * @param parameter bytes of a window (0 or below for the default of 8MB)
+     * @param file file the hints are given for
+     * @param writable true for writers (preallocation and writeback need a writable descriptor)
+     * @param timer timer of the writer or reader that gets the hint evaluation | null
+     */
+    public IoHints(final IoHintProfile profile, final long parameter, final File file, final boolean writable,
+                   final PerformanceTimer timer) {
+        this.profile = profile == null ? IoHintProfile.None : profile;
+        this.window = parameter > 0 ? parameter : DEFAULT_WINDOW;
+        this.file = file;
+        this.writable = writable;
+        this.fd = -1;
+        if(timer != null && this.profile != IoHintProfile.None)
+            timer.addEvaluator(perfTimer -> this.evaluate());
+    }
+
+    /**
+     * Open the descriptor on first use and announce the access pattern.
+     * @return true if native calls can be made
+     */
+    private boolean ensureOpen(){
+        if(!this.opened){
+            this.opened = true;
+            if(this.file == null || !NativeIo.isAvailable()){
+                log.log(Level.FINE, "I/O hints " + this.profile + " are no-ops (no native access).");
+                return false;
+            }
+            this.fd = NativeIo.openFile(this.file, this.writable ? NativeIo.O_RDWR : NativeIo.O_RDONLY);
+            if(this.fd >= 0 && this.profile.isSequential()){
+                final long tStart = System.nanoTime();
+                this.record(NativeIo.fadvise(this.fd,0,0,NativeIo.POSIX_FADV_SEQUENTIAL),tStart);
+            }
+        }
+        return this.fd >= 0;
+    }
+
+    /**
+     * Apply the hints that don't depend on the position (sequential access, first preallocation).
+     * Call this after the file was created or opened.
+     */
+    public void onOpen(){
+        if(this.profile == IoHintProfile.None)
+            return;
+        synchronized (this){
+            if(this.ensureOpen() && this.writable && this.profile.isPreallocate())
+                this.preallocate();
+        }
+    }
+
+    /**
+     * Report bytes that were handed to the operating system.
+     * @param bytes count of written bytes
+     */
+    public void onWrite(final long bytes){
+        if(this.profile == IoHintProfile.None)
+            return;
+        synchronized (this){
+            if(!this.ensureOpen())
+                return;
+            this.position += bytes;
+            if(this.profile.isPreallocate())
+                this.preallocate();
+            if(this.profile.isWriteback() && this.position - this.flushedUntil >= this.window){
+                long tStart = System.nanoTime();
+                this.record(NativeIo.syncFileRange(this.fd,this.flushedUntil,this.position - this.flushedUntil,
+                        NativeIo.SYNC_FILE_RANGE_WRITE),tStart);
+                if(this.profile.isDropBehind() && this.flushedUntil > this.droppedUntil){
+                    //the window before the current one had a whole window of time for its writeback
+                    tStart = System.nanoTime();
+                    this.record(NativeIo.syncFileRange(this.fd,this.droppedUntil,this.flushedUntil - this.droppedUntil,
+                            NativeIo.SYNC_FILE_RANGE_WAIT_BEFORE | NativeIo.SYNC_FILE_RANGE_WRITE | NativeIo.SYNC_FILE_RANGE_WAIT_AFTER),tStart);
+                    this.drop(this.flushedUntil);
+                }
+                this.flushedUntil = this.position;
+            }
+        }
+    }
+
+    /**
+     * Report bytes that were read.
+     * @param bytes count of read bytes
+     */
+    public void onRead(final long bytes){
+        if(this.profile == IoHintProfile.None)
+            return;
+        synchronized (this){
+            if(!this.ensureOpen())
+                return;
+            this.position += bytes;
+            if(this.profile.isDropBehind() && this.position - this.droppedUntil >= this.window)
+                this.drop(this.position);
+        }
+    }
+
+    /**
+     * Give the access pattern of a mapped buffer.
+     * @param buffer mapped buffer of the file
+     */
+    public void adviseMapping(final Buffer buffer){
+        if(!this.profile.isSequential() || !NativeIo.isAvailable())
+            return;
+        synchronized (this){
+            final long tStart = System.nanoTime();
+            this.record(NativeIo.madvise(buffer,NativeIo.MADV_SEQUENTIAL),tStart);
+        }
+    }
+
+    /**
+     * Drop the remaining range, release the blocks reserved behind the end of the file and close the descriptor.
+     * Call this after the writer closed its file.
+     */
+    public void close(){
+        if(this.profile == IoHintProfile.None)
+            return;
+        synchronized (this){
+            if(this.fd < 0)
+                return;
+            if(this.profile.isDropBehind()){
+                final long tStart = System.nanoTime();
+                if(this.writable)
+                    this.record(NativeIo.syncFileRange(this.fd,this.droppedUntil,0,
+                            NativeIo.SYNC_FILE_RANGE_WAIT_BEFORE | NativeIo.SYNC_FILE_RANGE_WRITE | NativeIo.SYNC_FILE_RANGE_WAIT_AFTER),tStart);
+                this.drop(Math.max(this.position, this.file.length()));
+            }
+            if(this.profile.isPreallocate() && this.allocatedUntil > this.file.length()){
+                final long tStart = System.nanoTime();
+                this.record(NativeIo.truncate(this.fd,this.file.length()),tStart);
+            }
+            NativeIo.closeFile(this.fd);
+            this.fd = -1;
+            log.log(Level.INFO, "I/O hints " + this.profile + " for " + this.file.getName() + " -|- calls: " + this.calls
+                    + " -|- failures: " + this.failures + " -|- dropped bytes: " + this.droppedBytes);
+        }
+    }
+
+    private void preallocate(){
+        if(this.allocatedUntil >= this.position + this.window)
+            return;
+        final long target = this.position + 2 * this.window;
+        final long tStart = System.nanoTime();
+        this.record(NativeIo.fallocate(this.fd,NativeIo.FALLOC_FL_KEEP_SIZE,this.allocatedUntil,target - this.allocatedUntil),tStart);
+        this.preallocatedBytes += target - this.allocatedUntil;
+        this.allocatedUntil = target;
+    }
+
+    private void drop(final long until){
+        if(until <= this.droppedUntil)
+            return;
+        final long tStart = System.nanoTime();
+        this.record(NativeIo.fadvise(this.fd,this.droppedUntil,until - this.droppedUntil,NativeIo.POSIX_FADV_DONTNEED),tStart);
+        this.droppedBytes += until - this.droppedUntil;
+        this.droppedUntil = until;
+    }
+
+    private void record(final int result, final long tStart){
+        this.hintNanos += System.nanoTime() - tStart;
+        this.calls++;
+        if(result != 0)
+            this.failures++;
+    }
+
+    /**
+     * Evaluate the hint calls.
+     * @return evaluation map
+     */
+    public synchronized Map<String, Float> evaluate(){
+        final Map<String, Float> response = new HashMap<>();
+        response.put("hintNativeAvailable", NativeIo.isAvailable() ? 1f : 0f);
+        response.put("hintCalls", (float) this.calls);
+        response.put("hintFailures", (float) this.failures);
+        response.put("hintTimeMs", this.hintNanos / 1000000f);
+        response.put("hintDroppedBytes", (float) this.droppedBytes);
+        response.put("hintPreallocatedBytes", (float) this.preallocatedBytes);
+        return response;
+    }
+
+    /**
+     * get the applied profile.
+     * @return profile
+     */
+    public IoHintProfile getProfile() {
+        return this.profile;
+    }
+
+    /**
+     * get the count of native calls.
+     * @return count
+     */
+    public synchronized long getCalls() {
+        return this.calls;
+    }
+
+    /**
+     * get the count of native calls that failed.
+     * @return count
+     */
+    public synchronized long getFailures() {
+        return this.failures;
+    }
+}
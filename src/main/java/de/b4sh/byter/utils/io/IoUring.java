@@ -0,0 +1,395 @@
+/*
+ * File: IoUring
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.io;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Minimal io_uring instance on top of the raw syscalls of NativeIo (no liburing needed).
+ * Reads and writes are prepared into the submission ring and handed to the kernel with a single io_uring_enter
+ * for the whole batch, the same call waits for completions that are reaped from the completion ring without
+ * any further syscall. Registered buffers (IORING_REGISTER_BUFFERS) save the page pinning of every request,
+ * if the registration is refused (memlock limit) the plain read and write opcodes are used.
+ * Not thread safe, every writer or reader owns its ring.
+ * isSupported probes once if the kernel (and seccomp) allows io_uring, create returns null if not.
+ */
+public final class IoUring {
+
+    private static final Logger log = Logger.getLogger(IoUring.class.getName());
+    //syscall numbers are the same on every 64 bit architecture of the generic table
+    private static final long SYS_IO_URING_SETUP = 425;
+    private static final long SYS_IO_URING_ENTER = 426;
+    private static final long SYS_IO_URING_REGISTER = 427;
+    private static final long IORING_OFF_SQ_RING = 0L;
+    private static final long IORING_OFF_CQ_RING = 0x8000000L;
+    private static final long IORING_OFF_SQES = 0x10000000L;
+    private static final int IORING_FEAT_SINGLE_MMAP = 1;
+    private static final int IORING_ENTER_GETEVENTS = 1;
+    private static final int IORING_REGISTER_BUFFERS = 0;
+    private static final byte IORING_OP_NOP = 0;
+    private static final byte IORING_OP_READ_FIXED = 4;
+    private static final byte IORING_OP_WRITE_FIXED = 5;
+    private static final byte IORING_OP_READ = 22;
+    private static final byte IORING_OP_WRITE = 23;
+    private static final int PARAMS_SIZE = 120;
+    private static final int SQE_SIZE = 64;
+    private static final int CQE_SIZE = 16;
+    private static final MethodHandle acquireFence = fence("acquireFence");
+    private static final MethodHandle releaseFence = fence("releaseFence");
+    private static final boolean supported = probe();
+    private final int ringFd;
+    private final int entries;
+    //mappings
+    private final long sqRingAddress;
+    private final long sqRingSize;
+    private final long cqRingAddress;
+    private final long cqRingSize;
+    private final long sqesAddress;
+    private final long sqesSize;
+    private final ByteBuffer sqRing;
+    private final ByteBuffer cqRing;
+    private final ByteBuffer sqes;
+    //ring offsets
+    private final int sqHead;
+    private final int sqTail;
+    private int sqMask;
+    private final int cqHead;
+    private final int cqTail;
+    private int cqMask;
+    private final int cqes;
+    //state
+    private int preparedTail;
+    private int submittedTail;
+    private long[] bufferAddresses;
+    private boolean fixedBuffers;
+    private boolean closed;
+    //metrics
+    private long enterCalls;
+    private long submissions;
+    private long completions;
+
+    private IoUring(final int ringFd, final ByteBuffer params) {
+        this.ringFd = ringFd;
+        this.entries = params.getInt(0);
+        final int cqEntries = params.getInt(4);
+        final int features = params.getInt(20);
+        this.sqHead = params.getInt(40);
+        this.sqTail = params.getInt(44);
+        final int sqMaskOffset = params.getInt(48);
+        final int sqArray = params.getInt(64);
+        this.cqHead = params.getInt(80);
+        this.cqTail = params.getInt(84);
+        final int cqMaskOffset = params.getInt(88);
+        this.cqes = params.getInt(100);
+        final long sqSize = sqArray + 4L * this.entries;
+        final long cqSize = this.cqes + (long) CQE_SIZE * cqEntries;
+        if((features & IORING_FEAT_SINGLE_MMAP) != 0){
+            this.sqRingSize = Math.max(sqSize, cqSize);
+            this.sqRingAddress = NativeIo.map(this.sqRingSize, ringFd, IORING_OFF_SQ_RING);
+            this.cqRingSize = 0; //shares the mapping of the submission ring
+            this.cqRingAddress = this.sqRingAddress;
+        }else{
+            this.sqRingSize = sqSize;
+            this.sqRingAddress = NativeIo.map(sqSize, ringFd, IORING_OFF_SQ_RING);
+            this.cqRingSize = cqSize;
+            this.cqRingAddress = NativeIo.map(cqSize, ringFd, IORING_OFF_CQ_RING);
+        }
+        this.sqesSize = (long) SQE_SIZE * this.entries;
+        this.sqesAddress = NativeIo.map(this.sqesSize, ringFd, IORING_OFF_SQES);
+        this.sqRing = NativeIo.memory(this.sqRingAddress, this.sqRingSize);
+        this.cqRing = NativeIo.memory(this.cqRingAddress, Math.max(this.cqRingSize, this.sqRingSize));
+        this.sqes = NativeIo.memory(this.sqesAddress, this.sqesSize);
+        if(this.sqRing != null && this.cqRing != null && this.sqes != null){
+            this.sqMask = this.sqRing.getInt(sqMaskOffset);
+            this.cqMask = this.cqRing.getInt(cqMaskOffset);
+            //every submission slot points to the entry with the same index
+            for(int i = 0; i < this.entries; i++){
+                this.sqRing.putInt(sqArray + 4 * i, i);
+            }
+            this.preparedTail = this.sqRing.getInt(this.sqTail);
+            this.submittedTail = this.preparedTail;
+        }
+    }
+
+    /**
+     * Checks if io_uring can be used (java 22+ with native access, linux kernel with io_uring and no seccomp filter
+     * that blocks it).
+     * @return true | false
+     */
+    public static boolean isSupported(){
+        return supported;
+    }
+
+    /**
+     * Create a new ring.
+     * @param entries size of the submission ring (rounded up to a power of two by the kernel)
+     * @return ring | null if io_uring is not available
+     */
+    public static IoUring create(final int entries){
+        if(!supported)
+            return null;
+        return setup(entries);
+    }
+
+    private static IoUring setup(final int entries){
+        if(!NativeIo.isAvailable())
+            return null;
+        final ByteBuffer params = ByteBuffer.allocateDirect(PARAMS_SIZE).order(ByteOrder.nativeOrder());
+        final long fd = NativeIo.syscall(SYS_IO_URING_SETUP, Math.max(1, entries), NativeIo.address(params), 0, 0, 0, 0);
+        if(fd < 0){
+            log.log(Level.FINE, "io_uring_setup was refused.");
+            return null;
+        }
+        final IoUring ring = new IoUring((int) fd, params);
+        if(ring.sqRing == null || ring.cqRing == null || ring.sqes == null){
+            log.log(Level.FINE, "io_uring rings could not be mapped.");
+            ring.close();
+            return null;
+        }
+        return ring;
+    }
+
+    /**
+     * Probe the kernel with a nop request.
+     * @return true if the nop completed
+     */
+    private static boolean probe(){
+        final IoUring ring = setup(2);
+        if(ring == null){
+            log.log(Level.INFO, "io_uring not available (java 22+, native access and an unfiltered kernel needed).");
+            return false;
+        }
+        try {
+            final long[] userData = new long[1];
+            final int[] results = new int[1];
+            final boolean ok = ring.prepare(IORING_OP_NOP, -1, -1, 0, 0, 0, 42) && ring.submit(1) == 1
+                    && ring.reap(userData, results) == 1 && userData[0] == 42;
+            log.log(ok ? Level.INFO : Level.WARNING, "io_uring " + (ok ? "available." : "did not complete the probe."));
+            return ok;
+        } finally {
+            ring.close();
+        }
+    }
+
+    /**
+     * Register buffers for the fixed read and write opcodes.
+     * The buffers have to stay referenced until the ring is closed. Without registration plain opcodes are used.
+     * @param buffers direct buffers, the index is the buffer index of prepareRead and prepareWrite
+     * @return true if registered
+     */
+    public boolean registerBuffers(final ByteBuffer[] buffers){
+        this.bufferAddresses = new long[buffers.length];
+        final ByteBuffer iovecs = ByteBuffer.allocateDirect(16 * buffers.length).order(ByteOrder.nativeOrder());
+        for(int i = 0; i < buffers.length; i++){
+            this.bufferAddresses[i] = NativeIo.address(buffers[i]);
+            iovecs.putLong(16 * i, this.bufferAddresses[i]);
+            iovecs.putLong(16 * i + 8, buffers[i].capacity());
+        }
+        final long result = NativeIo.syscall(SYS_IO_URING_REGISTER, this.ringFd, IORING_REGISTER_BUFFERS,
+                NativeIo.address(iovecs), buffers.length, 0, 0);
+        this.fixedBuffers = result == 0;
+        if(!this.fixedBuffers)
+            log.log(Level.INFO, "io_uring buffer registration refused (memlock limit?), using unregistered buffers.");
+        return this.fixedBuffers;
+    }
+
+    /**
+     * Prepare a positional write of a registered buffer, it is submitted with the next submit.
+     * @param fd file descriptor of the file
+     * @param bufferIndex index of the buffer of registerBuffers
+     * @param bufferOffset offset inside the buffer
+     * @param length count of bytes
+     * @param position position in the file
+     * @param userData value of the completion
+     * @return true | false if the submission ring is full
+     */
+    public boolean prepareWrite(final int fd, final int bufferIndex, final int bufferOffset, final int length,
+                                final long position, final long userData){
+        return this.prepare(this.fixedBuffers ? IORING_OP_WRITE_FIXED : IORING_OP_WRITE, fd, bufferIndex, bufferOffset,
+                length, position, userData);
+    }
+
+    /**
+     * Prepare a positional read into a registered buffer, it is submitted with the next submit.
+     * @param fd file descriptor of the file
+     * @param bufferIndex index of the buffer of registerBuffers
+     * @param bufferOffset offset inside the buffer
+     * @param length count of bytes
+     * @param position position in the file
+     * @param userData value of the completion
+     * @return true | false if the submission ring is full
+     */
+    public boolean prepareRead(final int fd, final int bufferIndex, final int bufferOffset, final int length,
+                               final long position, final long userData){
+        return this.prepare(this.fixedBuffers ? IORING_OP_READ_FIXED : IORING_OP_READ, fd, bufferIndex, bufferOffset,
+                length, position, userData);
+    }
+
+    private boolean prepare(final byte opcode, final int fd, final int bufferIndex, final int bufferOffset,
+                            final int length, final long position, final long userData){
+        final int head = this.sqRing.getInt(this.sqHead);
+        fence(acquireFence);
+        if(this.preparedTail - head >= this.entries)
+            return false;
+        final int index = (this.preparedTail & this.sqMask) * SQE_SIZE;
+        for(int i = 0; i < SQE_SIZE; i += 8){
+            this.sqes.putLong(index + i, 0L);
+        }
+        this.sqes.put(index, opcode);
+        this.sqes.putInt(index + 4, fd);
+        this.sqes.putLong(index + 8, position);
+        if(bufferIndex >= 0)
+            this.sqes.putLong(index + 16, this.bufferAddresses[bufferIndex] + bufferOffset);
+        this.sqes.putInt(index + 24, length);
+        this.sqes.putLong(index + 32, userData);
+        if(this.fixedBuffers && bufferIndex >= 0)
+            this.sqes.putShort(index + 40, (short) bufferIndex);
+        this.preparedTail++;
+        return true;
+    }
+
+    /**
+     * count of prepared but not submitted requests.
+     * @return count
+     */
+    public int getPending(){
+        return this.preparedTail - this.submittedTail;
+    }
+
+    /**
+     * Submit every prepared request and wait for completions, all with a single io_uring_enter.
+     * @param minComplete count of completions to wait for (0 to return right away)
+     * @return count of submitted requests | -1 if the call failed
+     */
+    public int submit(final int minComplete){
+        final int toSubmit = this.preparedTail - this.submittedTail;
+        if(toSubmit == 0 && minComplete == 0)
+            return 0;
+        fence(releaseFence);
+        this.sqRing.putInt(this.sqTail, this.preparedTail);
+        final long result = NativeIo.syscall(SYS_IO_URING_ENTER, this.ringFd, toSubmit, minComplete,
+                minComplete > 0 ? IORING_ENTER_GETEVENTS : 0, 0, 0);
+        this.enterCalls++;
+        if(result < 0)
+            return -1;
+        this.submittedTail += (int) result;
+        this.submissions += result;
+        return (int) result;
+    }
+
+    /**
+     * Reap the available completions without a syscall.
+     * @param userData user data of the completions
+     * @param results results of the completions (bytes | -errno)
+     * @return count of reaped completions (up to the length of the arrays)
+     */
+    public int reap(final long[] userData, final int[] results){
+        int head = this.cqRing.getInt(this.cqHead);
+        final int tail = this.cqRing.getInt(this.cqTail);
+        fence(acquireFence);
+        int count = 0;
+        while(head != tail && count < userData.length){
+            final int index = this.cqes + (head & this.cqMask) * CQE_SIZE;
+            userData[count] = this.cqRing.getLong(index);
+            results[count] = this.cqRing.getInt(index + 8);
+            head++;
+            count++;
+        }
+        fence(releaseFence);
+        this.cqRing.putInt(this.cqHead, head);
+        this.completions += count;
+        return count;
+    }
+
+    /**
+     * Release the mappings and close the ring, registered buffers are unregistered by the kernel.
+     * Every submitted request has to be completed before.
+     */
+    public void close(){
+        if(this.closed)
+            return;
+        this.closed = true;
+        if(this.sqesAddress > 0)
+            NativeIo.unmap(this.sqesAddress, this.sqesSize);
+        if(this.cqRingSize > 0 && this.cqRingAddress > 0)
+            NativeIo.unmap(this.cqRingAddress, this.cqRingSize);
+        if(this.sqRingAddress > 0)
+            NativeIo.unmap(this.sqRingAddress, this.sqRingSize);
+        NativeIo.closeFile(this.ringFd);
+    }
+
+    /**
+     * get the size of the submission ring.
+     * @return entries
+     */
+    public int getEntries() {
+        return this.entries;
+    }
+
+    /**
+     * Checks if the buffers are registered.
+     * @return true | false
+     */
+    public boolean isFixedBuffers() {
+        return this.fixedBuffers;
+    }
+
+    /**
+     * get the count of io_uring_enter calls.
+     * @return count
+     */
+    public long getEnterCalls() {
+        return this.enterCalls;
+    }
+
+    /**
+     * get the count of submitted requests.
+     * @return count
+     */
+    public long getSubmissions() {
+        return this.submissions;
+    }
+
+    /**
+     * get the count of reaped completions.
+     * @return count
+     */
+    public long getCompletions() {
+        return this.completions;
+    }
+
+    /**
+     * VarHandle fences (java 9+), the ring is shared with the kernel.
+     * @param name acquireFence | releaseFence
+     * @return handle | null
+     */
+    private static MethodHandle fence(final String name){
+        try {
+            return MethodHandles.publicLookup().findStatic(Class.forName("java.lang.invoke.VarHandle"), name,
+                    MethodType.methodType(void.class));
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static void fence(final MethodHandle handle){
+        if(handle == null)
+            return;
+        try {
+            handle.invokeExact();
+        } catch (Throwable t) {
+            log.log(Level.FINE, "fence failed", t);
+        }
+    }
+}
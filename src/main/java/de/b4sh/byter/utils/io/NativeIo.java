@@ -0,0 +1,408 @@
+/*
+ * File: NativeIo
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.io;
+
+import java.io.File;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Linux I/O hints (posix_fadvise, fallocate, sync_file_range, madvise, ftruncate) through the Foreign Function and Memory API.
+ * The API (java 22+) is looked up without a compile time dependency, so there is no JNI and no native library to ship.
+ * On older jvms, other operating systems or if native access is denied every call is a no-op that returns -1.
+ * Start the jvm with --enable-native-access=ALL-UNNAMED to silence the restricted method warning.
+ * The hints use their own file descriptor (openFile) of the file, fadvise, sync_file_range and fallocate act on the
+ * file and its page cache, so they work next to the channel or stream of a writer.
+ * The package also gets raw syscalls and shared memory mappings for the io_uring engine (see IoUring).
+ */
+public final class NativeIo {
+
+    private static final Logger log = Logger.getLogger(NativeIo.class.getName());
+    public static final int O_RDONLY = 0;
+    public static final int O_RDWR = 2;
+    public static final int POSIX_FADV_NORMAL = 0;
+    public static final int POSIX_FADV_SEQUENTIAL = 2;
+    public static final int POSIX_FADV_WILLNEED = 3;
+    public static final int POSIX_FADV_DONTNEED = 4;
+    public static final int FALLOC_FL_KEEP_SIZE = 1;
+    public static final int SYNC_FILE_RANGE_WAIT_BEFORE = 1;
+    public static final int SYNC_FILE_RANGE_WRITE = 2;
+    public static final int SYNC_FILE_RANGE_WAIT_AFTER = 4;
+    public static final int MADV_SEQUENTIAL = 2;
+    public static final int MADV_WILLNEED = 3;
+    public static final int MADV_DONTNEED = 4;
+    private static final int O_CLOEXEC = 0x80000;
+    private static final int PROT_READ_WRITE = 0x3;
+    private static final int MAP_SHARED_POPULATE = 0x01 | 0x8000;
+    private static final Binding binding = bind();
+
+    private NativeIo() {
+        //static access only
+    }
+
+    /**
+     * Checks if the native calls are available.
+     * @return true | false (every call is a no-op)
+     */
+    public static boolean isAvailable(){
+        return binding != null;
+    }
+
+    /**
+     * Open a file descriptor for the hints.
+     * @param file file to open (has to exist)
+     * @param flags O_RDONLY | O_RDWR (fallocate needs O_RDWR)
+     * @return file descriptor | -1
+     */
+    public static int openFile(final File file, final int flags){
+        if(binding == null)
+            return -1;
+        AutoCloseable arena = null;
+        try {
+            arena = (AutoCloseable) binding.ofConfined.invoke(null);
+            final Object path = binding.allocateString.invoke(arena, file.getAbsolutePath());
+            return (int) binding.open.invokeWithArguments(path, flags | O_CLOEXEC, 0);
+        } catch (Throwable t) {
+            log.log(Level.FINE, "open failed for " + file.getName(), t);
+            return -1;
+        } finally {
+            closeArena(arena);
+        }
+    }
+
+    /**
+     * Close a file descriptor of openFile.
+     * @param fd file descriptor
+     * @return 0 | -1
+     */
+    public static int closeFile(final int fd){
+        return invoke(binding == null ? null : binding.close, fd);
+    }
+
+    /**
+     * posix_fadvise: announce the access pattern of a range or drop it from the page cache.
+     * @param fd file descriptor
+     * @param offset start of the range
+     * @param length length of the range (0 for up to the end of the file)
+     * @param advice POSIX_FADV_*
+     * @return 0 | error number | -1
+     */
+    public static int fadvise(final int fd, final long offset, final long length, final int advice){
+        return invoke(binding == null ? null : binding.fadvise, fd, offset, length, advice);
+    }
+
+    /**
+     * fallocate: reserve blocks of a range.
+     * @param fd file descriptor (O_RDWR)
+     * @param mode 0 | FALLOC_FL_KEEP_SIZE
+     * @param offset start of the range
+     * @param length length of the range
+     * @return 0 | -1
+     */
+    public static int fallocate(final int fd, final int mode, final long offset, final long length){
+        return invoke(binding == null ? null : binding.fallocate, fd, mode, offset, length);
+    }
+
+    /**
+     * sync_file_range: start and / or wait for the writeback of a range.
+     * @param fd file descriptor
+     * @param offset start of the range
+     * @param length length of the range (0 for up to the end of the file)
+     * @param flags SYNC_FILE_RANGE_*
+     * @return 0 | -1
+     */
+    public static int syncFileRange(final int fd, final long offset, final long length, final int flags){
+        return invoke(binding == null ? null : binding.syncFileRange, fd, offset, length, flags);
+    }
+
+    /**
+     * ftruncate: set the length of the file, releases blocks reserved behind the end.
+     * @param fd file descriptor (O_RDWR)
+     * @param length new length
+     * @return 0 | -1
+     */
+    public static int truncate(final int fd, final long length){
+        return invoke(binding == null ? null : binding.ftruncate, fd, length);
+    }
+
+    /**
+     * madvise: announce the access pattern of a mapped or direct buffer.
+     * The range is widened to whole pages.
+     * @param buffer direct or mapped buffer
+     * @param advice MADV_*
+     * @return 0 | -1
+     */
+    public static int madvise(final Buffer buffer, final int advice){
+        if(binding == null || buffer == null || !buffer.isDirect())
+            return -1;
+        try {
+            final Object segment = binding.ofBuffer.invoke(null, buffer);
+            final long address = (long) binding.address.invoke(segment);
+            final long aligned = address - (address % binding.pageSize);
+            final long length = address - aligned + buffer.capacity();
+            return (int) binding.madvise.invokeWithArguments(binding.ofAddress.invoke(null, aligned), length, advice);
+        } catch (Throwable t) {
+            log.log(Level.FINE, "madvise failed", t);
+            return -1;
+        }
+    }
+
+    /**
+     * syscall: raw system call with up to six arguments, pointers are passed as addresses.
+     * @param number number of the system call
+     * @param a1 first argument
+     * @param a2 second argument
+     * @param a3 third argument
+     * @param a4 fourth argument
+     * @param a5 fifth argument
+     * @param a6 sixth argument
+     * @return result of the call | -1
+     */
+    static long syscall(final long number, final long a1, final long a2, final long a3, final long a4, final long a5, final long a6){
+        if(binding == null)
+            return -1;
+        try {
+            return (long) binding.syscall.invokeExact(number, a1, a2, a3, a4, a5, a6);
+        } catch (Throwable t) {
+            log.log(Level.FINE, "syscall " + number + " failed", t);
+            return -1;
+        }
+    }
+
+    /**
+     * mmap: map a shared, prefaulted and writable range of a file descriptor.
+     * @param length length of the mapping
+     * @param fd file descriptor
+     * @param offset offset of the mapping
+     * @return address | -1
+     */
+    static long map(final long length, final int fd, final long offset){
+        if(binding == null)
+            return -1;
+        try {
+            return (long) binding.mmap.invokeWithArguments(0L, length, PROT_READ_WRITE, MAP_SHARED_POPULATE, fd, offset);
+        } catch (Throwable t) {
+            log.log(Level.FINE, "mmap failed", t);
+            return -1;
+        }
+    }
+
+    /**
+     * munmap: release a mapping of map.
+     * @param address address of the mapping
+     * @param length length of the mapping
+     * @return 0 | -1
+     */
+    static int unmap(final long address, final long length){
+        return invoke(binding == null ? null : binding.munmap, address, length);
+    }
+
+    /**
+     * Native address of a direct buffer.
+     * @param buffer direct buffer
+     * @return address | 0
+     */
+    static long address(final Buffer buffer){
+        if(binding == null || buffer == null || !buffer.isDirect())
+            return 0;
+        try {
+            return (long) binding.address.invoke(binding.ofBuffer.invoke(null, buffer));
+        } catch (Throwable t) {
+            log.log(Level.FINE, "address lookup failed", t);
+            return 0;
+        }
+    }
+
+    /**
+     * View native memory as buffer in native byte order.
+     * @param address start of the memory
+     * @param length length of the memory
+     * @return buffer | null
+     */
+    static ByteBuffer memory(final long address, final long length){
+        if(binding == null || address <= 0)
+            return null;
+        try {
+            final Object segment = binding.reinterpret.invoke(binding.ofAddress.invoke(null, address), length);
+            return ((ByteBuffer) binding.asByteBuffer.invoke(segment)).order(ByteOrder.nativeOrder());
+        } catch (Throwable t) {
+            log.log(Level.FINE, "memory view failed", t);
+            return null;
+        }
+    }
+
+    private static int invoke(final MethodHandle handle, final Object... args){
+        if(handle == null)
+            return -1;
+        try {
+            return (int) handle.invokeWithArguments(args);
+        } catch (Throwable t) {
+            log.log(Level.FINE, "native call failed", t);
+            return -1;
+        }
+    }
+
+    private static void closeArena(final AutoCloseable arena){
+        if(arena == null)
+            return;
+        try {
+            arena.close();
+        } catch (Exception e) {
+            log.log(Level.FINE, "closing the arena failed", e);
+        }
+    }
+
+    /**
+     * Lookup the Foreign Function and Memory API and link the libc functions.
+     * @return binding | null if not available
+     */
+    private static Binding bind(){
+        if(!System.getProperty("os.name","").toLowerCase().contains("linux")){
+            log.log(Level.FINE, "Native I/O hints are only available on linux.");
+            return null;
+        }
+        try {
+            final Class<?> linkerClass = Class.forName("java.lang.foreign.Linker");
+            final Class<?> optionClass = Class.forName("java.lang.foreign.Linker$Option");
+            final Class<?> layoutClass = Class.forName("java.lang.foreign.MemoryLayout");
+            final Class<?> valueLayoutClass = Class.forName("java.lang.foreign.ValueLayout");
+            final Class<?> descriptorClass = Class.forName("java.lang.foreign.FunctionDescriptor");
+            final Class<?> segmentClass = Class.forName("java.lang.foreign.MemorySegment");
+            final Class<?> lookupClass = Class.forName("java.lang.foreign.SymbolLookup");
+            final Class<?> arenaClass = Class.forName("java.lang.foreign.Arena");
+            final Class<?> allocatorClass = Class.forName("java.lang.foreign.SegmentAllocator");
+            final Object linker = linkerClass.getMethod("nativeLinker").invoke(null);
+            final Object lookup = linkerClass.getMethod("defaultLookup").invoke(linker);
+            final Object jInt = valueLayoutClass.getField("JAVA_INT").get(null);
+            final Object jLong = valueLayoutClass.getField("JAVA_LONG").get(null);
+            final Object address = valueLayoutClass.getField("ADDRESS").get(null);
+            final LinkerAccess link = new LinkerAccess(linker, lookup, linkerClass, optionClass, layoutClass, descriptorClass, segmentClass, lookupClass);
+            final Binding b = new Binding();
+            b.open = link.handle("open", 2, jInt, address, jInt, jInt);
+            b.close = link.handle("close", -1, jInt, jInt);
+            b.fadvise = link.handle("posix_fadvise", -1, jInt, jInt, jLong, jLong, jInt);
+            b.fallocate = link.handle("fallocate", -1, jInt, jInt, jInt, jLong, jLong);
+            b.syncFileRange = link.handle("sync_file_range", -1, jInt, jInt, jLong, jLong, jInt);
+            b.ftruncate = link.handle("ftruncate", -1, jInt, jInt, jLong);
+            b.madvise = link.handle("madvise", -1, jInt, address, jLong, jInt);
+            b.syscall = link.handle("syscall", 1, jLong, jLong, jLong, jLong, jLong, jLong, jLong, jLong);
+            b.mmap = link.handle("mmap", -1, jLong, jLong, jLong, jInt, jInt, jInt, jLong);
+            b.munmap = link.handle("munmap", -1, jInt, jLong, jLong);
+            b.pageSize = (int) link.handle("getpagesize", -1, jInt).invokeWithArguments();
+            b.ofConfined = arenaClass.getMethod("ofConfined");
+            b.allocateString = lookupStringAllocator(allocatorClass);
+            b.ofBuffer = segmentClass.getMethod("ofBuffer", Buffer.class);
+            b.ofAddress = segmentClass.getMethod("ofAddress", long.class);
+            b.address = segmentClass.getMethod("address");
+            b.reinterpret = segmentClass.getMethod("reinterpret", long.class);
+            b.asByteBuffer = segmentClass.getMethod("asByteBuffer");
+            log.log(Level.INFO, "Native I/O hints available (page size " + b.pageSize + ").");
+            return b;
+        } catch (Throwable t) {
+            log.log(Level.FINE, "Native I/O hints not available on this jvm (java 22+ needed): " + t);
+            return null;
+        }
+    }
+
+    /**
+     * SegmentAllocator.allocateFrom(String) (java 22+) or allocateUtf8String(String) (java 21 with preview).
+     * @param allocatorClass SegmentAllocator
+     * @return method
+     * @throws NoSuchMethodException if neither is available
+     */
+    private static Method lookupStringAllocator(final Class<?> allocatorClass) throws NoSuchMethodException {
+        try {
+            return allocatorClass.getMethod("allocateFrom", String.class);
+        } catch (NoSuchMethodException e) {
+            return allocatorClass.getMethod("allocateUtf8String", String.class);
+        }
+    }
+
+    /**
+     * Reflective access to Linker.downcallHandle.
+     */
+    private static final class LinkerAccess {
+        private final Object linker;
+        private final Object lookup;
+        private final Method find;
+        private final Method describe;
+        private final Method downcall;
+        private final Method firstVariadicArg;
+        private final Class<?> layoutClass;
+        private final Class<?> optionClass;
+
+        LinkerAccess(final Object linker, final Object lookup, final Class<?> linkerClass, final Class<?> optionClass,
+               final Class<?> layoutClass, final Class<?> descriptorClass, final Class<?> segmentClass,
+               final Class<?> lookupClass) throws NoSuchMethodException {
+            this.linker = linker;
+            this.lookup = lookup;
+            this.layoutClass = layoutClass;
+            this.optionClass = optionClass;
+            this.find = lookupClass.getMethod("find", String.class);
+            this.describe = descriptorClass.getMethod("of", layoutClass, Array.newInstance(layoutClass, 0).getClass());
+            this.downcall = linkerClass.getMethod("downcallHandle", segmentClass, descriptorClass,
+                    Array.newInstance(optionClass, 0).getClass());
+            this.firstVariadicArg = optionClass.getMethod("firstVariadicArg", int.class);
+        }
+
+        /**
+         * Link a libc function.
+         * @param name symbol name
+         * @param variadicIndex index of the first variadic argument | -1
+         * @param result layout of the result
+         * @param args layouts of the arguments
+         * @return downcall handle
+         * @throws Exception if the symbol is missing or linking is refused
+         */
+        MethodHandle handle(final String name, final int variadicIndex, final Object result, final Object... args) throws Exception {
+            final Optional<?> symbol = (Optional<?>) this.find.invoke(this.lookup, name);
+            if(!symbol.isPresent())
+                throw new IllegalStateException("Symbol " + name + " not found.");
+            final Object layouts = Array.newInstance(this.layoutClass, args.length);
+            for(int i = 0; i < args.length; i++){
+                Array.set(layouts, i, args[i]);
+            }
+            final Object descriptor = this.describe.invoke(null, result, layouts);
+            final Object options = Array.newInstance(this.optionClass, variadicIndex < 0 ? 0 : 1);
+            if(variadicIndex >= 0)
+                Array.set(options, 0, this.firstVariadicArg.invoke(null, variadicIndex));
+            return (MethodHandle) this.downcall.invoke(this.linker, symbol.get(), descriptor, options);
+        }
+    }
+
+    /**
+     * Linked functions and the reflective helpers of the Foreign Function and Memory API.
+     */
+    private static final class Binding {
+        private MethodHandle open;
+        private MethodHandle close;
+        private MethodHandle fadvise;
+        private MethodHandle fallocate;
+        private MethodHandle syncFileRange;
+        private MethodHandle ftruncate;
+        private MethodHandle madvise;
+        private MethodHandle syscall;
+        private MethodHandle mmap;
+        private MethodHandle munmap;
+        private int pageSize;
+        private Method ofConfined;
+        private Method allocateString;
+        private Method ofBuffer;
+        private Method ofAddress;
+        private Method address;
+        private Method reinterpret;
+        private Method asByteBuffer;
+    }
+}
@@ -1,5 +1,7 @@
 package de.b4sh.byter.utils.jmx;
 
+import java.io.File;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -37,6 +39,16 @@ public final class JmxClientDiscHelper extends JmxHelper {
         invokeSingleIntegerData(mbs,on,"startMultiWriter",count);
     }
 
+    /**
+     * Starts multiple writer threads that share one file.
+     * @param mbs mbean server
+     * @param on client disc object name
+     * @param count count of threads
+     */
+    public static void startSharedFileWriter(final MBeanServerConnection mbs, final ObjectName on, final int count){
+        invokeSingleIntegerData(mbs,on,"startSharedFileWriter",count);
+    }
+
     /**
      * Stops the service pool and resets the environment on the client disc controller.
      * @param mbs mbean server
@@ -177,6 +189,186 @@ public final class JmxClientDiscHelper extends JmxHelper {
         invokeSingleIntegerData(mbs,on,"SetWriterBufferSize", newBufferSize);
     }
 
+    /**
+     * set a new writer batch size.
+     * @param mbs mbean server
+     * @param on client disc object name
+     * @param newBatchSize new batch size (0 for the writer default)
+     */
+    public static void setWriterBatchSize(final MBeanServerConnection mbs, final ObjectName on, final int newBatchSize){
+        invokeSingleIntegerData(mbs,on,"SetWriterBatchSize", newBatchSize);
+    }
+
+    /**
+     * set a new writer queue depth.
+     * @param mbs mbean server
+     * @param on client disc object name
+     * @param newQueueDepth new queue depth (0 for the writer default)
+     */
+    public static void setWriterQueueDepth(final MBeanServerConnection mbs, final ObjectName on, final int newQueueDepth){
+        invokeSingleIntegerData(mbs,on,"SetWriterQueueDepth", newQueueDepth);
+    }
+
+    /**
+     * set a new durability policy.
+     * @param mbs mbean server
+     * @param on client disc object name
+     * @param newPolicy key of the durability policy
+     */
+    public static void setDurabilityPolicy(final MBeanServerConnection mbs, final ObjectName on, final String newPolicy){
+        final String response = invokeSingleStringData(mbs,on,"SetDurabilityPolicy",newPolicy);
+        log.log(Level.INFO, "JMX-Response SetDurabilityPolicy: " + response);
+    }
+
+    /**
+     * set a new durability parameter.
+     * @param mbs mbean server
+     * @param on client disc object name
+     * @param newParameter bytes or milliseconds between syncs (0 for the policy default)
+     */
+    public static void setDurabilityParameter(final MBeanServerConnection mbs, final ObjectName on, final long newParameter){
+        invokeSingleLongData(mbs,on,"SetDurabilityParameter",newParameter);
+    }
+
+    /**
+     * set new directories for the striped writer.
+     * @param mbs mbean server
+     * @param on client disc object name
+     * @param paths directories to stripe over (null or empty for the output path only)
+     */
+    public static void setStripePaths(final MBeanServerConnection mbs, final ObjectName on, final List<String> paths){
+        final StringBuilder sb = new StringBuilder();
+        if(paths != null){
+            for(String path: paths){
+                if(sb.length() > 0)
+                    sb.append(File.pathSeparator);
+                sb.append(path);
+            }
+        }
+        final String response = invokeSingleStringData(mbs,on,"SetStripePaths",sb.toString());
+        log.log(Level.INFO, "JMX-Response SetStripePaths: " + response);
+    }
+
+    /**
+     * set the payload profile, parameter, block size, seed and corpus path in one go.
+     * @param mbs mbean server
+     * @param on client disc object name
+     * @param profile key of the payload profile
+     * @param parameter compression or dedup ratio
+     * @param blockSize block size the ratios are applied on (0 for the generator default)
+     * @param seed seed of the generator (0 for a fresh seed)
+     * @param corpusPath corpus file (only used by the corpus profile)
+     */
+    public static void setPayload(final MBeanServerConnection mbs, final ObjectName on, final String profile,
+                                  final double parameter, final int blockSize, final long seed, final String corpusPath){
+        final String response = invokeSingleStringData(mbs,on,"SetPayloadProfile",profile);
+        log.log(Level.INFO, "JMX-Response SetPayloadProfile: " + response);
+        invokeSingleStringData(mbs,on,"SetPayloadParameter",String.valueOf(parameter));
+        invokeSingleIntegerData(mbs,on,"SetPayloadBlockSize",blockSize);
+        invokeSingleLongData(mbs,on,"SetPayloadSeed",seed);
+        invokeSingleStringData(mbs,on,"SetPayloadCorpusPath",corpusPath == null ? "" : corpusPath);
+    }
+
+    /**
+     * set a new target byte rate for paced writers.
+     * @param mbs mbean server
+     * @param on client disc object name
+     * @param newRate bytes per second (0 for closed loop)
+     */
+    public static void setTargetBytesPerSecond(final MBeanServerConnection mbs, final ObjectName on, final long newRate){
+        invokeSingleLongData(mbs,on,"SetTargetBytesPerSecond",newRate);
+    }
+
+    /**
+     * set a new target chunk rate for paced writers.
+     * @param mbs mbean server
+     * @param on client disc object name
+     * @param newRate chunks per second (0 for closed loop)
+     */
+    public static void setTargetOpsPerSecond(final MBeanServerConnection mbs, final ObjectName on, final long newRate){
+        invokeSingleLongData(mbs,on,"SetTargetOpsPerSecond",newRate);
+    }
+
+    /**
+     * set the shard counts of the erasure coding writer.
+     * @param mbs mbean server
+     * @param on client disc object name
+     * @param dataShards data shards per stripe
+     * @param parityShards parity shards per stripe
+     */
+    public static void setErasureCoding(final MBeanServerConnection mbs, final ObjectName on, final int dataShards, final int parityShards){
+        invokeSingleIntegerData(mbs,on,"SetErasureDataShards",dataShards);
+        invokeSingleIntegerData(mbs,on,"SetErasureParityShards",parityShards);
+    }
+
+    /**
+     * set the stages of the pipeline writer.
+     * @param mbs mbean server
+     * @param on client disc object name
+     * @param stages stage keys, the last one is the writer type key of the sink (null or empty for the default pipeline)
+     */
+    public static void setPipelineStages(final MBeanServerConnection mbs, final ObjectName on, final List<String> stages){
+        final String response = invokeSingleStringData(mbs,on,"SetPipelineStages",stages == null ? "" : String.join(",",stages));
+        log.log(Level.INFO, "JMX-Response SetPipelineStages: " + response);
+    }
+
+    /**
+     * set a new native I/O hint profile.
+     * @param mbs mbean server
+     * @param on client disc object name
+     * @param newProfile key of the hint profile
+     * @param window bytes of a hint window (0 for the hint default)
+     */
+    public static void setIoHints(final MBeanServerConnection mbs, final ObjectName on, final String newProfile, final long window){
+        final String response = invokeSingleStringData(mbs,on,"SetIoHintProfile",newProfile);
+        log.log(Level.INFO, "JMX-Response SetIoHintProfile: " + response);
+        invokeSingleLongData(mbs,on,"SetIoHintWindow",window);
+    }
+
+    /**
+     * set a new warmup that is excluded from the writer measurements.
+     * @param mbs mbean server
+     * @param on client disc object name
+     * @param bytes warmup in bytes (0 for none)
+     * @param millis warmup in milliseconds (0 for none)
+     */
+    public static void setWarmup(final MBeanServerConnection mbs, final ObjectName on, final long bytes, final long millis){
+        invokeSingleLongData(mbs,on,"SetWarmupBytes",bytes);
+        invokeSingleLongData(mbs,on,"SetWarmupMillis",millis);
+    }
+
+    /**
+     * set a new replication slice size.
+     * @param mbs mbean server
+     * @param on client disc object name
+     * @param newSliceSize bytes per transfer call (0 for the writer default)
+     */
+    public static void setReplicationSliceSize(final MBeanServerConnection mbs, final ObjectName on, final long newSliceSize){
+        invokeSingleLongData(mbs,on,"SetReplicationSliceSize",newSliceSize);
+    }
+
+    /**
+     * set a new replication mode.
+     * @param mbs mbean server
+     * @param on client disc object name
+     * @param newMode key of the replication mode
+     */
+    public static void setReplicationMode(final MBeanServerConnection mbs, final ObjectName on, final String newMode){
+        final String response = invokeSingleStringData(mbs,on,"SetReplicationMode",newMode);
+        log.log(Level.INFO, "JMX-Response SetReplicationMode: " + response);
+    }
+
+    /**
+     * start the replication of an existing file into the output path.
+     * @param mbs mbean server
+     * @param on client disc object name
+     * @param sourcePath file to replicate
+     */
+    public static void startReplication(final MBeanServerConnection mbs, final ObjectName on, final String sourcePath){
+        final String response = invokeSingleStringData(mbs,on,"StartReplication",sourcePath);
+        log.log(Level.INFO, "JMX-Response StartReplication: " + response);
+    }
+
     /**
      * set a new measurement volume.
      * size of the list which contains the measurements.
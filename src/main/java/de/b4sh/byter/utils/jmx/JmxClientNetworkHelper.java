@@ -1,5 +1,6 @@
 package de.b4sh.byter.utils.jmx;
 
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javax.management.MBeanServerConnection;
@@ -209,6 +210,46 @@ public final class JmxClientNetworkHelper extends JmxHelper {
         invokeSingleIntegerData(mbs,on,"NewPregenChunkSize",newChunkSize);
     }
 
+    /**
+     * change the payload profile, parameter, block size, seed and corpus path in one go.
+     * @param mbs mbean server
+     * @param on client network mbean
+     * @param profile key of the payload profile
+     * @param parameter compression or dedup ratio
+     * @param blockSize block size the ratios are applied on (0 for the generator default)
+     * @param seed seed of the generator (0 for a fresh seed)
+     * @param corpusPath corpus file (only used by the corpus profile)
+     */
+    public static void changePayload(final MBeanServerConnection mbs, final ObjectName on, final String profile,
+                                  final double parameter, final int blockSize, final long seed, final String corpusPath){
+        final String response = invokeSingleStringData(mbs,on,"SetPayloadProfile",profile);
+        log.log(Level.INFO, "JMX-Response SetPayloadProfile: " + response);
+        invokeSingleStringData(mbs,on,"SetPayloadParameter",String.valueOf(parameter));
+        invokeSingleIntegerData(mbs,on,"SetPayloadBlockSize",blockSize);
+        invokeSingleLongData(mbs,on,"SetPayloadSeed",seed);
+        invokeSingleStringData(mbs,on,"SetPayloadCorpusPath",corpusPath == null ? "" : corpusPath);
+    }
+
+    /**
+     * change the target byte rate for open loop runs.
+     * @param mbs mbean server
+     * @param on client network mbean
+     * @param newRate bytes per second (0 for closed loop)
+     */
+    public static void changeTargetBytesPerSecond(final MBeanServerConnection mbs, final ObjectName on, final long newRate){
+        invokeSingleLongData(mbs,on,"SetTargetBytesPerSecond",newRate);
+    }
+
+    /**
+     * change the target chunk rate for open loop runs.
+     * @param mbs mbean server
+     * @param on client network mbean
+     * @param newRate chunks per second (0 for closed loop)
+     */
+    public static void changeTargetOpsPerSecond(final MBeanServerConnection mbs, final ObjectName on, final long newRate){
+        invokeSingleLongData(mbs,on,"SetTargetOpsPerSecond",newRate);
+    }
+
     /**
      * Start a Plain Network Server, that transmits the set informations.
      * @param mbs mbean server
@@ -165,6 +165,59 @@ public final class JmxServerHelper extends JmxHelper {
         invokeSingleIntegerData(mbs, on,"changeWriterBufferSize",newBufferSize);
     }
 
+    /**
+     * set a new writer batch size.
+     * @param mbs mbean server
+     * @param on network manager object name
+     * @param newBatchSize new batch size (0 for the writer default)
+     */
+    public static void setNetworkManagerWriterBatchSize(final MBeanServerConnection mbs, final ObjectName on, final int newBatchSize){
+        invokeSingleIntegerData(mbs, on,"changeWriterBatchSize",newBatchSize);
+    }
+
+    /**
+     * set a new writer queue depth.
+     * @param mbs mbean server
+     * @param on network manager object name
+     * @param newQueueDepth new queue depth (0 for the writer default)
+     */
+    public static void setNetworkManagerWriterQueueDepth(final MBeanServerConnection mbs, final ObjectName on, final int newQueueDepth){
+        invokeSingleIntegerData(mbs, on,"changeWriterQueueDepth",newQueueDepth);
+    }
+
+    /**
+     * set a new durability policy.
+     * @param mbs mbean server
+     * @param on network manager object name
+     * @param newPolicy key of the durability policy
+     * @return String (null possible)
+     */
+    public static String setNetworkManagerDurabilityPolicy(final MBeanServerConnection mbs, final ObjectName on, final String newPolicy){
+        return invokeSingleStringData(mbs, on,"changeDurabilityPolicy", newPolicy);
+    }
+
+    /**
+     * set a new durability parameter.
+     * @param mbs mbean server
+     * @param on network manager object name
+     * @param newParameter bytes or milliseconds between syncs (0 for the policy default)
+     */
+    public static void setNetworkManagerDurabilityParameter(final MBeanServerConnection mbs, final ObjectName on, final long newParameter){
+        invokeSingleLongData(mbs, on,"changeDurabilityParameter",newParameter);
+    }
+
+    /**
+     * set a new writer warmup.
+     * @param mbs mbean server
+     * @param on network manager object name
+     * @param bytes warmup in bytes (0 for none)
+     * @param millis warmup in milliseconds (0 for none)
+     */
+    public static void setNetworkManagerWarmup(final MBeanServerConnection mbs, final ObjectName on, final long bytes, final long millis){
+        invokeSingleLongData(mbs, on,"changeWarmupBytes",bytes);
+        invokeSingleLongData(mbs, on,"changeWarmupMillis",millis);
+    }
+
     /**
      * set a new writer type.
      * @param mbs mbean server
@@ -24,6 +24,7 @@ import de.b4sh.byter.utils.measurements.evaluators.Evaluator;
 import de.b4sh.byter.utils.measurements.evaluators.MaxEvaluator;
 import de.b4sh.byter.utils.measurements.evaluators.MidFieldAverageEvaluator;
 import de.b4sh.byter.utils.measurements.evaluators.MinEvaluator;
+import de.b4sh.byter.utils.measurements.evaluators.SteadyStateEvaluator;
 
 /**
  * PerformanceTimer that manages all measurement data and evaluation of it.
@@ -37,6 +38,16 @@ public final class PerformanceTimer {
     private int measurementVolume;
     private int measurementStep;
     private int measurementCounter;
+    //warmup data - measurements before the end of the warmup are not tracked
+    private long warmupBytes;
+    private long warmupNanos;
+    private boolean warmupDone = true;
+    private boolean steadyStateReport;
+    private boolean firstMeasurementSeen;
+    private long firstMeasurementNanos;
+    private long warmupEndNanos;
+    private long warmupDiscardedBytes;
+    private int warmupDiscardedMeasurements;
     //specific data
     private List<Measurement> data;
     private List<Evaluator> evaluator;
@@ -91,6 +102,41 @@ public final class PerformanceTimer {
         this.measurementStep = measurementStep;
     }
 
+    /**
+     * Set a warmup phase that is excluded from the tracked measurements.
+     * The warmup ends with the first measurement that starts after warmupBytes were passed and warmupNanos elapsed
+     * since the first measurement, whatever is later. Both 0 disables the warmup.
+     * Also adds the SteadyStateEvaluator, so the end of the warmup and the detected steady state are part of the evaluation.
+     * @param warmupBytes bytes to exclude (0 for none)
+     * @param warmupNanos nanoseconds to exclude (0 for none)
+     */
+    public void setWarmup(final long warmupBytes, final long warmupNanos){
+        this.warmupBytes = Math.max(0, warmupBytes);
+        this.warmupNanos = Math.max(0, warmupNanos);
+        this.warmupDone = this.warmupBytes == 0 && this.warmupNanos == 0;
+        if(!this.steadyStateReport){
+            this.steadyStateReport = true;
+            this.addEvaluator(new SteadyStateEvaluator());
+        }
+    }
+
+    /**
+     * check if the given measurement is part of the warmup. Measurements of the warmup are counted here.
+     * @param m measurement to check
+     * @return true if the measurement should not be tracked
+     */
+    private boolean isWarmup(final Measurement m){
+        if(this.warmupDiscardedBytes >= this.warmupBytes
+                && m.getStartTime() - this.firstMeasurementNanos >= this.warmupNanos){
+            this.warmupDone = true;
+            this.warmupEndNanos = m.getStartTime();
+            return false;
+        }
+        this.warmupDiscardedBytes += m.getDataLength();
+        this.warmupDiscardedMeasurements++;
+        return true;
+    }
+
     private void addStandardEvaluators(){
         this.addEvaluator(new MaxEvaluator());
         this.addEvaluator(new MinEvaluator());
@@ -138,6 +184,12 @@ public final class PerformanceTimer {
      * @param m fulfilled measurement
      */
     public void addNewMeasurement(final Measurement m){
+        if(!this.firstMeasurementSeen){
+            this.firstMeasurementSeen = true;
+            this.firstMeasurementNanos = m.getStartTime();
+        }
+        if(!this.warmupDone && this.isWarmup(m))
+            return;
         if(this.measurementVolume == 0 || this.measurementVolume == -1){ //0 take everything , -1 initial value
             this.data.add(m);
         }
@@ -169,6 +221,46 @@ public final class PerformanceTimer {
         return this.data;
     }
 
+    /**
+     * get the start of the first measurement passed to this timer (including the warmup).
+     * @return System.nanoTime | 0 if there was no measurement
+     */
+    public long getFirstMeasurementNanos() {
+        return this.firstMeasurementNanos;
+    }
+
+    /**
+     * check if the warmup is over (or if there is no warmup).
+     * @return true | false
+     */
+    public boolean isWarmupDone() {
+        return this.warmupDone;
+    }
+
+    /**
+     * get the start of the first measurement after the warmup.
+     * @return System.nanoTime | 0 if there was no warmup or it is not over yet
+     */
+    public long getWarmupEndNanos() {
+        return this.warmupEndNanos;
+    }
+
+    /**
+     * get the bytes passed during the warmup.
+     * @return bytes
+     */
+    public long getWarmupDiscardedBytes() {
+        return this.warmupDiscardedBytes;
+    }
+
+    /**
+     * get the count of measurements passed during the warmup.
+     * @return measurements
+     */
+    public int getWarmupDiscardedMeasurements() {
+        return this.warmupDiscardedMeasurements;
+    }
+
     /**
      * Evaluate tracked measurements.
      * If the Timer doesn't contain any data and empty HashMap is returned.
@@ -0,0 +1,133 @@
+/*
+ * File: RatePacer
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.measurements;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open loop pacer that issues operations on a fixed schedule.
+ * The n-th operation is planned at start + n * interval, independent of how long the previous ones took.
+ * awaitNext returns the planned start time. Measurements taken from that time include the time an operation
+ * waited behind a stalled predecessor, so stalls are not hidden by a slower issue rate (coordinated omission).
+ * A pacer that falls behind does not skip operations - they are issued back to back until the schedule is met again.
+ */
+public final class RatePacer {
+
+    private static final long SPIN_THRESHOLD_NANOS = 50000; //park until 50us before the planned start, spin after that
+    private final long intervalNanos;
+    private long startNanos;
+    private long issued;
+    private long lateIssues;
+    private long maxLagNanos;
+    private long totalLagNanos;
+
+    /**
+     * Constructor.
+     * If an operation rate is set it wins over the byte rate.
+     * @param bytesPerSecond target byte rate (0 or below if not used)
+     * @param opsPerSecond target operation rate (0 or below if not used)
+     * @param bytesPerOperation bytes issued with every operation (needed for the byte rate)
+     */
+    public RatePacer(final long bytesPerSecond, final long opsPerSecond, final int bytesPerOperation) {
+        if(opsPerSecond > 0)
+            this.intervalNanos = Math.max(1, 1000000000L / opsPerSecond);
+        else if(bytesPerSecond > 0)
+            this.intervalNanos = Math.max(1, (long) (bytesPerOperation * 1e9 / bytesPerSecond));
+        else
+            throw new IllegalArgumentException("RatePacer needs a byte rate or an operation rate above zero.");
+        this.startNanos = -1;
+    }
+
+    /**
+     * check if any target rate is set.
+     * @param bytesPerSecond target byte rate
+     * @param opsPerSecond target operation rate
+     * @return true if a pacer can be built
+     */
+    public static boolean isPaced(final long bytesPerSecond, final long opsPerSecond){
+        return bytesPerSecond > 0 || opsPerSecond > 0;
+    }
+
+    /**
+     * Wait for the planned start of the next operation.
+     * The schedule starts with the first call.
+     * @return planned start (System.nanoTime based) - use it as start of the measurement
+     */
+    public long awaitNext(){
+        final long now = System.nanoTime();
+        if(this.startNanos < 0)
+            this.startNanos = now;
+        final long planned = this.startNanos + this.issued * this.intervalNanos;
+        this.issued++;
+        if(now > planned){
+            final long lag = now - planned;
+            this.lateIssues++;
+            this.totalLagNanos += lag;
+            this.maxLagNanos = Math.max(this.maxLagNanos, lag);
+            return planned;
+        }
+        long remaining = planned - now;
+        while(remaining > SPIN_THRESHOLD_NANOS){
+            LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            remaining = planned - System.nanoTime();
+        }
+        while(System.nanoTime() < planned){
+            Thread.yield();
+        }
+        return planned;
+    }
+
+    /**
+     * get the time between two planned operations.
+     * @return nanoseconds
+     */
+    public long getIntervalNanos() {
+        return this.intervalNanos;
+    }
+
+    /**
+     * get the count of issued operations.
+     * @return operations
+     */
+    public long getIssued() {
+        return this.issued;
+    }
+
+    /**
+     * get the count of operations that were issued after their planned start.
+     * @return operations
+     */
+    public long getLateIssues() {
+        return this.lateIssues;
+    }
+
+    /**
+     * get the biggest delay between planned and actual issue.
+     * @return nanoseconds
+     */
+    public long getMaxLagNanos() {
+        return this.maxLagNanos;
+    }
+
+    /**
+     * Evaluation of the schedule - to be added as evaluator to the timer of the paced measurements.
+     * @return map with the schedule keys
+     */
+    public Map<String, Float> evaluate(){
+        final Map<String, Float> response = new HashMap<>();
+        response.put("pacedIntervalUs", this.intervalNanos / 1000f);
+        response.put("pacedTargetOpsPerSecond", (float) (1e9 / this.intervalNanos));
+        response.put("pacedIssued", (float) this.issued);
+        response.put("pacedLateIssues", (float) this.lateIssues);
+        response.put("pacedMaxLagMs", this.maxLagNanos / 1000000f);
+        response.put("pacedAvgLagMs", this.lateIssues == 0 ? 0f : this.totalLagNanos / 1000000f / this.lateIssues);
+        return response;
+    }
+}
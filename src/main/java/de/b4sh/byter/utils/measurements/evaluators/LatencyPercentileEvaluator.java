@@ -0,0 +1,38 @@
+package de.b4sh.byter.utils.measurements.evaluators;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.b4sh.byter.utils.measurements.Measurement;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+
+/**
+ * Latency percentiles of the tracked measurements (start to end of every measurement).
+ * Used for paced runs where the tail latency matters more than the average throughput.
+ */
+public final class LatencyPercentileEvaluator implements Evaluator {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final String[] KEYS = {"latencyP50Ms", "latencyP90Ms", "latencyP99Ms", "latencyP999Ms"};
+
+    @Override
+    public Map<String, Float> evaluate(final PerformanceTimer perfTimer) {
+        final List<Measurement> data = perfTimer.getData();
+        final Map<String, Float> response = new HashMap<>();
+        if(data.isEmpty())
+            return response;
+        final long[] latencies = new long[data.size()];
+        for(int i = 0; i < latencies.length; i++){
+            latencies[i] = data.get(i).getTimeIntervalInNanoSecond();
+        }
+        Arrays.sort(latencies);
+        for(int i = 0; i < PERCENTILES.length; i++){
+            final int index = (int) Math.ceil(PERCENTILES[i] * latencies.length / 100 - 1e-9) - 1; //nearest rank
+            response.put(KEYS[i], latencies[Math.max(0, index)] / 1000000f);
+        }
+        response.put("latencyMaxMs", latencies[latencies.length - 1] / 1000000f);
+        return response;
+    }
+}
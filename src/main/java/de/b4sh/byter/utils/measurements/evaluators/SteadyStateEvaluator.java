@@ -0,0 +1,106 @@
+package de.b4sh.byter.utils.measurements.evaluators;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.b4sh.byter.utils.data.TransformValues;
+import de.b4sh.byter.utils.measurements.Measurement;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+
+/**
+ * Reports the end of the warmup and detects the start of the steady state.
+ * The tracked measurements are split into WINDOWS windows, the throughput of every window is bytes / time of its
+ * measurements. The steady state starts with the first window from which the coefficient of variation of the next
+ * SPAN window throughputs stays below the threshold. Times are in milliseconds since the first measurement (warmup included).
+ * Evaluates the steady state if there are 10 or more entries.
+ */
+public final class SteadyStateEvaluator implements Evaluator {
+
+    public static final double DEFAULT_THRESHOLD = 0.1;
+    private static final int WINDOWS = 20;
+    private static final int SPAN = 4;
+    private final double threshold;
+
+    /**
+     * Constructor with the default coefficient of variation of 10 percent.
+     */
+    public SteadyStateEvaluator() {
+        this(DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Constructor.
+     * @param threshold coefficient of variation below that the throughput counts as settled (eg. 0.1)
+     */
+    public SteadyStateEvaluator(final double threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public Map<String, Float> evaluate(final PerformanceTimer perfTimer) {
+        final Map<String, Float> response = new HashMap<>();
+        final long tFirst = perfTimer.getFirstMeasurementNanos();
+        response.put("warmupBytes", (float) perfTimer.getWarmupDiscardedBytes());
+        response.put("warmupMeasurements", (float) perfTimer.getWarmupDiscardedMeasurements());
+        response.put("warmupEndMs", perfTimer.getWarmupEndNanos() == 0 ? 0f : (perfTimer.getWarmupEndNanos() - tFirst) / 1000000f);
+        final List<Measurement> data = perfTimer.getData();
+        if(data.size() < 10)
+            return response;
+        //throughput of every window
+        final int windowSize = Math.max(1, data.size() / WINDOWS);
+        final int windows = data.size() / windowSize;
+        final double[] throughput = new double[windows];
+        for(int w = 0; w < windows; w++){
+            throughput[w] = throughput(data, w * windowSize, (w + 1) * windowSize);
+        }
+        //first window with a settled span
+        int steadyWindow = -1;
+        double minVariation = Double.MAX_VALUE;
+        for(int w = 0; w + SPAN <= windows; w++){
+            final double variation = coefficientOfVariation(throughput, w, SPAN);
+            minVariation = Math.min(minVariation, variation);
+            if(variation <= this.threshold){
+                steadyWindow = w;
+                minVariation = variation;
+                break;
+            }
+        }
+        if(minVariation != Double.MAX_VALUE)
+            response.put("steadyStateCoefficientOfVariation", (float) minVariation);
+        response.put("steadyStateReached", steadyWindow >= 0 ? 1f : 0f);
+        if(steadyWindow >= 0){
+            final int startIndex = steadyWindow * windowSize;
+            response.put("steadyStateStartIndex", (float) startIndex);
+            response.put("steadyStateStartMs", (data.get(startIndex).getStartTime() - tFirst) / 1000000f);
+            response.put("steadyStateMegaBytesPerSecond",
+                    (float) (throughput(data, startIndex, data.size()) * TransformValues.byteToMEGABYTE));
+        }
+        return response;
+    }
+
+    private static double throughput(final List<Measurement> data, final int from, final int to){
+        long bytes = 0;
+        long nanos = 0;
+        for(int i = from; i < to; i++){
+            bytes += data.get(i).getDataLength();
+            nanos += data.get(i).getTimeIntervalInNanoSecond();
+        }
+        return nanos == 0 ? 0 : bytes / (nanos * TransformValues.nanoSecondToSecond);
+    }
+
+    private static double coefficientOfVariation(final double[] values, final int from, final int count){
+        double mean = 0;
+        for(int i = from; i < from + count; i++){
+            mean += values[i];
+        }
+        mean /= count;
+        if(mean == 0)
+            return Double.MAX_VALUE;
+        double variance = 0;
+        for(int i = from; i < from + count; i++){
+            variance += (values[i] - mean) * (values[i] - mean);
+        }
+        return Math.sqrt(variance / count) / mean;
+    }
+}
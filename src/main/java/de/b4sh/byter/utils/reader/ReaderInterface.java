@@ -7,6 +7,8 @@
  */
 package de.b4sh.byter.utils.reader;
 
+import de.b4sh.byter.utils.io.IoHintProfile;
+
 /**
  * Interface for reader implementations.
  * This defines the base set of functions that every reader should have.
@@ -60,4 +62,12 @@ public interface ReaderInterface {
      */
     void run();
 
+    /**
+     * Set the native I/O hint profile of the reader (fadvise - see IoHints).
+     * Without native access (below java 22, other os) the hints are no-ops.
+     * @param profile profile to apply
+     * @param parameter bytes of a hint window (0 for the default of 8MB)
+     */
+    void setIoHints(IoHintProfile profile, long parameter);
+
 }
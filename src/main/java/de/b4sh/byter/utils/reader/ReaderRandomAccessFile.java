@@ -14,6 +14,9 @@ import java.io.RandomAccessFile;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import de.b4sh.byter.utils.io.IoHintProfile;
+import de.b4sh.byter.utils.io.IoHints;
+
 /**
  * This class reads files as byte stream.
  * Based on Random Access File
@@ -24,6 +27,7 @@ public final class ReaderRandomAccessFile implements ReaderInterface,Runnable {
     private final File readFile;
     private final int blockSize;
     private final RandomAccessFile raf;
+    private IoHints hints = IoHints.NONE;
     private long internalFileOffset;
     private boolean keepAlive;
     
@@ -49,6 +53,7 @@ public final class ReaderRandomAccessFile implements ReaderInterface,Runnable {
                 b = new byte[maxLengthPossible];
             this.raf.seek(internalFileOffset);
             this.raf.read(b);
+            this.hints.onRead(b.length);
             internalFileOffset += b.length;
             return b;
         } catch (IOException e) {
@@ -99,6 +104,7 @@ public final class ReaderRandomAccessFile implements ReaderInterface,Runnable {
         } catch (IOException e) {
             log.log(Level.INFO,"IO Exception during the close of stream");
         }
+        this.hints.close();
     }
 
     @Override
@@ -119,6 +125,13 @@ public final class ReaderRandomAccessFile implements ReaderInterface,Runnable {
         }
     }
 
+    @Override
+    public void setIoHints(final IoHintProfile profile, final long parameter) {
+        this.hints.close();
+        this.hints = new IoHints(profile,parameter,this.readFile,false,null);
+        this.hints.onOpen();
+    }
+
     /**
      * checks if the target read length in realtion to the file offset is bigger than the actual file length.
      * @param targetLength maximum length to reach
@@ -12,7 +12,8 @@ package de.b4sh.byter.utils.reader;
  */
 public enum  ReaderType {
     none("none"),
-    rafr("rafr");
+    rafr("rafr"),
+    urng("urng");
 
     private final String type;
 
@@ -0,0 +1,385 @@
+/*
+ * File: ReaderUring
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.reader;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import de.b4sh.byter.utils.io.DirectBufferPool;
+import de.b4sh.byter.utils.io.IoHintProfile;
+import de.b4sh.byter.utils.io.IoHints;
+import de.b4sh.byter.utils.io.IoUring;
+import de.b4sh.byter.utils.io.NativeIo;
+import de.b4sh.byter.utils.io.ThreadManager;
+
+/**
+ * Experimental io_uring reader implementation.
+ * Keeps up to queueDepth block reads ahead of the read position in flight. The reads of the free slots are handed
+ * to the kernel in batches, waiting for the next block and submitting the pending reads is a single io_uring_enter.
+ * If io_uring is not available (java below 22, kernel or seccomp) the reads go through an AsynchronousFileChannel.
+ */
+public final class ReaderUring implements ReaderInterface,Runnable {
+
+    private final Logger log = Logger.getLogger(ReaderUring.class.getName());
+    public static final int DEFAULT_QUEUE_DEPTH = 32;
+    private final File readFile;
+    private final int blockSize;
+    private final int queueDepth;
+    private final int batchSize;
+    private final IoUring ring;
+    private final AsynchronousFileChannel channel;
+    private int fd;
+    //read ahead slots, head is the slot of the read position
+    private final ByteBuffer[] buffers;
+    private final long[] slotPosition;
+    private final int[] slotLength;
+    private final int[] slotDone;
+    private final boolean[] slotReady;
+    private final Future<?>[] slotFuture;
+    private final long[] completedSlots;
+    private final int[] completedResults;
+    private int head;
+    private int headOffset;
+    private int filled;
+    private long nextPosition;
+    private long knownLength;
+    private long internalFileOffset;
+    private long failedReads;
+    private boolean broken;
+    private boolean keepAlive;
+    private IoHints hints = IoHints.NONE;
+
+    /**
+     * Constructor for ReaderUring.
+     * @param blockSize the size each individual block should have
+     * @param queueDepth count of reads in flight (0 or below for the default of 32)
+     * @param readFile the file that should be read
+     * @throws IOException if the file is not existing or cannot be opened
+     */
+    public ReaderUring(final int blockSize, final int queueDepth, final File readFile) throws IOException {
+        if(!readFile.isFile())
+            throw new FileNotFoundException(readFile.getAbsolutePath());
+        this.blockSize = blockSize;
+        this.readFile = readFile;
+        this.queueDepth = queueDepth <= 0 ? DEFAULT_QUEUE_DEPTH : queueDepth;
+        this.batchSize = Math.max(1, this.queueDepth / 4);
+        this.buffers = new ByteBuffer[this.queueDepth];
+        for(int i = 0; i < this.queueDepth; i++){
+            this.buffers[i] = DirectBufferPool.allocateAligned(DirectBufferPool.roundUpToPageSize(blockSize));
+        }
+        this.slotPosition = new long[this.queueDepth];
+        this.slotLength = new int[this.queueDepth];
+        this.slotDone = new int[this.queueDepth];
+        this.slotReady = new boolean[this.queueDepth];
+        this.slotFuture = new Future<?>[this.queueDepth];
+        this.completedSlots = new long[this.queueDepth];
+        this.completedResults = new int[this.queueDepth];
+        this.fd = -1;
+        final IoUring uring = IoUring.create(this.queueDepth);
+        if(uring != null)
+            this.fd = NativeIo.openFile(readFile,NativeIo.O_RDONLY);
+        if(uring != null && this.fd >= 0){
+            this.ring = uring;
+            this.ring.registerBuffers(this.buffers);
+            this.channel = null;
+        }else{
+            if(uring != null)
+                uring.close();
+            log.log(Level.INFO, "io_uring not available, ReaderUring falls back to the AsynchronousFileChannel.");
+            this.ring = null;
+            this.channel = AsynchronousFileChannel.open(readFile.toPath(),StandardOpenOption.READ);
+        }
+    }
+
+    @Override
+    public byte[] read(byte[] b) {
+        //check if the bytesize needs to be reduced
+        final int maxLengthPossible = getAllowedReadLength(b.length);
+        if(b.length != maxLengthPossible)
+            b = new byte[maxLengthPossible];
+        final int copied = this.copy(b,true);
+        return copied == b.length ? b : Arrays.copyOf(b,copied);
+    }
+
+    @Override
+    public byte[] readNextBlock() {
+        return this.read(new byte[this.blockSize]);
+    }
+
+    @Override
+    public byte[] readNextBlock(final int length) {
+        return this.read(new byte[length]);
+    }
+
+    @Override
+    public byte[] readNextBlock(final int length, final int offset) {
+        //like the random access reader the block at the read position is returned without moving it
+        final byte[] b = new byte[Math.min(getAllowedReadLength(length), this.queueDepth * this.blockSize - this.headOffset)];
+        final int copied = this.copy(b,false);
+        return copied == b.length ? b : Arrays.copyOf(b,copied);
+    }
+
+    /**
+     * Copy from the read ahead slots.
+     * @param b target array
+     * @param consume true to move the read position and recycle the consumed slots
+     * @return count of copied bytes
+     */
+    private int copy(final byte[] b, final boolean consume){
+        this.fill();
+        int copied = 0;
+        int index = 0;
+        int offset = this.headOffset;
+        while(copied < b.length && index < this.filled){
+            final int slot = (this.head + index) % this.queueDepth;
+            if(!this.awaitSlot(slot))
+                break;
+            final ByteBuffer buffer = this.buffers[slot];
+            final int length = Math.min(this.slotLength[slot] - offset, b.length - copied);
+            buffer.limit(this.slotLength[slot]);
+            buffer.position(offset);
+            buffer.get(b,copied,length);
+            copied += length;
+            offset += length;
+            if(offset == this.slotLength[slot]){
+                offset = 0;
+                if(consume){
+                    this.slotReady[slot] = false;
+                    this.head = (this.head + 1) % this.queueDepth;
+                    this.filled--;
+                    this.fill();
+                }else{
+                    index++;
+                }
+            }
+        }
+        if(consume){
+            this.headOffset = offset;
+            this.internalFileOffset += copied;
+            this.hints.onRead(copied);
+        }
+        return copied;
+    }
+
+    /**
+     * Start the reads of the free slots up to the current end of the file.
+     */
+    private void fill(){
+        if(this.broken)
+            return;
+        if(this.nextPosition >= this.knownLength)
+            this.knownLength = this.readFile.length(); //only look at the file again if it might have grown
+        final long length = this.knownLength;
+        while(this.filled < this.queueDepth && this.nextPosition < length){
+            final int slot = (this.head + this.filled) % this.queueDepth;
+            this.slotPosition[slot] = this.nextPosition;
+            this.slotLength[slot] = (int) Math.min(this.blockSize, length - this.nextPosition);
+            this.slotDone[slot] = 0;
+            this.slotReady[slot] = false;
+            this.nextPosition += this.slotLength[slot];
+            this.filled++;
+            this.startRead(slot);
+        }
+        if(this.ring != null && this.ring.getPending() >= this.batchSize){
+            this.ring.submit(0);
+            this.reap();
+        }
+    }
+
+    private void startRead(final int slot){
+        final int done = this.slotDone[slot];
+        if(this.ring != null){
+            while(!this.ring.prepareRead(this.fd,slot,done,this.slotLength[slot] - done,this.slotPosition[slot] + done,slot)){
+                //submission ring full
+                if(this.ring.submit(1) < 0)
+                    return;
+                this.reap();
+            }
+        }else{
+            final ByteBuffer buffer = this.buffers[slot];
+            buffer.clear();
+            buffer.limit(this.slotLength[slot]);
+            buffer.position(done);
+            this.slotFuture[slot] = this.channel.read(buffer,this.slotPosition[slot] + done);
+        }
+    }
+
+    /**
+     * Wait until the read of the slot is completed, pending reads are submitted in the same call.
+     * @param slot slot to wait for
+     * @return true | false if the read failed
+     */
+    private boolean awaitSlot(final int slot){
+        if(this.ring != null){
+            int attempts = 0;
+            while(!this.slotReady[slot]){
+                if(this.ring.submit(1) < 0){
+                    //interrupted by a signal, retry a few times before giving up
+                    if(++attempts > 3){
+                        log.log(Level.SEVERE, "io_uring_enter failed, ReaderUring stops reading.");
+                        this.broken = true;
+                        return false;
+                    }
+                    ThreadManager.nap(1);
+                    continue;
+                }
+                this.reap();
+            }
+        }else{
+            while(!this.slotReady[slot]){
+                try {
+                    this.slotFuture[slot].get();
+                    this.complete(slot,this.buffers[slot].position() - this.slotDone[slot]);
+                } catch (ExecutionException e) {
+                    log.log(Level.WARNING,"Async read at position " + this.slotPosition[slot] + " failed.",e);
+                    this.complete(slot,-1);
+                } catch (InterruptedException e) {
+                    log.log(Level.WARNING,"Interrupted while waiting for a read.",e);
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return this.slotLength[slot] > 0;
+    }
+
+    private void reap(){
+        final int count = this.ring.reap(this.completedSlots,this.completedResults);
+        for(int i = 0; i < count; i++){
+            this.complete((int) this.completedSlots[i],this.completedResults[i]);
+        }
+    }
+
+    /**
+     * Handles a completed read: continues short reads, a failed read shortens the slot to the read bytes.
+     * @param slot slot of the read
+     * @param result read bytes | -errno
+     */
+    private void complete(final int slot, final int result){
+        if(result > 0 && this.slotDone[slot] + result < this.slotLength[slot]){
+            this.slotDone[slot] += result;
+            this.startRead(slot);
+            return;
+        }
+        if(result <= 0){
+            this.failedReads++;
+            log.log(Level.WARNING, "Read at position " + this.slotPosition[slot] + " failed with " + result + ".");
+            this.slotLength[slot] = this.slotDone[slot];
+            this.broken = true;
+        }
+        this.slotReady[slot] = true;
+    }
+
+    @Override
+    public boolean hasNextBlock() {
+        return this.internalFileOffset != this.readFile.length();
+    }
+
+    @Override
+    public void finish() {
+        this.keepAlive = false; //stop the run process if one was started
+        //the kernel owns the buffers of the reads in flight
+        for(int i = 0; i < this.filled && !this.broken; i++){
+            this.awaitSlot((this.head + i) % this.queueDepth);
+        }
+        if(this.ring != null){
+            if(!this.broken)
+                this.ring.close();
+            NativeIo.closeFile(this.fd);
+            log.log(Level.INFO, "ReaderUring -|- reads: " + this.ring.getCompletions() + " -|- io_uring_enter calls: "
+                    + this.ring.getEnterCalls() + " -|- registered buffers: " + this.ring.isFixedBuffers());
+        }else{
+            try {
+                this.channel.close();
+            } catch (IOException e) {
+                log.log(Level.INFO,"IO Exception during the close of channel");
+            }
+        }
+        this.filled = 0;
+        this.hints.close();
+    }
+
+    @Override
+    public void run() {
+        this.keepAlive = true;
+        while (keepAlive){
+            if(this.hasNextBlock()){
+                this.readNextBlock();
+                //read block is currently not interesting - implement a callback if you need the content also
+            }else{
+                try{
+                    Thread.sleep(250); //sleep 250ms
+                } catch (InterruptedException e) {
+                    log.log(Level.WARNING, "cannot sleep in nap");
+                }
+            }
+        }
+    }
+
+    @Override
+    public void setIoHints(final IoHintProfile profile, final long parameter) {
+        this.hints.close();
+        this.hints = new IoHints(profile,parameter,this.readFile,false,null);
+        this.hints.onOpen();
+    }
+
+    /**
+     * checks if the target read length in realtion to the file offset is bigger than the actual file length.
+     * @param targetLength maximum length to reach
+     * @return actual allowed max length
+     */
+    private int getAllowedReadLength(final int targetLength){
+        if(this.internalFileOffset + targetLength > this.readFile.length()){
+            return (int) (this.readFile.length() - this.internalFileOffset);
+        }else{
+            return targetLength;
+        }
+    }
+
+    /**
+     * Checks if the reads go through io_uring.
+     * @return true | false (AsynchronousFileChannel fallback)
+     */
+    public boolean isNativeEngine() {
+        return this.ring != null;
+    }
+
+    /**
+     * get the count of io_uring_enter calls.
+     * @return count | 0 (fallback)
+     */
+    public long getEnterCalls() {
+        return this.ring != null ? this.ring.getEnterCalls() : 0;
+    }
+
+    /**
+     * get the count of failed reads.
+     * @return failed reads
+     */
+    public long getFailedReads() {
+        return this.failedReads;
+    }
+
+    /**
+     * Set the keep alive status.
+     * Mainly to end the run method.
+     * @param keepAlive flag for keep alive
+     */
+    public void setKeepAlive(final boolean keepAlive) {
+        this.keepAlive = keepAlive;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * File: BlockSizeAdvisor
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.writer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hill climbing advisor for the block size of the WriterCombining.
+ * Gets the statistics of a window of block writes and decides on the block size of the next window:
+ * the size is doubled while the throughput improves, held on a plateau and halved as soon as a latency spike shows up
+ * or a grow step made the throughput worse. After REPROBE_WINDOWS calm windows growing is probed again.
+ * Block sizes are powers of two between min and max.
+ */
+public final class BlockSizeAdvisor {
+
+    public static final float TOLERANCE = 0.05f;
+    public static final float LATENCY_SPIKE_FACTOR = 4f;
+    public static final int REPROBE_WINDOWS = 8;
+    public static final int MAX_HISTORY = 64;
+    private final int minBlockSize;
+    private final int maxBlockSize;
+    private final List<Step> history;
+    private int blockSize;
+    private boolean growing;
+    private boolean lastStepGrow;
+    private float lastMegaBytesPerSecond;
+    private int calmWindows;
+    private long adaptations;
+
+    /**
+     * Constructor.
+     * @param initialBlockSize block size of the first window (rounded to a power of two)
+     * @param minBlockSize smallest block size
+     * @param maxBlockSize biggest block size
+     */
+    public BlockSizeAdvisor(final int initialBlockSize, final int minBlockSize, final int maxBlockSize) {
+        this.minBlockSize = powerOfTwo(minBlockSize);
+        this.maxBlockSize = Math.max(this.minBlockSize, powerOfTwo(maxBlockSize));
+        this.blockSize = Math.min(this.maxBlockSize, Math.max(this.minBlockSize, powerOfTwo(initialBlockSize)));
+        this.history = new ArrayList<>();
+        this.growing = true;
+    }
+
+    private static int powerOfTwo(final int value){
+        return value <= 1 ? 1 : Integer.highestOneBit(value);
+    }
+
+    /**
+     * Evaluate a finished window and decide on the block size of the next one.
+     * @param bytes bytes written in the window
+     * @param writes count of block writes in the window
+     * @param nanos summed time of all block writes
+     * @param maxNanos time of the slowest block write
+     * @return block size for the next window
+     */
+    public int evaluateWindow(final long bytes, final int writes, final long nanos, final long maxNanos){
+        if(writes == 0 || nanos <= 0)
+            return this.blockSize;
+        final float megaBytesPerSecond = (float) (bytes / (nanos / 1e9) / (1024 * 1024));
+        final boolean spike = writes > 1 && maxNanos > LATENCY_SPIKE_FACTOR * (nanos / (float) writes);
+        final int oldBlockSize = this.blockSize;
+        if(spike){
+            this.blockSize = Math.max(this.minBlockSize, this.blockSize / 2);
+            this.growing = false;
+            this.calmWindows = 0;
+        }else if(this.lastStepGrow && megaBytesPerSecond < this.lastMegaBytesPerSecond * (1 - TOLERANCE)){
+            //the last grow made it worse - step back and hold
+            this.blockSize = Math.max(this.minBlockSize, this.blockSize / 2);
+            this.growing = false;
+            this.calmWindows = 0;
+        }else{
+            final boolean improved = this.lastMegaBytesPerSecond == 0
+                    || megaBytesPerSecond > this.lastMegaBytesPerSecond * (1 + TOLERANCE);
+            if(this.lastStepGrow && !improved){
+                //plateau - bigger blocks don't pay off
+                this.growing = false;
+                this.calmWindows = 0;
+            }else if(!this.growing && ++this.calmWindows >= REPROBE_WINDOWS){
+                this.growing = true;
+                this.calmWindows = 0;
+            }
+            if(this.growing)
+                this.blockSize = Math.min(this.maxBlockSize, this.blockSize * 2);
+        }
+        this.lastStepGrow = this.blockSize > oldBlockSize;
+        this.lastMegaBytesPerSecond = megaBytesPerSecond;
+        if(this.blockSize != oldBlockSize){
+            this.adaptations++;
+            if(this.history.size() < MAX_HISTORY)
+                this.history.add(new Step(this.blockSize, megaBytesPerSecond, maxNanos / 1000000f, spike));
+        }
+        return this.blockSize;
+    }
+
+    /**
+     * get the current block size.
+     * @return bytes
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * get the biggest block size.
+     * @return bytes
+     */
+    public int getMaxBlockSize() {
+        return maxBlockSize;
+    }
+
+    /**
+     * get the count of block size changes.
+     * @return changes
+     */
+    public long getAdaptations() {
+        return adaptations;
+    }
+
+    /**
+     * get the first MAX_HISTORY block size changes.
+     * @return list of steps
+     */
+    public List<Step> getHistory() {
+        return history;
+    }
+
+    /**
+     * Single block size change.
+     */
+    public static final class Step {
+        private final int blockSize;
+        private final float megaBytesPerSecond;
+        private final float maxLatencyMs;
+        private final boolean spike;
+
+        Step(final int blockSize, final float megaBytesPerSecond, final float maxLatencyMs, final boolean spike) {
+            this.blockSize = blockSize;
+            this.megaBytesPerSecond = megaBytesPerSecond;
+            this.maxLatencyMs = maxLatencyMs;
+            this.spike = spike;
+        }
+
+        /**
+         * get the block size chosen by this step.
+         * @return bytes
+         */
+        public int getBlockSize() {
+            return blockSize;
+        }
+
+        /**
+         * get the throughput of the window that caused this step.
+         * @return megabytes per second
+         */
+        public float getMegaBytesPerSecond() {
+            return megaBytesPerSecond;
+        }
+
+        /**
+         * get the slowest write of the window that caused this step.
+         * @return milliseconds
+         */
+        public float getMaxLatencyMs() {
+            return maxLatencyMs;
+        }
+
+        /**
+         * check if this step was caused by a latency spike.
+         * @return true | false
+         */
+        public boolean isSpike() {
+            return spike;
+        }
+    }
+}
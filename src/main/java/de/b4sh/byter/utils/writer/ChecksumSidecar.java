@@ -0,0 +1,295 @@
+/*
+ * File: ChecksumSidecar
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.writer;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+
+/**
+ * Checksum sidecar of the WriterChecksumming.
+ * Holds one checksum per block of the data file and verifies the data file in parallel.
+ * Binary layout: [byte algorithm][int blockSize][long totalBytes][int blockCount][int checksum]*blockCount
+ */
+public final class ChecksumSidecar {
+
+    private static final Logger log = Logger.getLogger(ChecksumSidecar.class.getName());
+    public static final byte ALGORITHM_CRC32 = 0;
+    public static final byte ALGORITHM_CRC32C = 1;
+    //CRC32C is part of the jdk since java 9 - looked up once, CRC32 is used on java 8
+    private static final Constructor<? extends Checksum> CRC32C_CONSTRUCTOR = lookupCrc32c();
+    private final byte algorithm;
+    private final int blockSize;
+    private final long totalBytes;
+    private final int[] checksums;
+
+    /**
+     * Constructor.
+     * @param algorithm checksum algorithm (ALGORITHM_CRC32 | ALGORITHM_CRC32C)
+     * @param blockSize size of a single block in bytes
+     * @param totalBytes length of the data file
+     * @param checksums checksum of every block in file order
+     */
+    public ChecksumSidecar(final byte algorithm, final int blockSize, final long totalBytes, final int[] checksums) {
+        this.algorithm = algorithm;
+        this.blockSize = blockSize;
+        this.totalBytes = totalBytes;
+        this.checksums = checksums;
+    }
+
+    private static Constructor<? extends Checksum> lookupCrc32c(){
+        try {
+            return Class.forName("java.util.zip.CRC32C").asSubclass(Checksum.class).getConstructor();
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            log.log(Level.INFO, "CRC32C not available on this runtime. Falling back to CRC32.");
+            return null;
+        }
+    }
+
+    /**
+     * get the best checksum algorithm of this runtime.
+     * @return ALGORITHM_CRC32C if available else ALGORITHM_CRC32
+     */
+    public static byte bestAlgorithm(){
+        return CRC32C_CONSTRUCTOR != null ? ALGORITHM_CRC32C : ALGORITHM_CRC32;
+    }
+
+    /**
+     * create a new checksum instance.
+     * @param algorithm checksum algorithm
+     * @return Checksum
+     */
+    public static Checksum newChecksum(final byte algorithm){
+        if(algorithm == ALGORITHM_CRC32C){
+            if(CRC32C_CONSTRUCTOR == null)
+                throw new IllegalStateException("CRC32C is not available on this runtime.");
+            try {
+                return CRC32C_CONSTRUCTOR.newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Could not create CRC32C instance.",e);
+            }
+        }
+        return new CRC32();
+    }
+
+    /**
+     * Read a sidecar from disc.
+     * @param sidecarFile file with the checksums
+     * @return ChecksumSidecar | null on read errors
+     */
+    public static ChecksumSidecar read(final File sidecarFile){
+        try(
+            final DataInputStream in = new DataInputStream(new FileInputStream(sidecarFile))
+        ){
+            final byte algorithm = in.readByte();
+            final int blockSize = in.readInt();
+            final long totalBytes = in.readLong();
+            final int[] checksums = new int[in.readInt()];
+            for(int i = 0; i < checksums.length; i++){
+                checksums[i] = in.readInt();
+            }
+            return new ChecksumSidecar(algorithm,blockSize,totalBytes,checksums);
+        } catch (IOException e) {
+            log.log(Level.WARNING, "IO Exception while reading the checksum sidecar " + sidecarFile.getName(),e);
+            return null;
+        }
+    }
+
+    /**
+     * Write this sidecar to disc.
+     * @param sidecarFile file to write to
+     */
+    public void write(final File sidecarFile){
+        try(
+            final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(sidecarFile)))
+        ){
+            out.writeByte(this.algorithm);
+            out.writeInt(this.blockSize);
+            out.writeLong(this.totalBytes);
+            out.writeInt(this.checksums.length);
+            for(int checksum: this.checksums){
+                out.writeInt(checksum);
+            }
+            out.flush();
+        } catch (IOException e) {
+            log.log(Level.WARNING, "IO Exception while writing the checksum sidecar " + sidecarFile.getName(),e);
+        }
+    }
+
+    /**
+     * Re-read the data file and validate every block.
+     * The blocks are split into one contiguous range per thread, every range is read with positional reads.
+     * @param dataFile file the checksums belong to
+     * @param threads count of verifying threads (0 or below for one per core)
+     * @return Verification
+     * @throws IOException on read errors
+     */
+    public Verification verify(final File dataFile, final int threads) throws IOException {
+        final long tStart = System.nanoTime();
+        final int parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        final List<Long> corrupt = Collections.synchronizedList(new ArrayList<>());
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try(
+            final FileChannel channel = FileChannel.open(dataFile.toPath(), StandardOpenOption.READ)
+        ){
+            final long fileLength = channel.size();
+            final int rangeSize = (this.checksums.length + parallelism - 1) / parallelism;
+            final List<ForkJoinTask<?>> tasks = new ArrayList<>();
+            for(int start = 0; start < this.checksums.length; start += rangeSize){
+                final int first = start;
+                final int last = Math.min(start + rangeSize, this.checksums.length);
+                tasks.add(pool.submit(() -> this.verifyRange(channel,first,last,corrupt)));
+            }
+            for(ForkJoinTask<?> task: tasks){
+                task.join();
+            }
+            Collections.sort(corrupt);
+            return new Verification(corrupt, fileLength == this.totalBytes, this.totalBytes, System.nanoTime() - tStart);
+        } catch (RuntimeException e) {
+            //join rethrows the read error of a worker wrapped (possibly twice)
+            Throwable cause = e;
+            while(cause != null && !(cause instanceof IOException)){
+                cause = cause.getCause();
+            }
+            if(cause != null)
+                throw (IOException) cause;
+            throw e;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private void verifyRange(final FileChannel channel, final int first, final int last, final List<Long> corrupt){
+        final ByteBuffer buffer = ByteBuffer.allocate(this.blockSize);
+        final Checksum checksum = newChecksum(this.algorithm);
+        for(int block = first; block < last; block++){
+            final long position = (long) block * this.blockSize;
+            final int length = (int) Math.min(this.blockSize, this.totalBytes - position);
+            buffer.clear().limit(length);
+            try {
+                while(buffer.hasRemaining()){
+                    if(channel.read(buffer, position + buffer.position()) < 0)
+                        break; //file is shorter than expected
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            checksum.reset();
+            checksum.update(buffer.array(),0,buffer.position());
+            if(buffer.position() != length || (int) checksum.getValue() != this.checksums[block])
+                corrupt.add((long) block);
+        }
+    }
+
+    /**
+     * get the used checksum algorithm.
+     * @return ALGORITHM_CRC32 | ALGORITHM_CRC32C
+     */
+    public byte getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * get the size of a single block.
+     * @return block size in bytes
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * get the length of the data file.
+     * @return bytes
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * get the checksum of every block.
+     * @return checksums in file order
+     */
+    public int[] getChecksums() {
+        return checksums;
+    }
+
+    /**
+     * Result of a verification run.
+     */
+    public static final class Verification {
+        private final List<Long> corruptBlocks;
+        private final boolean lengthMatches;
+        private final long verifiedBytes;
+        private final long elapsedNanos;
+
+        Verification(final List<Long> corruptBlocks, final boolean lengthMatches, final long verifiedBytes, final long elapsedNanos) {
+            this.corruptBlocks = corruptBlocks;
+            this.lengthMatches = lengthMatches;
+            this.verifiedBytes = verifiedBytes;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * check if the whole data file is valid.
+         * @return true if every block matches and the file has the expected length
+         */
+        public boolean isValid() {
+            return this.lengthMatches && this.corruptBlocks.isEmpty();
+        }
+
+        /**
+         * get the indices of all blocks that don't match their checksum.
+         * @return sorted list of block indices
+         */
+        public List<Long> getCorruptBlocks() {
+            return corruptBlocks;
+        }
+
+        /**
+         * check if the data file has the expected length.
+         * @return true if it matches
+         */
+        public boolean isLengthMatching() {
+            return lengthMatches;
+        }
+
+        /**
+         * get the duration of the verification.
+         * @return nanoseconds
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * get the verification throughput.
+         * @return megabytes per second
+         */
+        public float getMegaBytesPerSecond() {
+            return this.elapsedNanos == 0 ? 0f : (float) (this.verifiedBytes / (this.elapsedNanos / 1e9) / (1024 * 1024));
+        }
+    }
+}
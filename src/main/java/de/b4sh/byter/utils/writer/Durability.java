@@ -0,0 +1,321 @@
+/*
+ * File: Durability
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.writer;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import de.b4sh.byter.utils.measurements.Measurement;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.measurements.PerformanceTimerHelper;
+
+/**
+ * Applies a DurabilityPolicy for a single writer.
+ * The writer reports every write that reached the operating system with onWrite and decides with its SyncAction
+ * how the data is forced to the device (FileChannel.force, AsynchronousFileChannel.force).
+ * Every sync is tracked in its own PerformanceTimer series, so buffered and durable throughput can be compared.
+ * Parameter meaning: EveryBytes = bytes between syncs, EveryMillis = ms between syncs,
+ * GroupCommit = ms the syncer waits after the first commit for further commits to join the sync (default 0).
+ * GroupCommit: every onWrite registers a commit and blocks until a sync of the background syncer covers it.
+ * Commits that arrive while a sync is running are coalesced into the next one, so concurrent writers (stripe workers,
+ * completion handlers) share their syncs while a single writer is held back like with PerWrite.
+ */
+public final class Durability {
+
+    private static final Logger log = Logger.getLogger(Durability.class.getName());
+    private static final long DEFAULT_BYTES = 64L * 1024 * 1024;
+    private static final long DEFAULT_MILLIS = 1000;
+    private static final long DEFAULT_GROUP_COMMIT_MILLIS = 0;
+    /** Durability without any syncs. */
+    public static final Durability NONE = new Durability(DurabilityPolicy.None,0,null,null);
+    private final DurabilityPolicy policy;
+    private final long parameter;
+    private final PerformanceTimer syncTimer;
+    private final SyncAction action;
+    private final AtomicLong pendingBytes;
+    private final AtomicLong syncedBytes;
+    private final AtomicLong syncCount;
+    private final AtomicLong maxSyncNanos;
+    private final AtomicLong totalSyncNanos;
+    private volatile long lastSync;
+    private volatile long firstWrite;
+    private volatile long lastSyncEnd;
+    //group commit
+    private final Object lock;
+    private final AtomicLong commitCount;
+    private long requestedBytes; //guarded by lock, bytes of all registered commits
+    private long durableBytes; //guarded by lock, bytes of the commits a finished sync covers
+    private Thread syncer;
+    private volatile boolean syncerAlive;
+
+    /**
+     * Constructor for Durability.
+     * Starts the background syncer for GroupCommit.
+     * @param policy policy to apply
+     * @param parameter policy parameter (0 or below for the default: 64MB | 1000ms | 0ms)
+     * @param syncTimer timer that collects the sync latencies | null
+     * @param action action that forces the written data onto the device
+     */
+    public Durability(final DurabilityPolicy policy, final long parameter, final PerformanceTimer syncTimer, final SyncAction action) {
+        this.policy = policy == null ? DurabilityPolicy.None : policy;
+        this.parameter = parameter > 0 ? parameter : defaultParameter(this.policy);
+        this.syncTimer = syncTimer;
+        this.action = action;
+        this.pendingBytes = new AtomicLong(0);
+        this.syncedBytes = new AtomicLong(0);
+        this.syncCount = new AtomicLong(0);
+        this.maxSyncNanos = new AtomicLong(0);
+        this.totalSyncNanos = new AtomicLong(0);
+        this.lastSync = System.nanoTime();
+        this.lock = new Object();
+        this.commitCount = new AtomicLong(0);
+        if(this.syncTimer != null)
+            this.syncTimer.addEvaluator(perfTimer -> this.evaluate());
+        if(this.policy == DurabilityPolicy.GroupCommit && this.action != null)
+            this.startSyncer();
+    }
+
+    private static long defaultParameter(final DurabilityPolicy policy){
+        switch (policy){
+            case EveryBytes:
+                return DEFAULT_BYTES;
+            case EveryMillis:
+                return DEFAULT_MILLIS;
+            case GroupCommit:
+                return DEFAULT_GROUP_COMMIT_MILLIS;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Report bytes that were handed to the operating system.
+     * Syncs inline depending on the policy, blocks until the bytes are synced with GroupCommit.
+     * @param bytes count of written bytes
+     */
+    public void onWrite(final long bytes){
+        if(this.policy == DurabilityPolicy.None || this.action == null)
+            return;
+        if(this.firstWrite == 0)
+            this.firstWrite = System.nanoTime();
+        if(this.policy == DurabilityPolicy.GroupCommit){
+            this.commit(bytes);
+            return;
+        }
+        final long pending = this.pendingBytes.addAndGet(bytes);
+        switch (this.policy){
+            case PerWrite:
+                this.sync();
+                break;
+            case EveryBytes:
+                if(pending >= this.parameter)
+                    this.sync();
+                break;
+            case EveryMillis:
+                if(System.nanoTime() - this.lastSync >= this.parameter * 1000000L)
+                    this.sync();
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Register a commit and wait until a sync of the syncer covers it.
+     * @param bytes count of written bytes
+     */
+    private void commit(final long bytes){
+        this.commitCount.incrementAndGet();
+        synchronized (this.lock){
+            this.pendingBytes.addAndGet(bytes);
+            this.requestedBytes += bytes;
+            final long target = this.requestedBytes;
+            this.lock.notifyAll(); //wake the syncer
+            while(this.durableBytes < target && this.syncerAlive){
+                try {
+                    this.lock.wait();
+                } catch (InterruptedException e) {
+                    log.log(Level.WARNING, "Interrupted while waiting for the group commit.",e);
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Force all pending bytes onto the device and take the measurement.
+     */
+    private synchronized void sync(){
+        this.sync(this.pendingBytes.getAndSet(0));
+    }
+
+    /**
+     * Force the written data onto the device and take the measurement.
+     * @param bytes bytes the sync covers
+     */
+    private synchronized void sync(final long bytes){
+        final long tStart = System.nanoTime();
+        try {
+            this.action.sync();
+        } catch (IOException e) {
+            log.log(Level.WARNING, "IO Exception during sync with policy " + this.policy + ". Check Stacktrace",e);
+            return;
+        }
+        final long tEnd = System.nanoTime();
+        this.lastSync = tEnd;
+        this.lastSyncEnd = tEnd;
+        this.syncCount.incrementAndGet();
+        this.syncedBytes.addAndGet(bytes);
+        this.totalSyncNanos.addAndGet(tEnd - tStart);
+        long max = this.maxSyncNanos.get();
+        while(tEnd - tStart > max && !this.maxSyncNanos.compareAndSet(max, tEnd - tStart)){
+            max = this.maxSyncNanos.get();
+        }
+        if(this.syncTimer != null){
+            synchronized (this.syncTimer){
+                this.syncTimer.addNewMeasurement(new Measurement(Durability.class.getName(),
+                        (int) Math.min(bytes, Integer.MAX_VALUE),tStart,tEnd));
+            }
+        }
+    }
+
+    private void startSyncer(){
+        this.syncerAlive = true;
+        this.syncer = new Thread(() -> {
+            while(true){
+                final long target;
+                final long bytes;
+                synchronized (this.lock){
+                    try {
+                        while(this.syncerAlive && this.requestedBytes == this.durableBytes){
+                            this.lock.wait();
+                        }
+                        if(!this.syncerAlive)
+                            return;
+                        //coalescing window for further commits, every commit notifies the lock
+                        final long deadline = System.nanoTime() + this.parameter * 1000000L;
+                        long left = deadline - System.nanoTime();
+                        while(this.syncerAlive && left > 0){
+                            this.lock.wait(Math.max(1, left / 1000000L));
+                            left = deadline - System.nanoTime();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    target = this.requestedBytes;
+                    bytes = this.pendingBytes.getAndSet(0);
+                }
+                this.sync(bytes); //commits that arrive meanwhile wait for the next sync
+                synchronized (this.lock){
+                    this.durableBytes = target; //a failed sync is logged and releases its commits as well
+                    this.lock.notifyAll();
+                }
+            }
+        }, "Durability-GroupCommit");
+        this.syncer.setDaemon(true);
+        this.syncer.start();
+    }
+
+    /**
+     * Stop the background syncer and force the remaining bytes onto the device.
+     * Waiting commits are released and covered by the final sync.
+     * Call this before the writer closes its file.
+     */
+    public void close(){
+        if(this.syncer != null){
+            this.syncerAlive = false;
+            synchronized (this.lock){
+                this.lock.notifyAll();
+            }
+            try {
+                this.syncer.join();
+            } catch (InterruptedException e) {
+                log.log(Level.WARNING, "Interrupted while stopping the group commit syncer.",e);
+                Thread.currentThread().interrupt();
+            }
+            this.syncer = null;
+        }
+        if(this.policy != DurabilityPolicy.None && this.action != null && this.pendingBytes.get() > 0)
+            this.sync();
+    }
+
+    private Map<String, Float> evaluate(){
+        final Map<String, Float> response = new HashMap<>();
+        final long count = this.syncCount.get();
+        response.put("syncCount", (float) count);
+        response.put("syncedBytes", (float) this.syncedBytes.get());
+        response.put("avgSyncLatencyMs", count == 0 ? 0f : this.totalSyncNanos.get() / (float) count / 1000000f);
+        response.put("maxSyncLatencyMs", this.maxSyncNanos.get() / 1000000f);
+        if(this.policy == DurabilityPolicy.GroupCommit)
+            response.put("commitsPerSync", count == 0 ? 0f : this.commitCount.get() / (float) count);
+        if(this.lastSyncEnd > this.firstWrite && this.firstWrite != 0){
+            final double seconds = (this.lastSyncEnd - this.firstWrite) / 1e9;
+            response.put("durableMegaBytesPerSecond", (float) (this.syncedBytes.get() / seconds / (1024 * 1024)));
+        }
+        return response;
+    }
+
+    /**
+     * write the sync series next to the writer evaluation.
+     * @param path test name / path that the writer uses
+     */
+    public void printEvaluationData(final String path){
+        if(this.syncTimer != null && !this.syncTimer.getData().isEmpty())
+            PerformanceTimerHelper.createEvaluationData(path,"writer-sync",this.syncTimer);
+    }
+
+    /**
+     * get the applied policy.
+     * @return policy
+     */
+    public DurabilityPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * get the applied parameter.
+     * @return parameter incl. defaults
+     */
+    public long getParameter() {
+        return parameter;
+    }
+
+    /**
+     * get the count of done syncs.
+     * @return sync count
+     */
+    public long getSyncCount() {
+        return this.syncCount.get();
+    }
+
+    /**
+     * get the count of bytes that were forced onto the device.
+     * @return synced bytes
+     */
+    public long getSyncedBytes() {
+        return this.syncedBytes.get();
+    }
+
+    /**
+     * Action that forces the written data of a writer onto the device.
+     */
+    @FunctionalInterface
+    public interface SyncAction {
+        /**
+         * force written data onto the device.
+         * @throws IOException on sync errors
+         */
+        void sync() throws IOException;
+    }
+}
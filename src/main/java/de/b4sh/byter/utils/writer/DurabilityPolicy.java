@@ -0,0 +1,64 @@
+/*
+ * File: DurabilityPolicy
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Enum
+ */
+package de.b4sh.byter.utils.writer;
+
+/**
+ * ENum for durability policies.
+ * Decides when a writer forces its written data from the page cache onto the device.
+ */
+public enum DurabilityPolicy {
+    None("none"),
+    EveryBytes("byte"),
+    EveryMillis("time"),
+    PerWrite("each"),
+    GroupCommit("grpc");
+
+    private final String key;
+
+    /**
+     * Constructor for Enum Key.
+     * @param value key to present.
+     */
+    DurabilityPolicy(final String value) {
+        this.key = value;
+    }
+
+    /**
+     * Get a String List of all possible Options.
+     * @return String with a list content
+     */
+    public static String getOptionList(){
+        final StringBuilder sb = new StringBuilder();
+        sb.append("You passed a wrong Durability Policy. Please chose one of those. \n");
+        for(DurabilityPolicy n: DurabilityPolicy.values()){
+            sb.append(n.name()); sb.append(" | key: "); sb.append(n.getKey()); sb.append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * get key of policy.
+     * @return String
+     */
+    public String getKey(){
+        return this.key;
+    }
+
+    /**
+     * get the policy for a key.
+     * @param key key of the policy
+     * @return policy | None (unknown or null key)
+     */
+    public static DurabilityPolicy fromKey(final String key){
+        for(DurabilityPolicy dp: DurabilityPolicy.values()){
+            if(dp.getKey().equals(key))
+                return dp;
+        }
+        return None;
+    }
+}
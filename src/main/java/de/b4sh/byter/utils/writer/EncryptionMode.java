@@ -0,0 +1,74 @@
+/*
+ * File: EncryptionMode
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Enum
+ */
+package de.b4sh.byter.utils.writer;
+
+/**
+ * ENum for cipher modes of the WriterEncrypting.
+ * Ctr - AES in counter mode, output has the size of the input.
+ * Gcm - AES in galois counter mode, every block gets an authentication tag of TAG_LENGTH bytes.
+ */
+public enum EncryptionMode {
+    Ctr("ctr","AES/CTR/NoPadding"),
+    Gcm("gcm","AES/GCM/NoPadding");
+
+    public static final int TAG_LENGTH = 16;
+    private final String key;
+    private final String transformation;
+
+    /**
+     * Constructor for Enum Key.
+     * @param value key to present.
+     * @param transformation JCE transformation of the mode
+     */
+    EncryptionMode(final String value, final String transformation) {
+        this.key = value;
+        this.transformation = transformation;
+    }
+
+    /**
+     * Get a String List of all possible Options.
+     * @return String with a list content
+     */
+    public static String getOptionList(){
+        final StringBuilder sb = new StringBuilder();
+        sb.append("You passed a wrong Encryption Mode. Please chose one of those. \n");
+        for(EncryptionMode n: EncryptionMode.values()){
+            sb.append(n.name()); sb.append(" | key: "); sb.append(n.getKey()); sb.append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * get key of mode.
+     * @return String
+     */
+    public String getKey(){
+        return this.key;
+    }
+
+    /**
+     * get the JCE transformation of the mode.
+     * @return String for Cipher.getInstance
+     */
+    public String getTransformation(){
+        return this.transformation;
+    }
+
+    /**
+     * get the mode for a key.
+     * @param key key of the mode
+     * @return mode | Ctr (unknown or null key)
+     */
+    public static EncryptionMode fromKey(final String key){
+        for(EncryptionMode em: EncryptionMode.values()){
+            if(em.getKey().equals(key))
+                return em;
+        }
+        return Ctr;
+    }
+}
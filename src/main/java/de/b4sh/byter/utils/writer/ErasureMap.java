@@ -0,0 +1,232 @@
+/*
+ * File: ErasureMap
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.writer;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.gson.Gson;
+
+import de.b4sh.byter.utils.data.ReedSolomon;
+import de.b4sh.byter.utils.measurements.Measurement;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+
+/**
+ * POJO Class for the shard map of the WriterErasureCoded.
+ * Stripe n of the stream is shard n of every shard file, each shard file holds shardSize bytes per stripe.
+ * The first dataShards files hold the data, the last stripe is padded with zeros up to a full stripe.
+ * Shards the writer failed to write are listed in failedShards and treated as missing on reconstruct.
+ */
+public final class ErasureMap {
+
+    private static final Logger log = Logger.getLogger(ErasureMap.class.getName());
+    private final int dataShards;
+    private final int parityShards;
+    private final int shardSize;
+    private final long totalBytes;
+    private final List<String> shards;
+    private final List<Integer> failedShards;
+
+    /**
+     * Constructor.
+     * @param dataShards count of data shards
+     * @param parityShards count of parity shards
+     * @param shardSize bytes of a single shard of a stripe
+     * @param totalBytes length of the whole stream
+     * @param shards absolute paths of the shard files, data shards first
+     * @param failedShards indices of the shards the writer failed to write (nullable)
+     */
+    public ErasureMap(final int dataShards, final int parityShards, final int shardSize, final long totalBytes,
+                      final List<String> shards, final List<Integer> failedShards) {
+        this.dataShards = dataShards;
+        this.parityShards = parityShards;
+        this.shardSize = shardSize;
+        this.totalBytes = totalBytes;
+        this.shards = shards;
+        this.failedShards = failedShards;
+    }
+
+    /**
+     * Read a shard map from disc.
+     * @param mapFile file with the shard map
+     * @return ErasureMap | null on read errors
+     */
+    public static ErasureMap read(final File mapFile){
+        try {
+            final String json = new String(Files.readAllBytes(mapFile.toPath()), StandardCharsets.UTF_8);
+            return new Gson().fromJson(json,ErasureMap.class);
+        } catch (IOException e) {
+            log.log(Level.WARNING, "IO Exception while reading the shard map " + mapFile.getName(),e);
+            return null;
+        }
+    }
+
+    /**
+     * Write this shard map to disc.
+     * @param mapFile file to write to
+     */
+    public void write(final File mapFile){
+        try(
+            final BufferedOutputStream outputStream = new BufferedOutputStream(new FileOutputStream(mapFile))
+        ){
+            outputStream.write(new Gson().toJson(this).getBytes(StandardCharsets.UTF_8));
+            outputStream.flush();
+        } catch (IOException e) {
+            log.log(Level.WARNING, "IO Exception while writing the shard map " + mapFile.getName(),e);
+        }
+    }
+
+    /**
+     * Rebuild the original stream out of the shard files. Up to parityShards shards may be missing, a shard is missing
+     * if its file doesn't exist or can't be opened, if it is shorter than the stream needs or if the writer failed it.
+     * @param target file to write the stream to
+     * @param timer timer that collects the decode time of every stripe (nullable)
+     * @return count of shards that were missing
+     * @throws IOException on read or write errors or if more than parityShards shards are missing
+     */
+    public int reconstruct(final File target, final PerformanceTimer timer) throws IOException {
+        final int total = this.dataShards + this.parityShards;
+        final InputStream[] inputs = new InputStream[total];
+        final boolean[] present = new boolean[total];
+        final long stripeSize = (long) this.dataShards * this.shardSize;
+        final long stripes = (this.totalBytes + stripeSize - 1) / stripeSize;
+        int missing = 0;
+        try {
+            for(int i = 0; i < total; i++){
+                final File shard = new File(this.shards.get(i));
+                present[i] = (this.failedShards == null || !this.failedShards.contains(i))
+                        && shard.isFile() && shard.length() >= stripes * this.shardSize;
+                if(present[i]){
+                    try {
+                        inputs[i] = new FileInputStream(shard);
+                    } catch (IOException e) {
+                        log.log(Level.WARNING, "Shard file " + shard.getName() + " can't be opened, it is rebuilt.",e);
+                        present[i] = false;
+                    }
+                }
+                if(!present[i])
+                    missing++;
+            }
+            if(missing > this.parityShards)
+                throw new IOException(missing + " shards are missing, only " + this.parityShards + " can be rebuilt.");
+            this.decode(target, timer, inputs, present);
+        } finally {
+            for(InputStream in: inputs){
+                if(in != null)
+                    in.close();
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Decode the stripes out of the present shards and write the data shards to the target.
+     * @param target file to write the stream to
+     * @param timer timer that collects the decode time of every stripe (nullable)
+     * @param inputs opened shard files, null for missing shards
+     * @param present which shards hold valid data
+     * @throws IOException on read or write errors
+     */
+    private void decode(final File target, final PerformanceTimer timer, final InputStream[] inputs,
+                        final boolean[] present) throws IOException {
+        final int total = this.dataShards + this.parityShards;
+        final ReedSolomon codec = new ReedSolomon(this.dataShards, this.parityShards);
+        final byte[][] stripe = new byte[total][this.shardSize];
+        try(
+            final BufferedOutputStream outputStream = new BufferedOutputStream(new FileOutputStream(target))
+        ){
+            long remaining = this.totalBytes;
+            while(remaining > 0){
+                for(int i = 0; i < total; i++){
+                    if(present[i])
+                        readShard(inputs[i], stripe[i], this.shards.get(i));
+                }
+                final long tStart = System.nanoTime();
+                codec.decodeMissing(stripe, present, this.shardSize);
+                final long tEnd = System.nanoTime();
+                final int length = (int) Math.min((long) this.dataShards * this.shardSize, remaining);
+                if(timer != null)
+                    timer.addNewMeasurement(new Measurement(ErasureMap.class.getName(),length,tStart,tEnd));
+                int written = 0;
+                for(int i = 0; i < this.dataShards && written < length; i++){
+                    final int part = Math.min(this.shardSize, length - written);
+                    outputStream.write(stripe[i],0,part);
+                    written += part;
+                }
+                remaining -= length;
+            }
+        }
+    }
+
+    private static void readShard(final InputStream in, final byte[] shard, final String path) throws IOException {
+        int read = 0;
+        while(read < shard.length){
+            final int r = in.read(shard,read,shard.length - read);
+            if(r < 0)
+                throw new IOException("Shard file " + path + " ended before the stream was complete.");
+            read += r;
+        }
+    }
+
+    /**
+     * get the count of data shards.
+     * @return count
+     */
+    public int getDataShards() {
+        return dataShards;
+    }
+
+    /**
+     * get the count of parity shards.
+     * @return count
+     */
+    public int getParityShards() {
+        return parityShards;
+    }
+
+    /**
+     * get the size of a single shard of a stripe.
+     * @return shard size in bytes
+     */
+    public int getShardSize() {
+        return shardSize;
+    }
+
+    /**
+     * get the length of the whole stream.
+     * @return bytes
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * get the paths of the shard files, data shards first.
+     * @return list of absolute paths
+     */
+    public List<String> getShards() {
+        return shards;
+    }
+
+    /**
+     * get the indices of the shards the writer failed to write.
+     * @return list of indices | null for maps without failed shards information
+     */
+    public List<Integer> getFailedShards() {
+        return failedShards;
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * File: OrderedBlockProcessor
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.writer;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import de.b4sh.byter.utils.measurements.Measurement;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+
+/**
+ * Ordered parallel block processing of the decorating writers.
+ * The stream is cut into blocks of blockSize, every block is transformed on a ForkJoinPool and the results are handed
+ * in stream order to the sink on the calling thread. At most twice the parallelism of blocks are in flight, the oldest
+ * one is drained before another block is submitted. Full blocks are recycled after the sink handled them.
+ * Not thread safe, the writer that owns the processor calls write and flush from a single thread.
+ * @param <R> result of the transform of a block
+ */
+final class OrderedBlockProcessor<R> {
+
+    private final int blockSize;
+    private final ForkJoinPool pool;
+    private final int maxInFlight;
+    private final ArrayDeque<ForkJoinTask<Processed<R>>> inFlight;
+    private final ArrayDeque<byte[]> freeBlocks;
+    private final Transform<R> transform;
+    private final Sink<R> sink;
+    private final PerformanceTimer blockTimer;
+    private final String measurementName;
+    private byte[] current;
+    private int currentLength;
+    private long blockIndex;
+    private long blockCount;
+    private long transformNanos;
+    private long waitNanos;
+    private long sinkNanos;
+
+    /**
+     * Constructor.
+     * @param blockSize size of a block
+     * @param threads threads of the pool (0 or below for one per core)
+     * @param transform transform of a block, runs on the pool
+     * @param sink receives the results in stream order, runs on the calling thread
+     * @param blockTimer timer for the transform time of every block (nullable)
+     * @param measurementName name of the block measurements
+     */
+    OrderedBlockProcessor(final int blockSize, final int threads, final Transform<R> transform, final Sink<R> sink,
+                          final PerformanceTimer blockTimer, final String measurementName) {
+        this.blockSize = blockSize;
+        this.pool = new ForkJoinPool(threads <= 0 ? Runtime.getRuntime().availableProcessors() : threads);
+        this.maxInFlight = this.pool.getParallelism() * 2; //keep every worker busy while the oldest block is drained
+        this.inFlight = new ArrayDeque<>();
+        this.freeBlocks = new ArrayDeque<>();
+        this.transform = transform;
+        this.sink = sink;
+        this.blockTimer = blockTimer;
+        this.measurementName = measurementName;
+    }
+
+    /**
+     * Copy the data into the current block and submit full blocks.
+     * @param bytes byte array
+     * @param length count of valid bytes inside the array
+     */
+    void write(final byte[] bytes, final int length){
+        int copied = 0;
+        while(copied < length){
+            if(this.current == null){
+                this.current = this.freeBlocks.isEmpty() ? new byte[this.blockSize] : this.freeBlocks.poll();
+                this.currentLength = 0;
+            }
+            final int part = Math.min(this.blockSize - this.currentLength, length - copied);
+            System.arraycopy(bytes,copied,this.current,this.currentLength,part);
+            this.currentLength += part;
+            copied += part;
+            if(this.currentLength == this.blockSize)
+                this.submitCurrent();
+        }
+    }
+
+    /**
+     * Submit the current block and drain the oldest blocks if too many are in flight.
+     */
+    private void submitCurrent(){
+        final byte[] block = this.current;
+        final int length = this.currentLength;
+        final long index = this.blockIndex++;
+        this.current = null;
+        this.inFlight.add(this.pool.submit(() -> {
+            final long tStart = System.nanoTime();
+            final R result = this.transform.apply(block,length,index);
+            return new Processed<>(block,length,result,tStart,System.nanoTime());
+        }));
+        while(this.inFlight.size() > this.maxInFlight){
+            this.drainOldest();
+        }
+    }
+
+    /**
+     * Wait for the oldest block, hand it to the sink and recycle it.
+     */
+    private void drainOldest(){
+        final ForkJoinTask<Processed<R>> task = this.inFlight.poll();
+        final long tWait = System.nanoTime();
+        final Processed<R> processed = task.join();
+        final long tSink = System.nanoTime();
+        this.sink.accept(processed.block,processed.length,processed.result);
+        this.sinkNanos += System.nanoTime() - tSink;
+        this.waitNanos += tSink - tWait;
+        this.blockCount++;
+        this.transformNanos += processed.tEnd - processed.tStart;
+        if(this.blockTimer != null)
+            this.blockTimer.addNewMeasurement(new Measurement(this.measurementName,processed.length,processed.tStart,processed.tEnd));
+        this.freeBlocks.offer(processed.block);
+    }
+
+    /**
+     * Submit the last partly filled block and drain every block in flight.
+     */
+    void flush(){
+        if(this.current != null && this.currentLength > 0)
+            this.submitCurrent();
+        while(!this.inFlight.isEmpty()){
+            this.drainOldest();
+        }
+    }
+
+    /**
+     * Stop the pool, blocks in flight are not drained.
+     */
+    void shutdown(){
+        this.pool.shutdown();
+    }
+
+    /**
+     * get the size of a block.
+     * @return bytes
+     */
+    int getBlockSize() {
+        return this.blockSize;
+    }
+
+    /**
+     * get the thread count of the pool.
+     * @return threads
+     */
+    int getParallelism() {
+        return this.pool.getParallelism();
+    }
+
+    /**
+     * get the count of blocks handed to the sink.
+     * @return count
+     */
+    long getBlockCount() {
+        return this.blockCount;
+    }
+
+    /**
+     * get the summed transform time of the drained blocks.
+     * @return nanoseconds
+     */
+    long getTransformNanos() {
+        return this.transformNanos;
+    }
+
+    /**
+     * get the time spent waiting for the oldest block.
+     * @return nanoseconds
+     */
+    long getWaitNanos() {
+        return this.waitNanos;
+    }
+
+    /**
+     * get the time spent inside the sink.
+     * @return nanoseconds
+     */
+    long getSinkNanos() {
+        return this.sinkNanos;
+    }
+
+    /**
+     * Transform of a single block.
+     * @param <R> result
+     */
+    interface Transform<R> {
+        /**
+         * Runs on the pool.
+         * @param block block, the bytes behind length are left over from a previous block
+         * @param length count of valid bytes in the block
+         * @param index index of the block in the stream
+         * @return result that is handed to the sink
+         */
+        R apply(byte[] block, int length, long index);
+    }
+
+    /**
+     * Receiver of the transformed blocks.
+     * @param <R> result
+     */
+    interface Sink<R> {
+        /**
+         * Runs on the writing thread, in stream order.
+         * @param block block, recycled after the call
+         * @param length count of valid bytes in the block
+         * @param result result of the transform
+         */
+        void accept(byte[] block, int length, R result);
+    }
+
+    /**
+     * Block with the result of its transform.
+     */
+    private static final class Processed<R> {
+        private final byte[] block;
+        private final int length;
+        private final R result;
+        private final long tStart;
+        private final long tEnd;
+
+        Processed(final byte[] block, final int length, final R result, final long tStart, final long tEnd) {
+            this.block = block;
+            this.length = length;
+            this.result = result;
+            this.tStart = tStart;
+            this.tEnd = tEnd;
+        }
+    }
+}
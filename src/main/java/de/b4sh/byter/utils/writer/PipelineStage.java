@@ -0,0 +1,78 @@
+/*
+ * File: PipelineStage
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Enum
+ */
+package de.b4sh.byter.utils.writer;
+
+/**
+ * ENum for the intermediate stages of a WriterPipeline.
+ * The keys of the decorating stages are the keys of their WriterType.
+ * Combining - transform stage, coalesces small chunks into adaptive blocks (WriterCombining)
+ * Checksumming - checksum stage, crc sidecar next to the data file (WriterChecksumming)
+ * Compressing - compress stage, parallel deflate blocks (WriterCompressing)
+ * EncryptingCtr / EncryptingGcm - encrypt stage, parallel aes blocks (WriterEncrypting)
+ * Queue - bounded workpile, the following stages run on their own thread (WriterWorkpile)
+ */
+public enum PipelineStage {
+    Combining("wcmb"),
+    Checksumming("crcw"),
+    Compressing("defl"),
+    EncryptingCtr("aesc"),
+    EncryptingGcm("aesg"),
+    Queue("queue");
+
+    private final String key;
+
+    /**
+     * Constructor for Enum Key.
+     * @param value key to present.
+     */
+    PipelineStage(final String value) {
+        this.key = value;
+    }
+
+    /**
+     * Get a String List of all possible Options.
+     * @return String with a list content
+     */
+    public static String getOptionList(){
+        final StringBuilder sb = new StringBuilder();
+        sb.append("You passed a wrong Pipeline Stage. Please chose one of those, the last entry has to be a Writer Type key. \n");
+        for(PipelineStage n: PipelineStage.values()){
+            sb.append(n.name()); sb.append(" | key: "); sb.append(n.getKey()); sb.append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * get key of stage.
+     * @return String
+     */
+    public String getKey(){
+        return this.key;
+    }
+
+    /**
+     * check if the stage changes the data on its way to the sink.
+     * @return true for compressing and encrypting stages
+     */
+    public boolean isTransforming(){
+        return this == Compressing || this == EncryptingCtr || this == EncryptingGcm;
+    }
+
+    /**
+     * get the stage for a key.
+     * @param key key of the stage
+     * @return stage | null (unknown or null key)
+     */
+    public static PipelineStage fromKey(final String key){
+        for(PipelineStage ps: PipelineStage.values()){
+            if(ps.getKey().equals(key))
+                return ps;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * File: ReplicationMode
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Enum
+ */
+package de.b4sh.byter.utils.writer;
+
+/**
+ * ENum for replication modes of the WriterTransfer.
+ * Decides how an existing file is copied to its target.
+ */
+public enum ReplicationMode {
+    TransferTo("xto"),
+    TransferFrom("xfrm"),
+    Buffered("buff");
+
+    private final String key;
+
+    /**
+     * Constructor for Enum Key.
+     * @param value key to present.
+     */
+    ReplicationMode(final String value) {
+        this.key = value;
+    }
+
+    /**
+     * Get a String List of all possible Options.
+     * @return String with a list content
+     */
+    public static String getOptionList(){
+        final StringBuilder sb = new StringBuilder();
+        sb.append("You passed a wrong Replication Mode. Please chose one of those. \n");
+        for(ReplicationMode n: ReplicationMode.values()){
+            sb.append(n.name()); sb.append(" | key: "); sb.append(n.getKey()); sb.append("\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * get key of mode.
+     * @return String
+     */
+    public String getKey(){
+        return this.key;
+    }
+
+    /**
+     * get the mode for a key.
+     * @param key key of the mode
+     * @return mode | TransferTo (unknown or null key)
+     */
+    public static ReplicationMode fromKey(final String key){
+        for(ReplicationMode rm: ReplicationMode.values()){
+            if(rm.getKey().equals(key))
+                return rm;
+        }
+        return TransferTo;
+    }
+}
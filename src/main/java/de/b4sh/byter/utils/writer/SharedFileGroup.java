@@ -0,0 +1,331 @@
+/*
+ * File: SharedFileGroup
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.writer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.io.IoHintProfile;
+import de.b4sh.byter.utils.io.IoHints;
+import de.b4sh.byter.utils.io.ThreadManager;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.measurements.PerformanceTimerHelper;
+
+/**
+ * Group of writers that append to one shared file.
+ * Every member reserves the range of a write with a fetch and add on the shared end of file offset and writes
+ * it with a positional FileChannel.write. The contention shows as the time every member spends in reservation and write.
+ * Writes complete out of reservation order, the I/O hints only follow the completed contiguous range of the file.
+ * The file is closed and the evaluation data is printed once the last member finished.
+ * The evaluation contains the aggregated throughput of the group and the throughput of every single member,
+ * compared over runs with different member counts this shows where a single file stops scaling.
+ */
+public final class SharedFileGroup {
+
+    private static final Logger log = Logger.getLogger(SharedFileGroup.class.getName());
+    private final File writeFile;
+    private final String fileName;
+    private final PerformanceTimer pt;
+    private final List<WriterSharedFile> members;
+    private final AtomicLong nextOffset;
+    private final AtomicLong reservations;
+    private final AtomicInteger openMembers;
+    //completed contiguous range
+    private final Object completionLock;
+    private final TreeMap<Long, Long> completedRanges; //guarded by completionLock, start -> end behind a gap
+    private long completedUntil; //guarded by completionLock
+    private FileChannel channel;
+    private volatile Durability durability = Durability.NONE;
+    private volatile IoHints hints = IoHints.NONE;
+    private volatile boolean closed;
+    private boolean automaticFileRemoval;
+
+    /**
+     * Constructor for a group without measurements.
+     * @param memberCount count of writers that share the file
+     * @param fileToWriteTo shared file
+     */
+    public SharedFileGroup(final int memberCount, final File fileToWriteTo) {
+        this(memberCount,fileToWriteTo,null);
+    }
+
+    /**
+     * Constructor for a group.
+     * @param memberCount count of writers that share the file (at least 1)
+     * @param fileToWriteTo shared file
+     * @param timer timer that collects the measurements of all members
+     */
+    public SharedFileGroup(final int memberCount, final File fileToWriteTo, final PerformanceTimer timer) {
+        this.writeFile = fileToWriteTo;
+        this.fileName = fileToWriteTo.getName();
+        this.pt = timer;
+        this.automaticFileRemoval = true;
+        this.reservations = new AtomicLong(0);
+        this.nextOffset = new AtomicLong(0);
+        this.completionLock = new Object();
+        this.completedRanges = new TreeMap<>();
+        try {
+            this.channel = FileChannel.open(fileToWriteTo.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            this.nextOffset.set(this.channel.size()); //append to existing data like the other writers
+            this.completedUntil = this.channel.size();
+        } catch (IOException e) {
+            log.log(Level.WARNING,"IO Exception during init of SharedFileGroup. Check Stacktrace for details.",e);
+        }
+        final int count = Math.max(1, memberCount);
+        final List<WriterSharedFile> list = new ArrayList<>(count);
+        for(int i = 0; i < count; i++){
+            list.add(new WriterSharedFile(this,i));
+        }
+        this.members = Collections.unmodifiableList(list);
+        this.openMembers = new AtomicInteger(count);
+        if(this.pt != null)
+            this.pt.addEvaluator(perfTimer -> {
+                final Map<String, Float> response = new HashMap<>();
+                long bytes = 0;
+                long tFirst = Long.MAX_VALUE;
+                long tLast = Long.MIN_VALUE;
+                float memberMegaBytesPerSecond = 0;
+                long reserveNanos = 0;
+                long writeNanos = 0;
+                for(WriterSharedFile member: this.members){
+                    final String prefix = "sharedFileThread" + member.getMemberIndex();
+                    response.put(prefix + "Bytes", (float) member.getWrittenBytes());
+                    response.put(prefix + "MegaBytesPerSecond", member.getMegaBytesPerSecond());
+                    response.put(prefix + "AvgWriteLatencyMs", member.getAvgWriteLatencyMs());
+                    response.put(prefix + "MaxWriteLatencyMs", member.getMaxWriteNanos() / 1000000f);
+                    response.put(prefix + "ReservationMs", member.getReserveNanos() / 1000000f);
+                    response.put(prefix + "WriteMs", member.getWriteNanos() / 1000000f);
+                    memberMegaBytesPerSecond += member.getMegaBytesPerSecond();
+                    reserveNanos += member.getReserveNanos();
+                    writeNanos += member.getWriteNanos();
+                    if(member.getWrittenBytes() > 0){
+                        bytes += member.getWrittenBytes();
+                        tFirst = Math.min(tFirst, member.getFirstWriteNanos());
+                        tLast = Math.max(tLast, member.getLastWriteNanos());
+                    }
+                }
+                response.put("sharedFileThreads", (float) this.members.size());
+                response.put("sharedFileReservations", (float) this.reservations.get());
+                response.put("sharedFileReservationMs", reserveNanos / 1000000f);
+                response.put("sharedFileWriteMs", writeNanos / 1000000f);
+                response.put("sharedFileMemberMegaBytesPerSecondSum", memberMegaBytesPerSecond);
+                if(bytes > 0 && tLast > tFirst)
+                    response.put("sharedFileMegaBytesPerSecond", (float) (bytes / ((tLast - tFirst) / 1e9) / (1024 * 1024)));
+                return response;
+            });
+    }
+
+    /**
+     * Reserve a range at the end of the shared file.
+     * @param length length of the range
+     * @return start position of the range
+     */
+    long reserve(final long length){
+        this.reservations.incrementAndGet();
+        return this.nextOffset.getAndAdd(length);
+    }
+
+    /**
+     * Write the buffer to its reserved range.
+     * @param buffer data to write
+     * @param position start of the reserved range
+     * @throws IOException on write errors
+     */
+    void write(final ByteBuffer buffer, final long position) throws IOException {
+        final int length = buffer.remaining();
+        long current = position;
+        while(buffer.hasRemaining()){
+            current += this.channel.write(buffer, current);
+        }
+        this.durability.onWrite(length);
+        final long completed = this.complete(position, position + length);
+        if(completed > 0)
+            this.hints.onWrite(completed); //the hints only ever cover written ranges
+    }
+
+    /**
+     * Mark a range as written and move the completed contiguous range forward.
+     * A range behind a gap (an earlier reservation still being written) is kept until the gap is filled.
+     * @param start start of the written range
+     * @param end end of the written range
+     * @return bytes the completed contiguous range grew by
+     */
+    private long complete(final long start, final long end){
+        if(start == end)
+            return 0;
+        synchronized (this.completionLock){
+            if(start != this.completedUntil){
+                this.completedRanges.put(start, end);
+                return 0;
+            }
+            final long before = this.completedUntil;
+            this.completedUntil = end;
+            Long next;
+            while((next = this.completedRanges.remove(this.completedUntil)) != null){
+                this.completedUntil = next;
+            }
+            return this.completedUntil - before;
+        }
+    }
+
+    /**
+     * Called by every member on its finish. The last one closes the file.
+     */
+    void memberFinished(){
+        if(this.openMembers.decrementAndGet() != 0)
+            return;
+        log.log(Level.INFO, "Finish SharedFileGroup \n AutomaticFileRemoval: "
+                + this.automaticFileRemoval +" -|- File Existing: " + this.writeFile.exists());
+        if(this.channel != null){
+            try {
+                this.durability.close();
+                this.channel.close();
+                this.hints.close();
+            } catch (IOException e) {
+                log.log(Level.WARNING, "IO Exception on closing FileChannel.");
+            }
+        }
+        ThreadManager.nap(125); //wait 125ms for the writer to close the stream and everthing
+        if(this.writeFile.exists() && this.automaticFileRemoval){
+            log.log(Level.INFO, "Removing DataFile from SharedFileGroup Test.");
+            FileManager.removeFile(this.writeFile);
+        }
+        this.closed = true;
+        if(this.pt != null)
+            this.printEvaluationData();
+    }
+
+    /**
+     * print the evaluation data of the whole group.
+     */
+    public void printEvaluationData(){
+        log.log(Level.INFO,"Server passing logged measurements to file!");
+        final String path;
+        if(this.fileName.contains(".")){
+            path = this.fileName.split("\\.")[0];
+        }else{
+            path = this.fileName;
+        }
+        if(this.pt != null){
+            synchronized (this.pt){
+                PerformanceTimerHelper.createEvaluationData(path,"writer",this.pt);
+            }
+        }
+        this.durability.printEvaluationData(path);
+    }
+
+    /**
+     * get the writers of this group - one per thread.
+     * @return unmodifiable list of members
+     */
+    public List<WriterSharedFile> getMembers() {
+        return this.members;
+    }
+
+    /**
+     * check if the channel is open.
+     * @return true | false
+     */
+    boolean isOpen(){
+        return this.channel != null && !this.closed;
+    }
+
+    /**
+     * check if every member finished and the file is closed.
+     * @return true | false
+     */
+    public boolean isClosed() {
+        return this.closed;
+    }
+
+    /**
+     * get the count of range reservations.
+     * @return reservations
+     */
+    public long getReservations() {
+        return this.reservations.get();
+    }
+
+    /**
+     * get the end of the completed contiguous range of the file.
+     * @return offset up to which every reserved range is written
+     */
+    public long getCompletedOffset() {
+        synchronized (this.completionLock){
+            return this.completedUntil;
+        }
+    }
+
+    /**
+     * get the timer shared by all members.
+     * @return PerformanceTimer or null
+     */
+    public PerformanceTimer getTimer() {
+        return this.pt;
+    }
+
+    /**
+     * get the name of the shared file.
+     * @return file name
+     */
+    public String getFileName() {
+        return this.fileName;
+    }
+
+    /**
+     * get the automatic file removal flag.
+     * @return true | false
+     */
+    public boolean getAutomaticFileRemoval() {
+        return this.automaticFileRemoval;
+    }
+
+    /**
+     * set the automatic file removal flag.
+     * @param flag true | false
+     */
+    public void setAutomaticFileRemoval(final boolean flag) {
+        this.automaticFileRemoval = flag;
+    }
+
+    /**
+     * set the durability policy of the shared file.
+     * @param policy policy to use
+     * @param parameter policy parameter (0 for the policy default)
+     * @param syncTimer timer that collects the sync measurements (nullable)
+     */
+    public void setDurabilityPolicy(final DurabilityPolicy policy, final long parameter, final PerformanceTimer syncTimer) {
+        this.durability.close();
+        this.durability = new Durability(policy,parameter,syncTimer,() -> this.channel.force(false));
+    }
+
+    /**
+     * set the native I/O hint profile of the shared file.
+     * @param profile profile to use
+     * @param parameter bytes of a hint window (0 for the default)
+     */
+    public void setIoHints(final IoHintProfile profile, final long parameter) {
+        this.hints.close();
+        this.hints = new IoHints(profile,parameter,this.writeFile,true,this.pt);
+        this.hints.onOpen();
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * File: StripeMap
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.writer;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.gson.Gson;
+
+/**
+ * POJO Class for the stripe map of the WriterStriped.
+ * Stripe n of the stream lives in stripe file (n % stripes.size()) at offset (n / stripes.size()) * stripeSize.
+ * Stripe files the writer failed to write completely are listed in failedStripes.
+ */
+public final class StripeMap {
+
+    private static final Logger log = Logger.getLogger(StripeMap.class.getName());
+    private final int stripeSize;
+    private final long totalBytes;
+    private final List<String> stripes;
+    private final List<Integer> failedStripes;
+
+    /**
+     * Constructor.
+     * @param stripeSize size of a single stripe in bytes
+     * @param totalBytes length of the whole stream
+     * @param stripes absolute paths of the stripe files in round robin order
+     * @param failedStripes indices of the stripe files the writer failed to write completely (nullable)
+     */
+    public StripeMap(final int stripeSize, final long totalBytes, final List<String> stripes,
+                     final List<Integer> failedStripes) {
+        this.stripeSize = stripeSize;
+        this.totalBytes = totalBytes;
+        this.stripes = stripes;
+        this.failedStripes = failedStripes;
+    }
+
+    /**
+     * Read a stripe map from disc.
+     * @param mapFile file with the stripe map
+     * @return StripeMap | null on read errors
+     */
+    public static StripeMap read(final File mapFile){
+        try {
+            final String json = new String(Files.readAllBytes(mapFile.toPath()), StandardCharsets.UTF_8);
+            return new Gson().fromJson(json,StripeMap.class);
+        } catch (IOException e) {
+            log.log(Level.WARNING, "IO Exception while reading the stripe map " + mapFile.getName(),e);
+            return null;
+        }
+    }
+
+    /**
+     * Write this stripe map to disc.
+     * @param mapFile file to write to
+     */
+    public void write(final File mapFile){
+        try(
+            final BufferedOutputStream outputStream = new BufferedOutputStream(new FileOutputStream(mapFile))
+        ){
+            outputStream.write(new Gson().toJson(this).getBytes(StandardCharsets.UTF_8));
+            outputStream.flush();
+        } catch (IOException e) {
+            log.log(Level.WARNING, "IO Exception while writing the stripe map " + mapFile.getName(),e);
+        }
+    }
+
+    /**
+     * Reassemble the original stream out of the stripe files.
+     * @param target file to write the stream to
+     * @throws IOException on read or write errors or if a stripe file is incomplete
+     */
+    public void reassemble(final File target) throws IOException {
+        if(this.failedStripes != null && !this.failedStripes.isEmpty())
+            throw new IOException("Stripe files " + this.failedStripes + " were not written completely.");
+        final InputStream[] inputs = new InputStream[this.stripes.size()];
+        try(
+            final BufferedOutputStream outputStream = new BufferedOutputStream(new FileOutputStream(target))
+        ){
+            for(int i = 0; i < inputs.length; i++){
+                inputs[i] = new FileInputStream(this.stripes.get(i));
+            }
+            final byte[] stripe = new byte[this.stripeSize];
+            long remaining = this.totalBytes;
+            int current = 0;
+            while(remaining > 0){
+                final int length = (int) Math.min(this.stripeSize, remaining);
+                int read = 0;
+                while(read < length){
+                    final int r = inputs[current].read(stripe,read,length - read);
+                    if(r < 0)
+                        throw new IOException("Stripe file " + this.stripes.get(current) + " ended before the stream was complete.");
+                    read += r;
+                }
+                outputStream.write(stripe,0,length);
+                remaining -= length;
+                current = (current + 1) % inputs.length;
+            }
+        } finally {
+            for(InputStream in: inputs){
+                if(in != null)
+                    in.close();
+            }
+        }
+    }
+
+    /**
+     * get the size of a single stripe.
+     * @return stripe size in bytes
+     */
+    public int getStripeSize() {
+        return stripeSize;
+    }
+
+    /**
+     * get the length of the whole stream.
+     * @return bytes
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * get the paths of the stripe files in round robin order.
+     * @return list of absolute paths
+     */
+    public List<String> getStripes() {
+        return stripes;
+    }
+
+    /**
+     * get the indices of the stripe files the writer failed to write completely.
+     * @return list of indices | null for maps without failed stripes information
+     */
+    public List<Integer> getFailedStripes() {
+        return failedStripes;
+    }
+}
@@ -2,10 +2,13 @@ package de.b4sh.byter.utils.writer;
 
 import java.io.File;
 import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.io.IoHintProfile;
 import de.b4sh.byter.utils.measurements.Measurement;
 import de.b4sh.byter.utils.measurements.PerformanceTimer;
 import de.b4sh.byter.utils.measurements.PerformanceTimerHelper;
@@ -15,12 +18,16 @@ import de.b4sh.byter.utils.reader.ReaderInterface;
  * Archive alike writer for testing purposes.
  * This simulates a archive write process.
  * For both actions a buffered writer is used.
+ * The index holds a fixed record of INDEX_RECORD_SIZE bytes per chunk: [long start][long stop][long dataOffset].
+ * Records are packed into a reusable batch buffer and handed to the index writer once the batch is full.
  * This is a special type of writer. So its not referenced inside the WriterType.
  * @see de.b4sh.byter.utils.writer.WriterType
  */
 public final class WriterArchival implements WriterInterface,Runnable {
 
     private static Logger log = Logger.getLogger(WriterArchival.class.getName());
+    public static final int INDEX_RECORD_SIZE = 3 * Long.BYTES;
+    public static final int DEFAULT_INDEX_BATCH_ENTRIES = 8192 / INDEX_RECORD_SIZE;
     private final File dataFile;
     private final String fileName;
     private final File indexFile;
@@ -28,7 +35,11 @@ public final class WriterArchival implements WriterInterface,Runnable {
     private final WriterInterface indexWriter;
     private final PerformanceTimer pt;
     private final boolean takeMeasurements;
+    private final ByteBuffer indexBatch;
+    private long dataOffset; //tracked in memory - no stat of the data file per chunk
+    private long indexFlushes;
     private ReaderInterface reader;
+    private PerformanceTimer syncTimer;
     //run parameter
     private byte[] chunk;
     private byte[] edge;
@@ -48,7 +59,9 @@ public final class WriterArchival implements WriterInterface,Runnable {
         this.indexFile = new File(indexFile);
         this.fileName = this.dataFile.getName();
         this.dataWriter = new WriterBuffered(dataWriterBuffer,this.dataFile);
+        this.dataOffset = this.dataFile.length(); //the data writer appends to existing data
         this.indexWriter = new WriterRandomAccessFile(8192, this.indexFile);
+        this.indexBatch = ByteBuffer.allocate(DEFAULT_INDEX_BATCH_ENTRIES * INDEX_RECORD_SIZE);
         this.pt = null;
         this.takeMeasurements = false;
         this.isFinished = false;
@@ -63,15 +76,7 @@ public final class WriterArchival implements WriterInterface,Runnable {
      * @param dataWriterBuffer the size of the dataWriterBuffer
      */
     public WriterArchival(final File dataFile, final File indexFile, final int dataWriterBuffer) {
-        this.dataFile = dataFile;
-        this.indexFile = indexFile;
-        this.fileName = this.dataFile.getName();
-        this.dataWriter = new WriterBuffered(dataWriterBuffer,dataFile);
-        this.indexWriter = new WriterBuffered(8192, indexFile);
-        this.pt = null;
-        this.takeMeasurements = false;
-        this.isFinished = false;
-        this.automaticFileRemove = true;
+        this(dataFile,indexFile,dataWriterBuffer,null,DEFAULT_INDEX_BATCH_ENTRIES,false);
     }
 
     /**
@@ -87,7 +92,9 @@ public final class WriterArchival implements WriterInterface,Runnable {
         this.indexFile = new File(indexFile);
         this.fileName = this.dataFile.getName();
         this.dataWriter = new WriterBuffered(dataWriterBuffer,this.dataFile);
+        this.dataOffset = this.dataFile.length(); //the data writer appends to existing data
         this.indexWriter = new WriterRandomAccessFile(8192, this.indexFile);
+        this.indexBatch = ByteBuffer.allocate(DEFAULT_INDEX_BATCH_ENTRIES * INDEX_RECORD_SIZE);
         this.pt = timer;
         this.takeMeasurements = true;
         this.isFinished = false;
@@ -103,15 +110,42 @@ public final class WriterArchival implements WriterInterface,Runnable {
      * @param timer timer that collects the measurements
      */
     public WriterArchival(final File dataFile, final File indexFile, final int dataWriterBuffer, final PerformanceTimer timer) {
+        this(dataFile,indexFile,dataWriterBuffer,timer,DEFAULT_INDEX_BATCH_ENTRIES,false);
+    }
+
+    /**
+     * Construct an archival alike writer with a configurable index path.
+     * The written data is random generated.
+     * @param dataFile the file to write data to (this needs to be a full file link)
+     * @param indexFile the file to write index data to (this needs to be a full file link)
+     * @param dataWriterBuffer the size of the dataWriterBuffer
+     * @param timer timer that collects the measurements | null
+     * @param indexBatchEntries count of index records collected before they are handed to the index writer
+     * @param mappedIndex true to write the index into a memory mapped file
+     */
+    public WriterArchival(final File dataFile, final File indexFile, final int dataWriterBuffer, final PerformanceTimer timer,
+                          final int indexBatchEntries, final boolean mappedIndex) {
         this.dataFile = dataFile;
         this.indexFile = indexFile;
         this.fileName = this.dataFile.getName();
         this.dataWriter = new WriterBuffered(dataWriterBuffer,dataFile);
-        this.indexWriter = new WriterBuffered(8192, indexFile);
+        this.dataOffset = dataFile.length(); //the data writer appends to existing data
+        if(mappedIndex)
+            this.indexWriter = new WriterMemoryMapped(8192, indexFile);
+        else
+            this.indexWriter = new WriterBuffered(8192, indexFile);
+        this.indexBatch = ByteBuffer.allocate(Math.max(1, indexBatchEntries) * INDEX_RECORD_SIZE);
         this.pt = timer;
-        this.takeMeasurements = true;
+        this.takeMeasurements = timer != null;
         this.isFinished = false;
         this.automaticFileRemove = true;
+        if(this.pt != null)
+            this.pt.addEvaluator(perfTimer -> {
+                final Map<String, Float> response = new HashMap<>();
+                response.put("indexBatchEntries", (float) (this.indexBatch.capacity() / INDEX_RECORD_SIZE));
+                response.put("indexBatchFlushes", (float) this.indexFlushes);
+                return response;
+            });
     }
 
     @Override
@@ -129,35 +163,45 @@ public final class WriterArchival implements WriterInterface,Runnable {
 
     private void handleDataWithMeasurement(final byte[] bytes, final int offset){
         final long tStart = System.nanoTime();
-        //get current file offset
-        final long currentFileOffset = this.dataFile.length();
-        //start timestamp
-        final long start = System.nanoTime();
-        //write data to file
-        this.dataWriter.handleData(bytes,offset);
-        //stop timestamp
-        final long stop = System.nanoTime();
-        //write metadata to index file (offsetWhereDataIsInFile, start, stop)
-        this.indexWriter.handleData(toByteArray(start));
-        this.indexWriter.handleData(toByteArray(stop));
-        this.indexWriter.handleData(toByteArray(currentFileOffset));
+        this.writeData(bytes,offset);
         final long tStop = System.nanoTime();
         pt.addNewMeasurement(new Measurement(WriterArchival.class.getName(),offset,tStart,tStop));
     }
 
     private void handleDataWithoutMeasurement(final byte[] bytes, final int offset){
-        //get current file offset
-        final long currentFileOffset = this.dataFile.length();
+        this.writeData(bytes,offset);
+    }
+
+    /**
+     * Write the data and add its record to the index batch.
+     * @param bytes byte array
+     * @param offset max element of true data inside the array
+     */
+    private void writeData(final byte[] bytes, final int offset){
+        //current file offset
+        final long currentFileOffset = this.dataOffset;
         //start timestamp
         final long start = System.nanoTime();
         //write data to file
         this.dataWriter.handleData(bytes,offset);
         //stop timestamp
         final long stop = System.nanoTime();
-        //write metadata to index file (offsetWhereDataIsInFile, start, stop)
-        this.indexWriter.handleData(toByteArray(start));
-        this.indexWriter.handleData(toByteArray(stop));
-        this.indexWriter.handleData(toByteArray(currentFileOffset));
+        this.dataOffset += offset;
+        //add metadata to index batch (start, stop, offsetWhereDataIsInFile)
+        this.indexBatch.putLong(start).putLong(stop).putLong(currentFileOffset);
+        if(!this.indexBatch.hasRemaining())
+            this.flushIndexBatch();
+    }
+
+    /**
+     * Hand the collected index records to the index writer.
+     */
+    private void flushIndexBatch(){
+        if(this.indexBatch.position() == 0)
+            return;
+        this.indexWriter.handleData(this.indexBatch.array(),this.indexBatch.position());
+        this.indexBatch.clear();
+        this.indexFlushes++;
     }
 
     @Override
@@ -165,6 +209,7 @@ public final class WriterArchival implements WriterInterface,Runnable {
         log.log(Level.INFO, "Finish WriterArchival \n AutomaticFileRemoval: "
                 + automaticFileRemove +" -|- File Existing: " + dataFile.exists());
         this.dataWriter.finish();
+        this.flushIndexBatch();
         this.indexWriter.finish();
         //set finished flag
         this.isFinished = true;
@@ -205,16 +250,6 @@ public final class WriterArchival implements WriterInterface,Runnable {
         return this.pt;
     }
 
-    /**
-     * Cast a long to a byte array.
-     * @param element element to cast
-     */
-    private byte[] toByteArray(final long element){
-        final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
-        buffer.putLong(element);
-        return buffer.array();
-    }
-
     /**
      * set the parameters needed for a run as Thread.
      * @param chunk chunk to write multiple times
@@ -282,5 +317,27 @@ public final class WriterArchival implements WriterInterface,Runnable {
         if(this.pt != null){
             PerformanceTimerHelper.createEvaluationData(path,"writer",this.pt);
         }
+        if(this.syncTimer != null && !this.syncTimer.getData().isEmpty()){
+            PerformanceTimerHelper.createEvaluationData(path,"writer-sync",this.syncTimer);
+        }
+    }
+
+    /**
+     * Set the durability policy for the data and the index file.
+     * Only the syncs of the data file are tracked in the given timer.
+     * @param policy policy to apply
+     * @param parameter policy parameter (0 for the default of the policy)
+     * @param syncTimer timer that collects the sync latencies | null
+     */
+    @Override
+    public void setDurabilityPolicy(final DurabilityPolicy policy, final long parameter, final PerformanceTimer syncTimer) {
+        this.syncTimer = syncTimer;
+        this.dataWriter.setDurabilityPolicy(policy,parameter,syncTimer);
+        this.indexWriter.setDurabilityPolicy(policy,parameter,null);
+    }
+
+    @Override
+    public void setIoHints(final IoHintProfile profile, final long parameter) {
+        this.dataWriter.setIoHints(profile,parameter); //the index is small and read back, it keeps the page cache
     }
 }
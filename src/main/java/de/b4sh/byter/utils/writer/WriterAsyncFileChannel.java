@@ -0,0 +1,371 @@
+/*
+ * File: WriterAsyncFileChannel
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.writer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import de.b4sh.byter.utils.io.DirectBufferPool;
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.io.IoHintProfile;
+import de.b4sh.byter.utils.io.IoHints;
+import de.b4sh.byter.utils.io.ThreadManager;
+import de.b4sh.byter.utils.measurements.Measurement;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.measurements.PerformanceTimerHelper;
+
+/**
+ * AsynchronousFileChannel writer implementation.
+ * Chunks are staged into direct buffers of writerBufferSize. A full buffer is submitted as positional write
+ * and up to queueDepth writes are in flight at the same time. If all buffers are in flight handleData blocks
+ * until the next write completes.
+ * Measurements are taken per write from submission to completion (inside the completion handler).
+ */
+public final class WriterAsyncFileChannel implements WriterInterface,Runnable {
+
+    private static final Logger log = Logger.getLogger(WriterAsyncFileChannel.class.getName());
+    public static final int DEFAULT_QUEUE_DEPTH = 8;
+    private AsynchronousFileChannel channel;
+    private final File writeFile;
+    private final String fileName;
+    private final PerformanceTimer pt;
+    private final boolean takeMeasurements;
+    //queue
+    private final int queueDepth;
+    private final int bufferSize;
+    private final BlockingQueue<ByteBuffer> freeBuffers;
+    private final WriteCompletion completion;
+    private ByteBuffer current;
+    private long nextPosition;
+    private final AtomicLong failedWrites;
+    private Durability durability = Durability.NONE;
+    private IoHints hints = IoHints.NONE;
+    //run parameter
+    private byte[] chunk;
+    private byte[] edge;
+    private int iteration;
+    private boolean isFinished;
+    private boolean automaticFileRemoval;
+
+    /**
+     * Constructor for async FileChannel writer.
+     * @param writerBufferSize size of a single write
+     * @param queueDepth count of writes in flight (0 or below for the default of 8)
+     * @param fileToWriteTo file to write to
+     */
+    public WriterAsyncFileChannel(final int writerBufferSize, final int queueDepth, final File fileToWriteTo) {
+        this(writerBufferSize,queueDepth,fileToWriteTo,null);
+    }
+
+    /**
+     * Constructor for async FileChannel writer.
+     * @param writerBufferSize size of a single write
+     * @param queueDepth count of writes in flight (0 or below for the default of 8)
+     * @param fileToWriteTo file to write to
+     * @param timer timer that collects the measurements
+     */
+    public WriterAsyncFileChannel(final int writerBufferSize, final int queueDepth, final File fileToWriteTo,
+                                  final PerformanceTimer timer) {
+        this.pt = timer;
+        this.takeMeasurements = timer != null;
+        this.writeFile = fileToWriteTo;
+        this.fileName = this.writeFile.getName();
+        this.automaticFileRemoval = true;
+        this.queueDepth = queueDepth <= 0 ? DEFAULT_QUEUE_DEPTH : queueDepth;
+        this.bufferSize = DirectBufferPool.roundUpToPageSize(writerBufferSize);
+        //queueDepth buffers in flight + the one that gets filled
+        this.freeBuffers = new ArrayBlockingQueue<>(this.queueDepth + 1);
+        for(int i = 0; i <= this.queueDepth; i++){
+            this.freeBuffers.offer(DirectBufferPool.allocateAligned(this.bufferSize));
+        }
+        this.completion = new WriteCompletion();
+        this.failedWrites = new AtomicLong(0);
+        try{
+            channel = AsynchronousFileChannel.open(fileToWriteTo.toPath(),StandardOpenOption.CREATE,StandardOpenOption.WRITE);
+            this.nextPosition = channel.size(); //append to existing data like the other writers
+        } catch (IOException e) {
+            log.log(Level.WARNING,"IO Exception during init of WriterAsyncFileChannel. Check Stacktrace for details.",e);
+        }
+        if(this.pt != null)
+            this.pt.addEvaluator(perfTimer -> {
+                final Map<String, Float> response = new HashMap<>();
+                response.put("queueDepth", (float) this.queueDepth);
+                response.put("failedWrites", (float) this.failedWrites.get());
+                return response;
+            });
+    }
+
+    @Override
+    public void handleData(final byte[] bytes) {
+        this.handleData(bytes,bytes.length);
+    }
+
+    @Override
+    public void handleData(final byte[] bytes, final int offset) {
+        if(null != channel){
+            try {
+                int written = 0;
+                while(written < offset){
+                    if(this.current == null)
+                        this.current = this.freeBuffers.take(); //blocks while queueDepth writes are in flight
+                    final int length = Math.min(this.current.remaining(), offset - written);
+                    this.current.put(bytes,written,length);
+                    written += length;
+                    if(!this.current.hasRemaining())
+                        this.submitCurrent();
+                }
+            } catch (InterruptedException e) {
+                log.log(Level.WARNING, "Interrupted while waiting for a free write buffer.",e);
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Submit the currently filled buffer as positional write.
+     */
+    private void submitCurrent(){
+        final ByteBuffer buffer = this.current;
+        this.current = null;
+        buffer.flip();
+        final WriteRequest request = new WriteRequest(buffer,this.nextPosition,System.nanoTime());
+        this.nextPosition += buffer.remaining();
+        channel.write(buffer,request.position,request,this.completion);
+    }
+
+    /**
+     * Block until every submitted write is completed.
+     * All buffers are back in the free queue after that.
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private void awaitInFlightWrites() throws InterruptedException {
+        final ByteBuffer[] drained = new ByteBuffer[this.queueDepth + 1];
+        for(int i = 0; i < drained.length; i++){
+            drained[i] = this.freeBuffers.take();
+        }
+        for(ByteBuffer b: drained){
+            this.freeBuffers.offer(b);
+        }
+    }
+
+    @Override
+    public void finish() {
+        log.log(Level.INFO, "Finish WriterAsyncFileChannel \n AutomaticFileRemoval: "
+                + this.automaticFileRemoval +" -|- File Existing: " + this.writeFile.exists());
+        if(null != channel){
+            try {
+                if(this.current != null && this.current.position() > 0)
+                    this.submitCurrent();
+                else if(this.current != null){
+                    this.freeBuffers.offer(this.current);
+                    this.current = null;
+                }
+                this.awaitInFlightWrites();
+                this.durability.close();
+                if(this.failedWrites.get() > 0)
+                    log.log(Level.WARNING, "WriterAsyncFileChannel had " + this.failedWrites.get() + " failed writes.");
+                channel.close();
+                this.hints.close();
+                this.isFinished = true;
+                ThreadManager.nap(125); //wait 125ms for the writer to close the stream and everthing
+                if(this.writeFile.exists() && automaticFileRemoval){
+                    log.log(Level.INFO, "Removing DataFile from WriterAsyncFileChannel Test.");
+                    FileManager.removeFile(this.writeFile);
+                }
+            } catch (IOException e) {
+                log.log(Level.WARNING, "IO Exception on closing AsynchronousFileChannel.");
+            } catch (InterruptedException e) {
+                log.log(Level.WARNING, "Interrupted while waiting for writes in flight.",e);
+                Thread.currentThread().interrupt();
+            }
+        }
+        if(this.pt != null)
+            printEvaluationData();
+    }
+
+    @Override
+    public boolean isFinished() {
+        return this.isFinished;
+    }
+
+    @Override
+    public void run() {
+        if(chunk != null && edge != null){
+            for(int i = 0; i < this.iteration; i++){
+                this.handleData(this.chunk);
+            }
+            this.handleData(this.edge,this.edge.length); //fix edge case (missing bytes)
+            this.finish(); //finish writer - to close stream and open file locks
+        }else{
+            log.log(Level.WARNING,"Please set a chunk and a edge chunk. Stopping here. Can't progress without");
+            this.isFinished = true;
+        }
+    }
+
+    @Override
+    public PerformanceTimer getTimer() {
+        return this.pt;
+    }
+
+    /**
+     * get the count of writes that may be in flight at the same time.
+     * @return queue depth
+     */
+    public int getQueueDepth() {
+        return this.queueDepth;
+    }
+
+    /**
+     * get the count of failed writes.
+     * @return failed writes
+     */
+    public long getFailedWrites() {
+        return this.failedWrites.get();
+    }
+
+    /**
+     * set the parameters needed for a run as Thread.
+     * @param chunk chunk to write multiple times
+     * @param edge edge chunk to achieve the desired count
+     * @param it how many times should the whole chunk be written to file
+     */
+    public void setRunParameters(final byte[] chunk, final byte[] edge, final int it){
+        this.chunk = chunk;
+        this.edge = edge;
+        this.iteration = it;
+    }
+
+    /**
+     * get the set chunk.
+     * @return byte array with set chunk
+     */
+    public byte[] getChunk() {
+        return chunk;
+    }
+
+    /**
+     * get the edge chunk.
+     * @return byte array with set edge chunk
+     */
+    public byte[] getEdge() {
+        return edge;
+    }
+
+    /**
+     * get the iteartion count that should be fulfilled.
+     * @return interger with the count
+     */
+    public int getIteration() {
+        return iteration;
+    }
+
+    @Override
+    public boolean getAutomaticFileRemoval() {
+        return this.automaticFileRemoval;
+    }
+
+    @Override
+    public void setAutomaticFileRemoval(final boolean flag) {
+        this.automaticFileRemoval = flag;
+    }
+
+    @Override
+    public String getFileName() {
+        return this.fileName;
+    }
+
+    @Override
+    public void printEvaluationData() {
+        log.log(Level.INFO,"Server passing logged measurements to file!");
+        final String path;
+        if(this.getFileName().contains(".")){
+            path = this.getFileName().split("\\.")[0];
+        }else{
+            path = this.getFileName();
+        }
+        if(this.pt != null){
+            PerformanceTimerHelper.createEvaluationData(path,"writer",this.pt);
+        }
+        this.durability.printEvaluationData(path);
+    }
+
+    @Override
+    public void setDurabilityPolicy(final DurabilityPolicy policy, final long parameter, final PerformanceTimer syncTimer) {
+        this.durability.close();
+        this.durability = new Durability(policy,parameter,syncTimer,() -> this.channel.force(false));
+    }
+
+    @Override
+    public void setIoHints(final IoHintProfile profile, final long parameter) {
+        this.hints.close();
+        this.hints = new IoHints(profile,parameter,this.writeFile,true,this.pt);
+        this.hints.onOpen();
+    }
+
+    /**
+     * Attachment of a single positional write.
+     */
+    private static final class WriteRequest {
+        private final ByteBuffer buffer;
+        private final long position;
+        private final long tSubmit;
+        private final int length;
+
+        WriteRequest(final ByteBuffer buffer, final long position, final long tSubmit) {
+            this.buffer = buffer;
+            this.position = position;
+            this.tSubmit = tSubmit;
+            this.length = buffer.remaining();
+        }
+    }
+
+    /**
+     * Completion handler for all writes of this writer.
+     * Resubmits short writes, takes the measurement and hands the buffer back to the free queue.
+     */
+    private final class WriteCompletion implements CompletionHandler<Integer, WriteRequest> {
+
+        @Override
+        public void completed(final Integer result, final WriteRequest request) {
+            if(request.buffer.hasRemaining()){
+                //short write - continue behind the already written bytes
+                channel.write(request.buffer,request.position + request.buffer.position(),request,this);
+                return;
+            }
+            if(takeMeasurements){
+                final long tEnd = System.nanoTime();
+                synchronized (pt){
+                    pt.addNewMeasurement(new Measurement(WriterAsyncFileChannel.class.getName(),request.length,request.tSubmit,tEnd));
+                }
+            }
+            durability.onWrite(request.length); //a per write sync holds the buffer back and keeps the queue depth honest
+            hints.onWrite(request.length);
+            request.buffer.clear();
+            freeBuffers.offer(request.buffer);
+        }
+
+        @Override
+        public void failed(final Throwable exc, final WriteRequest request) {
+            failedWrites.incrementAndGet();
+            log.log(Level.WARNING, "Async write at position " + request.position + " failed. Check stacktrace",exc);
+            request.buffer.clear();
+            freeBuffers.offer(request.buffer);
+        }
+    }
+}
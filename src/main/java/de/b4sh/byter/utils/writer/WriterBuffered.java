@@ -16,6 +16,8 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.io.IoHintProfile;
+import de.b4sh.byter.utils.io.IoHints;
 import de.b4sh.byter.utils.io.ThreadManager;
 import de.b4sh.byter.utils.measurements.Measurement;
 import de.b4sh.byter.utils.measurements.PerformanceTimer;
@@ -31,7 +33,10 @@ public final class WriterBuffered implements WriterInterface,Runnable {
     private final String fileName;
     private final PerformanceTimer pt;
     private final boolean takeMeasurements;
+    private FileOutputStream fos;
     private BufferedOutputStream bos;
+    private Durability durability = Durability.NONE;
+    private IoHints hints = IoHints.NONE;
     //run parameter
     private byte[] chunk;
     private byte[] edge;
@@ -52,7 +57,7 @@ public final class WriterBuffered implements WriterInterface,Runnable {
         this.takeMeasurements = false;
         this.isFinished = false;
         try{
-            final FileOutputStream fos = new FileOutputStream(fileToWriteTo,true);
+            fos = new FileOutputStream(fileToWriteTo,true);
             bos = new BufferedOutputStream(fos,writerBufferSize);
         } catch (FileNotFoundException e) {
             log.log(Level.WARNING,"File not found Exception during init of WriterBuffered",e);
@@ -73,7 +78,7 @@ public final class WriterBuffered implements WriterInterface,Runnable {
         this.pt = timer;
         this.takeMeasurements = true;
         try{
-            final FileOutputStream fos = new FileOutputStream(fileToWriteTo,true);
+            fos = new FileOutputStream(fileToWriteTo,true);
             bos = new BufferedOutputStream(fos,writerBufferSize);
         } catch (FileNotFoundException e) {
             log.log(Level.WARNING,"File not found Exception during init of WriterBuffered",e);
@@ -100,6 +105,8 @@ public final class WriterBuffered implements WriterInterface,Runnable {
             final long tStart = System.nanoTime();
             bos.write(bytes,0,offset);
             bos.flush();
+            this.durability.onWrite(offset);
+            this.hints.onWrite(offset);
             final long tEnd = System.nanoTime();
             pt.addNewMeasurement(new Measurement(WriterBuffered.class.getName(),offset,tStart,tEnd));
         } catch (IOException e) {
@@ -111,6 +118,8 @@ public final class WriterBuffered implements WriterInterface,Runnable {
         try{
             bos.write(bytes,0,offset);
             bos.flush();
+            this.durability.onWrite(offset);
+            this.hints.onWrite(offset);
         } catch (IOException e) {
             log.log(Level.WARNING,"IO Exception during data processing. Check Stacktrace for details.",e);
         }
@@ -122,7 +131,10 @@ public final class WriterBuffered implements WriterInterface,Runnable {
                 + this.automaticFileRemoval +" -|- File Existing: " + this.writeFile.exists());
         if(null != bos){
             try {
+                bos.flush();
+                this.durability.close(); //force outstanding bytes before the stream is gone
                 bos.close();
+                this.hints.close();
                 this.isFinished = true;
                 ThreadManager.nap(125); //wait 125ms for the writer to close the stream and everthing
                 if(this.writeFile.exists() && this.automaticFileRemoval){
@@ -224,5 +236,19 @@ public final class WriterBuffered implements WriterInterface,Runnable {
         if(this.pt != null){
             PerformanceTimerHelper.createEvaluationData(path,"writer",this.pt);
         }
+        this.durability.printEvaluationData(path);
+    }
+
+    @Override
+    public void setDurabilityPolicy(final DurabilityPolicy policy, final long parameter, final PerformanceTimer syncTimer) {
+        this.durability.close();
+        this.durability = new Durability(policy,parameter,syncTimer,() -> this.fos.getChannel().force(false));
+    }
+
+    @Override
+    public void setIoHints(final IoHintProfile profile, final long parameter) {
+        this.hints.close();
+        this.hints = new IoHints(profile,parameter,this.writeFile,true,this.pt);
+        this.hints.onOpen();
     }
 }
@@ -0,0 +1,360 @@
+/*
+ * File: WriterChecksumming
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.writer;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.Checksum;
+
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.io.IoHintProfile;
+import de.b4sh.byter.utils.measurements.Measurement;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.measurements.PerformanceTimerHelper;
+
+/**
+ * Checksumming writer.
+ * Decorates another writer: the data is passed through unchanged while a checksum is computed for every block of blockSize.
+ * The checksums are computed in parallel on the pool of an OrderedBlockProcessor and written to a sidecar file
+ * (filename + ".crc") on finish.
+ * With verifyOnFinish (default) the finished data file is re-read in parallel and checked against the sidecar
+ * before the automatic file removal, the evaluation reports the verify throughput and the count of corrupt blocks.
+ * Disable it if the target changes the data on its way to the file (compressing or encrypting stages).
+ */
+public final class WriterChecksumming implements WriterInterface,Runnable {
+
+    private static final Logger log = Logger.getLogger(WriterChecksumming.class.getName());
+    public static final int DEFAULT_BLOCK_SIZE = 256 * 1024;
+    public static final String SIDECAR_SUFFIX = ".crc";
+    private final WriterInterface target;
+    private final File dataFile;
+    private final File sidecarFile;
+    private final PerformanceTimer pt;
+    private final PerformanceTimer checksumTimer;
+    private final boolean takeMeasurements;
+    //checksumming
+    private final int blockSize;
+    private final byte algorithm;
+    private final OrderedBlockProcessor<Integer> processor;
+    private int[] checksums;
+    private int blockCount;
+    private long totalBytes;
+    //verification
+    private boolean verifyOnFinish;
+    private ChecksumSidecar.Verification verification;
+    //run parameter
+    private byte[] chunk;
+    private byte[] edge;
+    private int iteration;
+    private boolean isFinished;
+
+    /**
+     * Constructor for the checksumming writer.
+     * @param target writer that receives the data
+     * @param dataFile file the target writes to (sidecar is placed next to it)
+     * @param blockSize size of a checksummed block (0 or below for the default of 256KB)
+     */
+    public WriterChecksumming(final WriterInterface target, final File dataFile, final int blockSize) {
+        this(target,dataFile,blockSize,null);
+    }
+
+    /**
+     * Constructor for the checksumming writer.
+     * @param target writer that receives the data
+     * @param dataFile file the target writes to (sidecar is placed next to it)
+     * @param blockSize size of a checksummed block (0 or below for the default of 256KB)
+     * @param timer timer that collects the measurements
+     */
+    public WriterChecksumming(final WriterInterface target, final File dataFile, final int blockSize, final PerformanceTimer timer) {
+        this.target = target;
+        this.dataFile = dataFile;
+        this.verifyOnFinish = true;
+        this.sidecarFile = new File(dataFile.getPath() + SIDECAR_SUFFIX);
+        this.pt = timer;
+        this.takeMeasurements = timer != null;
+        this.checksumTimer = timer != null ? new PerformanceTimer(WriterChecksumming.class.getName() + "-Checksum") : null;
+        this.blockSize = blockSize <= 0 ? DEFAULT_BLOCK_SIZE : blockSize;
+        this.algorithm = ChecksumSidecar.bestAlgorithm();
+        this.checksums = new int[64];
+        this.processor = new OrderedBlockProcessor<>(this.blockSize, 0,
+                (block, length, index) -> {
+                    final Checksum checksum = ChecksumSidecar.newChecksum(this.algorithm);
+                    checksum.update(block,0,length);
+                    return (int) checksum.getValue();
+                },
+                (block, length, checksum) -> this.collect(checksum),
+                this.checksumTimer, WriterChecksumming.class.getName());
+        if(this.pt != null)
+            this.pt.addEvaluator(perfTimer -> {
+                final Map<String, Float> response = new HashMap<>();
+                final long checksumNanos = this.processor.getTransformNanos();
+                response.put("checksumCrc32c", this.algorithm == ChecksumSidecar.ALGORITHM_CRC32C ? 1f : 0f);
+                response.put("checksumBlocks", (float) this.blockCount);
+                response.put("checksumCpuMs", checksumNanos / 1000000f);
+                response.put("avgBlockChecksumMs", this.blockCount == 0 ? 0f : checksumNanos / (float) this.blockCount / 1000000f);
+                if(checksumNanos > 0)
+                    response.put("checksumMegaBytesPerSecondPerCore",
+                            (float) (this.totalBytes / (checksumNanos / 1e9) / (1024 * 1024)));
+                final ChecksumSidecar.Verification result = this.verification;
+                if(result != null){
+                    response.put("verifyMs", result.getElapsedNanos() / 1000000f);
+                    response.put("verifyMegaBytesPerSecond", result.getMegaBytesPerSecond());
+                    response.put("verifyCorruptBlocks", (float) result.getCorruptBlocks().size());
+                    response.put("verifyLengthMatches", result.isLengthMatching() ? 1f : 0f);
+                }
+                return response;
+            });
+    }
+
+    @Override
+    public void handleData(final byte[] bytes) {
+        this.handleData(bytes,bytes.length);
+    }
+
+    @Override
+    public void handleData(final byte[] bytes, final int offset) {
+        if(this.takeMeasurements)
+            this.handleDataWithMeasurements(bytes,offset);
+        else
+            this.handleDataWithoutMeasurements(bytes,offset);
+    }
+
+    private void handleDataWithMeasurements(final byte[] bytes, final int offset){
+        final long tStart = System.nanoTime();
+        this.target.handleData(bytes,offset);
+        this.checksumData(bytes,offset);
+        final long tEnd = System.nanoTime();
+        this.pt.addNewMeasurement(new Measurement(WriterChecksumming.class.getName(),offset,tStart,tEnd));
+    }
+
+    private void handleDataWithoutMeasurements(final byte[] bytes, final int offset){
+        this.target.handleData(bytes,offset);
+        this.checksumData(bytes,offset);
+    }
+
+    /**
+     * Hand the data to the block processor, full blocks are checksummed on its pool.
+     * @param bytes byte array
+     * @param offset max element of true data inside the array
+     */
+    private void checksumData(final byte[] bytes, final int offset){
+        this.processor.write(bytes,offset);
+        this.totalBytes += offset;
+    }
+
+    /**
+     * Store the checksum of a finished block.
+     * The processor hands the checksums over in block order.
+     * @param checksum checksum of the block
+     */
+    private void collect(final int checksum){
+        if(this.blockCount == this.checksums.length)
+            this.checksums = Arrays.copyOf(this.checksums,this.checksums.length * 2);
+        this.checksums[this.blockCount++] = checksum;
+    }
+
+    @Override
+    public void finish() {
+        log.log(Level.INFO, "Finish WriterChecksumming \n AutomaticFileRemoval: " + this.getAutomaticFileRemoval());
+        this.processor.flush(); //checksum the last partly filled block
+        this.processor.shutdown();
+        final boolean removeFiles = this.getAutomaticFileRemoval();
+        if(this.verifyOnFinish)
+            this.target.setAutomaticFileRemoval(false); //the verifier needs the finished data file
+        this.target.finish();
+        final ChecksumSidecar sidecar = new ChecksumSidecar(this.algorithm,this.blockSize,this.totalBytes,
+                Arrays.copyOf(this.checksums,this.blockCount));
+        if(this.verifyOnFinish){
+            sidecar.write(this.sidecarFile);
+            this.verifyData(sidecar);
+            if(removeFiles){
+                this.target.setAutomaticFileRemoval(true);
+                //the sidecar is only useful next to its data file
+                if(this.dataFile.exists())
+                    FileManager.removeFile(this.dataFile);
+                FileManager.removeFile(this.sidecarFile);
+            }
+        }else if(!removeFiles){
+            sidecar.write(this.sidecarFile);
+        }
+        this.isFinished = true;
+        if(this.pt != null)
+            printEvaluationData();
+    }
+
+    /**
+     * Re-read the data file and check it against the stored sidecar.
+     * @param sidecar checksums of this run, used if the stored sidecar can't be read back
+     */
+    private void verifyData(final ChecksumSidecar sidecar){
+        if(!this.dataFile.isFile()){
+            log.log(Level.INFO, "No single data file " + this.dataFile.getName() + " behind the target. Verification skipped.");
+            return;
+        }
+        final ChecksumSidecar stored = ChecksumSidecar.read(this.sidecarFile);
+        try {
+            this.verification = (stored != null ? stored : sidecar).verify(this.dataFile,0);
+            if(this.verification.isValid())
+                log.log(Level.INFO, "Verified " + this.dataFile.getName() + " with "
+                        + this.verification.getMegaBytesPerSecond() + " MB/s.");
+            else
+                log.log(Level.WARNING, "Verification of " + this.dataFile.getName() + " failed -|- corrupt blocks: "
+                        + this.verification.getCorruptBlocks().size() + " -|- length matches: "
+                        + this.verification.isLengthMatching());
+        } catch (IOException e) {
+            log.log(Level.WARNING, "IO Exception while verifying " + this.dataFile.getName() + ". Check Stacktrace",e);
+        }
+    }
+
+    /**
+     * get the result of the verification on finish.
+     * @return Verification | null if not verified (disabled, not finished or read errors)
+     */
+    public ChecksumSidecar.Verification getVerification() {
+        return this.verification;
+    }
+
+    /**
+     * enable or disable the verification of the data file on finish.
+     * @param flag true (default) | false
+     */
+    public void setVerifyOnFinish(final boolean flag) {
+        this.verifyOnFinish = flag;
+    }
+
+    /**
+     * get the sidecar file with the checksums.
+     * @return File
+     */
+    public File getSidecarFile() {
+        return this.sidecarFile;
+    }
+
+    /**
+     * get the used checksum algorithm.
+     * @return ChecksumSidecar.ALGORITHM_CRC32 | ChecksumSidecar.ALGORITHM_CRC32C
+     */
+    public byte getAlgorithm() {
+        return this.algorithm;
+    }
+
+    @Override
+    public boolean isFinished() {
+        return this.isFinished;
+    }
+
+    @Override
+    public void run() {
+        if(chunk != null && edge != null){
+            for(int i = 0; i < this.iteration; i++){
+                this.handleData(this.chunk);
+            }
+            this.handleData(this.edge,this.edge.length); //fix edge case (missing bytes)
+            this.finish(); //finish writer - to close stream and open file locks
+        }else{
+            log.log(Level.WARNING,"Please set a chunk and a edge chunk. Stopping here. Can't progress without");
+            this.isFinished = true;
+        }
+    }
+
+    @Override
+    public PerformanceTimer getTimer() {
+        return this.pt;
+    }
+
+    /**
+     * get the timer with the checksum time of every block.
+     * @return timer | null if no measurements are taken
+     */
+    public PerformanceTimer getChecksumTimer() {
+        return this.checksumTimer;
+    }
+
+    /**
+     * set the parameters needed for a run as Thread.
+     * @param chunk chunk to write multiple times
+     * @param edge edge chunk to achieve the desired count
+     * @param it how many times should the whole chunk be written to file
+     */
+    public void setRunParameters(final byte[] chunk, final byte[] edge, final int it){
+        this.chunk = chunk;
+        this.edge = edge;
+        this.iteration = it;
+    }
+
+    /**
+     * get the set chunk.
+     * @return byte array with set chunk
+     */
+    public byte[] getChunk() {
+        return chunk;
+    }
+
+    /**
+     * get the edge chunk.
+     * @return byte array with set edge chunk
+     */
+    public byte[] getEdge() {
+        return edge;
+    }
+
+    /**
+     * get the iteartion count that should be fulfilled.
+     * @return interger with the count
+     */
+    public int getIteration() {
+        return iteration;
+    }
+
+    @Override
+    public boolean getAutomaticFileRemoval() {
+        return this.target.getAutomaticFileRemoval();
+    }
+
+    @Override
+    public void setAutomaticFileRemoval(final boolean flag) {
+        this.target.setAutomaticFileRemoval(flag);
+    }
+
+    @Override
+    public String getFileName() {
+        return this.target.getFileName();
+    }
+
+    @Override
+    public void printEvaluationData() {
+        log.log(Level.INFO,"Server passing logged measurements to file!");
+        final String path;
+        if(this.getFileName().contains(".")){
+            path = this.getFileName().split("\\.")[0];
+        }else{
+            path = this.getFileName();
+        }
+        if(this.pt != null){
+            PerformanceTimerHelper.createEvaluationData(path,"writer",this.pt);
+        }
+        if(this.checksumTimer != null && !this.checksumTimer.getData().isEmpty()){
+            PerformanceTimerHelper.createEvaluationData(path,"writer-checksum",this.checksumTimer);
+        }
+    }
+
+    @Override
+    public void setDurabilityPolicy(final DurabilityPolicy policy, final long parameter, final PerformanceTimer syncTimer) {
+        this.target.setDurabilityPolicy(policy,parameter,syncTimer);
+    }
+
+    @Override
+    public void setIoHints(final IoHintProfile profile, final long parameter) {
+        this.target.setIoHints(profile,parameter);
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * File: WriterCombining
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.writer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import de.b4sh.byter.utils.io.IoHintProfile;
+import de.b4sh.byter.utils.measurements.Measurement;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.measurements.PerformanceTimerHelper;
+
+/**
+ * Write combining writer with an adaptive block size.
+ * Decorates another writer: small records are merged into full blocks before they are handed on,
+ * so the decorated writer only sees block sized writes at block aligned file offsets (apart from the last block).
+ * The block size is a power of two and adjusted every WINDOW_WRITES block writes by a BlockSizeAdvisor.
+ * The chosen block size and the adaptation history are part of the evaluation data.
+ */
+public final class WriterCombining implements WriterInterface,Runnable {
+
+    private static final Logger log = Logger.getLogger(WriterCombining.class.getName());
+    public static final int DEFAULT_INITIAL_BLOCK_SIZE = 64 * 1024;
+    public static final int DEFAULT_MIN_BLOCK_SIZE = 4 * 1024;
+    public static final int DEFAULT_MAX_BLOCK_SIZE = 8 * 1024 * 1024;
+    public static final int WINDOW_WRITES = 16;
+    private final WriterInterface target;
+    private final PerformanceTimer pt;
+    private final boolean takeMeasurements;
+    private final BlockSizeAdvisor advisor;
+    private byte[] block;
+    private int blockLength;
+    private int blockSize;
+    //window statistics
+    private long windowBytes;
+    private int windowWrites;
+    private long windowNanos;
+    private long windowMaxNanos;
+    //statistics
+    private long records;
+    private long blockWrites;
+    //run parameter
+    private byte[] chunk;
+    private byte[] edge;
+    private int iteration;
+    private boolean isFinished;
+
+    /**
+     * Constructor for the combining writer with the default block size bounds (64KB start, 4KB - 8MB).
+     * @param target writer that receives the combined blocks
+     */
+    public WriterCombining(final WriterInterface target) {
+        this(target,DEFAULT_INITIAL_BLOCK_SIZE,DEFAULT_MIN_BLOCK_SIZE,DEFAULT_MAX_BLOCK_SIZE,null);
+    }
+
+    /**
+     * Constructor for the combining writer.
+     * @param target writer that receives the combined blocks
+     * @param initialBlockSize block size to start with
+     * @param minBlockSize smallest block size
+     * @param maxBlockSize biggest block size
+     * @param timer timer that collects the measurements
+     */
+    public WriterCombining(final WriterInterface target, final int initialBlockSize, final int minBlockSize,
+                           final int maxBlockSize, final PerformanceTimer timer) {
+        this.target = target;
+        this.pt = timer;
+        this.takeMeasurements = timer != null;
+        this.advisor = new BlockSizeAdvisor(initialBlockSize,minBlockSize,maxBlockSize);
+        this.blockSize = this.advisor.getBlockSize();
+        this.block = new byte[this.blockSize];
+        if(this.pt != null)
+            this.pt.addEvaluator(perfTimer -> {
+                final Map<String, Float> response = new HashMap<>();
+                response.put("combiningChosenBlockSize", (float) this.blockSize);
+                response.put("combiningAdaptations", (float) this.advisor.getAdaptations());
+                response.put("combiningRecords", (float) this.records);
+                response.put("combiningBlockWrites", (float) this.blockWrites);
+                response.put("combiningRecordsPerBlock", this.blockWrites == 0 ? 0f : this.records / (float) this.blockWrites);
+                final List<BlockSizeAdvisor.Step> history = this.advisor.getHistory();
+                for(int i = 0; i < history.size(); i++){
+                    response.put("combiningStep" + i + "BlockSize", (float) history.get(i).getBlockSize());
+                    response.put("combiningStep" + i + "MegaBytesPerSecond", history.get(i).getMegaBytesPerSecond());
+                    response.put("combiningStep" + i + "MaxLatencyMs", history.get(i).getMaxLatencyMs());
+                    response.put("combiningStep" + i + "Spike", history.get(i).isSpike() ? 1f : 0f);
+                }
+                return response;
+            });
+    }
+
+    @Override
+    public void handleData(final byte[] bytes) {
+        this.handleData(bytes,bytes.length);
+    }
+
+    @Override
+    public void handleData(final byte[] bytes, final int offset) {
+        if(this.takeMeasurements)
+            this.handleDataWithMeasurements(bytes,offset);
+        else
+            this.handleDataWithoutMeasurements(bytes,offset);
+    }
+
+    private void handleDataWithMeasurements(final byte[] bytes, final int offset){
+        final long tStart = System.nanoTime();
+        this.combine(bytes,offset);
+        final long tEnd = System.nanoTime();
+        this.pt.addNewMeasurement(new Measurement(WriterCombining.class.getName(),offset,tStart,tEnd));
+    }
+
+    private void handleDataWithoutMeasurements(final byte[] bytes, final int offset){
+        this.combine(bytes,offset);
+    }
+
+    /**
+     * Copy the record into the current block and hand full blocks to the decorated writer.
+     * @param bytes byte array
+     * @param offset max element of true data inside the array
+     */
+    private void combine(final byte[] bytes, final int offset){
+        int copied = 0;
+        while(copied < offset){
+            final int length = Math.min(this.blockSize - this.blockLength, offset - copied);
+            System.arraycopy(bytes,copied,this.block,this.blockLength,length);
+            this.blockLength += length;
+            copied += length;
+            if(this.blockLength == this.blockSize)
+                this.writeBlock();
+        }
+        this.records++;
+    }
+
+    /**
+     * Hand the current block to the decorated writer and adapt the block size at the end of a window.
+     */
+    private void writeBlock(){
+        final long tStart = System.nanoTime();
+        this.target.handleData(this.block,this.blockLength);
+        final long duration = System.nanoTime() - tStart;
+        this.blockWrites++;
+        this.windowBytes += this.blockLength;
+        this.windowWrites++;
+        this.windowNanos += duration;
+        this.windowMaxNanos = Math.max(this.windowMaxNanos, duration);
+        this.blockLength = 0;
+        if(this.windowWrites == WINDOW_WRITES){
+            final int newBlockSize = this.advisor.evaluateWindow(this.windowBytes,this.windowWrites,this.windowNanos,this.windowMaxNanos);
+            if(newBlockSize != this.blockSize){
+                log.log(Level.FINE, "Combining block size changed from " + this.blockSize + " to " + newBlockSize);
+                if(newBlockSize > this.block.length)
+                    this.block = new byte[newBlockSize];
+                this.blockSize = newBlockSize;
+            }
+            this.windowBytes = 0;
+            this.windowWrites = 0;
+            this.windowNanos = 0;
+            this.windowMaxNanos = 0;
+        }
+    }
+
+    @Override
+    public void finish() {
+        log.log(Level.INFO, "Finish WriterCombining \n AutomaticFileRemoval: " + this.getAutomaticFileRemoval()
+                + " -|- chosen block size: " + this.blockSize);
+        if(this.blockLength > 0)
+            this.writeBlock(); //write out the last partly filled block
+        this.target.finish();
+        this.isFinished = true;
+        if(this.pt != null)
+            printEvaluationData();
+    }
+
+    @Override
+    public boolean isFinished() {
+        return this.isFinished;
+    }
+
+    @Override
+    public void run() {
+        if(chunk != null && edge != null){
+            for(int i = 0; i < this.iteration; i++){
+                this.handleData(this.chunk);
+            }
+            this.handleData(this.edge,this.edge.length); //fix edge case (missing bytes)
+            this.finish(); //finish writer - to close stream and open file locks
+        }else{
+            log.log(Level.WARNING,"Please set a chunk and a edge chunk. Stopping here. Can't progress without");
+            this.isFinished = true;
+        }
+    }
+
+    @Override
+    public PerformanceTimer getTimer() {
+        return this.pt;
+    }
+
+    /**
+     * get the current block size.
+     * @return bytes
+     */
+    public int getBlockSize() {
+        return this.blockSize;
+    }
+
+    /**
+     * get the advisor that adapts the block size.
+     * @return BlockSizeAdvisor
+     */
+    public BlockSizeAdvisor getAdvisor() {
+        return this.advisor;
+    }
+
+    /**
+     * set the parameters needed for a run as Thread.
+     * @param chunk chunk to write multiple times
+     * @param edge edge chunk to achieve the desired count
+     * @param it how many times should the whole chunk be written to file
+     */
+    public void setRunParameters(final byte[] chunk, final byte[] edge, final int it){
+        this.chunk = chunk;
+        this.edge = edge;
+        this.iteration = it;
+    }
+
+    /**
+     * get the set chunk.
+     * @return byte array with set chunk
+     */
+    public byte[] getChunk() {
+        return chunk;
+    }
+
+    /**
+     * get the edge chunk.
+     * @return byte array with set edge chunk
+     */
+    public byte[] getEdge() {
+        return edge;
+    }
+
+    /**
+     * get the iteartion count that should be fulfilled.
+     * @return interger with the count
+     */
+    public int getIteration() {
+        return iteration;
+    }
+
+    @Override
+    public boolean getAutomaticFileRemoval() {
+        return this.target.getAutomaticFileRemoval();
+    }
+
+    @Override
+    public void setAutomaticFileRemoval(final boolean flag) {
+        this.target.setAutomaticFileRemoval(flag);
+    }
+
+    @Override
+    public String getFileName() {
+        return this.target.getFileName();
+    }
+
+    @Override
+    public void printEvaluationData() {
+        log.log(Level.INFO,"Server passing logged measurements to file!");
+        final String path;
+        if(this.getFileName().contains(".")){
+            path = this.getFileName().split("\\.")[0];
+        }else{
+            path = this.getFileName();
+        }
+        if(this.pt != null){
+            PerformanceTimerHelper.createEvaluationData(path,"writer",this.pt);
+        }
+    }
+
+    @Override
+    public void setDurabilityPolicy(final DurabilityPolicy policy, final long parameter, final PerformanceTimer syncTimer) {
+        this.target.setDurabilityPolicy(policy,parameter,syncTimer);
+    }
+
+    @Override
+    public void setIoHints(final IoHintProfile profile, final long parameter) {
+        this.target.setIoHints(profile,parameter);
+    }
+}
@@ -0,0 +1,398 @@
+/*
+ * File: WriterCompressing
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.writer;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import de.b4sh.byter.utils.io.IoHintProfile;
+import de.b4sh.byter.utils.measurements.Measurement;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.measurements.PerformanceTimerHelper;
+
+/**
+ * Parallel block compressing writer (pigz alike).
+ * Decorates another writer: the stream is cut into blocks of blockSize which are deflated in parallel on the pool of an
+ * OrderedBlockProcessor.
+ * The compressed blocks are handed in order to the decorated writer, every block with a frame header:
+ * [int rawLength][int storedLength][byte method] followed by storedLength bytes.
+ * Blocks that don't get smaller are stored raw (METHOD_STORED).
+ * Compress times per block are collected in their own series ("writer-compress" evaluation).
+ */
+public final class WriterCompressing implements WriterInterface,Runnable {
+
+    private static final Logger log = Logger.getLogger(WriterCompressing.class.getName());
+    public static final int DEFAULT_BLOCK_SIZE = 128 * 1024;
+    public static final int HEADER_SIZE = 9;
+    public static final byte METHOD_STORED = 0;
+    public static final byte METHOD_DEFLATE = 1;
+    private final WriterInterface target;
+    private final PerformanceTimer pt;
+    private final PerformanceTimer compressTimer;
+    private final boolean takeMeasurements;
+    //compression
+    private final int level;
+    private final OrderedBlockProcessor<CompressedBlock> processor;
+    private final ConcurrentLinkedQueue<Deflater> deflaters;
+    private long rawBytes;
+    private long compressedBytes;
+    private long firstWrite;
+    private long lastWrite;
+    //run parameter
+    private byte[] chunk;
+    private byte[] edge;
+    private int iteration;
+    private boolean isFinished;
+
+    /**
+     * Constructor for the compressing writer.
+     * @param target writer that receives the compressed blocks
+     * @param blockSize size of a raw block (0 or below for the default of 128KB)
+     */
+    public WriterCompressing(final WriterInterface target, final int blockSize) {
+        this(target,blockSize,Deflater.DEFAULT_COMPRESSION,null);
+    }
+
+    /**
+     * Constructor for the compressing writer.
+     * @param target writer that receives the compressed blocks
+     * @param blockSize size of a raw block (0 or below for the default of 128KB)
+     * @param level deflate level (see Deflater)
+     * @param timer timer that collects the measurements
+     */
+    public WriterCompressing(final WriterInterface target, final int blockSize, final int level, final PerformanceTimer timer) {
+        this.target = target;
+        this.pt = timer;
+        this.takeMeasurements = timer != null;
+        this.compressTimer = timer != null ? new PerformanceTimer(WriterCompressing.class.getName() + "-Compress") : null;
+        this.level = level;
+        this.deflaters = new ConcurrentLinkedQueue<>();
+        this.processor = new OrderedBlockProcessor<>(blockSize <= 0 ? DEFAULT_BLOCK_SIZE : blockSize, 0,
+                (raw, length, index) -> this.compress(raw,length),
+                (raw, length, block) -> this.writeBlock(block),
+                this.compressTimer, WriterCompressing.class.getName());
+        if(this.pt != null)
+            this.pt.addEvaluator(perfTimer -> {
+                final Map<String, Float> response = new HashMap<>();
+                final long blockCount = this.processor.getBlockCount();
+                response.put("compressionBlocks", (float) blockCount);
+                response.put("compressionRawBytes", (float) this.rawBytes);
+                response.put("compressionStoredBytes", (float) this.compressedBytes);
+                response.put("compressionRatio", this.compressedBytes == 0 ? 0f : (float) this.rawBytes / this.compressedBytes);
+                response.put("avgBlockCompressMs", blockCount == 0 ? 0f
+                        : this.processor.getTransformNanos() / (float) blockCount / 1000000f);
+                if(this.lastWrite > this.firstWrite && this.firstWrite != 0)
+                    response.put("endToEndMegaBytesPerSecond",
+                            (float) (this.rawBytes / ((this.lastWrite - this.firstWrite) / 1e9) / (1024 * 1024)));
+                return response;
+            });
+    }
+
+    @Override
+    public void handleData(final byte[] bytes) {
+        this.handleData(bytes,bytes.length);
+    }
+
+    @Override
+    public void handleData(final byte[] bytes, final int offset) {
+        if(this.takeMeasurements)
+            this.handleDataWithMeasurements(bytes,offset);
+        else
+            this.handleDataWithoutMeasurements(bytes,offset);
+    }
+
+    private void handleDataWithMeasurements(final byte[] bytes, final int offset){
+        final long tStart = System.nanoTime();
+        this.compressData(bytes,offset);
+        final long tEnd = System.nanoTime();
+        this.pt.addNewMeasurement(new Measurement(WriterCompressing.class.getName(),offset,tStart,tEnd));
+    }
+
+    private void handleDataWithoutMeasurements(final byte[] bytes, final int offset){
+        this.compressData(bytes,offset);
+    }
+
+    /**
+     * Hand the data to the block processor, full blocks are compressed on its pool.
+     * @param bytes byte array
+     * @param offset max element of true data inside the array
+     */
+    private void compressData(final byte[] bytes, final int offset){
+        if(this.firstWrite == 0)
+            this.firstWrite = System.nanoTime();
+        this.processor.write(bytes,offset);
+        this.rawBytes += offset;
+    }
+
+    /**
+     * Deflate a single block into a framed output array.
+     * Runs on the pool.
+     * @param raw raw block
+     * @param length count of valid bytes in the block
+     * @return compressed block
+     */
+    private CompressedBlock compress(final byte[] raw, final int length){
+        Deflater deflater = this.deflaters.poll();
+        if(deflater == null)
+            deflater = new Deflater(this.level);
+        byte[] out = new byte[HEADER_SIZE + length + (length >>> 8) + 64];
+        deflater.setInput(raw,0,length);
+        deflater.finish();
+        int stored = 0;
+        while(!deflater.finished()){
+            if(HEADER_SIZE + stored == out.length)
+                out = Arrays.copyOf(out,out.length * 2);
+            stored += deflater.deflate(out,HEADER_SIZE + stored,out.length - HEADER_SIZE - stored);
+        }
+        deflater.reset();
+        this.deflaters.offer(deflater);
+        byte method = METHOD_DEFLATE;
+        if(stored >= length){ //incompressible - store raw
+            System.arraycopy(raw,0,out,HEADER_SIZE,length);
+            stored = length;
+            method = METHOD_STORED;
+        }
+        writeHeader(out,length,stored,method);
+        return new CompressedBlock(out,HEADER_SIZE + stored);
+    }
+
+    private static void writeHeader(final byte[] out, final int rawLength, final int storedLength, final byte method){
+        out[0] = (byte) (rawLength >>> 24);
+        out[1] = (byte) (rawLength >>> 16);
+        out[2] = (byte) (rawLength >>> 8);
+        out[3] = (byte) rawLength;
+        out[4] = (byte) (storedLength >>> 24);
+        out[5] = (byte) (storedLength >>> 16);
+        out[6] = (byte) (storedLength >>> 8);
+        out[7] = (byte) storedLength;
+        out[8] = method;
+    }
+
+    /**
+     * Hand a compressed block to the decorated writer.
+     * @param block compressed block
+     */
+    private void writeBlock(final CompressedBlock block){
+        this.target.handleData(block.data,block.length);
+        this.compressedBytes += block.length;
+    }
+
+    @Override
+    public void finish() {
+        log.log(Level.INFO, "Finish WriterCompressing \n AutomaticFileRemoval: " + this.getAutomaticFileRemoval());
+        this.processor.flush(); //compress the last partly filled block
+        this.lastWrite = System.nanoTime();
+        this.processor.shutdown();
+        Deflater deflater = this.deflaters.poll();
+        while(deflater != null){
+            deflater.end();
+            deflater = this.deflaters.poll();
+        }
+        this.target.finish();
+        this.isFinished = true;
+        if(this.pt != null)
+            printEvaluationData();
+    }
+
+    /**
+     * Read a framed stream of the compressing writer and write the raw data.
+     * @param in framed input
+     * @param out raw output
+     * @return count of raw bytes
+     * @throws IOException on read or write errors or a corrupt frame
+     */
+    public static long decompress(final InputStream in, final OutputStream out) throws IOException {
+        final DataInputStream dis = new DataInputStream(in);
+        final Inflater inflater = new Inflater();
+        long total = 0;
+        try {
+            while(true){
+                final int rawLength;
+                try {
+                    rawLength = dis.readInt();
+                } catch (EOFException e) {
+                    return total; //clean end of stream
+                }
+                final int storedLength = dis.readInt();
+                final byte method = dis.readByte();
+                if(rawLength < 0 || storedLength < 0)
+                    throw new IOException("Corrupt block: negative length in frame header (raw " + rawLength
+                            + ", stored " + storedLength + ")");
+                final byte[] stored = new byte[storedLength];
+                dis.readFully(stored);
+                if(method == METHOD_STORED){
+                    if(storedLength != rawLength)
+                        throw new IOException("Corrupt block: stored " + storedLength + " bytes, expected " + rawLength);
+                    out.write(stored);
+                }else{
+                    final byte[] raw = new byte[rawLength];
+                    inflater.reset();
+                    inflater.setInput(stored);
+                    int inflated = 0;
+                    while(inflated < rawLength && !inflater.finished()){
+                        final int n = inflater.inflate(raw,inflated,rawLength - inflated);
+                        if(n == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+                            break; //truncated frame, the check below reports it
+                        inflated += n;
+                    }
+                    if(inflated != rawLength)
+                        throw new IOException("Corrupt block: expected " + rawLength + " bytes, got " + inflated);
+                    out.write(raw);
+                }
+                total += rawLength;
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt deflate block",e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    @Override
+    public boolean isFinished() {
+        return this.isFinished;
+    }
+
+    @Override
+    public void run() {
+        if(chunk != null && edge != null){
+            for(int i = 0; i < this.iteration; i++){
+                this.handleData(this.chunk);
+            }
+            this.handleData(this.edge,this.edge.length); //fix edge case (missing bytes)
+            this.finish(); //finish writer - to close stream and open file locks
+        }else{
+            log.log(Level.WARNING,"Please set a chunk and a edge chunk. Stopping here. Can't progress without");
+            this.isFinished = true;
+        }
+    }
+
+    @Override
+    public PerformanceTimer getTimer() {
+        return this.pt;
+    }
+
+    /**
+     * get the timer with the compress time of every block.
+     * @return timer | null if no measurements are taken
+     */
+    public PerformanceTimer getCompressTimer() {
+        return this.compressTimer;
+    }
+
+    /**
+     * get the compression ratio (raw / stored incl. frame headers).
+     * @return ratio | 0 if nothing was written
+     */
+    public float getCompressionRatio() {
+        return this.compressedBytes == 0 ? 0f : (float) this.rawBytes / this.compressedBytes;
+    }
+
+    /**
+     * set the parameters needed for a run as Thread.
+     * @param chunk chunk to write multiple times
+     * @param edge edge chunk to achieve the desired count
+     * @param it how many times should the whole chunk be written to file
+     */
+    public void setRunParameters(final byte[] chunk, final byte[] edge, final int it){
+        this.chunk = chunk;
+        this.edge = edge;
+        this.iteration = it;
+    }
+
+    /**
+     * get the set chunk.
+     * @return byte array with set chunk
+     */
+    public byte[] getChunk() {
+        return chunk;
+    }
+
+    /**
+     * get the edge chunk.
+     * @return byte array with set edge chunk
+     */
+    public byte[] getEdge() {
+        return edge;
+    }
+
+    /**
+     * get the iteartion count that should be fulfilled.
+     * @return interger with the count
+     */
+    public int getIteration() {
+        return iteration;
+    }
+
+    @Override
+    public boolean getAutomaticFileRemoval() {
+        return this.target.getAutomaticFileRemoval();
+    }
+
+    @Override
+    public void setAutomaticFileRemoval(final boolean flag) {
+        this.target.setAutomaticFileRemoval(flag);
+    }
+
+    @Override
+    public String getFileName() {
+        return this.target.getFileName();
+    }
+
+    @Override
+    public void printEvaluationData() {
+        log.log(Level.INFO,"Server passing logged measurements to file!");
+        final String path;
+        if(this.getFileName().contains(".")){
+            path = this.getFileName().split("\\.")[0];
+        }else{
+            path = this.getFileName();
+        }
+        if(this.pt != null){
+            PerformanceTimerHelper.createEvaluationData(path,"writer",this.pt);
+        }
+        if(this.compressTimer != null && !this.compressTimer.getData().isEmpty()){
+            PerformanceTimerHelper.createEvaluationData(path,"writer-compress",this.compressTimer);
+        }
+    }
+
+    @Override
+    public void setDurabilityPolicy(final DurabilityPolicy policy, final long parameter, final PerformanceTimer syncTimer) {
+        this.target.setDurabilityPolicy(policy,parameter,syncTimer);
+    }
+
+    @Override
+    public void setIoHints(final IoHintProfile profile, final long parameter) {
+        this.target.setIoHints(profile,parameter);
+    }
+
+    /**
+     * Result of a single compress task.
+     */
+    private static final class CompressedBlock {
+        private final byte[] data;
+        private final int length;
+
+        CompressedBlock(final byte[] data, final int length) {
+            this.data = data;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,413 @@
+/*
+ * File: WriterDirectIO
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.writer;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileStore;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import de.b4sh.byter.utils.io.DirectBufferPool;
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.io.IoHintProfile;
+import de.b4sh.byter.utils.io.IoHints;
+import de.b4sh.byter.utils.io.ThreadManager;
+import de.b4sh.byter.utils.measurements.Measurement;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.measurements.PerformanceTimerHelper;
+
+/**
+ * Writer implementation that bypasses the page cache with O_DIRECT.
+ * Chunks are staged in a block aligned direct buffer which is written as a whole at block aligned positions.
+ * On finish the last block gets padded with zeros and the file is truncated to the real length.
+ * If the jvm (below java 10) or the filesystem (e.g. tmpfs) refuses O_DIRECT the writer falls back
+ * to a normal FileChannel with the same staging and reports this in the log and the evaluation.
+ */
+public final class WriterDirectIO implements WriterInterface,Runnable {
+
+    private static final Logger log = Logger.getLogger(WriterDirectIO.class.getName());
+    private static final int DEFAULT_BLOCK_SIZE = 4096;
+    private static final OpenOption directOption = lookupDirectOption();
+    private FileChannel channel;
+    private ByteBuffer stagingBuffer;
+    private boolean directIO;
+    private int blockSize;
+    private long position; //block aligned file position of the staging buffer
+    private long logicalSize; //real length of the file
+    private Durability durability = Durability.NONE;
+    private IoHints hints = IoHints.NONE;
+    private final File writeFile;
+    private final String fileName;
+    private final PerformanceTimer pt;
+    private final boolean takeMeasurements;
+    //run parameter
+    private byte[] chunk;
+    private byte[] edge;
+    private int iteration;
+    private boolean isFinished;
+    private boolean automaticFileRemoval;
+
+    /**
+     * Constructor for O_DIRECT writer.
+     * @param writerBufferSize size of the staging buffer (rounded up to the block size)
+     * @param fileToWriteTo file to write to
+     */
+    public WriterDirectIO(final int writerBufferSize, final File fileToWriteTo) {
+        this(writerBufferSize,fileToWriteTo,null);
+    }
+
+    /**
+     * Constructor for O_DIRECT writer.
+     * @param writerBufferSize size of the staging buffer (rounded up to the block size)
+     * @param fileToWriteTo file to write to
+     * @param timer timer that collects the measurements
+     */
+    public WriterDirectIO(final int writerBufferSize, final File fileToWriteTo, final PerformanceTimer timer) {
+        this.pt = timer;
+        this.takeMeasurements = timer != null;
+        this.writeFile = fileToWriteTo;
+        this.fileName = this.writeFile.getName();
+        this.automaticFileRemoval = true;
+        try{
+            this.openChannel(fileToWriteTo.toPath());
+            final int capacity = Math.max(this.blockSize, ((writerBufferSize + this.blockSize - 1) / this.blockSize) * this.blockSize);
+            this.stagingBuffer = DirectBufferPool.allocateAligned(capacity,this.blockSize);
+            this.loadTailBlock();
+        } catch (IOException e) {
+            log.log(Level.WARNING,"IO Exception during init of WriterDirectIO. Check Stacktrace for details.",e);
+            this.channel = null;
+        }
+        if(this.pt != null)
+            this.pt.addEvaluator(perfTimer -> {
+                final Map<String, Float> response = new HashMap<>();
+                response.put("directIO", this.directIO ? 1f : 0f);
+                response.put("blockSize", (float) this.blockSize);
+                return response;
+            });
+    }
+
+    /**
+     * Open the channel with O_DIRECT or fall back to a normal channel if that is refused.
+     * @param path path to the file
+     * @throws IOException if the fallback could not be opened either
+     */
+    private void openChannel(final Path path) throws IOException {
+        if(directOption != null){
+            try {
+                this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.READ, directOption);
+                this.directIO = true;
+            } catch (IOException | UnsupportedOperationException | IllegalArgumentException e) {
+                log.log(Level.WARNING, "O_DIRECT refused for " + path + " (" + e.getMessage()
+                        + "). Falling back to a page cache backed FileChannel.");
+            }
+        }else{
+            log.log(Level.WARNING, "O_DIRECT is not supported by this jvm (java 10+ needed). Falling back to a page cache backed FileChannel.");
+        }
+        if(this.channel == null){
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.READ);
+            this.directIO = false;
+        }
+        this.blockSize = lookupBlockSize(path);
+    }
+
+    /**
+     * Append to an existing file: O_DIRECT only writes whole blocks, so the last incomplete block
+     * is read back into the staging buffer and rewritten with the next flush.
+     * @throws IOException on read errors
+     */
+    private void loadTailBlock() throws IOException {
+        this.logicalSize = channel.size();
+        final int tail = (int) (this.logicalSize % this.blockSize);
+        this.position = this.logicalSize - tail;
+        if(tail > 0){
+            this.stagingBuffer.limit(this.blockSize);
+            while(this.stagingBuffer.position() < tail){
+                if(channel.read(this.stagingBuffer,this.position + this.stagingBuffer.position()) < 0)
+                    break;
+            }
+            this.stagingBuffer.limit(this.stagingBuffer.capacity());
+            this.stagingBuffer.position(tail);
+        }
+    }
+
+    @Override
+    public void handleData(final byte[] bytes) {
+        this.handleData(bytes,bytes.length);
+    }
+
+    @Override
+    public void handleData(final byte[] bytes, final int offset) {
+        if(this.takeMeasurements)
+            this.handleDataWithMeasurements(bytes,offset);
+        else
+            this.handleDataWithoutMeasurements(bytes,offset);
+    }
+
+    private void handleDataWithMeasurements(final byte[] bytes, final int offset){
+        if(null != channel){
+            try {
+                final long tStart = System.nanoTime();
+                this.stageData(bytes,offset);
+                final long tEnd = System.nanoTime();
+                this.pt.addNewMeasurement(new Measurement(WriterDirectIO.class.getName(),offset,tStart,tEnd));
+            } catch (IOException e) {
+                log.log(Level.WARNING, "IO Exception while processing data. Check stacktrace",e);
+            }
+        }
+    }
+
+    private void handleDataWithoutMeasurements(final byte[] bytes, final int offset){
+        if(null != channel){
+            try {
+                this.stageData(bytes,offset);
+            } catch (IOException e) {
+                log.log(Level.WARNING, "IO Exception while processing data. Check stacktrace",e);
+            }
+        }
+    }
+
+    /**
+     * Copy the given bytes into the staging buffer and write it out every time it is full.
+     * @param bytes byte array
+     * @param offset max element of true data inside the array
+     * @throws IOException on write errors
+     */
+    private void stageData(final byte[] bytes, final int offset) throws IOException {
+        int written = 0;
+        while(written < offset){
+            final int length = Math.min(this.stagingBuffer.remaining(), offset - written);
+            this.stagingBuffer.put(bytes,written,length);
+            written += length;
+            this.logicalSize += length;
+            if(!this.stagingBuffer.hasRemaining())
+                this.writeStagingBuffer();
+        }
+    }
+
+    /**
+     * Write the staging buffer up to its limit at the current aligned position.
+     * @throws IOException on write errors
+     */
+    private void writeStagingBuffer() throws IOException {
+        this.stagingBuffer.flip();
+        final int length = this.stagingBuffer.remaining();
+        while(this.stagingBuffer.hasRemaining()){
+            this.position += channel.write(this.stagingBuffer,this.position);
+        }
+        this.stagingBuffer.clear();
+        this.durability.onWrite(length); //o_direct skips the page cache, but not the device cache and metadata
+        this.hints.onWrite(length);
+    }
+
+    /**
+     * Pad the remaining bytes to a full block, write them and cut the padding off the file.
+     * @throws IOException on write errors
+     */
+    private void writeTail() throws IOException {
+        final int used = this.stagingBuffer.position();
+        if(used == 0)
+            return;
+        final int padded = ((used + this.blockSize - 1) / this.blockSize) * this.blockSize;
+        while(this.stagingBuffer.position() < padded){
+            this.stagingBuffer.put((byte) 0);
+        }
+        this.writeStagingBuffer();
+        channel.truncate(this.logicalSize);
+    }
+
+    @Override
+    public void finish() {
+        log.log(Level.INFO, "Finish WriterDirectIO \n AutomaticFileRemoval: "
+                + this.automaticFileRemoval +" -|- File Existing: " + this.writeFile.exists()
+                + " -|- O_DIRECT: " + this.directIO);
+        if(null != channel){
+            try {
+                this.writeTail();
+                this.durability.close();
+                channel.close();
+                this.hints.close();
+                this.isFinished = true;
+                ThreadManager.nap(125); //wait 125ms for the writer to close the stream and everthing
+                if(this.writeFile.exists() && automaticFileRemoval){
+                    log.log(Level.INFO, "Removing DataFile from WriterDirectIO Test.");
+                    FileManager.removeFile(this.writeFile);
+                }
+            } catch (IOException e) {
+                log.log(Level.WARNING, "IO Exception on closing the O_DIRECT FileChannel.",e);
+            }
+        }
+        if(this.pt != null)
+            printEvaluationData();
+    }
+
+    @Override
+    public boolean isFinished() {
+        return this.isFinished;
+    }
+
+    @Override
+    public void run() {
+        if(chunk != null && edge != null){
+            for(int i = 0; i < this.iteration; i++){
+                this.handleData(this.chunk);
+            }
+            this.handleData(this.edge,this.edge.length); //fix edge case (missing bytes)
+            this.finish(); //finish writer - to close stream and open file locks
+        }else{
+            log.log(Level.WARNING,"Please set a chunk and a edge chunk. Stopping here. Can't progress without");
+            this.isFinished = true;
+        }
+    }
+
+    @Override
+    public PerformanceTimer getTimer() {
+        return this.pt;
+    }
+
+    /**
+     * is the page cache really bypassed?
+     * @return true (O_DIRECT) | false (fallback to a normal FileChannel)
+     */
+    public boolean isDirectIO() {
+        return this.directIO;
+    }
+
+    /**
+     * get the block size all writes are aligned to.
+     * @return block size in bytes
+     */
+    public int getBlockSize() {
+        return this.blockSize;
+    }
+
+    /**
+     * set the parameters needed for a run as Thread.
+     * @param chunk chunk to write multiple times
+     * @param edge edge chunk to achieve the desired count
+     * @param it how many times should the whole chunk be written to file
+     */
+    public void setRunParameters(final byte[] chunk, final byte[] edge, final int it){
+        this.chunk = chunk;
+        this.edge = edge;
+        this.iteration = it;
+    }
+
+    /**
+     * get the set chunk.
+     * @return byte array with set chunk
+     */
+    public byte[] getChunk() {
+        return chunk;
+    }
+
+    /**
+     * get the edge chunk.
+     * @return byte array with set edge chunk
+     */
+    public byte[] getEdge() {
+        return edge;
+    }
+
+    /**
+     * get the iteartion count that should be fulfilled.
+     * @return interger with the count
+     */
+    public int getIteration() {
+        return iteration;
+    }
+
+    @Override
+    public boolean getAutomaticFileRemoval() {
+        return this.automaticFileRemoval;
+    }
+
+    @Override
+    public void setAutomaticFileRemoval(final boolean flag) {
+        this.automaticFileRemoval = flag;
+    }
+
+    @Override
+    public String getFileName() {
+        return this.fileName;
+    }
+
+    @Override
+    public void printEvaluationData() {
+        log.log(Level.INFO,"Server passing logged measurements to file!");
+        final String path;
+        if(this.getFileName().contains(".")){
+            path = this.getFileName().split("\\.")[0];
+        }else{
+            path = this.getFileName();
+        }
+        if(this.pt != null){
+            PerformanceTimerHelper.createEvaluationData(path,"writer",this.pt);
+        }
+        this.durability.printEvaluationData(path);
+    }
+
+    @Override
+    public void setDurabilityPolicy(final DurabilityPolicy policy, final long parameter, final PerformanceTimer syncTimer) {
+        this.durability.close();
+        this.durability = new Durability(policy,parameter,syncTimer,() -> this.channel.force(false));
+    }
+
+    @Override
+    public void setIoHints(final IoHintProfile profile, final long parameter) {
+        this.hints.close();
+        this.hints = new IoHints(profile,parameter,this.writeFile,true,this.pt);
+        this.hints.onOpen();
+    }
+
+    /**
+     * Lookup ExtendedOpenOption.DIRECT (java 10+) without a compile time dependency.
+     * @return the DIRECT open option | null if not available
+     */
+    private static OpenOption lookupDirectOption(){
+        try {
+            final Class<?> extended = Class.forName("com.sun.nio.file.ExtendedOpenOption");
+            for(Object option: extended.getEnumConstants()){
+                if("DIRECT".equals(((Enum<?>) option).name()))
+                    return (OpenOption) option;
+            }
+        } catch (ClassNotFoundException e) {
+            log.log(Level.FINE, "com.sun.nio.file.ExtendedOpenOption not available on this jvm.");
+        }
+        return null;
+    }
+
+    /**
+     * Lookup the block size of the file store (FileStore.getBlockSize is java 10+).
+     * @param path path of the file
+     * @return block size | 4096 as default
+     */
+    private static int lookupBlockSize(final Path path){
+        try {
+            final FileStore store = Files.getFileStore(path);
+            final Method getBlockSize = FileStore.class.getMethod("getBlockSize");
+            final long size = (long) getBlockSize.invoke(store);
+            if(size > 0 && size <= Integer.MAX_VALUE && Long.bitCount(size) == 1)
+                return (int) size;
+        } catch (IOException | UnsupportedOperationException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            log.log(Level.FINE, "could not read the block size of the file store. Using " + DEFAULT_BLOCK_SIZE + ".");
+        }
+        return DEFAULT_BLOCK_SIZE;
+    }
+}
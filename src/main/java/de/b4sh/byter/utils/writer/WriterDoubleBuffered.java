@@ -0,0 +1,497 @@
+/*
+ * File: WriterDoubleBuffered
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.writer;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import de.b4sh.byter.utils.io.DirectBufferPool;
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.io.IoHintProfile;
+import de.b4sh.byter.utils.io.IoHints;
+import de.b4sh.byter.utils.io.ThreadManager;
+import de.b4sh.byter.utils.measurements.Measurement;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.measurements.PerformanceTimerHelper;
+
+/**
+ * Double (or N) buffered writer with a background flush thread.
+ * The producer fills one of bufferCount preallocated direct buffers while a dedicated I/O thread drains the
+ * full ones to a FileChannel. Buffers circle between a free and a full queue, a swap never allocates.
+ * A buffer is handed off by the producer when it is full. The I/O thread waits at most maxHandoffMillis for a full
+ * buffer and hands off a partly filled one itself once its first byte is older than that, so data does not sit in
+ * the current buffer for long even if the producer stops sending. The current buffer is only touched under a small lock.
+ * handleData only blocks if every buffer is full or in flight - that wait is reported as producer stall time,
+ * the time spent inside FileChannel.write as I/O time ("writer-io" evaluation).
+ */
+public final class WriterDoubleBuffered implements WriterInterface,Runnable {
+
+    private static final Logger log = Logger.getLogger(WriterDoubleBuffered.class.getName());
+    public static final int DEFAULT_BUFFER_COUNT = 2;
+    public static final int MIN_BUFFER_SIZE = 1024 * 1024;
+    public static final long DEFAULT_MAX_HANDOFF_MILLIS = 10;
+    private static final long MIN_HANDOFF_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private FileChannel channel;
+    private final File writeFile;
+    private final String fileName;
+    private final PerformanceTimer pt;
+    private final PerformanceTimer ioTimer;
+    private final boolean takeMeasurements;
+    //buffers
+    private final int bufferCount;
+    private final int bufferSize;
+    private final long maxHandoffNanos;
+    private final BlockingQueue<Slot> freeSlots;
+    private final BlockingQueue<Slot> fullSlots;
+    private final Slot endOfStream;
+    private final Thread ioThread;
+    private final Object currentLock;
+    private Slot current; //guarded by currentLock, set by the producer, handed off by both threads
+    private volatile Durability durability = Durability.NONE; //used by the I/O thread
+    private volatile IoHints hints = IoHints.NONE; //used by the I/O thread
+    //statistics - producer side
+    private long producerStallNanos;
+    private long producerStalls;
+    private volatile long handoffs; //guarded by currentLock
+    private volatile long timedHandoffs; //guarded by currentLock
+    //statistics - I/O side
+    private volatile long ioNanos;
+    private volatile long ioWrites;
+    private volatile long handoffLatencyNanos;
+    private volatile long maxHandoffLatencyNanos;
+    //run parameter
+    private byte[] chunk;
+    private byte[] edge;
+    private int iteration;
+    private boolean isFinished;
+    private boolean automaticFileRemoval;
+
+    /**
+     * Constructor for the double buffered writer.
+     * @param writerBufferSize size of a single buffer (at least 1MB)
+     * @param bufferCount count of buffers (below 2 for the default of 2)
+     * @param fileToWriteTo file to write to
+     */
+    public WriterDoubleBuffered(final int writerBufferSize, final int bufferCount, final File fileToWriteTo) {
+        this(writerBufferSize,bufferCount,fileToWriteTo,null);
+    }
+
+    /**
+     * Constructor for the double buffered writer.
+     * @param writerBufferSize size of a single buffer (at least 1MB)
+     * @param bufferCount count of buffers (below 2 for the default of 2)
+     * @param fileToWriteTo file to write to
+     * @param timer timer that collects the measurements
+     */
+    public WriterDoubleBuffered(final int writerBufferSize, final int bufferCount, final File fileToWriteTo,
+                                final PerformanceTimer timer) {
+        this(writerBufferSize,bufferCount,DEFAULT_MAX_HANDOFF_MILLIS,fileToWriteTo,timer);
+    }
+
+    /**
+     * Constructor for the double buffered writer.
+     * @param writerBufferSize size of a single buffer (at least 1MB)
+     * @param bufferCount count of buffers (below 2 for the default of 2)
+     * @param maxHandoffMillis age of a partly filled buffer that gets handed off by the I/O thread
+     * @param fileToWriteTo file to write to
+     * @param timer timer that collects the measurements
+     */
+    public WriterDoubleBuffered(final int writerBufferSize, final int bufferCount, final long maxHandoffMillis,
+                                final File fileToWriteTo, final PerformanceTimer timer) {
+        this.pt = timer;
+        this.takeMeasurements = timer != null;
+        this.ioTimer = timer != null ? new PerformanceTimer(WriterDoubleBuffered.class.getName() + "-IO") : null;
+        this.writeFile = fileToWriteTo;
+        this.fileName = this.writeFile.getName();
+        this.automaticFileRemoval = true;
+        this.bufferCount = bufferCount < 2 ? DEFAULT_BUFFER_COUNT : bufferCount;
+        this.bufferSize = DirectBufferPool.roundUpToPageSize(Math.max(MIN_BUFFER_SIZE, writerBufferSize));
+        this.maxHandoffNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxHandoffMillis));
+        //every queue holds all slots + the end of stream marker, offers never fail
+        this.freeSlots = new ArrayBlockingQueue<>(this.bufferCount + 1);
+        this.fullSlots = new ArrayBlockingQueue<>(this.bufferCount + 1);
+        for(int i = 0; i < this.bufferCount; i++){
+            this.freeSlots.offer(new Slot(DirectBufferPool.allocateAligned(this.bufferSize)));
+        }
+        this.endOfStream = new Slot(ByteBuffer.allocate(0));
+        this.currentLock = new Object();
+        try{
+            channel = new FileOutputStream(this.writeFile,true).getChannel();
+        } catch (IOException e) {
+            log.log(Level.WARNING,"IO Exception during init of WriterDoubleBuffered. Check Stacktrace for details.",e);
+        }
+        this.ioThread = new Thread(this::drain, "WriterDoubleBuffered-IO-" + this.fileName);
+        this.ioThread.setDaemon(true);
+        if(this.channel != null)
+            this.ioThread.start();
+        if(this.pt != null)
+            this.pt.addEvaluator(perfTimer -> {
+                final Map<String, Float> response = new HashMap<>();
+                response.put("bufferCount", (float) this.bufferCount);
+                response.put("producerStallMs", this.producerStallNanos / 1000000f);
+                response.put("producerStalls", (float) this.producerStalls);
+                response.put("handoffs", (float) this.handoffs);
+                response.put("timedHandoffs", (float) this.timedHandoffs);
+                response.put("ioMs", this.ioNanos / 1000000f);
+                response.put("ioWrites", (float) this.ioWrites);
+                response.put("avgHandoffLatencyMs", this.ioWrites == 0 ? 0f : this.handoffLatencyNanos / 1000000f / this.ioWrites);
+                response.put("maxHandoffLatencyMs", this.maxHandoffLatencyNanos / 1000000f);
+                return response;
+            });
+    }
+
+    @Override
+    public void handleData(final byte[] bytes) {
+        this.handleData(bytes,bytes.length);
+    }
+
+    @Override
+    public void handleData(final byte[] bytes, final int offset) {
+        if(null != channel){
+            if(this.takeMeasurements)
+                this.handleDataWithMeasurements(bytes,offset);
+            else
+                this.handleDataWithoutMeasurements(bytes,offset);
+        }
+    }
+
+    private void handleDataWithMeasurements(final byte[] bytes, final int offset){
+        final long tStart = System.nanoTime();
+        this.fill(bytes,offset);
+        final long tEnd = System.nanoTime();
+        this.pt.addNewMeasurement(new Measurement(WriterDoubleBuffered.class.getName(),offset,tStart,tEnd));
+    }
+
+    private void handleDataWithoutMeasurements(final byte[] bytes, final int offset){
+        this.fill(bytes,offset);
+    }
+
+    /**
+     * Copy the data into the current buffer and hand off full buffers to the I/O thread.
+     * A free buffer is taken outside of the lock, the I/O thread needs the lock to release buffers.
+     * @param bytes byte array
+     * @param offset max element of true data inside the array
+     */
+    private void fill(final byte[] bytes, final int offset){
+        try {
+            int written = 0;
+            while(written < offset){
+                if(this.current == null){
+                    final Slot slot = this.takeFreeSlot();
+                    synchronized (this.currentLock){
+                        this.current = slot;
+                    }
+                }
+                synchronized (this.currentLock){
+                    if(this.current == null)
+                        continue; //handed off by the I/O thread in between
+                    final ByteBuffer buffer = this.current.buffer;
+                    if(buffer.position() == 0)
+                        this.current.tFirstByte = System.nanoTime();
+                    final int length = Math.min(buffer.remaining(), offset - written);
+                    buffer.put(bytes,written,length);
+                    written += length;
+                    if(!buffer.hasRemaining())
+                        this.handOff();
+                }
+            }
+        } catch (InterruptedException e) {
+            log.log(Level.WARNING, "Interrupted while waiting for a free write buffer.",e);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Take a free buffer. Only blocks (and counts as stall) if every buffer is full or in flight.
+     * @return free slot
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private Slot takeFreeSlot() throws InterruptedException {
+        final Slot slot = this.freeSlots.poll();
+        if(slot != null)
+            return slot;
+        final long tStart = System.nanoTime();
+        final Slot taken = this.freeSlots.take();
+        this.producerStallNanos += System.nanoTime() - tStart;
+        this.producerStalls++;
+        return taken;
+    }
+
+    /**
+     * Hand off the current buffer if its first byte is older than maxHandoffMillis.
+     * Called by the I/O thread whenever it waits for a full buffer.
+     * @return nanoseconds until the current buffer expires | maxHandoffNanos if there is none
+     */
+    private long handOffExpired(){
+        synchronized (this.currentLock){
+            if(this.current == null || this.current.buffer.position() == 0)
+                return this.maxHandoffNanos;
+            final long age = System.nanoTime() - this.current.tFirstByte;
+            if(age < this.maxHandoffNanos)
+                return this.maxHandoffNanos - age;
+            this.timedHandoffs++;
+            this.handOff();
+            return this.maxHandoffNanos;
+        }
+    }
+
+    /**
+     * Pass the current buffer to the I/O thread.
+     * Call with the currentLock held.
+     */
+    private void handOff(){
+        final Slot slot = this.current;
+        this.current = null;
+        slot.buffer.flip();
+        slot.tHandoff = System.nanoTime();
+        this.handoffs++;
+        this.fullSlots.offer(slot);
+    }
+
+    /**
+     * Loop of the I/O thread: write full buffers to the channel until the end of stream marker shows up.
+     * While no full buffer shows up, partly filled ones are handed off once they expire.
+     */
+    private void drain(){
+        try {
+            while(true){
+                final long wait = this.handOffExpired();
+                final Slot slot = this.fullSlots.poll(Math.max(MIN_HANDOFF_POLL_NANOS, wait), TimeUnit.NANOSECONDS);
+                if(slot == null)
+                    continue;
+                if(slot == this.endOfStream)
+                    break;
+                final long tStart = System.nanoTime();
+                final long latency = tStart - slot.tHandoff;
+                final int length = slot.buffer.remaining();
+                try {
+                    while(slot.buffer.hasRemaining()){
+                        this.channel.write(slot.buffer);
+                    }
+                    this.durability.onWrite(length);
+                    this.hints.onWrite(length);
+                } catch (IOException e) {
+                    log.log(Level.WARNING, "IO Exception while writing buffer. Check stacktrace",e);
+                }
+                final long tEnd = System.nanoTime();
+                if(this.ioTimer != null)
+                    this.ioTimer.addNewMeasurement(new Measurement(WriterDoubleBuffered.class.getName() + "-IO",length,tStart,tEnd));
+                this.ioNanos += tEnd - tStart;
+                this.ioWrites++;
+                this.handoffLatencyNanos += latency;
+                this.maxHandoffLatencyNanos = Math.max(this.maxHandoffLatencyNanos, latency);
+                slot.buffer.clear();
+                this.freeSlots.offer(slot);
+            }
+        } catch (InterruptedException e) {
+            log.log(Level.WARNING, "I/O thread of WriterDoubleBuffered got interrupted.",e);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void finish() {
+        log.log(Level.INFO, "Finish WriterDoubleBuffered \n AutomaticFileRemoval: "
+                + this.automaticFileRemoval +" -|- File Existing: " + this.writeFile.exists());
+        if(null != channel){
+            try {
+                synchronized (this.currentLock){
+                    if(this.current != null && this.current.buffer.position() > 0)
+                        this.handOff();
+                    this.fullSlots.offer(this.endOfStream);
+                }
+                this.ioThread.join();
+                this.durability.close();
+                channel.close();
+                this.hints.close();
+                this.isFinished = true;
+                ThreadManager.nap(125); //wait 125ms for the writer to close the stream and everthing
+                if(this.writeFile.exists() && automaticFileRemoval){
+                    log.log(Level.INFO, "Removing DataFile from WriterDoubleBuffered Test.");
+                    FileManager.removeFile(this.writeFile);
+                }
+            } catch (IOException e) {
+                log.log(Level.WARNING, "IO Exception on closing FileChannel.");
+            } catch (InterruptedException e) {
+                log.log(Level.WARNING, "Interrupted while waiting for the I/O thread.",e);
+                Thread.currentThread().interrupt();
+            }
+        }
+        if(this.pt != null)
+            printEvaluationData();
+    }
+
+    @Override
+    public boolean isFinished() {
+        return this.isFinished;
+    }
+
+    @Override
+    public void run() {
+        if(chunk != null && edge != null){
+            for(int i = 0; i < this.iteration; i++){
+                this.handleData(this.chunk);
+            }
+            this.handleData(this.edge,this.edge.length); //fix edge case (missing bytes)
+            this.finish(); //finish writer - to close stream and open file locks
+        }else{
+            log.log(Level.WARNING,"Please set a chunk and a edge chunk. Stopping here. Can't progress without");
+            this.isFinished = true;
+        }
+    }
+
+    @Override
+    public PerformanceTimer getTimer() {
+        return this.pt;
+    }
+
+    /**
+     * get the count of buffers.
+     * @return buffer count
+     */
+    public int getBufferCount() {
+        return this.bufferCount;
+    }
+
+    /**
+     * get the size of a single buffer.
+     * @return bytes
+     */
+    public int getBufferSize() {
+        return this.bufferSize;
+    }
+
+    /**
+     * get the summed time the producer waited for a free buffer.
+     * @return nanoseconds
+     */
+    public long getProducerStallNanos() {
+        return this.producerStallNanos;
+    }
+
+    /**
+     * get the summed time the I/O thread spent writing.
+     * @return nanoseconds
+     */
+    public long getIoNanos() {
+        return this.ioNanos;
+    }
+
+    /**
+     * get the count of buffers written by the I/O thread.
+     * @return writes
+     */
+    public long getIoWrites() {
+        return this.ioWrites;
+    }
+
+    /**
+     * set the parameters needed for a run as Thread.
+     * @param chunk chunk to write multiple times
+     * @param edge edge chunk to achieve the desired count
+     * @param it how many times should the whole chunk be written to file
+     */
+    public void setRunParameters(final byte[] chunk, final byte[] edge, final int it){
+        this.chunk = chunk;
+        this.edge = edge;
+        this.iteration = it;
+    }
+
+    /**
+     * get the set chunk.
+     * @return byte array with set chunk
+     */
+    public byte[] getChunk() {
+        return chunk;
+    }
+
+    /**
+     * get the edge chunk.
+     * @return byte array with set edge chunk
+     */
+    public byte[] getEdge() {
+        return edge;
+    }
+
+    /**
+     * get the iteartion count that should be fulfilled.
+     * @return interger with the count
+     */
+    public int getIteration() {
+        return iteration;
+    }
+
+    @Override
+    public boolean getAutomaticFileRemoval() {
+        return this.automaticFileRemoval;
+    }
+
+    @Override
+    public void setAutomaticFileRemoval(final boolean flag) {
+        this.automaticFileRemoval = flag;
+    }
+
+    @Override
+    public String getFileName() {
+        return this.fileName;
+    }
+
+    @Override
+    public void printEvaluationData() {
+        log.log(Level.INFO,"Server passing logged measurements to file!");
+        final String path;
+        if(this.getFileName().contains(".")){
+            path = this.getFileName().split("\\.")[0];
+        }else{
+            path = this.getFileName();
+        }
+        if(this.pt != null){
+            PerformanceTimerHelper.createEvaluationData(path,"writer",this.pt);
+        }
+        if(this.ioTimer != null && !this.ioTimer.getData().isEmpty()){
+            PerformanceTimerHelper.createEvaluationData(path,"writer-io",this.ioTimer);
+        }
+        this.durability.printEvaluationData(path);
+    }
+
+    @Override
+    public void setDurabilityPolicy(final DurabilityPolicy policy, final long parameter, final PerformanceTimer syncTimer) {
+        this.durability.close();
+        this.durability = new Durability(policy,parameter,syncTimer,() -> this.channel.force(false));
+    }
+
+    @Override
+    public void setIoHints(final IoHintProfile profile, final long parameter) {
+        this.hints.close();
+        this.hints = new IoHints(profile,parameter,this.writeFile,true,this.pt);
+        this.hints.onOpen();
+    }
+
+    /**
+     * Preallocated buffer with the timestamps of its current fill.
+     */
+    private static final class Slot {
+        private final ByteBuffer buffer;
+        private long tFirstByte;
+        private long tHandoff;
+
+        Slot(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+    }
+}
@@ -0,0 +1,443 @@
+/*
+ * File: WriterEncrypting
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.writer;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+
+import de.b4sh.byter.utils.io.IoHintProfile;
+import de.b4sh.byter.utils.measurements.Measurement;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.measurements.PerformanceTimerHelper;
+
+/**
+ * Parallel block encrypting writer (encryption at rest).
+ * Decorates another writer: the stream is cut into blocks of blockSize which are encrypted independently with AES
+ * (CTR or GCM, see EncryptionMode) on the pool of an OrderedBlockProcessor. The encrypted blocks are handed in order to
+ * the decorated writer, every block with a frame header: [int rawLength][int storedLength][byte mode][12 byte nonce]
+ * followed by storedLength bytes.
+ * The nonce is a random prefix of the writer and the block index, so no nonce is used twice with the same key.
+ * Encrypt times per block are collected in their own series ("writer-crypto" evaluation). The time the writer waits
+ * for the pool and the time spent inside the decorated writer are reported as well, the larger one is the bottleneck.
+ */
+public final class WriterEncrypting implements WriterInterface,Runnable {
+
+    private static final Logger log = Logger.getLogger(WriterEncrypting.class.getName());
+    public static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+    public static final int NONCE_SIZE = 12;
+    public static final int HEADER_SIZE = 9 + NONCE_SIZE;
+    private final WriterInterface target;
+    private final PerformanceTimer pt;
+    private final PerformanceTimer cryptoTimer;
+    private final boolean takeMeasurements;
+    //encryption
+    private final EncryptionMode mode;
+    private final SecretKey key;
+    private final byte[] noncePrefix;
+    private final OrderedBlockProcessor<EncryptedBlock> processor;
+    private final ConcurrentLinkedQueue<Cipher> ciphers;
+    private long rawBytes;
+    private long storedBytes;
+    private long firstWrite;
+    private long lastWrite;
+    //run parameter
+    private byte[] chunk;
+    private byte[] edge;
+    private int iteration;
+    private boolean isFinished;
+
+    /**
+     * Constructor for the encrypting writer with a random key.
+     * @param target writer that receives the encrypted blocks
+     * @param mode cipher mode
+     */
+    public WriterEncrypting(final WriterInterface target, final EncryptionMode mode) {
+        this(target,mode,0,0,null,null);
+    }
+
+    /**
+     * Constructor for the encrypting writer.
+     * @param target writer that receives the encrypted blocks
+     * @param mode cipher mode
+     * @param blockSize size of a raw block (0 or below for the default of 1MB)
+     * @param threads threads of the encryption pool (0 or below for one per core)
+     * @param key AES key (null for a random 256 bit key)
+     * @param timer timer that collects the measurements
+     */
+    public WriterEncrypting(final WriterInterface target, final EncryptionMode mode, final int blockSize,
+                            final int threads, final SecretKey key, final PerformanceTimer timer) {
+        this.target = target;
+        this.mode = mode == null ? EncryptionMode.Ctr : mode;
+        this.pt = timer;
+        this.takeMeasurements = timer != null;
+        this.cryptoTimer = timer != null ? new PerformanceTimer(WriterEncrypting.class.getName() + "-Crypto") : null;
+        this.key = key != null ? key : generateKey();
+        this.noncePrefix = new byte[4];
+        new SecureRandom().nextBytes(this.noncePrefix);
+        this.ciphers = new ConcurrentLinkedQueue<>();
+        this.processor = new OrderedBlockProcessor<>(blockSize <= 0 ? DEFAULT_BLOCK_SIZE : blockSize, threads,
+                (raw, length, index) -> this.encrypt(raw,length,nonce(this.noncePrefix,index)),
+                (raw, length, block) -> this.writeBlock(block),
+                this.cryptoTimer, WriterEncrypting.class.getName());
+        if(this.pt != null)
+            this.pt.addEvaluator(perfTimer -> {
+                final Map<String, Float> response = new HashMap<>();
+                final long blockCount = this.processor.getBlockCount();
+                final long cryptoNanos = this.processor.getTransformNanos();
+                response.put("encryptionBlocks", (float) blockCount);
+                response.put("encryptionRawBytes", (float) this.rawBytes);
+                response.put("encryptionStoredBytes", (float) this.storedBytes);
+                response.put("encryptionThreads", (float) this.processor.getParallelism());
+                response.put("avgBlockEncryptMs", blockCount == 0 ? 0f : cryptoNanos / (float) blockCount / 1000000f);
+                response.put("encryptMegaBytesPerSecondPerThread", cryptoNanos == 0 ? 0f
+                        : (float) (this.rawBytes / (cryptoNanos / 1e9) / (1024 * 1024)));
+                response.put("encryptionWaitMs", this.processor.getWaitNanos() / 1000000f);
+                response.put("targetWriteMs", this.processor.getSinkNanos() / 1000000f);
+                if(this.lastWrite > this.firstWrite && this.firstWrite != 0)
+                    response.put("endToEndMegaBytesPerSecond",
+                            (float) (this.rawBytes / ((this.lastWrite - this.firstWrite) / 1e9) / (1024 * 1024)));
+                return response;
+            });
+    }
+
+    private static SecretKey generateKey(){
+        try {
+            final KeyGenerator generator = KeyGenerator.getInstance("AES");
+            generator.init(256);
+            return generator.generateKey();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES is not available in this JRE.",e);
+        }
+    }
+
+    @Override
+    public void handleData(final byte[] bytes) {
+        this.handleData(bytes,bytes.length);
+    }
+
+    @Override
+    public void handleData(final byte[] bytes, final int offset) {
+        if(this.takeMeasurements)
+            this.handleDataWithMeasurements(bytes,offset);
+        else
+            this.handleDataWithoutMeasurements(bytes,offset);
+    }
+
+    private void handleDataWithMeasurements(final byte[] bytes, final int offset){
+        final long tStart = System.nanoTime();
+        this.encryptData(bytes,offset);
+        final long tEnd = System.nanoTime();
+        this.pt.addNewMeasurement(new Measurement(WriterEncrypting.class.getName(),offset,tStart,tEnd));
+    }
+
+    private void handleDataWithoutMeasurements(final byte[] bytes, final int offset){
+        this.encryptData(bytes,offset);
+    }
+
+    /**
+     * Hand the data to the block processor, full blocks are encrypted on its pool.
+     * @param bytes byte array
+     * @param offset max element of true data inside the array
+     */
+    private void encryptData(final byte[] bytes, final int offset){
+        if(this.firstWrite == 0)
+            this.firstWrite = System.nanoTime();
+        this.processor.write(bytes,offset);
+        this.rawBytes += offset;
+    }
+
+    /**
+     * Nonce of a block: the random prefix of the writer followed by the block index.
+     * @param prefix random prefix
+     * @param index index of the block
+     * @return nonce
+     */
+    private static byte[] nonce(final byte[] prefix, final long index){
+        final byte[] nonce = Arrays.copyOf(prefix, NONCE_SIZE);
+        for(int i = 0; i < 8; i++){
+            nonce[NONCE_SIZE - 1 - i] = (byte) (index >>> (8 * i));
+        }
+        return nonce;
+    }
+
+    /**
+     * Encrypt a single block into a framed output array.
+     * Runs on the pool.
+     * @param raw raw block
+     * @param length count of valid bytes in the block
+     * @param nonce nonce of the block
+     * @return encrypted block
+     */
+    private EncryptedBlock encrypt(final byte[] raw, final int length, final byte[] nonce){
+        try {
+            Cipher cipher = this.ciphers.poll();
+            if(cipher == null)
+                cipher = Cipher.getInstance(this.mode.getTransformation());
+            cipher.init(Cipher.ENCRYPT_MODE, this.key, parameterSpec(this.mode,nonce));
+            final byte[] out = new byte[HEADER_SIZE + cipher.getOutputSize(length)];
+            final int stored = cipher.doFinal(raw,0,length,out,HEADER_SIZE);
+            this.ciphers.offer(cipher);
+            writeHeader(out,length,stored,this.mode,nonce);
+            return new EncryptedBlock(out,HEADER_SIZE + stored);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Encryption of a block failed.",e);
+        }
+    }
+
+    private static AlgorithmParameterSpec parameterSpec(final EncryptionMode mode, final byte[] nonce){
+        if(mode == EncryptionMode.Gcm)
+            return new GCMParameterSpec(EncryptionMode.TAG_LENGTH * 8, nonce);
+        return new IvParameterSpec(Arrays.copyOf(nonce, 16)); //last 4 bytes are the counter inside the block
+    }
+
+    private static void writeHeader(final byte[] out, final int rawLength, final int storedLength,
+                                    final EncryptionMode mode, final byte[] nonce){
+        out[0] = (byte) (rawLength >>> 24);
+        out[1] = (byte) (rawLength >>> 16);
+        out[2] = (byte) (rawLength >>> 8);
+        out[3] = (byte) rawLength;
+        out[4] = (byte) (storedLength >>> 24);
+        out[5] = (byte) (storedLength >>> 16);
+        out[6] = (byte) (storedLength >>> 8);
+        out[7] = (byte) storedLength;
+        out[8] = (byte) mode.ordinal();
+        System.arraycopy(nonce,0,out,9,NONCE_SIZE);
+    }
+
+    /**
+     * Hand an encrypted block to the decorated writer.
+     * @param block encrypted block
+     */
+    private void writeBlock(final EncryptedBlock block){
+        this.target.handleData(block.data,block.length);
+        this.storedBytes += block.length;
+    }
+
+    @Override
+    public void finish() {
+        log.log(Level.INFO, "Finish WriterEncrypting \n Mode: " + this.mode.name()
+                + " -|- AutomaticFileRemoval: " + this.getAutomaticFileRemoval());
+        this.processor.flush(); //encrypt the last partly filled block
+        this.lastWrite = System.nanoTime();
+        this.processor.shutdown();
+        this.target.finish();
+        this.isFinished = true;
+        if(this.pt != null)
+            printEvaluationData();
+    }
+
+    /**
+     * Read a framed stream of the encrypting writer and write the decrypted data.
+     * @param in framed input
+     * @param out raw output
+     * @param key key the stream was encrypted with
+     * @return count of raw bytes
+     * @throws IOException on read or write errors, a corrupt frame or a failed authentication (GCM)
+     */
+    public static long decrypt(final InputStream in, final OutputStream out, final SecretKey key) throws IOException {
+        final DataInputStream dis = new DataInputStream(in);
+        final byte[] nonce = new byte[NONCE_SIZE];
+        long total = 0;
+        try {
+            while(true){
+                final int rawLength;
+                try {
+                    rawLength = dis.readInt();
+                } catch (EOFException e) {
+                    return total; //clean end of stream
+                }
+                final int storedLength = dis.readInt();
+                final EncryptionMode mode = EncryptionMode.values()[dis.readByte()];
+                dis.readFully(nonce);
+                final byte[] stored = new byte[storedLength];
+                dis.readFully(stored);
+                final Cipher cipher = Cipher.getInstance(mode.getTransformation());
+                cipher.init(Cipher.DECRYPT_MODE, key, parameterSpec(mode,nonce));
+                final byte[] raw = cipher.doFinal(stored);
+                if(raw.length != rawLength)
+                    throw new IOException("Corrupt block: expected " + rawLength + " bytes, got " + raw.length);
+                out.write(raw);
+                total += rawLength;
+            }
+        } catch (GeneralSecurityException | ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Corrupt encrypted block",e);
+        }
+    }
+
+    @Override
+    public boolean isFinished() {
+        return this.isFinished;
+    }
+
+    @Override
+    public void run() {
+        if(chunk != null && edge != null){
+            for(int i = 0; i < this.iteration; i++){
+                this.handleData(this.chunk);
+            }
+            this.handleData(this.edge,this.edge.length); //fix edge case (missing bytes)
+            this.finish(); //finish writer - to close stream and open file locks
+        }else{
+            log.log(Level.WARNING,"Please set a chunk and a edge chunk. Stopping here. Can't progress without");
+            this.isFinished = true;
+        }
+    }
+
+    @Override
+    public PerformanceTimer getTimer() {
+        return this.pt;
+    }
+
+    /**
+     * get the timer with the encrypt time of every block.
+     * @return timer | null if no measurements are taken
+     */
+    public PerformanceTimer getCryptoTimer() {
+        return this.cryptoTimer;
+    }
+
+    /**
+     * get the key of this writer.
+     * @return AES key
+     */
+    public SecretKey getKey() {
+        return this.key;
+    }
+
+    /**
+     * get the cipher mode of this writer.
+     * @return EncryptionMode
+     */
+    public EncryptionMode getMode() {
+        return this.mode;
+    }
+
+    /**
+     * get the time the writer waited for encrypted blocks.
+     * @return nanoseconds
+     */
+    public long getWaitNanos() {
+        return this.processor.getWaitNanos();
+    }
+
+    /**
+     * get the time spent inside the decorated writer.
+     * @return nanoseconds
+     */
+    public long getTargetNanos() {
+        return this.processor.getSinkNanos();
+    }
+
+    /**
+     * set the parameters needed for a run as Thread.
+     * @param chunk chunk to write multiple times
+     * @param edge edge chunk to achieve the desired count
+     * @param it how many times should the whole chunk be written to file
+     */
+    public void setRunParameters(final byte[] chunk, final byte[] edge, final int it){
+        this.chunk = chunk;
+        this.edge = edge;
+        this.iteration = it;
+    }
+
+    /**
+     * get the set chunk.
+     * @return byte array with set chunk
+     */
+    public byte[] getChunk() {
+        return chunk;
+    }
+
+    /**
+     * get the edge chunk.
+     * @return byte array with set edge chunk
+     */
+    public byte[] getEdge() {
+        return edge;
+    }
+
+    /**
+     * get the iteartion count that should be fulfilled.
+     * @return interger with the count
+     */
+    public int getIteration() {
+        return iteration;
+    }
+
+    @Override
+    public boolean getAutomaticFileRemoval() {
+        return this.target.getAutomaticFileRemoval();
+    }
+
+    @Override
+    public void setAutomaticFileRemoval(final boolean flag) {
+        this.target.setAutomaticFileRemoval(flag);
+    }
+
+    @Override
+    public String getFileName() {
+        return this.target.getFileName();
+    }
+
+    @Override
+    public void printEvaluationData() {
+        log.log(Level.INFO,"Server passing logged measurements to file!");
+        final String path;
+        if(this.getFileName().contains(".")){
+            path = this.getFileName().split("\\.")[0];
+        }else{
+            path = this.getFileName();
+        }
+        if(this.pt != null){
+            PerformanceTimerHelper.createEvaluationData(path,"writer",this.pt);
+        }
+        if(this.cryptoTimer != null && !this.cryptoTimer.getData().isEmpty()){
+            PerformanceTimerHelper.createEvaluationData(path,"writer-crypto",this.cryptoTimer);
+        }
+    }
+
+    @Override
+    public void setDurabilityPolicy(final DurabilityPolicy policy, final long parameter, final PerformanceTimer syncTimer) {
+        this.target.setDurabilityPolicy(policy,parameter,syncTimer);
+    }
+
+    @Override
+    public void setIoHints(final IoHintProfile profile, final long parameter) {
+        this.target.setIoHints(profile,parameter);
+    }
+
+    /**
+     * Result of a single encrypt task.
+     */
+    private static final class EncryptedBlock {
+        private final byte[] data;
+        private final int length;
+
+        EncryptedBlock(final byte[] data, final int length) {
+            this.data = data;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,445 @@
+/*
+ * File: WriterErasureCoded
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.writer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import de.b4sh.byter.utils.data.ReedSolomon;
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.io.IoHintProfile;
+import de.b4sh.byter.utils.io.IoHints;
+import de.b4sh.byter.utils.io.ThreadManager;
+import de.b4sh.byter.utils.measurements.Measurement;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.measurements.PerformanceTimerHelper;
+
+/**
+ * Reed-Solomon erasure coding writer.
+ * The stream is cut into stripes of dataShards * shardSize bytes. The parity shards of every stripe are calculated
+ * on the pool of an OrderedBlockProcessor (one stripe per task), the dataShards + parityShards shards are written
+ * in order to one file each.
+ * Shard files are spread round robin over the given directories (devices). A shard map is written next to the
+ * requested file on finish, ErasureMap.reconstruct rebuilds the stream with up to parityShards shard files missing.
+ * Encode times per stripe are collected in their own series ("writer-encode" evaluation).
+ */
+public final class WriterErasureCoded implements WriterInterface,Runnable {
+
+    private static final Logger log = Logger.getLogger(WriterErasureCoded.class.getName());
+    public static final int DEFAULT_SHARD_SIZE = 64 * 1024;
+    public static final int DEFAULT_DATA_SHARDS = 4;
+    public static final int DEFAULT_PARITY_SHARDS = 2;
+    private final File writeFile;
+    private final File mapFile;
+    private final String fileName;
+    private final PerformanceTimer pt;
+    private final PerformanceTimer encodeTimer;
+    private final boolean takeMeasurements;
+    //shards
+    private final ReedSolomon codec;
+    private final int dataShards;
+    private final int shardSize;
+    private final int stripeSize;
+    private final File[] shardFiles;
+    private final FileChannel[] channels;
+    private final boolean[] failedShards;
+    private final OrderedBlockProcessor<byte[][]> processor;
+    private final ConcurrentLinkedQueue<byte[][]> freeParity;
+    private long totalBytes;
+    private long storedBytes;
+    private long failedWrites;
+    private long firstWrite;
+    private long lastWrite;
+    private Durability durability = Durability.NONE;
+    private IoHints[] hints;
+    //run parameter
+    private byte[] chunk;
+    private byte[] edge;
+    private int iteration;
+    private boolean isFinished;
+    private boolean automaticFileRemoval;
+
+    /**
+     * Constructor for the erasure coding writer.
+     * @param shardSize size of a single shard of a stripe (0 or below for the default of 64KB)
+     * @param dataShards count of data shards per stripe
+     * @param parityShards count of parity shards per stripe
+     * @param directories directories to spread the shard files over (null or empty for the directory of fileToWriteTo)
+     * @param fileToWriteTo file name of the shards, the shard map is written next to this file
+     */
+    public WriterErasureCoded(final int shardSize, final int dataShards, final int parityShards,
+                              final List<String> directories, final File fileToWriteTo) {
+        this(shardSize,dataShards,parityShards,directories,fileToWriteTo,null);
+    }
+
+    /**
+     * Constructor for the erasure coding writer.
+     * @param shardSize size of a single shard of a stripe (0 or below for the default of 64KB)
+     * @param dataShards count of data shards per stripe
+     * @param parityShards count of parity shards per stripe
+     * @param directories directories to spread the shard files over (null or empty for the directory of fileToWriteTo)
+     * @param fileToWriteTo file name of the shards, the shard map is written next to this file
+     * @param timer timer that collects the measurements
+     */
+    public WriterErasureCoded(final int shardSize, final int dataShards, final int parityShards,
+                              final List<String> directories, final File fileToWriteTo, final PerformanceTimer timer) {
+        this.pt = timer;
+        this.takeMeasurements = timer != null;
+        this.encodeTimer = timer != null ? new PerformanceTimer(WriterErasureCoded.class.getName() + "-Encode") : null;
+        this.writeFile = fileToWriteTo;
+        this.fileName = this.writeFile.getName();
+        this.mapFile = new File(this.writeFile.getAbsoluteFile().getParentFile(), this.fileName + ".ecmap");
+        this.automaticFileRemoval = true;
+        this.codec = new ReedSolomon(dataShards, parityShards);
+        this.dataShards = dataShards;
+        this.shardSize = shardSize <= 0 ? DEFAULT_SHARD_SIZE : shardSize;
+        this.stripeSize = this.dataShards * this.shardSize;
+        final List<String> dirs = directories == null || directories.isEmpty()
+                ? Collections.singletonList(this.writeFile.getAbsoluteFile().getParent()) : directories;
+        final int total = dataShards + parityShards;
+        this.shardFiles = new File[total];
+        this.channels = new FileChannel[total];
+        this.failedShards = new boolean[total];
+        this.hints = new IoHints[total];
+        Arrays.fill(this.hints, IoHints.NONE);
+        for(int i = 0; i < total; i++){
+            final String dir = dirs.get(i % dirs.size());
+            if(!FileManager.isFolderExisting(dir))
+                FileManager.createFolder(dir);
+            this.shardFiles[i] = new File(dir, this.fileName + ".shard" + i);
+            try {
+                this.channels[i] = FileChannel.open(this.shardFiles[i].toPath(),StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE,StandardOpenOption.TRUNCATE_EXISTING);
+            } catch (IOException e) {
+                this.failedShards[i] = true;
+                log.log(Level.WARNING,"IO Exception during init of shard " + i + ". Check Stacktrace for details.",e);
+            }
+        }
+        this.freeParity = new ConcurrentLinkedQueue<>();
+        this.processor = new OrderedBlockProcessor<>(this.stripeSize, 0,
+                (stripe, length, index) -> this.encode(stripe,length),
+                (stripe, length, parity) -> this.writeStripe(stripe,parity),
+                this.encodeTimer, WriterErasureCoded.class.getName());
+        if(this.pt != null)
+            this.pt.addEvaluator(perfTimer -> this.evaluateShards());
+    }
+
+    @Override
+    public void handleData(final byte[] bytes) {
+        this.handleData(bytes,bytes.length);
+    }
+
+    @Override
+    public void handleData(final byte[] bytes, final int offset) {
+        if(this.takeMeasurements)
+            this.handleDataWithMeasurements(bytes,offset);
+        else
+            this.handleDataWithoutMeasurements(bytes,offset);
+    }
+
+    private void handleDataWithMeasurements(final byte[] bytes, final int offset){
+        final long tStart = System.nanoTime();
+        this.stripeData(bytes,offset);
+        final long tEnd = System.nanoTime();
+        this.pt.addNewMeasurement(new Measurement(WriterErasureCoded.class.getName(),offset,tStart,tEnd));
+    }
+
+    private void handleDataWithoutMeasurements(final byte[] bytes, final int offset){
+        this.stripeData(bytes,offset);
+    }
+
+    /**
+     * Hand the data to the block processor, full stripes are encoded on its pool.
+     * @param bytes byte array
+     * @param offset max element of true data inside the array
+     */
+    private void stripeData(final byte[] bytes, final int offset){
+        if(this.firstWrite == 0)
+            this.firstWrite = System.nanoTime();
+        this.processor.write(bytes,offset);
+        this.totalBytes += offset;
+    }
+
+    /**
+     * Calculate the parity shards of a stripe.
+     * Runs on the pool.
+     * @param stripe data shards of the stripe one after another
+     * @param length count of valid bytes in the stripe
+     * @return parity shards
+     */
+    private byte[][] encode(final byte[] stripe, final int length){
+        if(length < this.stripeSize) //pad the last stripe with zeros
+            Arrays.fill(stripe, length, this.stripeSize, (byte) 0);
+        byte[][] parity = this.freeParity.poll();
+        if(parity == null)
+            parity = new byte[this.codec.getParityShards()][this.shardSize];
+        this.codec.encodeParity(stripe, parity, this.shardSize);
+        return parity;
+    }
+
+    /**
+     * Write the shards of an encoded stripe to their files.
+     * A shard that failed once is not written anymore, it is marked as failed in the shard map and rebuilt out of
+     * the other shards on reconstruct.
+     * @param stripe data shards of the stripe one after another
+     * @param parity parity shards of the stripe
+     */
+    private void writeStripe(final byte[] stripe, final byte[][] parity){
+        long written = 0;
+        for(int i = 0; i < this.channels.length; i++){
+            if(this.failedShards[i])
+                continue;
+            final ByteBuffer buffer = i < this.dataShards
+                    ? ByteBuffer.wrap(stripe, i * this.shardSize, this.shardSize) : ByteBuffer.wrap(parity[i - this.dataShards]);
+            try {
+                while(buffer.hasRemaining()){
+                    this.channels[i].write(buffer);
+                }
+                this.hints[i].onWrite(this.shardSize);
+                written += this.shardSize;
+            } catch (IOException e) {
+                this.failedWrites++;
+                this.failedShards[i] = true;
+                log.log(Level.WARNING, "IO Exception while writing shard " + i + ". Shard is marked as failed.",e);
+            }
+        }
+        this.durability.onWrite(written);
+        this.storedBytes += written;
+        this.freeParity.offer(parity);
+    }
+
+    @Override
+    public void finish() {
+        log.log(Level.INFO, "Finish WriterErasureCoded \n AutomaticFileRemoval: "
+                + this.automaticFileRemoval +" -|- Shards: " + this.dataShards + "+" + this.codec.getParityShards());
+        this.processor.flush(); //encode the last partly filled stripe
+        this.lastWrite = System.nanoTime();
+        this.processor.shutdown();
+        this.durability.close();
+        final List<String> shardPaths = new ArrayList<>();
+        final List<Integer> failed = new ArrayList<>();
+        for(int i = 0; i < this.channels.length; i++){
+            if(this.channels[i] != null){
+                try {
+                    this.channels[i].close();
+                } catch (IOException e) {
+                    log.log(Level.WARNING, "IO Exception on closing shard " + i + ".");
+                }
+            }
+            this.hints[i].close();
+            shardPaths.add(this.shardFiles[i].getAbsolutePath());
+            if(this.failedShards[i])
+                failed.add(i);
+        }
+        if(failed.size() > this.codec.getParityShards())
+            log.log(Level.WARNING, failed.size() + " shards failed, the stream can't be rebuilt with "
+                    + this.codec.getParityShards() + " parity shards.");
+        new ErasureMap(this.dataShards,this.codec.getParityShards(),this.shardSize,this.totalBytes,shardPaths,failed)
+                .write(this.mapFile);
+        this.isFinished = true;
+        ThreadManager.nap(125); //wait 125ms for the writer to close the stream and everthing
+        if(automaticFileRemoval){
+            log.log(Level.INFO, "Removing DataFiles from WriterErasureCoded Test.");
+            for(File shard: this.shardFiles){
+                if(shard.exists())
+                    FileManager.removeFile(shard);
+            }
+            if(this.mapFile.exists())
+                FileManager.removeFile(this.mapFile);
+        }
+        if(this.pt != null)
+            printEvaluationData();
+    }
+
+    /**
+     * Encode throughput, shard write time and storage overhead.
+     * @return map with evaluation data
+     */
+    private Map<String, Float> evaluateShards(){
+        final Map<String, Float> response = new HashMap<>();
+        final long stripeCount = this.processor.getBlockCount();
+        final long encodeNanos = this.processor.getTransformNanos();
+        response.put("erasureDataShards", (float) this.dataShards);
+        response.put("erasureParityShards", (float) this.codec.getParityShards());
+        response.put("erasureShardSize", (float) this.shardSize);
+        response.put("erasureStripes", (float) stripeCount);
+        response.put("erasureRawBytes", (float) this.totalBytes);
+        response.put("erasureStoredBytes", (float) this.storedBytes);
+        response.put("erasureStorageOverhead", this.totalBytes == 0 ? 0f : (float) this.storedBytes / this.totalBytes);
+        response.put("erasureFailedWrites", (float) this.failedWrites);
+        int failed = 0;
+        for(boolean shard: this.failedShards){
+            if(shard)
+                failed++;
+        }
+        response.put("erasureFailedShards", (float) failed);
+        response.put("avgStripeEncodeMs", stripeCount == 0 ? 0f : encodeNanos / (float) stripeCount / 1000000f);
+        response.put("encodeMegaBytesPerSecondPerThread", encodeNanos == 0 ? 0f
+                : (float) ((double) stripeCount * this.stripeSize / (encodeNanos / 1e9) / (1024 * 1024)));
+        response.put("encodeWaitMs", this.processor.getWaitNanos() / 1000000f);
+        response.put("shardWriteMs", this.processor.getSinkNanos() / 1000000f);
+        if(this.lastWrite > this.firstWrite && this.firstWrite != 0)
+            response.put("endToEndMegaBytesPerSecond",
+                    (float) (this.totalBytes / ((this.lastWrite - this.firstWrite) / 1e9) / (1024 * 1024)));
+        return response;
+    }
+
+    @Override
+    public boolean isFinished() {
+        return this.isFinished;
+    }
+
+    @Override
+    public void run() {
+        if(chunk != null && edge != null){
+            for(int i = 0; i < this.iteration; i++){
+                this.handleData(this.chunk);
+            }
+            this.handleData(this.edge,this.edge.length); //fix edge case (missing bytes)
+            this.finish(); //finish writer - to close stream and open file locks
+        }else{
+            log.log(Level.WARNING,"Please set a chunk and a edge chunk. Stopping here. Can't progress without");
+            this.isFinished = true;
+        }
+    }
+
+    @Override
+    public PerformanceTimer getTimer() {
+        return this.pt;
+    }
+
+    /**
+     * get the timer with the encode time of every stripe.
+     * @return timer | null if no measurements are taken
+     */
+    public PerformanceTimer getEncodeTimer() {
+        return this.encodeTimer;
+    }
+
+    /**
+     * get the file that contains the shard map.
+     * @return shard map file
+     */
+    public File getErasureMapFile() {
+        return this.mapFile;
+    }
+
+    /**
+     * get the shard files, data shards first.
+     * @return array of shard files
+     */
+    public File[] getShardFiles() {
+        return this.shardFiles.clone();
+    }
+
+    /**
+     * set the parameters needed for a run as Thread.
+     * @param chunk chunk to write multiple times
+     * @param edge edge chunk to achieve the desired count
+     * @param it how many times should the whole chunk be written to file
+     */
+    public void setRunParameters(final byte[] chunk, final byte[] edge, final int it){
+        this.chunk = chunk;
+        this.edge = edge;
+        this.iteration = it;
+    }
+
+    /**
+     * get the set chunk.
+     * @return byte array with set chunk
+     */
+    public byte[] getChunk() {
+        return chunk;
+    }
+
+    /**
+     * get the edge chunk.
+     * @return byte array with set edge chunk
+     */
+    public byte[] getEdge() {
+        return edge;
+    }
+
+    /**
+     * get the iteartion count that should be fulfilled.
+     * @return interger with the count
+     */
+    public int getIteration() {
+        return iteration;
+    }
+
+    @Override
+    public boolean getAutomaticFileRemoval() {
+        return this.automaticFileRemoval;
+    }
+
+    @Override
+    public void setAutomaticFileRemoval(final boolean flag) {
+        this.automaticFileRemoval = flag;
+    }
+
+    @Override
+    public String getFileName() {
+        return this.fileName;
+    }
+
+    @Override
+    public void printEvaluationData() {
+        log.log(Level.INFO,"Server passing logged measurements to file!");
+        final String path;
+        if(this.getFileName().contains(".")){
+            path = this.getFileName().split("\\.")[0];
+        }else{
+            path = this.getFileName();
+        }
+        if(this.pt != null){
+            PerformanceTimerHelper.createEvaluationData(path,"writer",this.pt);
+        }
+        if(this.encodeTimer != null && !this.encodeTimer.getData().isEmpty()){
+            PerformanceTimerHelper.createEvaluationData(path,"writer-encode",this.encodeTimer);
+        }
+        this.durability.printEvaluationData(path);
+    }
+
+    @Override
+    public void setDurabilityPolicy(final DurabilityPolicy policy, final long parameter, final PerformanceTimer syncTimer) {
+        this.durability.close();
+        this.durability = new Durability(policy,parameter,syncTimer,() -> {
+            for(FileChannel channel: this.channels){
+                if(channel != null)
+                    channel.force(false);
+            }
+        });
+    }
+
+    /**
+     * Every shard file gets its own hints.
+     * @param profile profile to apply
+     * @param parameter bytes of a hint window (0 for the default of 8MB)
+     */
+    @Override
+    public void setIoHints(final IoHintProfile profile, final long parameter) {
+        for(int i = 0; i < this.hints.length; i++){
+            this.hints[i].close();
+            this.hints[i] = new IoHints(profile,parameter,this.shardFiles[i],true,null);
+            this.hints[i].onOpen();
+        }
+    }
+}
@@ -13,10 +13,15 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import de.b4sh.byter.utils.io.DirectBufferPool;
 import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.io.IoHintProfile;
+import de.b4sh.byter.utils.io.IoHints;
 import de.b4sh.byter.utils.io.ThreadManager;
 import de.b4sh.byter.utils.measurements.Measurement;
 import de.b4sh.byter.utils.measurements.PerformanceTimer;
@@ -24,6 +29,9 @@ import de.b4sh.byter.utils.measurements.PerformanceTimerHelper;
 
 /**
  * FileChannel Writer implementation for server.
+ * Optional with an off-heap staging mode: chunks are copied once into a pooled direct buffer
+ * which is written to the channel when it is full. This avoids the temporary direct buffer
+ * the jdk allocates and fills for every write of a heap buffer.
  */
 public final class WriterFileChannel implements WriterInterface,Runnable {
 
@@ -33,6 +41,14 @@ public final class WriterFileChannel implements WriterInterface,Runnable {
     private final String fileName;
     private final PerformanceTimer pt;
     private final boolean takeMeasurements;
+    //staging
+    private final boolean useStaging;
+    private final DirectBufferPool bufferPool;
+    private ByteBuffer stagingBuffer;
+    private long poolHits;
+    private long poolMisses;
+    private Durability durability = Durability.NONE;
+    private IoHints hints = IoHints.NONE;
     //run parameter
     private byte[] chunk;
     private byte[] edge;
@@ -48,6 +64,8 @@ public final class WriterFileChannel implements WriterInterface,Runnable {
     public WriterFileChannel(final int writerBufferSize, final File fileToWriteTo) {
         this.pt = null;
         this.takeMeasurements = false;
+        this.useStaging = false;
+        this.bufferPool = null;
         this.writeFile = fileToWriteTo;
         this.fileName = this.writeFile.getName();
         this.automaticFileRemoval = true;
@@ -67,6 +85,8 @@ public final class WriterFileChannel implements WriterInterface,Runnable {
     public WriterFileChannel(final int writerBufferSize, final File fileToWriteTo, final PerformanceTimer timer) {
         this.pt = timer;
         this.takeMeasurements = true;
+        this.useStaging = false;
+        this.bufferPool = null;
         this.writeFile = fileToWriteTo;
         this.fileName = this.writeFile.getName();
         this.automaticFileRemoval = true;
@@ -77,6 +97,39 @@ public final class WriterFileChannel implements WriterInterface,Runnable {
         }
     }
 
+    /**
+     * Constructor for FileChannel with optional off-heap staging.
+     * @param writerBufferSize size of the pooled staging buffers (rounded up to the page size)
+     * @param fileToWriteTo file to write to
+     * @param timer timer that collects the measurements (null for no measurements)
+     * @param directStaging true to stage chunks in pooled direct buffers
+     */
+    public WriterFileChannel(final int writerBufferSize, final File fileToWriteTo, final PerformanceTimer timer,
+                             final boolean directStaging) {
+        this.pt = timer;
+        this.takeMeasurements = timer != null;
+        this.useStaging = directStaging;
+        this.bufferPool = directStaging ? DirectBufferPool.getPool(writerBufferSize) : null;
+        this.writeFile = fileToWriteTo;
+        this.fileName = this.writeFile.getName();
+        this.automaticFileRemoval = true;
+        try{
+            channel = new FileOutputStream(fileToWriteTo,true).getChannel();
+        } catch (FileNotFoundException e) {
+            log.log(Level.WARNING,"File not found Exception during init of WriterFileChannel");
+        }
+        if(this.pt != null && this.useStaging)
+            this.pt.addEvaluator(perfTimer -> {
+                final Map<String, Float> response = new HashMap<>();
+                response.put("stagingPoolHits", (float) this.getPoolHits());
+                response.put("stagingPoolMisses", (float) this.getPoolMisses());
+                //the pool is shared by every writer with the same buffer size
+                response.put("stagingPoolGlobalHits", (float) this.bufferPool.getHits());
+                response.put("stagingPoolGlobalMisses", (float) this.bufferPool.getMisses());
+                return response;
+            });
+    }
+
     @Override
     public void handleData(final byte[] bytes) {
         this.handleData(bytes,bytes.length);
@@ -94,7 +147,7 @@ public final class WriterFileChannel implements WriterInterface,Runnable {
         if(null != channel){
             try {
                 final long tStart = System.nanoTime();
-                channel.write(ByteBuffer.wrap(bytes,0,offset));
+                this.writeData(bytes,offset);
                 final long tEnd = System.nanoTime();
                 this.pt.addNewMeasurement(new Measurement(WriterFileChannel.class.getName(),bytes.length,tStart,tEnd));
             } catch (IOException e) {
@@ -106,20 +159,87 @@ public final class WriterFileChannel implements WriterInterface,Runnable {
     private void handleDataWithoutMeasurements(final byte[] bytes, final int offset){
         if(null != channel){
             try {
-                channel.write(ByteBuffer.wrap(bytes,0,offset));
+                this.writeData(bytes,offset);
             } catch (IOException e) {
                 log.log(Level.WARNING, "IO Exception while processing data. Check stacktrace",e);
             }
         }
     }
 
+    private void writeData(final byte[] bytes, final int offset) throws IOException {
+        if(this.useStaging)
+            this.stageData(bytes,offset);
+        else{
+            channel.write(ByteBuffer.wrap(bytes,0,offset));
+            this.durability.onWrite(offset);
+            this.hints.onWrite(offset);
+        }
+    }
+
+    /**
+     * Copy the data into the staging buffer and write the buffer out as soon as it is full.
+     * @param bytes byte array
+     * @param offset max element of true data inside the array
+     * @throws IOException on write errors
+     */
+    private void stageData(final byte[] bytes, final int offset) throws IOException {
+        int copied = 0;
+        while(copied < offset){
+            if(this.stagingBuffer == null)
+                this.stagingBuffer = this.acquireStagingBuffer();
+            final int length = Math.min(this.stagingBuffer.remaining(), offset - copied);
+            this.stagingBuffer.put(bytes,copied,length);
+            copied += length;
+            if(!this.stagingBuffer.hasRemaining())
+                this.flushStagingBuffer();
+        }
+    }
+
+    /**
+     * Take a staging buffer out of the shared pool and count the hit or miss for this writer.
+     * @return cleared direct buffer
+     */
+    private ByteBuffer acquireStagingBuffer(){
+        final ByteBuffer buffer = this.bufferPool.poll();
+        if(buffer != null){
+            this.poolHits++;
+            return buffer;
+        }
+        this.poolMisses++;
+        return this.bufferPool.allocate();
+    }
+
+    /**
+     * Write the content of the staging buffer and hand it back to the pool.
+     * @throws IOException on write errors
+     */
+    private void flushStagingBuffer() throws IOException {
+        if(this.stagingBuffer == null)
+            return;
+        this.stagingBuffer.flip();
+        final int length = this.stagingBuffer.remaining();
+        while(this.stagingBuffer.hasRemaining()){
+            channel.write(this.stagingBuffer);
+        }
+        this.durability.onWrite(length);
+        this.hints.onWrite(length);
+        this.bufferPool.release(this.stagingBuffer);
+        this.stagingBuffer = null;
+    }
+
     @Override
     public void finish() {
         log.log(Level.INFO, "Finish WriterFileChannel \n AutomaticFileRemoval: "
                 + this.automaticFileRemoval +" -|- File Existing: " + this.writeFile.exists());
         if (null != channel){
             try {
+                if(this.useStaging){
+                    this.flushStagingBuffer(); //write out the last partly filled buffer
+                    log.log(Level.INFO, "Staging pool hits: " + this.getPoolHits() + " -|- misses: " + this.getPoolMisses());
+                }
+                this.durability.close();
                 channel.close();
+                this.hints.close();
                 this.isFinished = true;
                 ThreadManager.nap(125); //wait 125ms for the writer to close the stream and everthing
                 if (this.writeFile.exists() && automaticFileRemoval) {
@@ -194,6 +314,22 @@ public final class WriterFileChannel implements WriterInterface,Runnable {
         return iteration;
     }
 
+    /**
+     * get the count of staging buffers this writer took out of the pool.
+     * @return hits | 0 if staging is not used
+     */
+    public long getPoolHits() {
+        return this.poolHits;
+    }
+
+    /**
+     * get the count of staging buffers this writer had to allocate.
+     * @return misses | 0 if staging is not used
+     */
+    public long getPoolMisses() {
+        return this.poolMisses;
+    }
+
     @Override
     public boolean getAutomaticFileRemoval() {
         return this.automaticFileRemoval;
@@ -221,5 +357,19 @@ public final class WriterFileChannel implements WriterInterface,Runnable {
         if(this.pt != null){
             PerformanceTimerHelper.createEvaluationData(path,"writer",this.pt);
         }
+        this.durability.printEvaluationData(path);
+    }
+
+    @Override
+    public void setDurabilityPolicy(final DurabilityPolicy policy, final long parameter, final PerformanceTimer syncTimer) {
+        this.durability.close();
+        this.durability = new Durability(policy,parameter,syncTimer,() -> this.channel.force(false));
+    }
+
+    @Override
+    public void setIoHints(final IoHintProfile profile, final long parameter) {
+        this.hints.close();
+        this.hints = new IoHints(profile,parameter,this.writeFile,true,this.pt);
+        this.hints.onOpen();
     }
 }
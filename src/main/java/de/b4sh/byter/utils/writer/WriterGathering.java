@@ -0,0 +1,306 @@
+/*
+ * File: WriterGathering
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.writer;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.io.IoHintProfile;
+import de.b4sh.byter.utils.io.IoHints;
+import de.b4sh.byter.utils.io.ThreadManager;
+import de.b4sh.byter.utils.measurements.Measurement;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.measurements.PerformanceTimerHelper;
+
+/**
+ * Gathering FileChannel writer implementation.
+ * Incoming chunks are collected into a batch of direct buffers and written with a single
+ * gathering FileChannel.write(ByteBuffer[]) call as soon as the byte or count threshold is reached.
+ * Chunks are copied into the batch, because most callers reuse their arrays after handleData.
+ */
+public final class WriterGathering implements WriterInterface,Runnable {
+
+    private static final Logger log = Logger.getLogger(WriterGathering.class.getName());
+    public static final int DEFAULT_BATCH_SIZE = 64;
+    private static final int MAX_BATCH_SIZE = 1024; //IOV_MAX on linux
+    private FileChannel channel;
+    private final File writeFile;
+    private final String fileName;
+    private final PerformanceTimer pt;
+    private final boolean takeMeasurements;
+    //batch
+    private final ByteBuffer[] batch;
+    private final int batchByteThreshold;
+    private int batchCount;
+    private long batchBytes;
+    private long flushCount;
+    private Durability durability = Durability.NONE;
+    private IoHints hints = IoHints.NONE;
+    //run parameter
+    private byte[] chunk;
+    private byte[] edge;
+    private int iteration;
+    private boolean isFinished;
+    private boolean automaticFileRemoval;
+
+    /**
+     * Constructor for gathering writer.
+     * @param writerBufferSize byte threshold of a batch
+     * @param batchSize count threshold of a batch (0 or below for the default of 64)
+     * @param fileToWriteTo file to write to
+     */
+    public WriterGathering(final int writerBufferSize, final int batchSize, final File fileToWriteTo) {
+        this(writerBufferSize,batchSize,fileToWriteTo,null);
+    }
+
+    /**
+     * Constructor for gathering writer.
+     * @param writerBufferSize byte threshold of a batch
+     * @param batchSize count threshold of a batch (0 or below for the default of 64)
+     * @param fileToWriteTo file to write to
+     * @param timer timer that collects the measurements
+     */
+    public WriterGathering(final int writerBufferSize, final int batchSize, final File fileToWriteTo, final PerformanceTimer timer) {
+        this.pt = timer;
+        this.takeMeasurements = timer != null;
+        this.writeFile = fileToWriteTo;
+        this.fileName = this.writeFile.getName();
+        this.automaticFileRemoval = true;
+        this.batchByteThreshold = writerBufferSize;
+        this.batch = new ByteBuffer[batchSize <= 0 ? DEFAULT_BATCH_SIZE : Math.min(batchSize, MAX_BATCH_SIZE)];
+        this.batchCount = 0;
+        this.batchBytes = 0;
+        this.flushCount = 0;
+        try{
+            channel = new FileOutputStream(fileToWriteTo,true).getChannel();
+        } catch (FileNotFoundException e) {
+            log.log(Level.WARNING,"File not found Exception during init of WriterGathering");
+        }
+    }
+
+    @Override
+    public void handleData(final byte[] bytes) {
+        this.handleData(bytes,bytes.length);
+    }
+
+    @Override
+    public void handleData(final byte[] bytes, final int offset) {
+        if(this.takeMeasurements)
+            this.handleDataWithMeasurements(bytes,offset);
+        else
+            this.handleDataWithoutMeasurements(bytes,offset);
+    }
+
+    private void handleDataWithMeasurements(final byte[] bytes, final int offset){
+        if(null != channel){
+            try {
+                final long tStart = System.nanoTime();
+                this.addToBatch(bytes,offset);
+                final long tEnd = System.nanoTime();
+                this.pt.addNewMeasurement(new Measurement(WriterGathering.class.getName(),offset,tStart,tEnd));
+            } catch (IOException e) {
+                log.log(Level.WARNING, "IO Exception while processing data. Check stacktrace",e);
+            }
+        }
+    }
+
+    private void handleDataWithoutMeasurements(final byte[] bytes, final int offset){
+        if(null != channel){
+            try {
+                this.addToBatch(bytes,offset);
+            } catch (IOException e) {
+                log.log(Level.WARNING, "IO Exception while processing data. Check stacktrace",e);
+            }
+        }
+    }
+
+    /**
+     * Copy the chunk into the next batch slot and flush the batch if a threshold is reached.
+     * Slots are reused and only reallocated if a bigger chunk arrives.
+     * @param bytes byte array
+     * @param offset max element of true data inside the array
+     * @throws IOException on write errors
+     */
+    private void addToBatch(final byte[] bytes, final int offset) throws IOException {
+        if(offset <= 0)
+            return;
+        ByteBuffer slot = this.batch[this.batchCount];
+        if(slot == null || slot.capacity() < offset){
+            slot = ByteBuffer.allocateDirect(offset);
+            this.batch[this.batchCount] = slot;
+        }
+        slot.clear();
+        slot.put(bytes,0,offset);
+        slot.flip();
+        this.batchCount++;
+        this.batchBytes += offset;
+        if(this.batchCount == this.batch.length || this.batchBytes >= this.batchByteThreshold)
+            this.flushBatch();
+    }
+
+    /**
+     * Write all collected slots with gathering writes.
+     * @throws IOException on write errors
+     */
+    private void flushBatch() throws IOException {
+        if(this.batchCount == 0)
+            return;
+        long remaining = this.batchBytes;
+        while(remaining > 0){
+            remaining -= channel.write(this.batch,0,this.batchCount);
+        }
+        this.flushCount++;
+        this.durability.onWrite(this.batchBytes);
+        this.hints.onWrite(this.batchBytes);
+        this.batchCount = 0;
+        this.batchBytes = 0;
+    }
+
+    @Override
+    public void finish() {
+        log.log(Level.INFO, "Finish WriterGathering \n AutomaticFileRemoval: "
+                + this.automaticFileRemoval +" -|- File Existing: " + this.writeFile.exists());
+        if (null != channel){
+            try {
+                this.flushBatch(); //write the last incomplete batch
+                log.log(Level.INFO, "WriterGathering issued " + this.flushCount + " gathering writes.");
+                this.durability.close();
+                channel.close();
+                this.hints.close();
+                this.isFinished = true;
+                ThreadManager.nap(125); //wait 125ms for the writer to close the stream and everthing
+                if (this.writeFile.exists() && automaticFileRemoval) {
+                    log.log(Level.INFO, "Removing DataFile from WriterGathering Test");
+                    FileManager.removeFile(this.writeFile);
+                }
+            } catch (IOException e) {
+                log.log(Level.WARNING, "IO Exception on closing FileChannel.");
+            }
+        }
+        if(this.pt != null)
+            printEvaluationData();
+    }
+
+    @Override
+    public boolean isFinished() {
+        return this.isFinished;
+    }
+
+    @Override
+    public void run() {
+        if(chunk != null && edge != null){
+            for(int i = 0; i < this.iteration; i++){
+                this.handleData(this.chunk);
+            }
+            this.handleData(this.edge,this.edge.length); //fix edge case (missing bytes)
+            this.finish(); //finish writer - to close stream and open file locks
+        }else{
+            log.log(Level.WARNING,"Please set a chunk and a edge chunk. Stopping here. Can't progress without");
+            this.isFinished = true;
+        }
+    }
+
+    @Override
+    public PerformanceTimer getTimer() {
+        return this.pt;
+    }
+
+    /**
+     * get the count of gathering writes issued so far.
+     * @return count of flushed batches
+     */
+    public long getFlushCount() {
+        return this.flushCount;
+    }
+
+    /**
+     * set the parameters needed for a run as Thread.
+     * @param chunk chunk to write multiple times
+     * @param edge edge chunk to achieve the desired count
+     * @param it how many times should the whole chunk be written to file
+     */
+    public void setRunParameters(final byte[] chunk, final byte[] edge, final int it){
+        this.chunk = chunk;
+        this.edge = edge;
+        this.iteration = it;
+    }
+
+    /**
+     * get the set chunk.
+     * @return byte array with set chunk
+     */
+    public byte[] getChunk() {
+        return chunk;
+    }
+
+    /**
+     * get the edge chunk.
+     * @return byte array with set edge chunk
+     */
+    public byte[] getEdge() {
+        return edge;
+    }
+
+    /**
+     * get the iteartion count that should be fulfilled.
+     * @return interger with the count
+     */
+    public int getIteration() {
+        return iteration;
+    }
+
+    @Override
+    public boolean getAutomaticFileRemoval() {
+        return this.automaticFileRemoval;
+    }
+
+    @Override
+    public void setAutomaticFileRemoval(final boolean flag) {
+        this.automaticFileRemoval = flag;
+    }
+
+    @Override
+    public String getFileName() {
+        return this.fileName;
+    }
+
+    @Override
+    public void printEvaluationData() {
+        log.log(Level.INFO,"Server passing logged measurements to file!");
+        final String path;
+        if(this.getFileName().contains(".")){
+            path = this.getFileName().split("\\.")[0];
+        }else{
+            path = this.getFileName();
+        }
+        if(this.pt != null){
+            PerformanceTimerHelper.createEvaluationData(path,"writer",this.pt);
+        }
+        this.durability.printEvaluationData(path);
+    }
+
+    @Override
+    public void setDurabilityPolicy(final DurabilityPolicy policy, final long parameter, final PerformanceTimer syncTimer) {
+        this.durability.close();
+        this.durability = new Durability(policy,parameter,syncTimer,() -> this.channel.force(false));
+    }
+
+    @Override
+    public void setIoHints(final IoHintProfile profile, final long parameter) {
+        this.hints.close();
+        this.hints = new IoHints(profile,parameter,this.writeFile,true,this.pt);
+        this.hints.onOpen();
+    }
+}
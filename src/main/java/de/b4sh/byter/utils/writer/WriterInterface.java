@@ -1,5 +1,6 @@
 package de.b4sh.byter.utils.writer;
 
+import de.b4sh.byter.utils.io.IoHintProfile;
 import de.b4sh.byter.utils.measurements.PerformanceTimer;
 
 /**
@@ -95,4 +96,21 @@ public interface WriterInterface {
      */
     void printEvaluationData();
 
+    /**
+     * Set the durability policy of the writer.
+     * Decides when written data is forced onto the device. Set it before the first handleData.
+     * @param policy policy to apply
+     * @param parameter policy parameter (0 for the default of the policy)
+     * @param syncTimer timer that collects the sync latencies | null
+     */
+    void setDurabilityPolicy(DurabilityPolicy policy, long parameter, PerformanceTimer syncTimer);
+
+    /**
+     * Set the native I/O hint profile of the writer (fadvise, fallocate, sync_file_range, madvise - see IoHints).
+     * Set it before the first handleData. Without native access (below java 22, other os) the hints are no-ops.
+     * @param profile profile to apply
+     * @param parameter bytes of a hint window (0 for the default of 8MB)
+     */
+    void setIoHints(IoHintProfile profile, long parameter);
+
 }
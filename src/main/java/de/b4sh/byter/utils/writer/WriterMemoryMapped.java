@@ -0,0 +1,283 @@
+/*
+ * File: WriterMemoryMapped
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.writer;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.io.IoHintProfile;
+import de.b4sh.byter.utils.io.IoHints;
+import de.b4sh.byter.utils.io.ThreadManager;
+import de.b4sh.byter.utils.measurements.Measurement;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.measurements.PerformanceTimerHelper;
+
+/**
+ * Memory mapped writer implementation.
+ * Data is copied into a MappedByteBuffer window of the target file.
+ * If the current window is full the next region of the file gets mapped.
+ * The file is truncated to the actual written length on finish.
+ */
+public final class WriterMemoryMapped implements WriterInterface,Runnable {
+
+    private static final Logger log = Logger.getLogger(WriterMemoryMapped.class.getName());
+    private static final int MIN_REGION_SIZE = 64 * 1024 * 1024;
+    private RandomAccessFile raf;
+    private FileChannel channel;
+    private MappedByteBuffer region;
+    private Durability durability = Durability.NONE;
+    private IoHints hints = IoHints.NONE;
+    private final int regionSize;
+    private long position;
+    private final File writeFile;
+    private final String fileName;
+    private final PerformanceTimer pt;
+    private final boolean takeMeasurements;
+    //run parameter
+    private byte[] chunk;
+    private byte[] edge;
+    private int iteration;
+    private boolean isFinished;
+    private boolean automaticFileRemoval;
+
+    /**
+     * Constructor for memory mapped writer.
+     * @param writerBufferSize size of a mapped region (raised to 64MB if smaller)
+     * @param fileToWriteTo file to write to
+     */
+    public WriterMemoryMapped(final int writerBufferSize, final File fileToWriteTo) {
+        this(writerBufferSize,fileToWriteTo,null);
+    }
+
+    /**
+     * Constructor for memory mapped writer.
+     * @param writerBufferSize size of a mapped region (raised to 64MB if smaller)
+     * @param fileToWriteTo file to write to
+     * @param timer timer that collects the measurements
+     */
+    public WriterMemoryMapped(final int writerBufferSize, final File fileToWriteTo, final PerformanceTimer timer) {
+        this.pt = timer;
+        this.takeMeasurements = timer != null;
+        this.writeFile = fileToWriteTo;
+        this.fileName = this.writeFile.getName();
+        this.automaticFileRemoval = true;
+        this.regionSize = Math.max(writerBufferSize, MIN_REGION_SIZE);
+        try{
+            raf = new RandomAccessFile(fileToWriteTo,"rw");
+            channel = raf.getChannel();
+            this.position = channel.size(); //append to existing data like the other writers
+        } catch (FileNotFoundException e) {
+            log.log(Level.WARNING,"File not found Exception during init of WriterMemoryMapped");
+        } catch (IOException e) {
+            log.log(Level.WARNING,"IO Exception during init of WriterMemoryMapped. Check Stacktrace for details.",e);
+        }
+    }
+
+    @Override
+    public void handleData(final byte[] bytes) {
+        this.handleData(bytes,bytes.length);
+    }
+
+    @Override
+    public void handleData(final byte[] bytes, final int offset) {
+        if(this.takeMeasurements)
+            this.handleDataWithMeasurements(bytes,offset);
+        else
+            this.handleDataWithoutMeasurements(bytes,offset);
+    }
+
+    private void handleDataWithMeasurements(final byte[] bytes, final int offset){
+        if(null != channel){
+            final long tStart = System.nanoTime();
+            this.putIntoRegion(bytes,offset);
+            final long tEnd = System.nanoTime();
+            this.pt.addNewMeasurement(new Measurement(WriterMemoryMapped.class.getName(),offset,tStart,tEnd));
+        }
+    }
+
+    private void handleDataWithoutMeasurements(final byte[] bytes, final int offset){
+        if(null != channel){
+            this.putIntoRegion(bytes,offset);
+        }
+    }
+
+    /**
+     * Copy the given bytes into the mapped regions.
+     * Maps the next region as soon as the current one is full.
+     * @param bytes byte array
+     * @param offset max element of true data inside the array
+     */
+    private void putIntoRegion(final byte[] bytes, final int offset){
+        int written = 0;
+        while(written < offset){
+            if(region == null || !region.hasRemaining()){
+                if(!this.mapNextRegion())
+                    return;
+            }
+            final int length = Math.min(region.remaining(), offset - written);
+            region.put(bytes,written,length);
+            written += length;
+            this.position += length;
+        }
+        this.durability.onWrite(written);
+        this.hints.onWrite(written);
+    }
+
+    /**
+     * Map the next region behind the current write position.
+     * @return true | false (mapping failed)
+     */
+    private boolean mapNextRegion(){
+        try {
+            this.region = channel.map(FileChannel.MapMode.READ_WRITE,this.position,this.regionSize);
+            this.hints.adviseMapping(this.region);
+            return true;
+        } catch (IOException e) {
+            log.log(Level.WARNING,"IO Exception while mapping the next region at position " + this.position + ". Check Stacktrace",e);
+            this.region = null;
+            return false;
+        }
+    }
+
+    @Override
+    public void finish() {
+        log.log(Level.INFO, "Finish WriterMemoryMapped \n AutomaticFileRemoval: "
+                + this.automaticFileRemoval +" -|- File Existing: " + this.writeFile.exists());
+        if(null != channel){
+            try {
+                this.durability.close();
+                this.region = null; //release the last window, the unmap happens on gc
+                channel.truncate(this.position); //cut the unused tail of the last mapped region
+                channel.close();
+                raf.close();
+                this.hints.close();
+                this.isFinished = true;
+                ThreadManager.nap(125); //wait 125ms for the writer to close the stream and everthing
+                if(this.writeFile.exists() && automaticFileRemoval){
+                    log.log(Level.INFO, "Removing DataFile from WriterMemoryMapped Test.");
+                    FileManager.removeFile(this.writeFile);
+                }
+            } catch (IOException e) {
+                log.log(Level.WARNING, "IO Exception on closing the mapped FileChannel.");
+            }
+        }
+        if(this.pt != null)
+            printEvaluationData();
+    }
+
+    @Override
+    public boolean isFinished() {
+        return this.isFinished;
+    }
+
+    @Override
+    public void run() {
+        if(chunk != null && edge != null){
+            for(int i = 0; i < this.iteration; i++){
+                this.handleData(this.chunk);
+            }
+            this.handleData(this.edge,this.edge.length); //fix edge case (missing bytes)
+            this.finish(); //finish writer - to close stream and open file locks
+        }else{
+            log.log(Level.WARNING,"Please set a chunk and a edge chunk. Stopping here. Can't progress without");
+            this.isFinished = true;
+        }
+    }
+
+    @Override
+    public PerformanceTimer getTimer() {
+        return this.pt;
+    }
+
+    /**
+     * set the parameters needed for a run as Thread.
+     * @param chunk chunk to write multiple times
+     * @param edge edge chunk to achieve the desired count
+     * @param it how many times should the whole chunk be written to file
+     */
+    public void setRunParameters(final byte[] chunk, final byte[] edge, final int it){
+        this.chunk = chunk;
+        this.edge = edge;
+        this.iteration = it;
+    }
+
+    /**
+     * get the set chunk.
+     * @return byte array with set chunk
+     */
+    public byte[] getChunk() {
+        return chunk;
+    }
+
+    /**
+     * get the edge chunk.
+     * @return byte array with set edge chunk
+     */
+    public byte[] getEdge() {
+        return edge;
+    }
+
+    /**
+     * get the iteartion count that should be fulfilled.
+     * @return interger with the count
+     */
+    public int getIteration() {
+        return iteration;
+    }
+
+    @Override
+    public boolean getAutomaticFileRemoval() {
+        return this.automaticFileRemoval;
+    }
+
+    @Override
+    public void setAutomaticFileRemoval(final boolean flag) {
+        this.automaticFileRemoval = flag;
+    }
+
+    @Override
+    public String getFileName() {
+        return this.fileName;
+    }
+
+    @Override
+    public void printEvaluationData() {
+        log.log(Level.INFO,"Server passing logged measurements to file!");
+        final String path;
+        if(this.getFileName().contains(".")){
+            path = this.getFileName().split("\\.")[0];
+        }else{
+            path = this.getFileName();
+        }
+        if(this.pt != null){
+            PerformanceTimerHelper.createEvaluationData(path,"writer",this.pt);
+        }
+        this.durability.printEvaluationData(path);
+    }
+
+    @Override
+    public void setDurabilityPolicy(final DurabilityPolicy policy, final long parameter, final PerformanceTimer syncTimer) {
+        this.durability.close();
+        //dirty pages of the shared mapping live in the page cache, forcing the channel covers every mapped region
+        this.durability = new Durability(policy,parameter,syncTimer,() -> this.channel.force(false));
+    }
+
+    @Override
+    public void setIoHints(final IoHintProfile profile, final long parameter) {
+        this.hints.close();
+        this.hints = new IoHints(profile,parameter,this.writeFile,true,this.pt);
+        this.hints.onOpen();
+    }
+}
@@ -11,6 +11,7 @@ import java.io.File;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import de.b4sh.byter.utils.io.IoHintProfile;
 import de.b4sh.byter.utils.measurements.PerformanceTimer;
 import de.b4sh.byter.utils.measurements.PerformanceTimerHelper;
 
@@ -140,4 +141,14 @@ public final class WriterNull implements WriterInterface,Runnable {
             PerformanceTimerHelper.createEvaluationData(path,"writer",this.pt);
         }
     }
+
+    @Override
+    public void setDurabilityPolicy(final DurabilityPolicy policy, final long parameter, final PerformanceTimer syncTimer) {
+        //no operation
+    }
+
+    @Override
+    public void setIoHints(final IoHintProfile profile, final long parameter) {
+        //no operation
+    }
 }
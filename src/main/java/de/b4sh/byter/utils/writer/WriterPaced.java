@@ -0,0 +1,195 @@
+/*
+ * File: WriterPaced
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.writer;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import de.b4sh.byter.utils.io.IoHintProfile;
+import de.b4sh.byter.utils.measurements.Measurement;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.measurements.PerformanceTimerHelper;
+import de.b4sh.byter.utils.measurements.RatePacer;
+import de.b4sh.byter.utils.measurements.evaluators.LatencyPercentileEvaluator;
+
+/**
+ * Open loop decorator for a writer.
+ * Passes every chunk on the schedule of a RatePacer to the decorated writer instead of as fast as possible.
+ * Latencies are measured from the planned start of a chunk (coordinated omission correction) and written as
+ * "writer-paced" evaluation with percentiles. The decorated writer keeps its own (service time) measurements.
+ */
+public final class WriterPaced implements WriterInterface,Runnable {
+
+    private static final Logger log = Logger.getLogger(WriterPaced.class.getName());
+    private final WriterInterface target;
+    private final RatePacer pacer;
+    private final PerformanceTimer pt;
+    //run parameter
+    private byte[] chunk;
+    private byte[] edge;
+    private int iteration;
+    private boolean isFinished;
+
+    /**
+     * Constructor for the paced writer.
+     * @param target writer that receives the chunks
+     * @param pacer schedule to issue the chunks on
+     */
+    public WriterPaced(final WriterInterface target, final RatePacer pacer) {
+        this(target,pacer,null);
+    }
+
+    /**
+     * Constructor for the paced writer.
+     * @param target writer that receives the chunks
+     * @param pacer schedule to issue the chunks on
+     * @param timer timer that collects the latencies from the planned start
+     */
+    public WriterPaced(final WriterInterface target, final RatePacer pacer, final PerformanceTimer timer) {
+        this.target = target;
+        this.pacer = pacer;
+        this.pt = timer;
+        if(this.pt != null){
+            this.pt.addEvaluator(new LatencyPercentileEvaluator());
+            this.pt.addEvaluator(perfTimer -> this.pacer.evaluate());
+        }
+    }
+
+    @Override
+    public void handleData(final byte[] bytes) {
+        this.handleData(bytes,bytes.length);
+    }
+
+    @Override
+    public void handleData(final byte[] bytes, final int offset) {
+        final long tPlanned = this.pacer.awaitNext();
+        this.target.handleData(bytes,offset);
+        if(this.pt != null){
+            final long tEnd = System.nanoTime();
+            this.pt.addNewMeasurement(new Measurement(WriterPaced.class.getName(),offset,tPlanned,tEnd));
+        }
+    }
+
+    @Override
+    public void finish() {
+        log.log(Level.INFO, "Finish WriterPaced \n issued: " + this.pacer.getIssued()
+                + " -|- late: " + this.pacer.getLateIssues() + " -|- max lag ns: " + this.pacer.getMaxLagNanos());
+        this.target.finish();
+        this.isFinished = true;
+        if(this.pt != null)
+            printEvaluationData();
+    }
+
+    @Override
+    public boolean isFinished() {
+        return this.isFinished;
+    }
+
+    @Override
+    public void run() {
+        if(chunk != null && edge != null){
+            for(int i = 0; i < this.iteration; i++){
+                this.handleData(this.chunk);
+            }
+            if(this.edge.length > 0)
+                this.handleData(this.edge,this.edge.length); //fix edge case (missing bytes)
+            this.finish(); //finish writer - to close stream and open file locks
+        }else{
+            log.log(Level.WARNING,"Please set a chunk and a edge chunk. Stopping here. Can't progress without");
+            this.isFinished = true;
+        }
+    }
+
+    @Override
+    public PerformanceTimer getTimer() {
+        return this.pt;
+    }
+
+    /**
+     * get the pacer of this writer.
+     * @return RatePacer
+     */
+    public RatePacer getPacer() {
+        return this.pacer;
+    }
+
+    /**
+     * set the parameters needed for a run as Thread.
+     * @param chunk chunk to write multiple times
+     * @param edge edge chunk to achieve the desired count
+     * @param it how many times should the whole chunk be written to file
+     */
+    public void setRunParameters(final byte[] chunk, final byte[] edge, final int it){
+        this.chunk = chunk;
+        this.edge = edge;
+        this.iteration = it;
+    }
+
+    /**
+     * get the set chunk.
+     * @return byte array with set chunk
+     */
+    public byte[] getChunk() {
+        return chunk;
+    }
+
+    /**
+     * get the edge chunk.
+     * @return byte array with set edge chunk
+     */
+    public byte[] getEdge() {
+        return edge;
+    }
+
+    /**
+     * get the iteartion count that should be fulfilled.
+     * @return interger with the count
+     */
+    public int getIteration() {
+        return iteration;
+    }
+
+    @Override
+    public boolean getAutomaticFileRemoval() {
+        return this.target.getAutomaticFileRemoval();
+    }
+
+    @Override
+    public void setAutomaticFileRemoval(final boolean flag) {
+        this.target.setAutomaticFileRemoval(flag);
+    }
+
+    @Override
+    public String getFileName() {
+        return this.target.getFileName();
+    }
+
+    @Override
+    public void printEvaluationData() {
+        log.log(Level.INFO,"Server passing logged measurements to file!");
+        final String path;
+        if(this.getFileName().contains(".")){
+            path = this.getFileName().split("\\.")[0];
+        }else{
+            path = this.getFileName();
+        }
+        if(this.pt != null){
+            PerformanceTimerHelper.createEvaluationData(path,"writer-paced",this.pt);
+        }
+    }
+
+    @Override
+    public void setDurabilityPolicy(final DurabilityPolicy policy, final long parameter, final PerformanceTimer syncTimer) {
+        this.target.setDurabilityPolicy(policy,parameter,syncTimer);
+    }
+
+    @Override
+    public void setIoHints(final IoHintProfile profile, final long parameter) {
+        this.target.setIoHints(profile,parameter);
+    }
+}
@@ -0,0 +1,435 @@
+/*
+ * File: WriterPipeline
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.writer;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import de.b4sh.byter.utils.data.TransformValues;
+import de.b4sh.byter.utils.io.IoHintProfile;
+import de.b4sh.byter.utils.measurements.Measurement;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.measurements.PerformanceTimerHelper;
+
+/**
+ * Composable writer pipeline.
+ * Chains the stages of a declared list (eg. ["crcw","defl","queue","fich"]) behind a single writer: every entry
+ * but the last is a PipelineStage key, the last entry is the WriterType key of the sink that writes the file.
+ * Every stage hands its output into a probe in front of the next stage, with measurements each probe has its own
+ * timer ("writer-stage[i]-[key]" evaluation). The time of a stage itself is the time of its probe minus the time of
+ * the next probe, after a queue stage the following stages run on the worker thread and are not subtracted.
+ * The stage with the highest own time is reported as bottleneck, it caps the throughput of the pipeline.
+ */
+public final class WriterPipeline implements WriterInterface,Runnable {
+
+    private static final Logger log = Logger.getLogger(WriterPipeline.class.getName());
+    public static final List<String> DEFAULT_STAGES = Collections.unmodifiableList(Arrays.asList("crcw","defl","queue","fich"));
+    private final List<String> stages;
+    private final StageProbe[] probes;
+    private final WriterInterface head;
+    private final PerformanceTimer pt;
+    private final boolean takeMeasurements;
+    //run parameter
+    private byte[] chunk;
+    private byte[] edge;
+    private int iteration;
+    private boolean isFinished;
+
+    /**
+     * Constructor for the pipeline writer.
+     * @param stages stage keys, the last entry is the WriterType key of the sink
+     * @param writerBufferSize buffer size of the sink
+     * @param file file the sink writes to
+     */
+    public WriterPipeline(final List<String> stages, final int writerBufferSize, final File file) {
+        this(stages,writerBufferSize,file,null);
+    }
+
+    /**
+     * Constructor for the pipeline writer.
+     * @param stages stage keys, the last entry is the WriterType key of the sink
+     * @param writerBufferSize buffer size of the sink
+     * @param file file the sink writes to
+     * @param timer timer that collects the measurements of the whole pipeline, enables the timers of the stages | null
+     * @throws IllegalArgumentException on an unknown stage or sink key
+     */
+    public WriterPipeline(final List<String> stages, final int writerBufferSize, final File file, final PerformanceTimer timer) {
+        this.stages = stages == null || stages.isEmpty() ? DEFAULT_STAGES : new ArrayList<>(stages);
+        this.pt = timer;
+        this.takeMeasurements = timer != null;
+        this.probes = new StageProbe[this.stages.size()];
+        //build from the sink to the front, every writer gets the probe of the next stage as target
+        final int last = this.stages.size() - 1;
+        final WriterInterface sink = createSink(this.stages.get(last),writerBufferSize,file);
+        this.probes[last] = new StageProbe(sink,this.createStageTimer(last));
+        //a checksum stage can only verify the file if nothing behind it (incl. the sink) changes the data
+        final PipelineStage sinkStage = PipelineStage.fromKey(this.stages.get(last));
+        boolean transformed = sinkStage != null && sinkStage.isTransforming();
+        for(int i = last - 1; i >= 0; i--){
+            final PipelineStage stage = PipelineStage.fromKey(this.stages.get(i));
+            if(stage == null)
+                throw new IllegalArgumentException(PipelineStage.getOptionList());
+            final WriterInterface writer = createStage(stage,this.probes[i + 1],file);
+            if(writer instanceof WriterChecksumming)
+                ((WriterChecksumming) writer).setVerifyOnFinish(!transformed);
+            transformed |= stage.isTransforming();
+            this.probes[i] = new StageProbe(writer,this.createStageTimer(i));
+        }
+        this.head = this.probes[0];
+        if(this.pt != null)
+            this.pt.addEvaluator(perfTimer -> this.evaluateStages());
+    }
+
+    private static WriterInterface createSink(final String key, final int writerBufferSize, final File file){
+        for(WriterType wt: WriterType.values()){
+            if(wt.getKey().equals(key) && wt != WriterType.PipelineWriter){
+                final WriterInterface sink = WriterWorkpile.createWorkingWriter(wt,writerBufferSize,file);
+                if(sink != null)
+                    return sink;
+            }
+        }
+        throw new IllegalArgumentException("No sink for key " + key + ". " + WriterType.getOptionList());
+    }
+
+    private static WriterInterface createStage(final PipelineStage stage, final WriterInterface target, final File file){
+        switch(stage){
+            case Combining:
+                return new WriterCombining(target);
+            case Checksumming:
+                return new WriterChecksumming(target,file,0);
+            case Compressing:
+                return new WriterCompressing(target,0);
+            case EncryptingCtr:
+                return new WriterEncrypting(target,EncryptionMode.Ctr);
+            case EncryptingGcm:
+                return new WriterEncrypting(target,EncryptionMode.Gcm);
+            case Queue:
+            default:
+                return new WriterWorkpile(target,WriterWorkpile.DEFAULT_CAPACITY,null);
+        }
+    }
+
+    private PerformanceTimer createStageTimer(final int index){
+        if(this.pt == null)
+            return null;
+        return new PerformanceTimer(WriterPipeline.class.getName() + "-Stage" + index + "-" + this.stages.get(index));
+    }
+
+    /**
+     * Calculate the own time of every stage and the bottleneck.
+     * @return evaluation map
+     */
+    private Map<String, Float> evaluateStages(){
+        final Map<String, Float> response = new HashMap<>();
+        final int count = this.probes.length;
+        int bottleneck = 0;
+        long maxSelf = -1;
+        long sumSelf = 0;
+        final long[] self = new long[count];
+        for(int i = 0; i < count; i++){
+            final StageProbe probe = this.probes[i];
+            long own = probe.handleNanos;
+            long ownFinish = probe.finishNanos;
+            if(i < count - 1){
+                ownFinish -= this.probes[i + 1].finishNanos;
+                if(!this.isQueue(i))
+                    own -= this.probes[i + 1].handleNanos;
+            }
+            self[i] = Math.max(0, own) + Math.max(0, ownFinish);
+            sumSelf += self[i];
+            if(self[i] > maxSelf){
+                maxSelf = self[i];
+                bottleneck = i;
+            }
+            final String prefix = "pipelineStage" + i;
+            response.put(prefix + "Bytes", (float) probe.bytes);
+            response.put(prefix + "InclusiveMs", probe.handleNanos / 1000000f);
+            response.put(prefix + "FinishMs", probe.finishNanos / 1000000f);
+            response.put(prefix + "SelfMs", self[i] / 1000000f);
+            response.put(prefix + "MegaBytesPerSecond", self[i] == 0 ? 0f
+                    : (float) (probe.bytes / (self[i] * TransformValues.nanoSecondToSecond) * TransformValues.byteToMEGABYTE));
+        }
+        response.put("pipelineStages", (float) count);
+        response.put("pipelineBottleneckStage", (float) bottleneck);
+        response.put("pipelineBottleneckShare", sumSelf == 0 ? 0f : (float) maxSelf / sumSelf);
+        return response;
+    }
+
+    private boolean isQueue(final int index){
+        return PipelineStage.Queue.getKey().equals(this.stages.get(index)) && index < this.stages.size() - 1;
+    }
+
+    @Override
+    public void handleData(final byte[] bytes) {
+        this.handleData(bytes,bytes.length);
+    }
+
+    @Override
+    public void handleData(final byte[] bytes, final int offset) {
+        if(this.takeMeasurements)
+            this.handleDataWithMeasurements(bytes,offset);
+        else
+            this.handleDataWithoutMeasurements(bytes,offset);
+    }
+
+    private void handleDataWithMeasurements(final byte[] bytes, final int offset){
+        final long tStart = System.nanoTime();
+        this.head.handleData(bytes,offset);
+        final long tEnd = System.nanoTime();
+        this.pt.addNewMeasurement(new Measurement(WriterPipeline.class.getName(),offset,tStart,tEnd));
+    }
+
+    private void handleDataWithoutMeasurements(final byte[] bytes, final int offset){
+        this.head.handleData(bytes,offset);
+    }
+
+    @Override
+    public void finish() {
+        log.log(Level.INFO, "Finish WriterPipeline " + this.stages + "\n AutomaticFileRemoval: " + this.getAutomaticFileRemoval());
+        this.head.finish();
+        this.isFinished = true;
+        if(this.pt != null)
+            printEvaluationData();
+    }
+
+    @Override
+    public boolean isFinished() {
+        return this.isFinished;
+    }
+
+    @Override
+    public void run() {
+        if(chunk != null && edge != null){
+            for(int i = 0; i < this.iteration; i++){
+                this.handleData(this.chunk);
+            }
+            this.handleData(this.edge,this.edge.length); //fix edge case (missing bytes)
+            this.finish(); //finish writer - to close stream and open file locks
+        }else{
+            log.log(Level.WARNING,"Please set a chunk and a edge chunk. Stopping here. Can't progress without");
+            this.isFinished = true;
+        }
+    }
+
+    @Override
+    public PerformanceTimer getTimer() {
+        return this.pt;
+    }
+
+    /**
+     * get the declared stages, the last entry is the sink.
+     * @return list of keys
+     */
+    public List<String> getStages() {
+        return Collections.unmodifiableList(this.stages);
+    }
+
+    /**
+     * get the timer of a stage.
+     * @param index position of the stage in the declared list
+     * @return timer | null if no measurements are taken
+     */
+    public PerformanceTimer getStageTimer(final int index) {
+        return this.probes[index].timer;
+    }
+
+    /**
+     * set the parameters needed for a run as Thread.
+     * @param chunk chunk to write multiple times
+     * @param edge edge chunk to achieve the desired count
+     * @param it how many times should the whole chunk be written to file
+     */
+    public void setRunParameters(final byte[] chunk, final byte[] edge, final int it){
+        this.chunk = chunk;
+        this.edge = edge;
+        this.iteration = it;
+    }
+
+    /**
+     * get the set chunk.
+     * @return byte array with set chunk
+     */
+    public byte[] getChunk() {
+        return chunk;
+    }
+
+    /**
+     * get the edge chunk.
+     * @return byte array with set edge chunk
+     */
+    public byte[] getEdge() {
+        return edge;
+    }
+
+    /**
+     * get the iteartion count that should be fulfilled.
+     * @return interger with the count
+     */
+    public int getIteration() {
+        return iteration;
+    }
+
+    @Override
+    public boolean getAutomaticFileRemoval() {
+        return this.head.getAutomaticFileRemoval();
+    }
+
+    @Override
+    public void setAutomaticFileRemoval(final boolean flag) {
+        this.head.setAutomaticFileRemoval(flag);
+    }
+
+    @Override
+    public String getFileName() {
+        return this.head.getFileName();
+    }
+
+    @Override
+    public void printEvaluationData() {
+        log.log(Level.INFO,"Server passing logged measurements to file!");
+        final String path;
+        if(this.getFileName().contains(".")){
+            path = this.getFileName().split("\\.")[0];
+        }else{
+            path = this.getFileName();
+        }
+        if(this.pt != null){
+            PerformanceTimerHelper.createEvaluationData(path,"writer",this.pt);
+        }
+        for(int i = 0; i < this.probes.length; i++){
+            final PerformanceTimer timer = this.probes[i].timer;
+            if(timer != null && !timer.getData().isEmpty())
+                PerformanceTimerHelper.createEvaluationData(path,"writer-stage" + i + "-" + this.stages.get(i),timer);
+        }
+    }
+
+    @Override
+    public void setDurabilityPolicy(final DurabilityPolicy policy, final long parameter, final PerformanceTimer syncTimer) {
+        this.head.setDurabilityPolicy(policy,parameter,syncTimer);
+    }
+
+    @Override
+    public void setIoHints(final IoHintProfile profile, final long parameter) {
+        this.head.setIoHints(profile,parameter);
+    }
+
+    /**
+     * Probe in front of a stage.
+     * Measures the time the stage (and the stages behind it on the same thread) takes for every chunk and for finish.
+     */
+    private static final class StageProbe implements WriterInterface {
+        private final WriterInterface stage;
+        private final PerformanceTimer timer;
+        private long bytes;
+        private long handleNanos;
+        private long finishNanos;
+
+        StageProbe(final WriterInterface stage, final PerformanceTimer timer) {
+            this.stage = stage;
+            this.timer = timer;
+        }
+
+        @Override
+        public void handleData(final byte[] bytes) {
+            this.handleData(bytes,bytes.length);
+        }
+
+        @Override
+        public void handleData(final byte[] bytes, final int offset) {
+            if(this.timer == null){
+                this.stage.handleData(bytes,offset);
+                return;
+            }
+            final long tStart = System.nanoTime();
+            this.stage.handleData(bytes,offset);
+            final long tEnd = System.nanoTime();
+            this.timer.addNewMeasurement(new Measurement(WriterPipeline.class.getName(),offset,tStart,tEnd));
+            this.bytes += offset;
+            this.handleNanos += tEnd - tStart;
+        }
+
+        @Override
+        public void finish() {
+            final long tStart = System.nanoTime();
+            this.stage.finish();
+            this.finishNanos = System.nanoTime() - tStart;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return this.stage.isFinished();
+        }
+
+        @Override
+        public void run() {
+            this.stage.run();
+        }
+
+        @Override
+        public PerformanceTimer getTimer() {
+            return this.timer;
+        }
+
+        @Override
+        public void setRunParameters(final byte[] chunk, final byte[] edge, final int interations) {
+            this.stage.setRunParameters(chunk,edge,interations);
+        }
+
+        @Override
+        public byte[] getChunk() {
+            return this.stage.getChunk();
+        }
+
+        @Override
+        public byte[] getEdge() {
+            return this.stage.getEdge();
+        }
+
+        @Override
+        public int getIteration() {
+            return this.stage.getIteration();
+        }
+
+        @Override
+        public boolean getAutomaticFileRemoval() {
+            return this.stage.getAutomaticFileRemoval();
+        }
+
+        @Override
+        public void setAutomaticFileRemoval(final boolean flag) {
+            this.stage.setAutomaticFileRemoval(flag);
+        }
+
+        @Override
+        public String getFileName() {
+            return this.stage.getFileName();
+        }
+
+        @Override
+        public void printEvaluationData() {
+            this.stage.printEvaluationData();
+        }
+
+        @Override
+        public void setDurabilityPolicy(final DurabilityPolicy policy, final long parameter, final PerformanceTimer syncTimer) {
+            this.stage.setDurabilityPolicy(policy,parameter,syncTimer);
+        }
+
+        @Override
+        public void setIoHints(final IoHintProfile profile, final long parameter) {
+            this.stage.setIoHints(profile,parameter);
+        }
+    }
+}
@@ -11,10 +11,14 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.io.IoHintProfile;
+import de.b4sh.byter.utils.io.IoHints;
 import de.b4sh.byter.utils.io.ThreadManager;
 import de.b4sh.byter.utils.measurements.Measurement;
 import de.b4sh.byter.utils.measurements.PerformanceTimer;
@@ -22,15 +26,30 @@ import de.b4sh.byter.utils.measurements.PerformanceTimerHelper;
 
 /**
  * Writer implementation for random access file implementation.
+ * The default mode asks for the file length and seeks before every write.
+ * The position tracking mode keeps the write position in memory instead and optionally preallocates
+ * the file to the byte target (setLength), so the file size doesn't grow with every write.
+ * The blocks of the target are reserved with fallocate where the native calls are available, otherwise the
+ * preallocated range stays sparse (reported as preallocationReserved = 0).
+ * The unused preallocated tail is cut off on finish.
  */
 public final class WriterRandomAccessFile implements WriterInterface,Runnable {
 
     private static final Logger log = Logger.getLogger(WriterRandomAccessFile.class.getName());
     private RandomAccessFile raf;
+    private Durability durability = Durability.NONE;
+    private IoHints hints = IoHints.NONE;
     private File writeFile;
     private final String fileName;
     private final PerformanceTimer pt;
     private final boolean takeMeasurements;
+    //position tracking
+    private final boolean positionTracking;
+    private final long preallocationTarget;
+    private long position;
+    private long preallocatedBytes;
+    private long preallocationNanos;
+    private boolean preallocationReserved;
     //run parameter
     private byte[] chunk;
     private byte[] edge;
@@ -46,6 +65,8 @@ public final class WriterRandomAccessFile implements WriterInterface,Runnable {
     public WriterRandomAccessFile(final int writerBufferSize, final File fileToWriteTo) {
         this.pt = null;
         this.takeMeasurements = false;
+        this.positionTracking = false;
+        this.preallocationTarget = 0;
         this.writeFile = fileToWriteTo;
         this.fileName = this.writeFile.getName();
         this.automaticFileRemoval = true;
@@ -65,6 +86,8 @@ public final class WriterRandomAccessFile implements WriterInterface,Runnable {
     public WriterRandomAccessFile(final int writerBufferSize, final File fileToWriteTo, final PerformanceTimer timer) {
         this.pt = timer;
         this.takeMeasurements = true;
+        this.positionTracking = false;
+        this.preallocationTarget = 0;
         this.automaticFileRemoval = true;
         this.writeFile = fileToWriteTo;
         this.fileName = this.writeFile.getName();
@@ -75,6 +98,58 @@ public final class WriterRandomAccessFile implements WriterInterface,Runnable {
         }
     }
 
+    /**
+     * Constructor for RAF with in-memory position tracking.
+     * New data is appended behind the existing content of the file.
+     * @param writerBufferSize is silently ignored
+     * @param fileToWriteTo file to write to
+     * @param timer timer that collects the measurements (null for no measurements)
+     * @param preallocationTarget bytes to preallocate behind the current end of the file (0 for no preallocation)
+     */
+    public WriterRandomAccessFile(final int writerBufferSize, final File fileToWriteTo, final PerformanceTimer timer,
+                                  final long preallocationTarget) {
+        this.pt = timer;
+        this.takeMeasurements = timer != null;
+        this.positionTracking = true;
+        this.preallocationTarget = preallocationTarget;
+        this.automaticFileRemoval = true;
+        this.writeFile = fileToWriteTo;
+        this.fileName = this.writeFile.getName();
+        try{
+            raf = new RandomAccessFile(fileToWriteTo,"rw");
+            this.position = raf.length();
+            raf.seek(this.position); //the file pointer follows every write from here on
+            this.preallocate();
+        } catch (FileNotFoundException e) {
+            log.log(Level.WARNING,"File not found Exception during init of WriterRandomAccessFile");
+        } catch (IOException e) {
+            log.log(Level.WARNING,"IO Exception during init of WriterRandomAccessFile. Check Stacktrace for details.",e);
+        }
+        if(this.pt != null)
+            this.pt.addEvaluator(perfTimer -> {
+                final Map<String, Float> response = new HashMap<>();
+                response.put("preallocatedBytes", (float) this.preallocatedBytes);
+                response.put("preallocationMs", this.preallocationNanos / 1000000f);
+                response.put("preallocationReserved", this.preallocationReserved ? 1f : 0f);
+                return response;
+            });
+    }
+
+    /**
+     * Extend the file to the preallocation target and reserve its blocks if possible.
+     * setLength alone only moves the file size (sparse on most filesystems), nothing is written ahead of the run.
+     * @throws IOException on errors while extending the file
+     */
+    private void preallocate() throws IOException {
+        if(this.preallocationTarget <= 0)
+            return;
+        final long tStart = System.nanoTime();
+        raf.setLength(this.position + this.preallocationTarget);
+        this.preallocationReserved = FileManager.reserveBlocks(this.writeFile,this.position,this.preallocationTarget);
+        this.preallocationNanos = System.nanoTime() - tStart;
+        this.preallocatedBytes = this.preallocationTarget;
+    }
+
     @Override
     public void handleData(final byte[] bytes) {
         this.handleData(bytes,bytes.length);
@@ -92,13 +167,9 @@ public final class WriterRandomAccessFile implements WriterInterface,Runnable {
         if(null != raf){
             try{
                 final long tStart = System.nanoTime();
-                final long rafOffset = raf.length();
-                if(rafOffset < 0)
-                    log.log(Level.WARNING,"RAF Offset is below zero");
-                raf.seek(rafOffset);
-                raf.write(bytes,0,offset);
+                this.writeData(bytes,offset);
                 final long tEnd = System.nanoTime();
-                this.pt.addNewMeasurement(new Measurement(WriterRandomAccessFile.class.getName(),bytes.length,tStart,tEnd));
+                this.pt.addNewMeasurement(new Measurement(WriterRandomAccessFile.class.getName(),offset,tStart,tEnd));
             } catch (IOException e) {
                 log.log(Level.WARNING,"IO Exception during data processing. Check Stacktrace for details.",e);
             }
@@ -108,24 +179,37 @@ public final class WriterRandomAccessFile implements WriterInterface,Runnable {
     private void handleDataWithoutMeasurements(final byte[] bytes, final int offset){
         if(null != raf){
             try{
-                final long rafOffset = raf.length();
-                if(rafOffset < 0)
-                    log.log(Level.WARNING,"RAF Offset is below zero");
-                raf.seek(rafOffset);
-                raf.write(bytes,0,offset);
+                this.writeData(bytes,offset);
             } catch (IOException e) {
                 log.log(Level.WARNING,"IO Exception during data processing. Check Stacktrace for details.",e);
             }
         }
     }
 
+    private void writeData(final byte[] bytes, final int offset) throws IOException {
+        if(!this.positionTracking){
+            final long rafOffset = raf.length();
+            if(rafOffset < 0)
+                log.log(Level.WARNING,"RAF Offset is below zero");
+            raf.seek(rafOffset);
+        }
+        raf.write(bytes,0,offset);
+        this.position += offset;
+        this.durability.onWrite(offset);
+        this.hints.onWrite(offset);
+    }
+
     @Override
     public void finish() {
         log.log(Level.INFO, "Finish WriterBuffered \n AutomaticFileRemoval: "
                 + this.automaticFileRemoval +" -|- File Existing: " + this.writeFile.exists());
         if(null != raf){
             try {
+                if(this.preallocatedBytes > 0 && raf.length() > this.position)
+                    raf.setLength(this.position); //cut the unused preallocated tail
+                this.durability.close();
                 raf.close();
+                this.hints.close();
                 this.isFinished = true;
                 ThreadManager.nap(125); //wait 125ms for the writer to close the stream and everthing
                 if(this.writeFile.exists() && automaticFileRemoval){
@@ -200,6 +284,22 @@ public final class WriterRandomAccessFile implements WriterInterface,Runnable {
         return iteration;
     }
 
+    /**
+     * is the write position tracked in memory?
+     * @return true | false (length and seek before every write)
+     */
+    public boolean isPositionTracking() {
+        return this.positionTracking;
+    }
+
+    /**
+     * get the count of bytes that were preallocated.
+     * @return preallocated bytes | 0
+     */
+    public long getPreallocatedBytes() {
+        return this.preallocatedBytes;
+    }
+
     @Override
     public boolean getAutomaticFileRemoval() {
         return this.automaticFileRemoval;
@@ -207,7 +307,7 @@ public final class WriterRandomAccessFile implements WriterInterface,Runnable {
 
     @Override
     public void setAutomaticFileRemoval(final boolean flag) {
-        this.automaticFileRemoval = false;
+        this.automaticFileRemoval = flag;
     }
 
     @Override
@@ -227,5 +327,19 @@ public final class WriterRandomAccessFile implements WriterInterface,Runnable {
         if(this.pt != null){
             PerformanceTimerHelper.createEvaluationData(path,"writer",this.pt);
         }
+        this.durability.printEvaluationData(path);
+    }
+
+    @Override
+    public void setDurabilityPolicy(final DurabilityPolicy policy, final long parameter, final PerformanceTimer syncTimer) {
+        this.durability.close();
+        this.durability = new Durability(policy,parameter,syncTimer,() -> this.raf.getChannel().force(false));
+    }
+
+    @Override
+    public void setIoHints(final IoHintProfile profile, final long parameter) {
+        this.hints.close();
+        this.hints = new IoHints(profile,parameter,this.writeFile,true,this.pt);
+        this.hints.onOpen();
     }
 }
@@ -0,0 +1,522 @@
+/*
+ * File: WriterSegmented
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.writer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.io.IoHintProfile;
+import de.b4sh.byter.utils.io.IoHints;
+import de.b4sh.byter.utils.measurements.Measurement;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.measurements.PerformanceTimerHelper;
+
+/**
+ * Segmented rolling log writer.
+ * The stream is rolled into segment files of a fixed size (name.00000.seg, name.00001.seg, ...).
+ * The next segment is opened and preallocated on a background thread while the current one is written.
+ * Preallocation sets the length of the segment and reserves its blocks with fallocate where the native calls are
+ * available. Without them the segment stays sparse, this is reported as preallocationSparseSegments.
+ * Only the newest retainedSegments closed segments are kept, older ones are deleted (or truncated) on the background thread.
+ * The removal of all segments on finish happens on the background thread as well.
+ * With a negative iteration count the run never ends until stop() is called.
+ */
+public final class WriterSegmented implements WriterInterface,Runnable {
+
+    private static final Logger log = Logger.getLogger(WriterSegmented.class.getName());
+    public static final long DEFAULT_SEGMENT_SIZE = 64L * 1024 * 1024;
+    public static final int DEFAULT_RETAINED_SEGMENTS = 4;
+    public static final String SEGMENT_EXTENSION = ".seg";
+    private final File directory;
+    private final String baseName;
+    private final String fileName;
+    private final long segmentSize;
+    private final int retainedSegments;
+    private final ExecutorService maintenance;
+    private final ArrayDeque<File> closedSegments;
+    private final PerformanceTimer pt;
+    private final boolean takeMeasurements;
+    private Durability durability = Durability.NONE;
+    private IoHints hints = IoHints.NONE;
+    private IoHintProfile hintProfile = IoHintProfile.None;
+    private long hintParameter;
+    private Segment current;
+    private Future<Segment> nextSegment;
+    private boolean truncateExpiredSegments;
+    //statistics
+    private long writtenBytes;
+    private long segmentRolls;
+    private long rollWaitNanos;
+    private long maxRollWaitNanos;
+    private long preallocationNanos;
+    private long preallocatedBytes;
+    private long sparseSegments;
+    private long expiredSegments;
+    private long firstWrite;
+    private long lastWrite;
+    //run parameter
+    private byte[] chunk;
+    private byte[] edge;
+    private int iteration;
+    private volatile boolean stopRequested;
+    private boolean isFinished;
+    private boolean automaticFileRemoval;
+
+    /**
+     * Constructor for the segmented writer.
+     * @param segmentSize size of a single segment (0 or below for the default of 64MB)
+     * @param retainedSegments count of closed segments that are kept (0 or below keeps every segment)
+     * @param fileToWriteTo file that names the segments (segments are placed next to it)
+     */
+    public WriterSegmented(final long segmentSize, final int retainedSegments, final File fileToWriteTo) {
+        this(segmentSize,retainedSegments,fileToWriteTo,null);
+    }
+
+    /**
+     * Constructor for the segmented writer.
+     * @param segmentSize size of a single segment (0 or below for the default of 64MB)
+     * @param retainedSegments count of closed segments that are kept (0 or below keeps every segment)
+     * @param fileToWriteTo file that names the segments (segments are placed next to it)
+     * @param timer timer that collects the measurements
+     */
+    public WriterSegmented(final long segmentSize, final int retainedSegments, final File fileToWriteTo, final PerformanceTimer timer) {
+        this.pt = timer;
+        this.takeMeasurements = timer != null;
+        this.fileName = fileToWriteTo.getName();
+        this.baseName = this.fileName.contains(".") ? this.fileName.split("\\.")[0] : this.fileName;
+        this.directory = fileToWriteTo.getAbsoluteFile().getParentFile();
+        this.segmentSize = segmentSize <= 0 ? DEFAULT_SEGMENT_SIZE : segmentSize;
+        this.retainedSegments = retainedSegments;
+        this.closedSegments = new ArrayDeque<>();
+        this.automaticFileRemoval = true;
+        this.maintenance = Executors.newSingleThreadExecutor(r -> {
+            final Thread t = new Thread(r, "WriterSegmented-Maintenance-" + this.baseName);
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            this.current = this.openSegment(0);
+            this.countPreallocation(this.current);
+            this.nextSegment = this.maintenance.submit(() -> this.openSegment(1));
+        } catch (IOException e) {
+            log.log(Level.WARNING,"IO Exception during init of WriterSegmented. Check Stacktrace for details.",e);
+        }
+        if(this.pt != null)
+            this.pt.addEvaluator(perfTimer -> {
+                final Map<String, Float> response = new HashMap<>();
+                response.put("segmentSize", (float) this.segmentSize);
+                response.put("segmentRolls", (float) this.segmentRolls);
+                response.put("expiredSegments", (float) this.expiredSegments);
+                response.put("avgRollWaitMs", this.segmentRolls == 0 ? 0f : this.rollWaitNanos / (float) this.segmentRolls / 1000000f);
+                response.put("maxRollWaitMs", this.maxRollWaitNanos / 1000000f);
+                response.put("preallocationMs", this.preallocationNanos / 1000000f);
+                response.put("preallocatedBytes", (float) this.preallocatedBytes);
+                response.put("preallocationSparseSegments", (float) this.sparseSegments);
+                if(this.lastWrite > this.firstWrite && this.firstWrite != 0)
+                    response.put("segmentSteadyStateMegaBytesPerSecond",
+                            (float) (this.writtenBytes / ((this.lastWrite - this.firstWrite) / 1e9) / (1024 * 1024)));
+                return response;
+            });
+    }
+
+    /**
+     * get the file of a segment.
+     * @param index index of the segment
+     * @return File
+     */
+    public File getSegmentFile(final int index){
+        return new File(this.directory, this.baseName + String.format(Locale.ROOT, ".%05d", index) + SEGMENT_EXTENSION);
+    }
+
+    /**
+     * Open a segment, extend it to the segment size and reserve its blocks if possible.
+     * Runs on the maintenance thread for every segment but the first.
+     * @param index index of the segment
+     * @return opened segment
+     * @throws IOException on open or extension errors
+     */
+    private Segment openSegment(final int index) throws IOException {
+        final long tStart = System.nanoTime();
+        final File file = this.getSegmentFile(index);
+        final RandomAccessFile raf = new RandomAccessFile(file,"rw");
+        try {
+            raf.setLength(this.segmentSize);
+        } catch (IOException e) {
+            raf.close();
+            throw e;
+        }
+        final boolean reserved = FileManager.reserveBlocks(file,0,this.segmentSize);
+        return new Segment(index,file,raf,System.nanoTime() - tStart,reserved);
+    }
+
+    private void countPreallocation(final Segment segment){
+        this.preallocationNanos += segment.preallocationNanos;
+        if(segment.reserved)
+            this.preallocatedBytes += this.segmentSize;
+        else
+            this.sparseSegments++;
+    }
+
+    @Override
+    public void handleData(final byte[] bytes) {
+        this.handleData(bytes,bytes.length);
+    }
+
+    @Override
+    public void handleData(final byte[] bytes, final int offset) {
+        if(this.takeMeasurements)
+            this.handleDataWithMeasurements(bytes,offset);
+        else
+            this.handleDataWithoutMeasurements(bytes,offset);
+    }
+
+    private void handleDataWithMeasurements(final byte[] bytes, final int offset){
+        if(null != this.current){
+            try {
+                final long tStart = System.nanoTime();
+                this.writeData(bytes,offset);
+                final long tEnd = System.nanoTime();
+                this.pt.addNewMeasurement(new Measurement(WriterSegmented.class.getName(),offset,tStart,tEnd));
+            } catch (IOException e) {
+                log.log(Level.WARNING, "IO Exception while processing data. Check stacktrace",e);
+            }
+        }
+    }
+
+    private void handleDataWithoutMeasurements(final byte[] bytes, final int offset){
+        if(null != this.current){
+            try {
+                this.writeData(bytes,offset);
+            } catch (IOException e) {
+                log.log(Level.WARNING, "IO Exception while processing data. Check stacktrace",e);
+            }
+        }
+    }
+
+    /**
+     * Write the data into the current segment and roll as soon as the segment is full.
+     * @param bytes byte array
+     * @param offset max element of true data inside the array
+     * @throws IOException on write errors
+     */
+    private void writeData(final byte[] bytes, final int offset) throws IOException {
+        if(this.firstWrite == 0)
+            this.firstWrite = System.nanoTime();
+        int written = 0;
+        while(written < offset){
+            if(this.current.position == this.segmentSize){
+                this.roll();
+                if(this.current == null)
+                    return;
+            }
+            final int length = (int) Math.min(this.segmentSize - this.current.position, offset - written);
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes,written,length);
+            while(buffer.hasRemaining()){
+                this.current.position += this.current.channel.write(buffer,this.current.position);
+            }
+            this.hints.onWrite(length);
+            written += length;
+        }
+        this.writtenBytes += offset;
+        this.durability.onWrite(offset);
+    }
+
+    /**
+     * Switch to the preallocated next segment and hand the full one to the retention.
+     * @throws IOException on close errors of the full segment
+     */
+    private void roll() throws IOException {
+        final Segment full = this.current;
+        if(this.durability.getPolicy() != DurabilityPolicy.None)
+            full.channel.force(false); //a completed segment is durable before it is closed
+        full.raf.close();
+        this.hints.close();
+        final long tStart = System.nanoTime();
+        try {
+            this.current = this.nextSegment.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.current = null;
+        } catch (ExecutionException e) {
+            log.log(Level.WARNING, "Could not open segment " + (full.index + 1), e.getCause());
+            this.current = null;
+        }
+        final long waited = System.nanoTime() - tStart;
+        this.rollWaitNanos += waited;
+        this.maxRollWaitNanos = Math.max(this.maxRollWaitNanos, waited);
+        this.segmentRolls++;
+        if(this.current == null)
+            return;
+        this.hints = this.openHints(this.current);
+        this.countPreallocation(this.current);
+        final int next = this.current.index + 1;
+        this.nextSegment = this.maintenance.submit(() -> this.openSegment(next));
+        this.closedSegments.add(full.file);
+        while(this.retainedSegments > 0 && this.closedSegments.size() > this.retainedSegments){
+            final File expired = this.closedSegments.poll();
+            this.expiredSegments++;
+            this.maintenance.submit(() -> this.expire(expired));
+        }
+    }
+
+    /**
+     * Remove an expired segment.
+     * Runs on the maintenance thread.
+     * @param segment segment file
+     */
+    private void expire(final File segment){
+        if(this.truncateExpiredSegments){
+            try(final RandomAccessFile raf = new RandomAccessFile(segment,"rw")){
+                raf.setLength(0);
+            } catch (IOException e) {
+                log.log(Level.WARNING, "IO Exception while truncating expired segment " + segment.getName(), e);
+            }
+        }else{
+            FileManager.removeFile(segment);
+        }
+    }
+
+    @Override
+    public void finish() {
+        log.log(Level.INFO, "Finish WriterSegmented \n AutomaticFileRemoval: " + this.automaticFileRemoval);
+        this.lastWrite = System.nanoTime();
+        try {
+            this.durability.close();
+            if(this.current != null){
+                this.current.channel.truncate(this.current.position); //cut the preallocated tail of the last segment
+                this.current.raf.close();
+                this.hints.close();
+                this.closedSegments.add(this.current.file);
+            }
+        } catch (IOException e) {
+            log.log(Level.WARNING, "IO Exception on closing the last segment.", e);
+        }
+        //the preallocated next segment is never written - remove it on the maintenance thread
+        final Future<Segment> unused = this.nextSegment;
+        this.maintenance.submit(() -> {
+            try {
+                final Segment segment = unused.get();
+                segment.raf.close();
+                FileManager.removeFile(segment.file);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | IOException e) {
+                log.log(Level.WARNING, "Could not remove the unused preallocated segment.", e);
+            }
+        });
+        if(this.automaticFileRemoval){
+            final ArrayDeque<File> segments = new ArrayDeque<>(this.closedSegments);
+            this.maintenance.submit(() -> {
+                log.log(Level.INFO, "Removing " + segments.size() + " segments of WriterSegmented Test");
+                for(File segment: segments){
+                    FileManager.removeFile(segment);
+                }
+            });
+        }
+        this.maintenance.shutdown(); //queued removals still run
+        this.isFinished = true;
+        if(this.pt != null)
+            printEvaluationData();
+    }
+
+    /**
+     * Wait for the queued background work (preallocation, retention and removal) to complete.
+     * @param millis max time to wait
+     * @return true if everything completed
+     */
+    public boolean awaitMaintenance(final long millis){
+        try {
+            return this.maintenance.awaitTermination(millis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Stop an endless run (negative iteration count) after the current chunk.
+     */
+    public void stop() {
+        this.stopRequested = true;
+    }
+
+    @Override
+    public boolean isFinished() {
+        return this.isFinished;
+    }
+
+    @Override
+    public void run() {
+        if(chunk != null && edge != null){
+            for(int i = 0; (this.iteration < 0 || i < this.iteration) && !this.stopRequested; i++){
+                this.handleData(this.chunk);
+            }
+            this.handleData(this.edge,this.edge.length); //fix edge case (missing bytes)
+            this.finish(); //finish writer - to close stream and open file locks
+        }else{
+            log.log(Level.WARNING,"Please set a chunk and a edge chunk. Stopping here. Can't progress without");
+            this.isFinished = true;
+        }
+    }
+
+    @Override
+    public PerformanceTimer getTimer() {
+        return this.pt;
+    }
+
+    /**
+     * set the parameters needed for a run as Thread.
+     * @param chunk chunk to write multiple times
+     * @param edge edge chunk to achieve the desired count
+     * @param it how many times should the whole chunk be written to file (negative for an endless run until stop())
+     */
+    public void setRunParameters(final byte[] chunk, final byte[] edge, final int it){
+        this.chunk = chunk;
+        this.edge = edge;
+        this.iteration = it;
+    }
+
+    /**
+     * get the set chunk.
+     * @return byte array with set chunk
+     */
+    public byte[] getChunk() {
+        return chunk;
+    }
+
+    /**
+     * get the edge chunk.
+     * @return byte array with set edge chunk
+     */
+    public byte[] getEdge() {
+        return edge;
+    }
+
+    /**
+     * get the iteartion count that should be fulfilled.
+     * @return interger with the count
+     */
+    public int getIteration() {
+        return iteration;
+    }
+
+    /**
+     * get the count of segment rolls.
+     * @return rolls
+     */
+    public long getSegmentRolls() {
+        return this.segmentRolls;
+    }
+
+    /**
+     * get the count of expired segments.
+     * @return expired segments
+     */
+    public long getExpiredSegments() {
+        return this.expiredSegments;
+    }
+
+    /**
+     * truncate expired segments to zero length instead of deleting them.
+     * @param flag true to truncate
+     */
+    public void setTruncateExpiredSegments(final boolean flag) {
+        this.truncateExpiredSegments = flag;
+    }
+
+    @Override
+    public boolean getAutomaticFileRemoval() {
+        return this.automaticFileRemoval;
+    }
+
+    @Override
+    public void setAutomaticFileRemoval(final boolean flag) {
+        this.automaticFileRemoval = flag;
+    }
+
+    @Override
+    public String getFileName() {
+        return this.fileName;
+    }
+
+    @Override
+    public void printEvaluationData() {
+        log.log(Level.INFO,"Server passing logged measurements to file!");
+        if(this.pt != null){
+            PerformanceTimerHelper.createEvaluationData(this.baseName,"writer",this.pt);
+        }
+        this.durability.printEvaluationData(this.baseName);
+    }
+
+    @Override
+    public void setDurabilityPolicy(final DurabilityPolicy policy, final long parameter, final PerformanceTimer syncTimer) {
+        this.durability.close();
+        this.durability = new Durability(policy,parameter,syncTimer,() -> {
+            final Segment segment = this.current;
+            if(segment != null && segment.channel.isOpen())
+                segment.channel.force(false);
+        });
+    }
+
+    /**
+     * Every segment gets its own hints when it becomes the current one.
+     * @param profile profile to apply
+     * @param parameter bytes of a hint window (0 for the default of 8MB)
+     */
+    @Override
+    public void setIoHints(final IoHintProfile profile, final long parameter) {
+        this.hintProfile = profile;
+        this.hintParameter = parameter;
+        this.hints.close();
+        this.hints = this.current != null ? this.openHints(this.current) : IoHints.NONE;
+    }
+
+    private IoHints openHints(final Segment segment){
+        final IoHints segmentHints = new IoHints(this.hintProfile,this.hintParameter,segment.file,true,null);
+        segmentHints.onOpen();
+        return segmentHints;
+    }
+
+    /**
+     * Open segment file.
+     */
+    private static final class Segment {
+        private final int index;
+        private final File file;
+        private final RandomAccessFile raf;
+        private final FileChannel channel;
+        private final long preallocationNanos;
+        private final boolean reserved;
+        private long position;
+
+        Segment(final int index, final File file, final RandomAccessFile raf, final long preallocationNanos,
+                final boolean reserved) {
+            this.index = index;
+            this.file = file;
+            this.raf = raf;
+            this.channel = raf.getChannel();
+            this.preallocationNanos = preallocationNanos;
+            this.reserved = reserved;
+        }
+    }
+}
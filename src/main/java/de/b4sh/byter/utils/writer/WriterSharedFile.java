@@ -0,0 +1,276 @@
+/*
+ * File: WriterSharedFile
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.writer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import de.b4sh.byter.utils.io.IoHintProfile;
+import de.b4sh.byter.utils.measurements.Measurement;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+
+/**
+ * Single member of a SharedFileGroup - one per thread.
+ * Every handleData reserves its range at the end of the shared file and writes it positional,
+ * so members never wait on each other apart from the reservation and the file system itself.
+ * Members are created by the group, the group closes the file after the last member finished.
+ */
+public final class WriterSharedFile implements WriterInterface,Runnable {
+
+    private static final Logger log = Logger.getLogger(WriterSharedFile.class.getName());
+    private final SharedFileGroup group;
+    private final int memberIndex;
+    private final PerformanceTimer pt;
+    private final boolean takeMeasurements;
+    //statistics
+    private volatile long writtenBytes;
+    private volatile long writes;
+    private volatile long writeNanos;
+    private volatile long reserveNanos;
+    private volatile long maxWriteNanos;
+    private volatile long firstWriteNanos;
+    private volatile long lastWriteNanos;
+    //run parameter
+    private byte[] chunk;
+    private byte[] edge;
+    private int iteration;
+    private volatile boolean isFinished;
+
+    /**
+     * Constructor - used by the SharedFileGroup.
+     * @param group group that owns the shared file
+     * @param memberIndex index of this member inside the group
+     */
+    WriterSharedFile(final SharedFileGroup group, final int memberIndex) {
+        this.group = group;
+        this.memberIndex = memberIndex;
+        this.pt = group.getTimer();
+        this.takeMeasurements = this.pt != null;
+    }
+
+    @Override
+    public void handleData(final byte[] bytes) {
+        this.handleData(bytes,bytes.length);
+    }
+
+    @Override
+    public void handleData(final byte[] bytes, final int offset) {
+        if(this.isFinished || !this.group.isOpen())
+            return;
+        try {
+            final long tReserve = System.nanoTime();
+            final long position = this.group.reserve(offset);
+            final long tStart = System.nanoTime();
+            this.group.write(ByteBuffer.wrap(bytes,0,offset),position);
+            final long tEnd = System.nanoTime();
+            this.reserveNanos += tStart - tReserve;
+            this.track(offset,tStart,tEnd);
+            if(this.takeMeasurements){
+                synchronized (this.pt){
+                    this.pt.addNewMeasurement(new Measurement(WriterSharedFile.class.getName(),offset,tStart,tEnd));
+                }
+            }
+        } catch (IOException e) {
+            log.log(Level.WARNING, "IO Exception while processing data. Check stacktrace",e);
+        }
+    }
+
+    private void track(final int bytes, final long tStart, final long tEnd){
+        if(this.writes == 0)
+            this.firstWriteNanos = tStart;
+        this.lastWriteNanos = tEnd;
+        this.writes++;
+        this.writtenBytes += bytes;
+        this.writeNanos += tEnd - tStart;
+        this.maxWriteNanos = Math.max(this.maxWriteNanos, tEnd - tStart);
+    }
+
+    @Override
+    public void finish() {
+        if(this.isFinished)
+            return;
+        log.log(Level.INFO, "Finish WriterSharedFile " + this.memberIndex + " of " + this.group.getFileName());
+        this.isFinished = true;
+        this.group.memberFinished();
+    }
+
+    @Override
+    public boolean isFinished() {
+        return this.isFinished;
+    }
+
+    @Override
+    public void run() {
+        if(chunk != null && edge != null){
+            for(int i = 0; i < this.iteration; i++){
+                this.handleData(this.chunk);
+            }
+            this.handleData(this.edge,this.edge.length); //fix edge case (missing bytes)
+            this.finish(); //finish writer - the last member closes the shared file
+        }else{
+            log.log(Level.WARNING,"Please set a chunk and a edge chunk. Stopping here. Can't progress without");
+            this.finish();
+        }
+    }
+
+    @Override
+    public PerformanceTimer getTimer() {
+        return this.pt;
+    }
+
+    /**
+     * get the group of this member.
+     * @return SharedFileGroup
+     */
+    public SharedFileGroup getGroup() {
+        return this.group;
+    }
+
+    /**
+     * get the index of this member inside the group.
+     * @return index
+     */
+    public int getMemberIndex() {
+        return this.memberIndex;
+    }
+
+    /**
+     * get the bytes written by this member.
+     * @return bytes
+     */
+    public long getWrittenBytes() {
+        return this.writtenBytes;
+    }
+
+    /**
+     * get the start of the first write.
+     * @return System.nanoTime of the first write
+     */
+    public long getFirstWriteNanos() {
+        return this.firstWriteNanos;
+    }
+
+    /**
+     * get the end of the last write.
+     * @return System.nanoTime of the last write
+     */
+    public long getLastWriteNanos() {
+        return this.lastWriteNanos;
+    }
+
+    /**
+     * get the slowest write of this member.
+     * @return nanoseconds
+     */
+    public long getMaxWriteNanos() {
+        return this.maxWriteNanos;
+    }
+
+    /**
+     * get the time this member spent reserving ranges.
+     * @return nanoseconds
+     */
+    public long getReserveNanos() {
+        return this.reserveNanos;
+    }
+
+    /**
+     * get the time this member spent writing (incl. waits for the shared file and its syncs).
+     * @return nanoseconds
+     */
+    public long getWriteNanos() {
+        return this.writeNanos;
+    }
+
+    /**
+     * get the throughput of this member from its first to its last write.
+     * @return megabytes per second
+     */
+    public float getMegaBytesPerSecond() {
+        final long duration = this.lastWriteNanos - this.firstWriteNanos;
+        if(this.writtenBytes == 0 || duration <= 0)
+            return 0f;
+        return (float) (this.writtenBytes / (duration / 1e9) / (1024 * 1024));
+    }
+
+    /**
+     * get the average time of a single write.
+     * @return milliseconds
+     */
+    public float getAvgWriteLatencyMs() {
+        return this.writes == 0 ? 0f : this.writeNanos / 1000000f / this.writes;
+    }
+
+    /**
+     * set the parameters needed for a run as Thread.
+     * @param chunk chunk to write multiple times
+     * @param edge edge chunk to achieve the desired count
+     * @param it how many times should the whole chunk be written to file
+     */
+    public void setRunParameters(final byte[] chunk, final byte[] edge, final int it){
+        this.chunk = chunk;
+        this.edge = edge;
+        this.iteration = it;
+    }
+
+    /**
+     * get the set chunk.
+     * @return byte array with set chunk
+     */
+    public byte[] getChunk() {
+        return chunk;
+    }
+
+    /**
+     * get the edge chunk.
+     * @return byte array with set edge chunk
+     */
+    public byte[] getEdge() {
+        return edge;
+    }
+
+    /**
+     * get the iteartion count that should be fulfilled.
+     * @return interger with the count
+     */
+    public int getIteration() {
+        return iteration;
+    }
+
+    @Override
+    public boolean getAutomaticFileRemoval() {
+        return this.group.getAutomaticFileRemoval();
+    }
+
+    @Override
+    public void setAutomaticFileRemoval(final boolean flag) {
+        this.group.setAutomaticFileRemoval(flag);
+    }
+
+    @Override
+    public String getFileName() {
+        return this.group.getFileName();
+    }
+
+    @Override
+    public void printEvaluationData() {
+        this.group.printEvaluationData(); //evaluation covers the whole group
+    }
+
+    @Override
+    public void setDurabilityPolicy(final DurabilityPolicy policy, final long parameter, final PerformanceTimer syncTimer) {
+        this.group.setDurabilityPolicy(policy,parameter,syncTimer);
+    }
+
+    @Override
+    public void setIoHints(final IoHintProfile profile, final long parameter) {
+        this.group.setIoHints(profile,parameter);
+    }
+}
@@ -0,0 +1,465 @@
+/*
+ * File: WriterStriped
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.writer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.io.IoHintProfile;
+import de.b4sh.byter.utils.io.IoHints;
+import de.b4sh.byter.utils.io.ThreadManager;
+import de.b4sh.byter.utils.measurements.Measurement;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.measurements.PerformanceTimerHelper;
+
+/**
+ * Striped writer implementation (RAID-0 alike).
+ * The stream is cut into stripes of writerBufferSize which are handed round robin to one worker per directory.
+ * Every worker writes its stripes to its own file, so every directory (device) is driven in parallel.
+ * A stripe map is written next to the requested file on finish to reassemble the stream (see StripeMap).
+ * Stripe files are truncated on open, as the stripe map only describes a single stream.
+ * A stripe file that could not be opened or failed a write is not written anymore, as every later stripe would be
+ * shifted. It is listed as failed in the stripe map and reassembling the stream fails.
+ */
+public final class WriterStriped implements WriterInterface,Runnable {
+
+    private static final Logger log = Logger.getLogger(WriterStriped.class.getName());
+    private static final int QUEUE_DEPTH = 4; //filled stripes that may wait per worker
+    private static final ByteBuffer END_OF_STREAM = ByteBuffer.allocate(0);
+    private final File writeFile;
+    private final File mapFile;
+    private final String fileName;
+    private final PerformanceTimer pt;
+    private final boolean takeMeasurements;
+    //stripes
+    private final int stripeSize;
+    private final StripeWorker[] workers;
+    private final BlockingQueue<ByteBuffer> freeBuffers;
+    private ByteBuffer current;
+    private long stripeCount;
+    private long totalBytes;
+    private long firstWrite;
+    private long lastWrite;
+    private Durability durability = Durability.NONE;
+    //run parameter
+    private byte[] chunk;
+    private byte[] edge;
+    private int iteration;
+    private boolean isFinished;
+    private boolean automaticFileRemoval;
+
+    /**
+     * Constructor for the striped writer.
+     * @param writerBufferSize size of a single stripe
+     * @param directories directories to stripe over, one file per directory (null or empty for the directory of fileToWriteTo)
+     * @param fileToWriteTo file name of the stripes, the stripe map is written next to this file
+     */
+    public WriterStriped(final int writerBufferSize, final List<String> directories, final File fileToWriteTo) {
+        this(writerBufferSize,directories,fileToWriteTo,null);
+    }
+
+    /**
+     * Constructor for the striped writer.
+     * @param writerBufferSize size of a single stripe
+     * @param directories directories to stripe over, one file per directory (null or empty for the directory of fileToWriteTo)
+     * @param fileToWriteTo file name of the stripes, the stripe map is written next to this file
+     * @param timer timer that collects the measurements
+     */
+    public WriterStriped(final int writerBufferSize, final List<String> directories, final File fileToWriteTo,
+                         final PerformanceTimer timer) {
+        this.pt = timer;
+        this.takeMeasurements = timer != null;
+        this.writeFile = fileToWriteTo;
+        this.fileName = this.writeFile.getName();
+        this.mapFile = new File(this.writeFile.getAbsoluteFile().getParentFile(), this.fileName + ".stripemap");
+        this.automaticFileRemoval = true;
+        this.stripeSize = writerBufferSize;
+        final List<String> dirs = directories == null || directories.isEmpty()
+                ? Collections.singletonList(this.writeFile.getAbsoluteFile().getParent()) : directories;
+        this.workers = new StripeWorker[dirs.size()];
+        for(int i = 0; i < this.workers.length; i++){
+            if(!FileManager.isFolderExisting(dirs.get(i)))
+                FileManager.createFolder(dirs.get(i));
+            this.workers[i] = new StripeWorker(i,new File(dirs.get(i), this.fileName + "." + i));
+        }
+        //every worker may have QUEUE_DEPTH stripes waiting and one in progress, plus the one that gets filled
+        final int bufferCount = this.workers.length * (QUEUE_DEPTH + 1) + 1;
+        this.freeBuffers = new ArrayBlockingQueue<>(bufferCount);
+        for(int i = 0; i < bufferCount; i++){
+            this.freeBuffers.offer(ByteBuffer.allocateDirect(this.stripeSize));
+        }
+        for(StripeWorker worker: this.workers){
+            worker.start();
+        }
+        if(this.pt != null)
+            this.pt.addEvaluator(perfTimer -> this.evaluateStripes());
+    }
+
+    @Override
+    public void handleData(final byte[] bytes) {
+        this.handleData(bytes,bytes.length);
+    }
+
+    @Override
+    public void handleData(final byte[] bytes, final int offset) {
+        if(this.takeMeasurements)
+            this.handleDataWithMeasurements(bytes,offset);
+        else
+            this.handleDataWithoutMeasurements(bytes,offset);
+    }
+
+    private void handleDataWithMeasurements(final byte[] bytes, final int offset){
+        final long tStart = System.nanoTime();
+        this.stripeData(bytes,offset);
+        final long tEnd = System.nanoTime();
+        this.pt.addNewMeasurement(new Measurement(WriterStriped.class.getName(),offset,tStart,tEnd));
+    }
+
+    private void handleDataWithoutMeasurements(final byte[] bytes, final int offset){
+        this.stripeData(bytes,offset);
+    }
+
+    /**
+     * Copy the data into the current stripe and hand full stripes to their worker.
+     * Blocks if every stripe buffer is queued.
+     * @param bytes byte array
+     * @param offset max element of true data inside the array
+     */
+    private void stripeData(final byte[] bytes, final int offset){
+        if(this.firstWrite == 0)
+            this.firstWrite = System.nanoTime();
+        try {
+            int copied = 0;
+            while(copied < offset){
+                if(this.current == null)
+                    this.current = this.freeBuffers.take();
+                final int length = Math.min(this.current.remaining(), offset - copied);
+                this.current.put(bytes,copied,length);
+                copied += length;
+                if(!this.current.hasRemaining())
+                    this.submitCurrent();
+            }
+            this.totalBytes += offset;
+        } catch (InterruptedException e) {
+            log.log(Level.WARNING, "Interrupted while waiting for a free stripe buffer.",e);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Hand the current stripe to the next worker in round robin order.
+     * @throws InterruptedException if interrupted while the queue of the worker is full
+     */
+    private void submitCurrent() throws InterruptedException {
+        final ByteBuffer stripe = this.current;
+        this.current = null;
+        stripe.flip();
+        this.workers[(int) (this.stripeCount++ % this.workers.length)].queue.put(stripe);
+    }
+
+    @Override
+    public void finish() {
+        log.log(Level.INFO, "Finish WriterStriped \n AutomaticFileRemoval: "
+                + this.automaticFileRemoval +" -|- Stripes: " + this.workers.length);
+        try {
+            if(this.current != null && this.current.position() > 0)
+                this.submitCurrent(); //write out the last partly filled stripe
+            for(StripeWorker worker: this.workers){
+                worker.queue.put(END_OF_STREAM);
+            }
+            for(StripeWorker worker: this.workers){
+                worker.join();
+            }
+        } catch (InterruptedException e) {
+            log.log(Level.WARNING, "Interrupted while waiting for the stripe workers.",e);
+            Thread.currentThread().interrupt();
+        }
+        this.lastWrite = System.nanoTime();
+        this.durability.close();
+        final List<String> stripePaths = new ArrayList<>();
+        final List<Integer> failed = new ArrayList<>();
+        for(StripeWorker worker: this.workers){
+            worker.close();
+            stripePaths.add(worker.file.getAbsolutePath());
+            if(worker.failed)
+                failed.add(worker.index);
+        }
+        if(!failed.isEmpty())
+            log.log(Level.WARNING, "Stripe files " + failed + " are incomplete, the stream can't be reassembled.");
+        new StripeMap(this.stripeSize,this.totalBytes,stripePaths,failed).write(this.mapFile);
+        this.isFinished = true;
+        ThreadManager.nap(125); //wait 125ms for the writer to close the stream and everthing
+        if(automaticFileRemoval){
+            log.log(Level.INFO, "Removing DataFiles from WriterStriped Test.");
+            for(StripeWorker worker: this.workers){
+                if(worker.file.exists())
+                    FileManager.removeFile(worker.file);
+            }
+            if(this.mapFile.exists())
+                FileManager.removeFile(this.mapFile);
+        }
+        if(this.pt != null)
+            printEvaluationData();
+    }
+
+    /**
+     * Per-stripe and aggregate throughput.
+     * A stripe rate only covers the time its worker spent writing, the aggregate covers the whole stream.
+     * @return map with evaluation data
+     */
+    private Map<String, Float> evaluateStripes(){
+        final Map<String, Float> response = new HashMap<>();
+        response.put("stripeCount", (float) this.workers.length);
+        response.put("stripeSize", (float) this.stripeSize);
+        int failed = 0;
+        for(StripeWorker worker: this.workers){
+            if(worker.failed)
+                failed++;
+            response.put("stripe" + worker.index + "Bytes", (float) worker.writtenBytes);
+            response.put("stripe" + worker.index + "MegaBytesPerSecond", worker.busyNanos == 0 ? 0f
+                    : (float) (worker.writtenBytes / (worker.busyNanos / 1e9) / (1024 * 1024)));
+            response.put("stripe" + worker.index + "FailedWrites", (float) worker.failedWrites);
+        }
+        response.put("stripeFailedFiles", (float) failed);
+        if(this.lastWrite > this.firstWrite && this.firstWrite != 0){
+            final double seconds = (this.lastWrite - this.firstWrite) / 1e9;
+            response.put("aggregateMegaBytesPerSecond", (float) (this.totalBytes / seconds / (1024 * 1024)));
+        }
+        return response;
+    }
+
+    @Override
+    public boolean isFinished() {
+        return this.isFinished;
+    }
+
+    @Override
+    public void run() {
+        if(chunk != null && edge != null){
+            for(int i = 0; i < this.iteration; i++){
+                this.handleData(this.chunk);
+            }
+            this.handleData(this.edge,this.edge.length); //fix edge case (missing bytes)
+            this.finish(); //finish writer - to close stream and open file locks
+        }else{
+            log.log(Level.WARNING,"Please set a chunk and a edge chunk. Stopping here. Can't progress without");
+            this.isFinished = true;
+        }
+    }
+
+    @Override
+    public PerformanceTimer getTimer() {
+        return this.pt;
+    }
+
+    /**
+     * get the count of stripe files.
+     * @return count of directories that are used
+     */
+    public int getStripeCount() {
+        return this.workers.length;
+    }
+
+    /**
+     * get the file that contains the stripe map.
+     * @return stripe map file
+     */
+    public File getStripeMapFile() {
+        return this.mapFile;
+    }
+
+    /**
+     * set the parameters needed for a run as Thread.
+     * @param chunk chunk to write multiple times
+     * @param edge edge chunk to achieve the desired count
+     * @param it how many times should the whole chunk be written to file
+     */
+    public void setRunParameters(final byte[] chunk, final byte[] edge, final int it){
+        this.chunk = chunk;
+        this.edge = edge;
+        this.iteration = it;
+    }
+
+    /**
+     * get the set chunk.
+     * @return byte array with set chunk
+     */
+    public byte[] getChunk() {
+        return chunk;
+    }
+
+    /**
+     * get the edge chunk.
+     * @return byte array with set edge chunk
+     */
+    public byte[] getEdge() {
+        return edge;
+    }
+
+    /**
+     * get the iteartion count that should be fulfilled.
+     * @return interger with the count
+     */
+    public int getIteration() {
+        return iteration;
+    }
+
+    @Override
+    public boolean getAutomaticFileRemoval() {
+        return this.automaticFileRemoval;
+    }
+
+    @Override
+    public void setAutomaticFileRemoval(final boolean flag) {
+        this.automaticFileRemoval = flag;
+    }
+
+    @Override
+    public String getFileName() {
+        return this.fileName;
+    }
+
+    @Override
+    public void printEvaluationData() {
+        log.log(Level.INFO,"Server passing logged measurements to file!");
+        final String path;
+        if(this.getFileName().contains(".")){
+            path = this.getFileName().split("\\.")[0];
+        }else{
+            path = this.getFileName();
+        }
+        if(this.pt != null){
+            PerformanceTimerHelper.createEvaluationData(path,"writer",this.pt);
+        }
+        this.durability.printEvaluationData(path);
+    }
+
+    @Override
+    public void setDurabilityPolicy(final DurabilityPolicy policy, final long parameter, final PerformanceTimer syncTimer) {
+        this.durability.close();
+        this.durability = new Durability(policy,parameter,syncTimer,() -> {
+            for(StripeWorker worker: this.workers){
+                if(worker.channel != null)
+                    worker.channel.force(false);
+            }
+        });
+    }
+
+    /**
+     * Every stripe file gets its own hints.
+     * @param profile profile to apply
+     * @param parameter bytes of a hint window (0 for the default of 8MB)
+     */
+    @Override
+    public void setIoHints(final IoHintProfile profile, final long parameter) {
+        for(StripeWorker worker: this.workers){
+            worker.hints.close();
+            worker.hints = new IoHints(profile,parameter,worker.file,true,null);
+            worker.hints.onOpen();
+        }
+    }
+
+    /**
+     * Worker that writes the stripes of a single directory.
+     */
+    private final class StripeWorker extends Thread {
+        private final int index;
+        private final File file;
+        private final BlockingQueue<ByteBuffer> queue;
+        private FileChannel channel;
+        private volatile IoHints hints = IoHints.NONE;
+        private long writtenBytes;
+        private long busyNanos;
+        private long failedWrites;
+        private volatile boolean failed;
+
+        StripeWorker(final int index, final File file) {
+            super("WriterStriped-" + index);
+            this.setDaemon(true);
+            this.index = index;
+            this.file = file;
+            this.queue = new ArrayBlockingQueue<>(QUEUE_DEPTH + 1); //+1 for the end of stream marker
+            try {
+                this.channel = FileChannel.open(file.toPath(),StandardOpenOption.CREATE,StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING);
+            } catch (IOException e) {
+                this.failed = true;
+                log.log(Level.WARNING,"IO Exception during init of stripe " + index + ". Check Stacktrace for details.",e);
+            }
+        }
+
+        @Override
+        public void run() {
+            while(true){
+                final ByteBuffer stripe;
+                try {
+                    stripe = this.queue.take();
+                } catch (InterruptedException e) {
+                    log.log(Level.WARNING, "Stripe worker " + this.index + " got interrupted.",e);
+                    return;
+                }
+                if(stripe == END_OF_STREAM)
+                    return;
+                if(!this.failed)
+                    this.write(stripe);
+                stripe.clear();
+                freeBuffers.offer(stripe);
+            }
+        }
+
+        /**
+         * Write a stripe to the file, only the bytes that made it to the file are counted.
+         * @param stripe flipped stripe buffer
+         */
+        private void write(final ByteBuffer stripe){
+            final int length = stripe.remaining();
+            final long tStart = System.nanoTime();
+            try {
+                while(stripe.hasRemaining()){
+                    this.channel.write(stripe);
+                }
+            } catch (IOException e) {
+                this.failedWrites++;
+                this.failed = true;
+                log.log(Level.WARNING, "IO Exception while writing stripe " + this.index + ". Stripe file is incomplete.",e);
+            }
+            final int written = length - stripe.remaining();
+            this.busyNanos += System.nanoTime() - tStart;
+            this.writtenBytes += written;
+            durability.onWrite(written);
+            this.hints.onWrite(written);
+        }
+
+        /**
+         * close the channel of this stripe.
+         */
+        private void close(){
+            if(this.channel == null)
+                return;
+            try {
+                this.channel.close();
+            } catch (IOException e) {
+                log.log(Level.WARNING, "IO Exception on closing stripe " + this.index + ".");
+            }
+            this.hints.close();
+        }
+    }
+}
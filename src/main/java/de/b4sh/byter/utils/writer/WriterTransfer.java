@@ -0,0 +1,367 @@
+/*
+ * File: WriterTransfer
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.writer;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.io.IoHintProfile;
+import de.b4sh.byter.utils.io.IoHints;
+import de.b4sh.byter.utils.io.ThreadManager;
+import de.b4sh.byter.utils.measurements.Measurement;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.measurements.PerformanceTimerHelper;
+
+/**
+ * File to file replication writer.
+ * Copies an existing source file to the target in slices of sliceSize, every slice is one measurement.
+ * TransferTo and TransferFrom copy inside the kernel (FileChannel.transferTo / transferFrom).
+ * Buffered reads the source into user space and writes it with a WriterBuffered for comparison.
+ * A run replicates the source - the run parameters are ignored. Data passed by handleData is appended to the target.
+ */
+public final class WriterTransfer implements WriterInterface,Runnable {
+
+    private static final Logger log = Logger.getLogger(WriterTransfer.class.getName());
+    public static final long DEFAULT_SLICE_SIZE = 8L * 1024 * 1024;
+    private static final long MAX_SLICE_SIZE = Integer.MAX_VALUE - 8; //a slice is a single measurement and a single array
+    private final File source;
+    private final File writeFile;
+    private final String fileName;
+    private final long sliceSize;
+    private final ReplicationMode mode;
+    private final PerformanceTimer pt;
+    private final boolean takeMeasurements;
+    private FileChannel channel;
+    private WriterBuffered bufferedWriter;
+    private Durability durability = Durability.NONE;
+    private IoHints hints = IoHints.NONE;
+    private long replicatedBytes;
+    private long replicatedSlices;
+    private long replicationNanos;
+    //run parameter
+    private byte[] chunk;
+    private byte[] edge;
+    private int iteration;
+    private boolean isFinished;
+    private boolean automaticFileRemoval;
+
+    /**
+     * Constructor for the replication writer.
+     * @param source existing file to replicate
+     * @param fileToWriteTo target file (an existing file is overwritten)
+     * @param sliceSize bytes per transfer call (0 or below for the default of 8MB)
+     * @param mode replication mode
+     */
+    public WriterTransfer(final File source, final File fileToWriteTo, final long sliceSize, final ReplicationMode mode) {
+        this(source,fileToWriteTo,sliceSize,mode,null);
+    }
+
+    /**
+     * Constructor for the replication writer.
+     * @param source existing file to replicate
+     * @param fileToWriteTo target file (an existing file is overwritten)
+     * @param sliceSize bytes per transfer call (0 or below for the default of 8MB)
+     * @param mode replication mode
+     * @param timer timer that collects the measurements
+     */
+    public WriterTransfer(final File source, final File fileToWriteTo, final long sliceSize, final ReplicationMode mode,
+                          final PerformanceTimer timer) {
+        this.source = source;
+        this.writeFile = fileToWriteTo;
+        this.fileName = fileToWriteTo.getName();
+        this.sliceSize = sliceSize <= 0 ? DEFAULT_SLICE_SIZE : Math.min(sliceSize, MAX_SLICE_SIZE);
+        this.mode = mode;
+        this.pt = timer;
+        this.takeMeasurements = timer != null;
+        this.automaticFileRemoval = true;
+        if(this.mode == ReplicationMode.Buffered){
+            if(this.writeFile.exists())
+                FileManager.removeFile(this.writeFile); //the buffered writer appends
+            this.bufferedWriter = new WriterBuffered((int) this.sliceSize,this.writeFile);
+            this.bufferedWriter.setAutomaticFileRemoval(false); //removal is handled here
+        }else{
+            try {
+                this.channel = FileChannel.open(this.writeFile.toPath(), StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            } catch (IOException e) {
+                log.log(Level.WARNING,"IO Exception during init of WriterTransfer. Check Stacktrace for details.",e);
+            }
+        }
+        if(this.pt != null)
+            this.pt.addEvaluator(perfTimer -> {
+                final Map<String, Float> response = new HashMap<>();
+                response.put("replicationSliceSize", (float) this.sliceSize);
+                response.put("replicationSlices", (float) this.replicatedSlices);
+                response.put("replicatedBytes", (float) this.replicatedBytes);
+                if(this.replicationNanos > 0)
+                    response.put("replicationMegaBytesPerSecond",
+                            (float) (this.replicatedBytes / (this.replicationNanos / 1e9) / (1024 * 1024)));
+                return response;
+            });
+    }
+
+    /**
+     * Replicate the whole source file to the target.
+     * @return count of replicated bytes
+     */
+    public long replicate(){
+        log.log(Level.INFO, "Replicating " + this.source.getAbsolutePath() + " to " + this.writeFile.getAbsolutePath()
+                + " with mode " + this.mode.name() + " and slices of " + this.sliceSize + " bytes.");
+        final long tStart = System.nanoTime();
+        try {
+            if(this.mode == ReplicationMode.Buffered)
+                this.replicateBuffered();
+            else if(this.channel != null)
+                this.replicateTransfer();
+        } catch (IOException e) {
+            log.log(Level.WARNING, "IO Exception while replicating " + this.source.getName() + ". Check stacktrace",e);
+        }
+        this.replicationNanos += System.nanoTime() - tStart;
+        return this.replicatedBytes;
+    }
+
+    private void replicateTransfer() throws IOException {
+        try(
+            final FileChannel sourceChannel = FileChannel.open(this.source.toPath(), StandardOpenOption.READ)
+        ){
+            final long size = sourceChannel.size();
+            final long targetStart = this.channel.position();
+            long position = 0;
+            while(position < size){
+                final long length = Math.min(this.sliceSize, size - position);
+                final long tStart = System.nanoTime();
+                final long transferred;
+                if(this.mode == ReplicationMode.TransferTo){
+                    this.channel.position(targetStart + position);
+                    transferred = sourceChannel.transferTo(position, length, this.channel);
+                }else{
+                    sourceChannel.position(position);
+                    transferred = this.channel.transferFrom(sourceChannel, targetStart + position, length);
+                }
+                final long tEnd = System.nanoTime();
+                if(transferred <= 0){
+                    log.log(Level.WARNING, "Transfer stalled at " + position + " of " + size + " bytes. Stopping here.");
+                    break;
+                }
+                position += transferred;
+                this.sliceDone(transferred,tStart,tEnd);
+                this.durability.onWrite(transferred);
+                this.hints.onWrite(transferred);
+            }
+            this.channel.position(targetStart + position);
+        }
+    }
+
+    private void replicateBuffered() throws IOException {
+        final byte[] slice = new byte[(int) this.sliceSize];
+        try(
+            final InputStream in = new FileInputStream(this.source)
+        ){
+            while(true){
+                final long tStart = System.nanoTime();
+                int read = 0;
+                int r = 0;
+                while(read < slice.length && (r = in.read(slice, read, slice.length - read)) >= 0){
+                    read += r;
+                }
+                if(read > 0)
+                    this.bufferedWriter.handleData(slice,read);
+                final long tEnd = System.nanoTime();
+                if(read > 0)
+                    this.sliceDone(read,tStart,tEnd);
+                if(r < 0)
+                    break;
+            }
+        }
+    }
+
+    private void sliceDone(final long bytes, final long tStart, final long tEnd){
+        this.replicatedBytes += bytes;
+        this.replicatedSlices++;
+        if(this.takeMeasurements)
+            this.pt.addNewMeasurement(new Measurement(WriterTransfer.class.getName(),(int) bytes,tStart,tEnd));
+    }
+
+    @Override
+    public void handleData(final byte[] bytes) {
+        this.handleData(bytes,bytes.length);
+    }
+
+    @Override
+    public void handleData(final byte[] bytes, final int offset) {
+        if(this.bufferedWriter != null){
+            this.bufferedWriter.handleData(bytes,offset);
+        }else if(this.channel != null){
+            try {
+                final ByteBuffer buffer = ByteBuffer.wrap(bytes,0,offset);
+                while(buffer.hasRemaining()){
+                    this.channel.write(buffer);
+                }
+                this.durability.onWrite(offset);
+                this.hints.onWrite(offset);
+            } catch (IOException e) {
+                log.log(Level.WARNING, "IO Exception while processing data. Check stacktrace",e);
+            }
+        }
+    }
+
+    @Override
+    public void finish() {
+        log.log(Level.INFO, "Finish WriterTransfer \n AutomaticFileRemoval: "
+                + this.automaticFileRemoval +" -|- File Existing: " + this.writeFile.exists());
+        if(this.bufferedWriter != null){
+            this.bufferedWriter.finish();
+        }else if(this.channel != null){
+            try {
+                this.durability.close();
+                this.channel.close();
+                this.hints.close();
+            } catch (IOException e) {
+                log.log(Level.WARNING, "IO Exception on closing FileChannel.");
+            }
+        }
+        this.isFinished = true;
+        ThreadManager.nap(125); //wait 125ms for the writer to close the stream and everthing
+        if (this.writeFile.exists() && automaticFileRemoval) {
+            log.log(Level.INFO, "Removing replicated DataFile from WriterTransfer Test");
+            FileManager.removeFile(this.writeFile);
+        }
+        if(this.pt != null)
+            printEvaluationData();
+    }
+
+    @Override
+    public boolean isFinished() {
+        return this.isFinished;
+    }
+
+    @Override
+    public void run() {
+        this.replicate();
+        this.finish(); //finish writer - to close stream and open file locks
+    }
+
+    @Override
+    public PerformanceTimer getTimer() {
+        return this.pt;
+    }
+
+    /**
+     * set the parameters needed for a run as Thread.
+     * The replication writer copies its source on run - the parameters are kept for the interface only.
+     * @param chunk chunk to write multiple times
+     * @param edge edge chunk to achieve the desired count
+     * @param it how many times should the whole chunk be written to file
+     */
+    public void setRunParameters(final byte[] chunk, final byte[] edge, final int it){
+        this.chunk = chunk;
+        this.edge = edge;
+        this.iteration = it;
+    }
+
+    /**
+     * get the set chunk.
+     * @return byte array with set chunk
+     */
+    public byte[] getChunk() {
+        return chunk;
+    }
+
+    /**
+     * get the edge chunk.
+     * @return byte array with set edge chunk
+     */
+    public byte[] getEdge() {
+        return edge;
+    }
+
+    /**
+     * get the iteartion count that should be fulfilled.
+     * @return interger with the count
+     */
+    public int getIteration() {
+        return iteration;
+    }
+
+    /**
+     * get the used replication mode.
+     * @return ReplicationMode
+     */
+    public ReplicationMode getMode() {
+        return this.mode;
+    }
+
+    /**
+     * get the count of replicated bytes.
+     * @return bytes
+     */
+    public long getReplicatedBytes() {
+        return this.replicatedBytes;
+    }
+
+    @Override
+    public boolean getAutomaticFileRemoval() {
+        return this.automaticFileRemoval;
+    }
+
+    @Override
+    public void setAutomaticFileRemoval(final boolean flag) {
+        this.automaticFileRemoval = flag;
+    }
+
+    @Override
+    public String getFileName() {
+        return this.fileName;
+    }
+
+    @Override
+    public void printEvaluationData() {
+        log.log(Level.INFO,"Server passing logged measurements to file!");
+        final String path;
+        if(this.getFileName().contains(".")){
+            path = this.getFileName().split("\\.")[0];
+        }else{
+            path = this.getFileName();
+        }
+        if(this.pt != null){
+            PerformanceTimerHelper.createEvaluationData(path,"writer",this.pt);
+        }
+        this.durability.printEvaluationData(path);
+    }
+
+    @Override
+    public void setDurabilityPolicy(final DurabilityPolicy policy, final long parameter, final PerformanceTimer syncTimer) {
+        if(this.bufferedWriter != null){
+            this.bufferedWriter.setDurabilityPolicy(policy,parameter,syncTimer);
+            return;
+        }
+        this.durability.close();
+        this.durability = new Durability(policy,parameter,syncTimer,() -> this.channel.force(false));
+    }
+
+    @Override
+    public void setIoHints(final IoHintProfile profile, final long parameter) {
+        if(this.bufferedWriter != null){
+            this.bufferedWriter.setIoHints(profile,parameter);
+            return;
+        }
+        this.hints.close();
+        this.hints = new IoHints(profile,parameter,this.writeFile,true,this.pt);
+        this.hints.onOpen();
+    }
+}
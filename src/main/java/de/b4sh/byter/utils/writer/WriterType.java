@@ -17,7 +17,24 @@ public enum WriterType {
     FileChannelWriter("fich"),
     NullWriter("null"),
     RAFWriter("rafw"),
-    Archival("arch");
+    Archival("arch"),
+    MappedWriter("mmap"),
+    PooledFileChannelWriter("fcpl"),
+    GatheringWriter("gath"),
+    DirectIOWriter("odir"),
+    AsyncWriter("asyn"),
+    StripedWriter("strp"),
+    PreallocatedRAFWriter("rafp"),
+    CompressingWriter("defl"),
+    ChecksummingWriter("crcw"),
+    SegmentedWriter("segm"),
+    CombiningWriter("wcmb"),
+    DoubleBufferedWriter("dbuf"),
+    EncryptingCtrWriter("aesc"),
+    EncryptingGcmWriter("aesg"),
+    ErasureCodedWriter("ersc"),
+    PipelineWriter("pipe"),
+    UringWriter("urng");
 
     private final String key;
 
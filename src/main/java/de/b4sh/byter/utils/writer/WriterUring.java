@@ -0,0 +1,487 @@
+/*
+ * File: WriterUring
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.utils.writer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import de.b4sh.byter.utils.io.DirectBufferPool;
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.io.IoHintProfile;
+import de.b4sh.byter.utils.io.IoHints;
+import de.b4sh.byter.utils.io.IoUring;
+import de.b4sh.byter.utils.io.NativeIo;
+import de.b4sh.byter.utils.io.ThreadManager;
+import de.b4sh.byter.utils.measurements.Measurement;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.measurements.PerformanceTimerHelper;
+
+/**
+ * Experimental io_uring writer implementation.
+ * Chunks are staged into registered direct buffers of writerBufferSize, a full buffer is prepared as positional
+ * write and every batchSize writes are handed to the kernel with a single io_uring_enter. Up to queueDepth writes
+ * are in flight, if all buffers are in flight the writer submits and waits for the next completion in one call.
+ * The evaluation reports the io_uring_enter calls next to the completed writes: a blocking writer needs one
+ * syscall per write, the difference is the syscall overhead saved by the batching.
+ * If io_uring is not available (java below 22, kernel or seccomp) the writer falls back to WriterAsyncFileChannel.
+ * Measurements are taken per write from submission to the reaped completion.
+ */
+public final class WriterUring implements WriterInterface,Runnable {
+
+    private static final Logger log = Logger.getLogger(WriterUring.class.getName());
+    public static final int DEFAULT_QUEUE_DEPTH = 32;
+    private final IoUring ring;
+    private final WriterAsyncFileChannel fallback;
+    private FileChannel channel;
+    private int fd;
+    private final File writeFile;
+    private final String fileName;
+    private final PerformanceTimer pt;
+    private final boolean takeMeasurements;
+    //queue
+    private final int queueDepth;
+    private final int batchSize;
+    private final ByteBuffer[] buffers;
+    private final int[] freeSlots;
+    private int freeCount;
+    private final long[] slotPosition;
+    private final int[] slotLength;
+    private final int[] slotDone;
+    private final long[] slotSubmit;
+    private final long[] completedSlots;
+    private final int[] completedResults;
+    private int current;
+    private int inFlight;
+    private long nextPosition;
+    private long failedWrites;
+    private boolean broken;
+    private Durability durability = Durability.NONE;
+    private IoHints hints = IoHints.NONE;
+    //run parameter
+    private byte[] chunk;
+    private byte[] edge;
+    private int iteration;
+    private boolean isFinished;
+    private boolean automaticFileRemoval;
+
+    /**
+     * Constructor for io_uring writer.
+     * @param writerBufferSize size of a single write
+     * @param queueDepth count of writes in flight (0 or below for the default of 32)
+     * @param batchSize count of writes per submission (0 or below for a quarter of the queue depth)
+     * @param fileToWriteTo file to write to
+     */
+    public WriterUring(final int writerBufferSize, final int queueDepth, final int batchSize, final File fileToWriteTo) {
+        this(writerBufferSize,queueDepth,batchSize,fileToWriteTo,null);
+    }
+
+    /**
+     * Constructor for io_uring writer.
+     * @param writerBufferSize size of a single write
+     * @param queueDepth count of writes in flight (0 or below for the default of 32)
+     * @param batchSize count of writes per submission (0 or below for a quarter of the queue depth)
+     * @param fileToWriteTo file to write to
+     * @param timer timer that collects the measurements
+     */
+    public WriterUring(final int writerBufferSize, final int queueDepth, final int batchSize, final File fileToWriteTo,
+                       final PerformanceTimer timer) {
+        this.pt = timer;
+        this.takeMeasurements = timer != null;
+        this.writeFile = fileToWriteTo;
+        this.fileName = this.writeFile.getName();
+        this.automaticFileRemoval = true;
+        this.queueDepth = queueDepth <= 0 ? DEFAULT_QUEUE_DEPTH : queueDepth;
+        this.batchSize = batchSize <= 0 ? Math.max(1, this.queueDepth / 4) : Math.min(batchSize, this.queueDepth);
+        this.fd = -1;
+        this.current = -1;
+        this.ring = IoUring.create(this.queueDepth);
+        if(this.ring == null){
+            log.log(Level.INFO, "io_uring not available, WriterUring falls back to the AsynchronousFileChannel.");
+            this.fallback = new WriterAsyncFileChannel(writerBufferSize,this.queueDepth,fileToWriteTo,timer);
+            this.buffers = new ByteBuffer[0];
+        }else{
+            this.fallback = null;
+            final int bufferSize = DirectBufferPool.roundUpToPageSize(writerBufferSize);
+            this.buffers = new ByteBuffer[this.queueDepth];
+            for(int i = 0; i < this.queueDepth; i++){
+                this.buffers[i] = DirectBufferPool.allocateAligned(bufferSize);
+            }
+            this.ring.registerBuffers(this.buffers);
+            try{
+                //the channel creates the file and forces it for the durability policy, io_uring writes on its own descriptor
+                channel = FileChannel.open(fileToWriteTo.toPath(),StandardOpenOption.CREATE,StandardOpenOption.WRITE);
+                this.nextPosition = channel.size(); //append to existing data like the other writers
+                this.fd = NativeIo.openFile(fileToWriteTo,NativeIo.O_RDWR);
+            } catch (IOException e) {
+                log.log(Level.WARNING,"IO Exception during init of WriterUring. Check Stacktrace for details.",e);
+            }
+            if(this.fd < 0)
+                log.log(Level.WARNING,"Could not open " + this.fileName + " for io_uring.");
+        }
+        this.freeSlots = new int[this.buffers.length];
+        for(int i = 0; i < this.buffers.length; i++){
+            this.freeSlots[this.freeCount++] = i;
+        }
+        this.slotPosition = new long[this.buffers.length];
+        this.slotLength = new int[this.buffers.length];
+        this.slotDone = new int[this.buffers.length];
+        this.slotSubmit = new long[this.buffers.length];
+        this.completedSlots = new long[Math.max(1, this.buffers.length)];
+        this.completedResults = new int[this.completedSlots.length];
+        if(this.pt != null)
+            this.pt.addEvaluator(perfTimer -> this.evaluate());
+    }
+
+    private Map<String, Float> evaluate(){
+        final Map<String, Float> response = new HashMap<>();
+        response.put("uringEngine", this.ring != null ? 1f : 0f);
+        if(this.ring == null)
+            return response; //queue depth and failed writes come from the fallback
+        final long enterCalls = this.ring.getEnterCalls();
+        final long completions = this.ring.getCompletions();
+        response.put("queueDepth", (float) this.queueDepth);
+        response.put("failedWrites", (float) this.failedWrites);
+        response.put("uringBatchSize", (float) this.batchSize);
+        response.put("uringFixedBuffers", this.ring.isFixedBuffers() ? 1f : 0f);
+        response.put("uringEnterCalls", (float) enterCalls);
+        response.put("uringCompletions", (float) completions);
+        response.put("uringOpsPerSyscall", enterCalls == 0 ? 0f : (float) completions / enterCalls);
+        //a blocking writer needs one write syscall per completed write
+        response.put("uringSavedSyscalls", (float) (completions - enterCalls));
+        return response;
+    }
+
+    @Override
+    public void handleData(final byte[] bytes) {
+        this.handleData(bytes,bytes.length);
+    }
+
+    @Override
+    public void handleData(final byte[] bytes, final int offset) {
+        if(this.fallback != null){
+            this.fallback.handleData(bytes,offset);
+            return;
+        }
+        if(this.fd < 0 || this.broken)
+            return;
+        int written = 0;
+        while(written < offset){
+            if(this.current < 0)
+                this.current = this.acquireSlot(); //submits and waits while queueDepth writes are in flight
+            if(this.current < 0)
+                return;
+            final ByteBuffer buffer = this.buffers[this.current];
+            final int length = Math.min(buffer.remaining(), offset - written);
+            buffer.put(bytes,written,length);
+            written += length;
+            if(!buffer.hasRemaining())
+                this.submitCurrent();
+        }
+    }
+
+    private int acquireSlot(){
+        while(this.freeCount == 0){
+            if(!this.await(1))
+                return -1;
+        }
+        return this.freeSlots[--this.freeCount];
+    }
+
+    /**
+     * Prepare the currently filled buffer as positional write, a full batch is submitted right away.
+     */
+    private void submitCurrent(){
+        final int slot = this.current;
+        this.current = -1;
+        this.slotPosition[slot] = this.nextPosition;
+        this.slotLength[slot] = this.buffers[slot].position();
+        this.slotDone[slot] = 0;
+        this.slotSubmit[slot] = System.nanoTime();
+        this.nextPosition += this.slotLength[slot];
+        this.inFlight++;
+        this.prepare(slot);
+        if(this.ring.getPending() >= this.batchSize){
+            this.ring.submit(0);
+            this.reap();
+        }
+    }
+
+    private void prepare(final int slot){
+        final int done = this.slotDone[slot];
+        while(!this.ring.prepareWrite(this.fd,slot,done,this.slotLength[slot] - done,this.slotPosition[slot] + done,slot)){
+            if(!this.await(1)) //submission ring full
+                return;
+        }
+    }
+
+    /**
+     * Submit the prepared writes and wait for completions in a single call.
+     * @param minComplete count of completions to wait for
+     * @return true | false if the ring failed
+     */
+    private boolean await(final int minComplete){
+        int attempts = 0;
+        while(this.ring.submit(minComplete) < 0){
+            //interrupted by a signal, retry a few times before giving up
+            if(++attempts > 3){
+                log.log(Level.SEVERE, "io_uring_enter failed, WriterUring drops the remaining data.");
+                this.broken = true;
+                return false;
+            }
+            ThreadManager.nap(1);
+        }
+        this.reap();
+        return true;
+    }
+
+    private void reap(){
+        final int count = this.ring.reap(this.completedSlots,this.completedResults);
+        for(int i = 0; i < count; i++){
+            this.complete((int) this.completedSlots[i],this.completedResults[i]);
+        }
+    }
+
+    /**
+     * Handles a completion: resubmits short writes, takes the measurement and hands the buffer back.
+     * @param slot slot of the write
+     * @param result written bytes | -errno
+     */
+    private void complete(final int slot, final int result){
+        if(result > 0 && this.slotDone[slot] + result < this.slotLength[slot]){
+            //short write - continue behind the already written bytes
+            this.slotDone[slot] += result;
+            this.prepare(slot);
+            return;
+        }
+        final int length = this.slotLength[slot];
+        if(result <= 0){
+            this.failedWrites++;
+            log.log(Level.WARNING, "io_uring write at position " + this.slotPosition[slot] + " failed with " + result + ".");
+        }else{
+            if(takeMeasurements)
+                pt.addNewMeasurement(new Measurement(WriterUring.class.getName(),length,this.slotSubmit[slot],System.nanoTime()));
+            durability.onWrite(length);
+            hints.onWrite(length);
+        }
+        this.buffers[slot].clear();
+        this.freeSlots[this.freeCount++] = slot;
+        this.inFlight--;
+    }
+
+    @Override
+    public void finish() {
+        if(this.fallback != null){
+            this.fallback.finish();
+            this.isFinished = this.fallback.isFinished();
+            return;
+        }
+        log.log(Level.INFO, "Finish WriterUring \n AutomaticFileRemoval: "
+                + this.automaticFileRemoval +" -|- File Existing: " + this.writeFile.exists());
+        if(this.fd >= 0){
+            if(this.current >= 0 && this.buffers[this.current].position() > 0 && !this.broken)
+                this.submitCurrent();
+            else if(this.current >= 0){
+                this.buffers[this.current].clear();
+                this.freeSlots[this.freeCount++] = this.current;
+            }
+            this.current = -1;
+            while(this.inFlight > 0 && this.await(1)){
+                //wait for every write in flight, the kernel owns their buffers
+            }
+            if(this.failedWrites > 0)
+                log.log(Level.WARNING, "WriterUring had " + this.failedWrites + " failed writes.");
+            NativeIo.closeFile(this.fd);
+            this.fd = -1;
+        }
+        if(this.inFlight == 0)
+            this.ring.close();
+        try {
+            this.durability.close();
+            if(channel != null)
+                channel.close();
+        } catch (IOException e) {
+            log.log(Level.WARNING, "IO Exception on closing FileChannel.");
+        }
+        this.hints.close();
+        log.log(Level.INFO, "WriterUring -|- writes: " + this.ring.getCompletions() + " -|- io_uring_enter calls: "
+                + this.ring.getEnterCalls() + " -|- registered buffers: " + this.ring.isFixedBuffers());
+        this.isFinished = true;
+        ThreadManager.nap(125); //wait 125ms for the writer to close the stream and everthing
+        if(this.writeFile.exists() && automaticFileRemoval){
+            log.log(Level.INFO, "Removing DataFile from WriterUring Test.");
+            FileManager.removeFile(this.writeFile);
+        }
+        if(this.pt != null)
+            printEvaluationData();
+    }
+
+    @Override
+    public boolean isFinished() {
+        return this.isFinished;
+    }
+
+    @Override
+    public void run() {
+        if(chunk != null && edge != null){
+            for(int i = 0; i < this.iteration; i++){
+                this.handleData(this.chunk);
+            }
+            this.handleData(this.edge,this.edge.length); //fix edge case (missing bytes)
+            this.finish(); //finish writer - to close stream and open file locks
+        }else{
+            log.log(Level.WARNING,"Please set a chunk and a edge chunk. Stopping here. Can't progress without");
+            this.isFinished = true;
+        }
+    }
+
+    @Override
+    public PerformanceTimer getTimer() {
+        return this.pt;
+    }
+
+    /**
+     * Checks if the writes go through io_uring.
+     * @return true | false (AsynchronousFileChannel fallback)
+     */
+    public boolean isNativeEngine() {
+        return this.ring != null;
+    }
+
+    /**
+     * get the count of writes that may be in flight at the same time.
+     * @return queue depth
+     */
+    public int getQueueDepth() {
+        return this.queueDepth;
+    }
+
+    /**
+     * get the count of writes per submission.
+     * @return batch size
+     */
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    /**
+     * get the count of io_uring_enter calls.
+     * @return count | 0 (fallback)
+     */
+    public long getEnterCalls() {
+        return this.ring != null ? this.ring.getEnterCalls() : 0;
+    }
+
+    /**
+     * get the count of failed writes.
+     * @return failed writes
+     */
+    public long getFailedWrites() {
+        return this.fallback != null ? this.fallback.getFailedWrites() : this.failedWrites;
+    }
+
+    /**
+     * set the parameters needed for a run as Thread.
+     * @param chunk chunk to write multiple times
+     * @param edge edge chunk to achieve the desired count
+     * @param it how many times should the whole chunk be written to file
+     */
+    public void setRunParameters(final byte[] chunk, final byte[] edge, final int it){
+        this.chunk = chunk;
+        this.edge = edge;
+        this.iteration = it;
+    }
+
+    /**
+     * get the set chunk.
+     * @return byte array with set chunk
+     */
+    public byte[] getChunk() {
+        return chunk;
+    }
+
+    /**
+     * get the edge chunk.
+     * @return byte array with set edge chunk
+     */
+    public byte[] getEdge() {
+        return edge;
+    }
+
+    /**
+     * get the iteartion count that should be fulfilled.
+     * @return interger with the count
+     */
+    public int getIteration() {
+        return iteration;
+    }
+
+    @Override
+    public boolean getAutomaticFileRemoval() {
+        return this.automaticFileRemoval;
+    }
+
+    @Override
+    public void setAutomaticFileRemoval(final boolean flag) {
+        this.automaticFileRemoval = flag;
+        if(this.fallback != null)
+            this.fallback.setAutomaticFileRemoval(flag);
+    }
+
+    @Override
+    public String getFileName() {
+        return this.fileName;
+    }
+
+    @Override
+    public void printEvaluationData() {
+        if(this.fallback != null){
+            this.fallback.printEvaluationData();
+            return;
+        }
+        log.log(Level.INFO,"Server passing logged measurements to file!");
+        final String path;
+        if(this.getFileName().contains(".")){
+            path = this.getFileName().split("\\.")[0];
+        }else{
+            path = this.getFileName();
+        }
+        if(this.pt != null){
+            PerformanceTimerHelper.createEvaluationData(path,"writer",this.pt);
+        }
+        this.durability.printEvaluationData(path);
+    }
+
+    @Override
+    public void setDurabilityPolicy(final DurabilityPolicy policy, final long parameter, final PerformanceTimer syncTimer) {
+        if(this.fallback != null){
+            this.fallback.setDurabilityPolicy(policy,parameter,syncTimer);
+            return;
+        }
+        this.durability.close();
+        //fdatasync flushes the file, no matter which descriptor wrote the data
+        this.durability = new Durability(policy,parameter,syncTimer,() -> this.channel.force(false));
+    }
+
+    @Override
+    public void setIoHints(final IoHintProfile profile, final long parameter) {
+        if(this.fallback != null){
+            this.fallback.setIoHints(profile,parameter);
+            return;
+        }
+        this.hints.close();
+        this.hints = new IoHints(profile,parameter,this.writeFile,true,this.pt);
+        this.hints.onOpen();
+    }
+}
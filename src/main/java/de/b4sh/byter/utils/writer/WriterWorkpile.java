@@ -8,84 +8,254 @@
 package de.b4sh.byter.utils.writer;
 
 import java.io.File;
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import de.b4sh.byter.utils.io.ChunkRingBuffer;
 import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.io.IoHintProfile;
 import de.b4sh.byter.utils.io.ThreadManager;
+import de.b4sh.byter.utils.measurements.Measurement;
 import de.b4sh.byter.utils.measurements.PerformanceTimer;
 import de.b4sh.byter.utils.measurements.PerformanceTimerHelper;
 
 /**
  * This class represents the idea of working with a workpile to accept multiple arrays of data and write them sync.
+ * The chunks are copied into a pre-sized single-producer/single-consumer ring and written by a worker thread
+ * with any WriterType. If the ring is full the producer is blocked (backpressure). Both sides spin a bit and
+ * park afterwards while waiting, the other side unparks them as soon as there is work or space again.
  */
 public final class WriterWorkpile implements WriterInterface,Runnable{
 
     private static final Logger log = Logger.getLogger(WriterWorkpile.class.getName());
-    private final Queue<byte[]> workpile;
+    public static final int DEFAULT_CAPACITY = 64;
+    private static final int SPIN_TRIES = 100;
+    private static final long PARK_NANOS = 1000000L; //upper bound for a single park, guards against lost wakeups
+    private final ChunkRingBuffer workpile;
     private final WriterType workingWriter;
     private final File writeFile;
     private final String fileName;
-    private final int writerBufferSize;
     private final PerformanceTimer pt;
+    private PerformanceTimer syncTimer;
     private final boolean takeMeasurements;
     //pile writer
     private WorkpileWriter workpileWriter;
     private Thread workpileWorkerThread;
-    private boolean keepWorkerAlive;
-    private boolean tryFinish;
+    private volatile boolean tryFinish;
+    private volatile boolean consumerParked;
+    private volatile boolean producerParked;
+    private volatile Thread producerThread;
+    //metrics
+    private long depthSum;
+    private long depthSamples;
+    private int maxDepth;
+    private long backpressureCount;
+    private long producerWaitNanos;
+    private long consumerIdleNanos;
     //run parameter
     private byte[] chunk;
     private byte[] edge;
     private int iteration;
-    private boolean isFinished;
+    private volatile boolean isFinished;
     private boolean automaticFileRemoval;
 
     /**
      * Constructor for Workpile Writer.
      * @param writeFile the file to write data to
-     * @param writerBufferSize
+     * @param workingWriter writer implementation the worker uses
+     * @param writerBufferSize buffer size of the working writer
      */
     public WriterWorkpile(final File writeFile, final WriterType workingWriter, final int writerBufferSize){
+        this(writeFile,workingWriter,writerBufferSize,DEFAULT_CAPACITY,null);
+    }
+
+    /**
+     * Constructor for Workpile Writer.
+     * @param writeFile the file to write data to
+     * @param workingWriter writer implementation the worker uses
+     * @param writerBufferSize buffer size of the working writer
+     * @param capacity count of chunks the workpile holds before the producer is blocked (rounded up to a power of two)
+     * @param timer timer that collects the measurements of handleData (incl. backpressure) | null
+     */
+    public WriterWorkpile(final File writeFile, final WriterType workingWriter, final int writerBufferSize,
+                          final int capacity, final PerformanceTimer timer){
+        this(writeFile,workingWriter,createWorkingWriter(workingWriter,writerBufferSize,writeFile),capacity,timer);
+    }
+
+    /**
+     * Constructor for Workpile Writer in front of an already built writer (eg. the rest of a WriterPipeline).
+     * The working writer is responsible for the removal of its files.
+     * @param target writer the worker hands the chunks to
+     * @param capacity count of chunks the workpile holds before the producer is blocked (rounded up to a power of two)
+     * @param timer timer that collects the measurements of handleData (incl. backpressure) | null
+     */
+    public WriterWorkpile(final WriterInterface target, final int capacity, final PerformanceTimer timer){
+        this(null,WriterType.None,target,capacity,timer);
+    }
+
+    private WriterWorkpile(final File writeFile, final WriterType workingWriter, final WriterInterface writer,
+                           final int capacity, final PerformanceTimer timer){
         this.writeFile = writeFile;
-        this.fileName = this.writeFile.getName();
+        this.fileName = writeFile != null ? writeFile.getName() : writer != null ? writer.getFileName() : "";
         this.workingWriter = workingWriter;
-        this.writerBufferSize = writerBufferSize;
-        this.workpile = new LinkedList<>();
-        this.pt = null;
-        this.takeMeasurements = false;
+        this.workpile = new ChunkRingBuffer(capacity <= 0 ? DEFAULT_CAPACITY : capacity);
+        this.pt = timer;
+        this.takeMeasurements = timer != null;
         this.tryFinish = false;
         this.automaticFileRemoval = true;
-        this.initWorkpileWorker();
+        this.initWorkpileWorker(writer);
+        if(this.pt != null)
+            this.pt.addEvaluator(perfTimer -> {
+                final Map<String, Float> response = new HashMap<>();
+                response.put("workpileMaxQueueDepth", (float) this.getMaxQueueDepth());
+                response.put("workpileAvgQueueDepth", this.getAverageQueueDepth());
+                response.put("workpileBackpressureCount", (float) this.getBackpressureCount());
+                response.put("workpileProducerWaitMs", this.getProducerWaitNanos() / 1000000f);
+                response.put("workpileConsumerIdleMs", this.getConsumerIdleNanos() / 1000000f);
+                return response;
+            });
     }
 
-    private void initWorkpileWorker(){
-        switch(this.workingWriter){
-            case BufferedWriter:{
-                this.workpileWriter = new WorkpileWriter(new WriterBuffered(this.writerBufferSize,this.writeFile));
-            }
+    private void initWorkpileWorker(final WriterInterface writer){
+        if(writer == null){
+            log.log(Level.WARNING, "WriterWorkpile has no working writer for type " + this.workingWriter + ". Chunks are discarded.");
+            this.isFinished = true;
+            return;
         }
-        this.keepWorkerAlive = true;
+        this.workpileWriter = new WorkpileWriter(writer);
         this.workpileWorkerThread = new Thread(this.workpileWriter);
         this.workpileWorkerThread.setDaemon(true);
         this.workpileWorkerThread.start();
     }
 
+    /**
+     * Create a writer of the given type without measurements.
+     * @param type requested writer implementation
+     * @param writerBufferSize buffer size of the writer
+     * @param writeFile the file to write data to
+     * @return writer | null if the type can't be built without further configuration
+     */
+    static WriterInterface createWorkingWriter(final WriterType type, final int writerBufferSize, final File writeFile){
+        switch(type){
+            case BufferedWriter:
+                return new WriterBuffered(writerBufferSize,writeFile);
+            case FileChannelWriter:
+                return new WriterFileChannel(writerBufferSize,writeFile);
+            case PooledFileChannelWriter:
+                return new WriterFileChannel(writerBufferSize,writeFile,null,true);
+            case NullWriter:
+                return new WriterNull(writerBufferSize,writeFile);
+            case RAFWriter:
+                return new WriterRandomAccessFile(writerBufferSize,writeFile);
+            case Archival:
+                final String baseName = writeFile.getName().contains(".") ? writeFile.getName().split("\\.")[0] : writeFile.getName();
+                return new WriterArchival(writeFile,new File(writeFile.getParentFile(),baseName + ".index"),writerBufferSize);
+            case MappedWriter:
+                return new WriterMemoryMapped(writerBufferSize,writeFile);
+            case GatheringWriter:
+                return new WriterGathering(writerBufferSize,0,writeFile);
+            case DirectIOWriter:
+                return new WriterDirectIO(writerBufferSize,writeFile);
+            case AsyncWriter:
+                return new WriterAsyncFileChannel(writerBufferSize,0,writeFile);
+            case PreallocatedRAFWriter:
+                return new WriterRandomAccessFile(writerBufferSize,writeFile,null,0);
+            case StripedWriter:
+                return new WriterStriped(writerBufferSize,null,writeFile);
+            case CompressingWriter:
+                return new WriterCompressing(new WriterFileChannel(writerBufferSize,writeFile),0);
+            case ChecksummingWriter:
+                return new WriterChecksumming(new WriterFileChannel(writerBufferSize,writeFile),writeFile,0);
+            case SegmentedWriter:
+                return new WriterSegmented(0,WriterSegmented.DEFAULT_RETAINED_SEGMENTS,writeFile);
+            case CombiningWriter:
+                return new WriterCombining(new WriterFileChannel(writerBufferSize,writeFile));
+            case DoubleBufferedWriter:
+                return new WriterDoubleBuffered(writerBufferSize,0,writeFile);
+            case EncryptingCtrWriter:
+                return new WriterEncrypting(new WriterFileChannel(writerBufferSize,writeFile),EncryptionMode.Ctr);
+            case EncryptingGcmWriter:
+                return new WriterEncrypting(new WriterFileChannel(writerBufferSize,writeFile),EncryptionMode.Gcm);
+            case ErasureCodedWriter:
+                return new WriterErasureCoded(writerBufferSize,WriterErasureCoded.DEFAULT_DATA_SHARDS,
+                        WriterErasureCoded.DEFAULT_PARITY_SHARDS,null,writeFile);
+            case PipelineWriter:
+                return new WriterPipeline(WriterPipeline.DEFAULT_STAGES,writerBufferSize,writeFile);
+            case UringWriter:
+                return new WriterUring(writerBufferSize,0,0,writeFile);
+            default:
+                return null;
+        }
+    }
+
     @Override
-    public void handleData(byte[] bytes) {
+    public void handleData(final byte[] bytes) {
         this.handleData(bytes,bytes.length);
     }
 
     @Override
-    public void handleData(byte[] bytes, int offset) {
-        this.workpile.add(bytes);
+    public void handleData(final byte[] bytes, final int offset) {
+        if(this.workpileWriter == null)
+            return;
+        if(this.takeMeasurements){
+            final long tStart = System.nanoTime();
+            this.publish(bytes,offset);
+            final long tEnd = System.nanoTime();
+            this.pt.addNewMeasurement(new Measurement(WriterWorkpile.class.getName(),offset,tStart,tEnd));
+        }else{
+            this.publish(bytes,offset);
+        }
+    }
+
+    /**
+     * Copy the chunk into the workpile. Blocks while the workpile is full.
+     * @param bytes byte array
+     * @param offset max element of true data inside the array
+     */
+    private void publish(final byte[] bytes, final int offset){
+        if(!this.workpile.offer(bytes,offset)){
+            this.backpressureCount++;
+            final long waitStart = System.nanoTime();
+            int tries = 0;
+            while(!this.workpile.offer(bytes,offset)){
+                if(tries < SPIN_TRIES){
+                    tries++;
+                    Thread.yield();
+                }else{
+                    this.producerThread = Thread.currentThread();
+                    this.producerParked = true;
+                    if(this.workpile.size() == this.workpile.capacity()) //recheck after announcing the park
+                        LockSupport.parkNanos(this,PARK_NANOS);
+                    this.producerParked = false;
+                }
+            }
+            this.producerWaitNanos += System.nanoTime() - waitStart;
+        }
+        //queue depth sampling
+        final int depth = this.workpile.size();
+        this.depthSum += depth;
+        this.depthSamples++;
+        if(depth > this.maxDepth)
+            this.maxDepth = depth;
+        if(this.consumerParked)
+            LockSupport.unpark(this.workpileWorkerThread);
     }
 
     @Override
     public void finish() {
         this.tryFinish = true;
+        if(this.workpileWorkerThread != null){
+            LockSupport.unpark(this.workpileWorkerThread);
+            try {
+                this.workpileWorkerThread.join();
+            } catch (InterruptedException e) {
+                log.log(Level.WARNING,"Interrupted while waiting for the workpile worker to finish.",e);
+                Thread.currentThread().interrupt();
+            }
+        }
     }
 
     @Override
@@ -111,6 +281,46 @@ public final class WriterWorkpile implements WriterInterface,Runnable{
         return this.pt;
     }
 
+    /**
+     * get the highest count of queued chunks seen after a publish.
+     * @return max queue depth
+     */
+    public int getMaxQueueDepth() {
+        return this.maxDepth;
+    }
+
+    /**
+     * get the average count of queued chunks seen after a publish.
+     * @return average queue depth
+     */
+    public float getAverageQueueDepth() {
+        return this.depthSamples == 0 ? 0f : (float) this.depthSum / this.depthSamples;
+    }
+
+    /**
+     * get how often the producer found the workpile full.
+     * @return count of backpressure events
+     */
+    public long getBackpressureCount() {
+        return this.backpressureCount;
+    }
+
+    /**
+     * get the time the producer was blocked by a full workpile.
+     * @return wait time in ns
+     */
+    public long getProducerWaitNanos() {
+        return this.producerWaitNanos;
+    }
+
+    /**
+     * get the time the worker waited on an empty workpile.
+     * @return idle time in ns
+     */
+    public long getConsumerIdleNanos() {
+        return this.consumerIdleNanos;
+    }
+
     /**
      * set the parameters needed for a run as Thread.
      * @param chunk chunk to write multiple times
@@ -153,9 +363,10 @@ public final class WriterWorkpile implements WriterInterface,Runnable{
     }
 
     @Override
-    public void setAutomaticFileRemoval(boolean flag) {
+    public void setAutomaticFileRemoval(final boolean flag) {
         this.automaticFileRemoval = flag;
-        this.workpileWriter.carryFileRemovalFlag(flag);
+        if(this.workpileWriter != null)
+            this.workpileWriter.carryFileRemovalFlag(flag);
     }
 
     @Override
@@ -175,13 +386,35 @@ public final class WriterWorkpile implements WriterInterface,Runnable{
         if(this.pt != null){
             PerformanceTimerHelper.createEvaluationData(path,"writer",this.pt);
         }
+        if(this.syncTimer != null && !this.syncTimer.getData().isEmpty()){
+            PerformanceTimerHelper.createEvaluationData(path,"writer-sync",this.syncTimer);
+        }
+    }
+
+    /**
+     * Set the durability policy of the working writer.
+     * The syncs happen on the worker thread.
+     * @param policy policy to apply
+     * @param parameter policy parameter (0 for the default of the policy)
+     * @param syncTimer timer that collects the sync latencies | null
+     */
+    @Override
+    public void setDurabilityPolicy(final DurabilityPolicy policy, final long parameter, final PerformanceTimer syncTimer) {
+        this.syncTimer = syncTimer;
+        if(this.workpileWriter != null)
+            this.workpileWriter.writer.setDurabilityPolicy(policy,parameter,syncTimer);
+    }
+
+    @Override
+    public void setIoHints(final IoHintProfile profile, final long parameter) {
+        if(this.workpileWriter != null)
+            this.workpileWriter.writer.setIoHints(profile,parameter);
     }
 
     /**
      * Anonymous Worker class to write piled byte-arrays to file.
      */
     final class WorkpileWriter implements Runnable{
-        private final Logger workingLog = Logger.getLogger(WorkpileWriter.class.getName());
         private final WriterInterface writer;
 
         WorkpileWriter(final WriterInterface writer) {
@@ -190,25 +423,30 @@ public final class WriterWorkpile implements WriterInterface,Runnable{
 
         @Override
         public void run() {
-            while (keepWorkerAlive) {
-                if (workpile.size() > 0) {
-                    final byte[] pile = workpile.poll();//take first element
-                    this.writer.handleData(pile); //write element to file
-                } else {
-                    this.nap(250); //wait for 250ms and check again if there is new content
-                }
-                if(tryFinish && workpile.isEmpty()){
-                    keepWorkerAlive = false;
-                    this.writer.finish(); //finish subwriter to close open locks
-                    ThreadManager.nap(125); //wait 125ms for the writer to close the stream and everthing
-                    if(writeFile.exists() && automaticFileRemoval){
-                        log.log(Level.INFO, "Removing DataFile from WriterWorkpile Test.");
-                        FileManager.removeFile(writeFile);
-                    }
-                    if(pt != null){
-                        printEvaluationData();
-                    }
+            int tries = 0;
+            while (true) {
+                final ChunkRingBuffer.Slot slot = workpile.peek();
+                if (slot != null) {
+                    this.writer.handleData(slot.getData(),slot.getLength()); //write element to file
+                    workpile.release();
+                    tries = 0;
+                    if(producerParked)
+                        LockSupport.unpark(producerThread);
+                    continue;
                 }
+                if(tryFinish && workpile.isEmpty())
+                    break;
+                this.idle(tries++);
+            }
+            this.writer.finish(); //finish subwriter to close open locks
+            ThreadManager.nap(125); //wait 125ms for the writer to close the stream and everthing
+            if(writeFile != null && writeFile.exists() && automaticFileRemoval){
+                log.log(Level.INFO, "Removing DataFile from WriterWorkpile Test.");
+                FileManager.removeFile(writeFile);
+            }
+            isFinished = true;
+            if(pt != null){
+                printEvaluationData();
             }
         }
 
@@ -217,15 +455,20 @@ public final class WriterWorkpile implements WriterInterface,Runnable{
         }
 
         /**
-         * Let the Thread sleep a bit
-         * @param napTime time to sleep in ms
+         * Wait for new content: spin first, park afterwards until the producer unparks this thread.
+         * @param tries count of unsuccessful polls in a row
          */
-        private void nap(final long napTime){
-            try {
-                Thread.sleep(napTime);
-            } catch (InterruptedException e) {
-                workingLog.log(Level.WARNING,"Exception during nap(). See Stacktrace for issue please",e);
+        private void idle(final int tries){
+            final long idleStart = System.nanoTime();
+            if(tries < SPIN_TRIES){
+                Thread.yield();
+            }else{
+                consumerParked = true;
+                if(workpile.isEmpty() && !tryFinish) //recheck after announcing the park
+                    LockSupport.parkNanos(this,PARK_NANOS);
+                consumerParked = false;
             }
+            consumerIdleNanos += System.nanoTime() - idleStart;
         }
     }
 }
@@ -9,6 +9,7 @@ package de.b4sh.byter.client;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -22,9 +23,11 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import de.b4sh.byter.support.ComponentHelper;
+import de.b4sh.byter.utils.data.ChunkGenerator;
 import de.b4sh.byter.utils.data.StringGenerator;
 import de.b4sh.byter.utils.data.TransformValues;
 import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.io.ThreadManager;
 import de.b4sh.byter.utils.jmx.JmxClientDiscHelper;
 import de.b4sh.byter.utils.jmx.JmxClientNetworkHelper;
 import de.b4sh.byter.utils.jmx.JmxConnectionHelper;
@@ -90,6 +93,53 @@ public class ClientJmxDiscTest {
         Assert.assertTrue(wi instanceof WriterBuffered);
     }
 
+    /**
+     * Test the replication of an existing file into the output path.
+     */
+    @Test
+    public void testReplication() throws IOException {
+        final ClientJmxDisc clientJmxDisc = new ClientJmxDisc("de.test","replication");
+        final File source = new File(testSpaceDirectory,"replication_source.file");
+        Files.write(source.toPath(), ChunkGenerator.generateChunk(300000));
+        clientJmxDisc.setOutputPath(testSpaceDirectory);
+        clientJmxDisc.setFileName("replication_target");
+        clientJmxDisc.setAutomaticFileRemoval("false");
+        clientJmxDisc.setReplicationSliceSize(65536);
+        Assert.assertTrue(clientJmxDisc.setReplicationMode("xfrm").contains("TransferFrom"));
+        Assert.assertTrue(clientJmxDisc.startReplication(new File(testSpaceDirectory,"missing.file").getPath()).startsWith("ERROR"));
+        clientJmxDisc.startReplication(source.getPath());
+        for(int i = 0; i < 100 && !clientJmxDisc.getActiveWritersDone(); i++){
+            ThreadManager.nap(50);
+        }
+        Assert.assertTrue(clientJmxDisc.getActiveWritersDone());
+        Assert.assertArrayEquals(Files.readAllBytes(source.toPath()),
+                Files.readAllBytes(new File(testSpaceDirectory,"replication_target.data").toPath()));
+        clientJmxDisc.stopServicePool();
+    }
+
+    /**
+     * Test multiple writer threads on one shared file.
+     */
+    @Test
+    public void testSharedFileWriter() {
+        final ClientJmxDisc clientJmxDisc = new ClientJmxDisc("de.test","sharedfile");
+        final File target = new File(testSpaceDirectory,"shared_target.data");
+        if(target.exists())
+            FileManager.removeFile(target); //the shared file gets appended
+        clientJmxDisc.setOutputPath(testSpaceDirectory);
+        clientJmxDisc.setFileName("shared_target");
+        clientJmxDisc.setAutomaticFileRemoval("false");
+        clientJmxDisc.setByteTarget(100000);
+        clientJmxDisc.setChunkSize(8192);
+        clientJmxDisc.startSharedFileWriter(3);
+        for(int i = 0; i < 100 && !clientJmxDisc.getActiveWritersDone(); i++){
+            ThreadManager.nap(50);
+        }
+        Assert.assertTrue(clientJmxDisc.getActiveWritersDone());
+        Assert.assertEquals(300000, target.length());
+        clientJmxDisc.stopServicePool();
+    }
+
     private static JMXConnector getConnection() throws IOException {
         return JmxConnectionHelper.buildJmxMPConnector(JMXSERVERIP,clientObj.getConnectorSystemPort());
     }
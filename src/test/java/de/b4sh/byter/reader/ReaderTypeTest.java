@@ -24,6 +24,7 @@ public class ReaderTypeTest {
     @Test
     public void testCheckRegisteredType(){
         Assert.assertTrue(ReaderType.isTypeRegistered("rafr"));
+        Assert.assertTrue(ReaderType.isTypeRegistered("urng"));
     }
 
     /**
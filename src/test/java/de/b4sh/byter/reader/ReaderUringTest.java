@@ -0,0 +1,79 @@
+/*
+ * File: ReaderUringTest
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.reader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.b4sh.byter.support.TestCaseHelper;
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.io.IoUring;
+import de.b4sh.byter.utils.reader.ReaderInterface;
+import de.b4sh.byter.utils.reader.ReaderUring;
+
+public class ReaderUringTest {
+
+    private static String testSpaceDirectory = System.getProperty("user.dir") + File.separator + "test-space" + File.separator + "reader_uring_test";
+
+    @BeforeClass
+    public static void createTestEnvironment(){
+        //set up test-space if not already done
+        FileManager.createFolder(testSpaceDirectory);
+        TestCaseHelper.createTestCaseFile(testSpaceDirectory,"pregen.file",10000,100);
+        TestCaseHelper.createTestCaseFile(testSpaceDirectory,"pregenTwo.file",15030,100);
+    }
+
+    @AfterClass
+    public static void cleanTestDirectory(){
+        //clean up folder
+        FileManager.removeAllFilesInDirectory(testSpaceDirectory);
+    }
+
+    @Test
+    public void testReaderUringBlocks() throws IOException {
+        final File file = new File(testSpaceDirectory, "pregenTwo.file");
+        final byte[] expected = Files.readAllBytes(file.toPath());
+        final ReaderUring ri = new ReaderUring(10000,4,file);
+        Assert.assertEquals(IoUring.isSupported(),ri.isNativeEngine());
+        int blockCounter = 0;
+        while(ri.hasNextBlock()){
+            final byte[] block = ri.readNextBlock();
+            Assert.assertArrayEquals(Arrays.copyOfRange(expected,blockCounter * 10000,blockCounter * 10000 + block.length),block);
+            blockCounter++;
+        }
+        ri.finish();
+        Assert.assertEquals(151,blockCounter);
+        Assert.assertEquals(0,ri.getFailedReads());
+    }
+
+    @Test
+    public void testReaderUringMixedLengths() throws IOException {
+        final File file = new File(testSpaceDirectory, "pregen.file");
+        final byte[] expected = Files.readAllBytes(file.toPath());
+        final ReaderInterface ri = new ReaderUring(4096,0,file);
+        //a peek does not move the read position
+        Assert.assertArrayEquals(Arrays.copyOf(expected,5000),ri.readNextBlock(5000,0));
+        int position = 0;
+        int length = 1;
+        while(ri.hasNextBlock()){
+            final byte[] block = ri.readNextBlock(length);
+            Assert.assertArrayEquals(Arrays.copyOfRange(expected,position,position + block.length),block);
+            position += block.length;
+            length = length * 3 % 20011; //lengths across the block and queue borders
+        }
+        ri.finish();
+        Assert.assertEquals(1000000,position);
+    }
+}
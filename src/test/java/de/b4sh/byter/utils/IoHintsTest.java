@@ -0,0 +1,105 @@
+package de.b4sh.byter.utils;
+
+import java.io.File;
+import java.util.Map;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.b4sh.byter.utils.data.ChunkGenerator;
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.io.IoHintProfile;
+import de.b4sh.byter.utils.io.IoHints;
+import de.b4sh.byter.utils.io.NativeIo;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.reader.ReaderRandomAccessFile;
+import de.b4sh.byter.utils.writer.WriterFileChannel;
+import de.b4sh.byter.utils.writer.WriterMemoryMapped;
+
+/**
+ * Test the native I/O hints, with and without native access.
+ */
+public final class IoHintsTest {
+
+    private static String testSpaceDirectory = System.getProperty("user.dir") + File.separator + "test-space" + File.separator + "io_hints_test";
+
+    @BeforeClass
+    public static void createTestEnvironment(){
+        FileManager.createFolder(testSpaceDirectory);
+    }
+
+    @AfterClass
+    public static void cleanTestDirectory(){
+        FileManager.removeAllFilesInDirectory(testSpaceDirectory);
+    }
+
+    @Test
+    public void testProfileKeys(){
+        for(IoHintProfile profile: IoHintProfile.values()){
+            Assert.assertEquals(profile, IoHintProfile.fromKey(profile.getKey()));
+        }
+        Assert.assertEquals(IoHintProfile.None, IoHintProfile.fromKey("unknown"));
+        Assert.assertTrue(IoHintProfile.Streaming.isSequential() && IoHintProfile.Streaming.isDropBehind()
+                && IoHintProfile.Streaming.isPreallocate() && IoHintProfile.Streaming.isWriteback());
+    }
+
+    @Test
+    public void testStreamingHintsKeepFileLength(){
+        final File file = new File(testSpaceDirectory, "streaming.txt");
+        final byte[] chunk = ChunkGenerator.generateChunk(4096);
+        final PerformanceTimer pt = new PerformanceTimer("JunitTest");
+        final WriterFileChannel wi = new WriterFileChannel(8192, file, pt);
+        wi.setAutomaticFileRemoval(false);
+        //small window to get several writeback and drop calls
+        wi.setIoHints(IoHintProfile.Streaming, 64 * 1024);
+        for(int i = 0; i < 100; i++){
+            wi.handleData(chunk, 3000);
+        }
+        wi.finish();
+        //preallocation keeps the size and the blocks behind the end are released again
+        Assert.assertEquals(300000, file.length());
+        final Map<String, Float> eval = pt.evaluate();
+        Assert.assertEquals(NativeIo.isAvailable() ? 1f : 0f, eval.get("hintNativeAvailable"), 0f);
+        if(NativeIo.isAvailable()){
+            Assert.assertTrue(eval.get("hintCalls") > 0f);
+            Assert.assertEquals(0f, eval.get("hintFailures"), 0f);
+            Assert.assertEquals(300000f, eval.get("hintDroppedBytes"), 0f);
+        }else{
+            Assert.assertEquals(0f, eval.get("hintCalls"), 0f);
+        }
+    }
+
+    @Test
+    public void testReaderAndMappedHints() throws Exception {
+        final File file = new File(testSpaceDirectory, "mapped.txt");
+        final WriterMemoryMapped wi = new WriterMemoryMapped(8192, file);
+        wi.setAutomaticFileRemoval(false);
+        wi.setIoHints(IoHintProfile.Sequential, 0);
+        wi.handleData(ChunkGenerator.generateChunk(20000));
+        wi.finish();
+        Assert.assertEquals(20000, file.length());
+        final ReaderRandomAccessFile reader = new ReaderRandomAccessFile(4096, file);
+        reader.setIoHints(IoHintProfile.DropBehind, 8192);
+        long read = 0;
+        while(reader.hasNextBlock()){
+            read += reader.readNextBlock().length;
+        }
+        reader.finish();
+        Assert.assertEquals(20000, read);
+    }
+
+    @Test
+    public void testNoneHintsWithoutCalls(){
+        IoHints.NONE.onOpen();
+        IoHints.NONE.onWrite(1024);
+        IoHints.NONE.close();
+        Assert.assertEquals(0, IoHints.NONE.getCalls());
+        final IoHints hints = new IoHints(IoHintProfile.Preallocate, 0, null, true, null);
+        hints.onOpen();
+        hints.onWrite(1024);
+        hints.close();
+        Assert.assertEquals(0, hints.getCalls());
+    }
+}
@@ -0,0 +1,122 @@
+package de.b4sh.byter.utils;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.Deflater;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.b4sh.byter.utils.data.ChunkGenerator;
+import de.b4sh.byter.utils.data.PayloadGenerator;
+import de.b4sh.byter.utils.data.PayloadProfile;
+import de.b4sh.byter.utils.io.FileManager;
+
+/**
+ * Test the payload profiles of the generator.
+ */
+public final class PayloadGeneratorTest {
+
+    @Test
+    public void testSeedIsDeterministic(){
+        final int length = 4 * 1024 * 1024 + 17; //parallel path with an uneven last slice
+        final byte[] first = new PayloadGenerator(PayloadProfile.Random,42,1,0,null).generate(length);
+        final byte[] second = new PayloadGenerator(PayloadProfile.Random,42,1,0,null).generate(length);
+        final byte[] other = new PayloadGenerator(PayloadProfile.Random,43,1,0,null).generate(length);
+        Assert.assertArrayEquals(first, second);
+        Assert.assertFalse(Arrays.equals(first, other));
+        //small chunks take the sequential path
+        Assert.assertArrayEquals(new PayloadGenerator(PayloadProfile.Random,7,1,0,null).generate(1001),
+                new PayloadGenerator(PayloadProfile.Random,7,1,0,null).generate(1001));
+    }
+
+    @Test
+    public void testChunkGenerator(){
+        Assert.assertEquals(8192, ChunkGenerator.generateChunk(8192).length);
+        Assert.assertEquals(0, ChunkGenerator.generateChunk(0).length);
+    }
+
+    @Test
+    public void testZeros(){
+        final byte[] chunk = new PayloadGenerator(PayloadProfile.Zeros,1,1,0,null).generate(10000);
+        for(byte b: chunk){
+            Assert.assertEquals(0, b);
+        }
+    }
+
+    @Test
+    public void testCompressibleRatio(){
+        final byte[] chunk = new PayloadGenerator(PayloadProfile.Compressible,1,4,4096,null).generate(1024 * 1024);
+        final double ratio = chunk.length / (double) compressedSize(chunk);
+        Assert.assertTrue("ratio " + ratio, ratio > 3 && ratio < 5);
+        final byte[] random = new PayloadGenerator(PayloadProfile.Random,1,1,0,null).generate(1024 * 1024);
+        Assert.assertTrue(random.length / (double) compressedSize(random) < 1.05);
+    }
+
+    @Test
+    public void testDedupRatio(){
+        final int blockSize = 4096;
+        final byte[] chunk = new PayloadGenerator(PayloadProfile.Dedupable,1,4,blockSize,null).generate(64 * blockSize);
+        final Set<String> unique = new HashSet<>();
+        for(int i = 0; i < chunk.length; i += blockSize){
+            unique.add(Arrays.toString(Arrays.copyOfRange(chunk, i, i + blockSize)));
+        }
+        Assert.assertEquals(16, unique.size());
+    }
+
+    @Test
+    public void testCorpusReplay() throws IOException {
+        final File corpus = new File(System.getProperty("user.dir") + File.separator + "payload_corpus.data");
+        final byte[] content = new byte[100];
+        for(int i = 0; i < content.length; i++){
+            content[i] = (byte) i; //every byte is unique, the start of a chunk is its offset in the corpus
+        }
+        try(final FileOutputStream fos = new FileOutputStream(corpus)){
+            fos.write(content);
+        }
+        try{
+            final PayloadGenerator generator = new PayloadGenerator(PayloadProfile.Corpus,3,1,0,corpus);
+            Assert.assertEquals(PayloadProfile.Corpus, generator.getProfile());
+            final byte[] chunk = generator.generate(content.length * 3);
+            final int start = chunk[0];
+            for(int i = 0; i < chunk.length; i++){
+                Assert.assertEquals(content[(start + i) % content.length], chunk[i]);
+            }
+            //next chunk continues the corpus
+            Assert.assertEquals(content[(start + chunk.length) % content.length], generator.generate(1)[0]);
+        }finally {
+            FileManager.removeFile(corpus);
+        }
+    }
+
+    @Test
+    public void testMissingCorpusFallsBack(){
+        final PayloadGenerator generator = new PayloadGenerator(PayloadProfile.Corpus,1,1,0,new File("not_existing_corpus.data"));
+        Assert.assertEquals(PayloadProfile.Random, generator.getProfile());
+        Assert.assertEquals(512, generator.generate(512).length);
+    }
+
+    @Test
+    public void testFromKey(){
+        Assert.assertEquals(PayloadProfile.Compressible, PayloadProfile.fromKey("comp"));
+        Assert.assertEquals(PayloadProfile.Dedupable, PayloadProfile.fromKey("dedp"));
+        Assert.assertEquals(PayloadProfile.Random, PayloadProfile.fromKey("unknown"));
+    }
+
+    private static int compressedSize(final byte[] data){
+        final Deflater deflater = new Deflater();
+        deflater.setInput(data);
+        deflater.finish();
+        final byte[] buffer = new byte[64 * 1024];
+        int size = 0;
+        while(!deflater.finished()){
+            size += deflater.deflate(buffer);
+        }
+        deflater.end();
+        return size;
+    }
+}
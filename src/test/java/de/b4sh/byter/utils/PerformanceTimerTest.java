@@ -94,6 +94,49 @@ public final class PerformanceTimerTest {
          Assert.assertEquals(2500,pt.getData().size());
      }
 
+     @Test
+     public void testWarmupBytes(){
+         final PerformanceTimer timer = new PerformanceTimer(PerformanceTimerTest.class.getName());
+         timer.setWarmup(640000L * 5, 0);
+         this.addTestMeasurements(timer,15);
+         Assert.assertTrue(timer.isWarmupDone());
+         Assert.assertEquals(10,timer.getData().size());
+         Assert.assertEquals(5,timer.getWarmupDiscardedMeasurements());
+         final Map<String, Float> map = timer.evaluate();
+         Assert.assertEquals(640000f * 5,map.get("warmupBytes"),0);
+         Assert.assertTrue(map.get("warmupEndMs") >= 0);
+     }
+
+     @Test
+     public void testWarmupTime(){
+         final PerformanceTimer timer = new PerformanceTimer(PerformanceTimerTest.class.getName());
+         timer.setWarmup(0, 50000000L); //50ms
+         final long tStart = 1000000000L;
+         for(int i = 0; i < 20; i++){ //one measurement every 10ms
+             timer.addNewMeasurement(tStart + i * 10000000L, tStart + (i + 1) * 10000000L, 640000);
+         }
+         Assert.assertEquals(15,timer.getData().size());
+         Assert.assertEquals(tStart + 50000000L,timer.getWarmupEndNanos());
+         Assert.assertEquals(50,timer.evaluate().get("warmupEndMs"),0.001);
+     }
+
+     @Test
+     public void testSteadyStateDetection(){
+         final PerformanceTimer timer = new PerformanceTimer(PerformanceTimerTest.class.getName());
+         timer.setWarmup(0, 0);
+         long t = 1000000000L;
+         for(int i = 0; i < 200; i++){
+             //first 50 measurements ramp up from 10ms down to 1ms per chunk, after that the speed settles
+             final long duration = i < 50 ? 10000000L - i * 180000L : 1000000L;
+             timer.addNewMeasurement(t, t + duration, 1000000);
+             t += duration;
+         }
+         final Map<String, Float> map = timer.evaluate();
+         Assert.assertEquals(1f,map.get("steadyStateReached"),0);
+         Assert.assertTrue(map.get("steadyStateStartIndex") >= 40 && map.get("steadyStateStartIndex") <= 50);
+         Assert.assertTrue(map.get("steadyStateStartMs") > 0);
+         Assert.assertEquals(1000,map.get("steadyStateMegaBytesPerSecond"),50);
+     }
 
     private void addTestMeasurements(final PerformanceTimer timer, final int count){
         for(int i = 0; i < count; i++)
@@ -0,0 +1,72 @@
+package de.b4sh.byter.utils;
+
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import de.b4sh.byter.utils.io.ThreadManager;
+import de.b4sh.byter.utils.measurements.Measurement;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.measurements.RatePacer;
+import de.b4sh.byter.utils.measurements.evaluators.LatencyPercentileEvaluator;
+
+/**
+ * Test the open loop pacer and the latency percentiles.
+ */
+public final class RatePacerTest {
+
+    @Test
+    public void testPacerKeepsSchedule(){
+        final RatePacer pacer = new RatePacer(0,1000,8192);
+        Assert.assertEquals(1000000, pacer.getIntervalNanos());
+        final long tStart = System.nanoTime();
+        long last = 0;
+        for(int i = 0; i < 50; i++){
+            final long planned = pacer.awaitNext();
+            Assert.assertTrue(System.nanoTime() >= planned);
+            if(i > 0)
+                Assert.assertEquals(1000000, planned - last);
+            last = planned;
+        }
+        Assert.assertTrue(System.nanoTime() - tStart >= 49 * 1000000L);
+        Assert.assertEquals(50, pacer.getIssued());
+    }
+
+    @Test
+    public void testPacerByteRate(){
+        //1MB per second with 1KB chunks = 1000 chunks per second
+        final RatePacer pacer = new RatePacer(1000000,0,1000);
+        Assert.assertEquals(1000000, pacer.getIntervalNanos());
+        Assert.assertFalse(RatePacer.isPaced(0,0));
+        Assert.assertTrue(RatePacer.isPaced(1,0));
+    }
+
+    @Test
+    public void testPacerDoesNotHideStalls(){
+        final RatePacer pacer = new RatePacer(0,1000,8192);
+        final long first = pacer.awaitNext();
+        ThreadManager.nap(20); //stall - the next 19 chunks are late
+        final long planned = pacer.awaitNext();
+        Assert.assertEquals(first + 1000000, planned);
+        Assert.assertTrue(System.nanoTime() - planned >= 18 * 1000000L);
+        Assert.assertEquals(1, pacer.getLateIssues());
+        Assert.assertTrue(pacer.getMaxLagNanos() >= 18 * 1000000L);
+        final Map<String, Float> eval = pacer.evaluate();
+        Assert.assertEquals(2f, eval.get("pacedIssued"), 0f);
+        Assert.assertEquals(1f, eval.get("pacedLateIssues"), 0f);
+    }
+
+    @Test
+    public void testLatencyPercentiles(){
+        final PerformanceTimer timer = new PerformanceTimer(RatePacerTest.class.getName());
+        for(int i = 1; i <= 1000; i++){
+            timer.addNewMeasurement(new Measurement("test",1,0,i * 1000000L));
+        }
+        final Map<String, Float> eval = new LatencyPercentileEvaluator().evaluate(timer);
+        Assert.assertEquals(500f, eval.get("latencyP50Ms"), 0f);
+        Assert.assertEquals(990f, eval.get("latencyP99Ms"), 0f);
+        Assert.assertEquals(999f, eval.get("latencyP999Ms"), 0f);
+        Assert.assertEquals(1000f, eval.get("latencyMaxMs"), 0f);
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * File: DurabilityTest
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.writer;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.b4sh.byter.utils.data.ChunkGenerator;
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.measurements.Measurement;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.writer.Durability;
+import de.b4sh.byter.utils.writer.DurabilityPolicy;
+import de.b4sh.byter.utils.writer.WriterAsyncFileChannel;
+import de.b4sh.byter.utils.writer.WriterBuffered;
+import de.b4sh.byter.utils.writer.WriterFileChannel;
+import de.b4sh.byter.utils.writer.WriterInterface;
+
+public class DurabilityTest {
+
+    private static final Logger log = Logger.getLogger(DurabilityTest.class.getName());
+    private static String testSpaceDirectory = System.getProperty("user.dir") + File.separator + "test-space" + File.separator + "durability_test";
+
+    /**
+     * Initialisation of the test environment.
+     */
+    @BeforeClass
+    public static void createTestEnvironment(){
+        //set up test-space if not already done
+        FileManager.createFolder(testSpaceDirectory);
+    }
+
+    /**
+     * Clean up after test.
+     */
+    @AfterClass
+    public static void cleanTestDirectory(){
+        //clean up folder
+        FileManager.removeAllFilesInDirectory(testSpaceDirectory);
+    }
+
+    @Test
+    public void testPolicyKeys(){
+        for(DurabilityPolicy dp: DurabilityPolicy.values()){
+            Assert.assertEquals(dp,DurabilityPolicy.fromKey(dp.getKey()));
+        }
+        Assert.assertEquals(DurabilityPolicy.None,DurabilityPolicy.fromKey(null));
+        Assert.assertEquals(DurabilityPolicy.None,DurabilityPolicy.fromKey("unknown"));
+    }
+
+    @Test
+    public void testEveryBytesAndEveryMillis(){
+        final AtomicInteger syncs = new AtomicInteger(0);
+        final Durability bytes = new Durability(DurabilityPolicy.EveryBytes,1000,null,syncs::incrementAndGet);
+        for(int i = 0; i < 10; i++){
+            bytes.onWrite(300);
+        }
+        //synced at 1200, 2400 - 600 bytes are left for the close
+        Assert.assertEquals(2,syncs.get());
+        bytes.close();
+        Assert.assertEquals(3,bytes.getSyncCount());
+        Assert.assertEquals(3000,bytes.getSyncedBytes());
+        //no sync before the interval passed
+        syncs.set(0);
+        final Durability millis = new Durability(DurabilityPolicy.EveryMillis,60000,null,syncs::incrementAndGet);
+        millis.onWrite(300);
+        Assert.assertEquals(0,syncs.get());
+        millis.close();
+        Assert.assertEquals(1,syncs.get());
+    }
+
+    @Test
+    public void testPerWriteFileChannel(){
+        final File file = new File(testSpaceDirectory, "perWrite.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(10000);
+        final PerformanceTimer syncTimer = new PerformanceTimer("JunitTest-Sync");
+        final WriterInterface wi = new WriterFileChannel(8192,file);
+        wi.setAutomaticFileRemoval(false);
+        wi.setDurabilityPolicy(DurabilityPolicy.PerWrite,0,syncTimer);
+        for(int i = 0; i < 10; i++){
+            wi.handleData(byteArray);
+        }
+        wi.finish();
+        Assert.assertEquals(100000,file.length());
+        Assert.assertEquals(10,syncTimer.getData().size());
+        final Map<String, Float> eval = syncTimer.evaluate();
+        Assert.assertEquals(10f,eval.get("syncCount"),0f);
+        Assert.assertEquals(100000f,eval.get("syncedBytes"),0f);
+    }
+
+    @Test
+    public void testEveryBytesBuffered(){
+        final File file = new File(testSpaceDirectory, "everyBytes.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(10000);
+        final PerformanceTimer syncTimer = new PerformanceTimer("JunitTest-Sync");
+        final WriterInterface wi = new WriterBuffered(8192,file);
+        wi.setAutomaticFileRemoval(false);
+        wi.setDurabilityPolicy(DurabilityPolicy.EveryBytes,25000,syncTimer);
+        for(int i = 0; i < 10; i++){
+            wi.handleData(byteArray);
+        }
+        wi.finish();
+        Assert.assertEquals(100000,file.length());
+        //synced at 30000, 60000, 90000 and the rest on finish
+        Assert.assertEquals(4,syncTimer.getData().size());
+    }
+
+    @Test
+    public void testGroupCommitWaitsForSharedSync() throws InterruptedException {
+        final AtomicInteger syncs = new AtomicInteger(0);
+        final Durability group = new Durability(DurabilityPolicy.GroupCommit,0,null,() -> {
+            syncs.incrementAndGet();
+            try {
+                Thread.sleep(2); //slow device
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        final Thread[] writers = new Thread[4];
+        for(int i = 0; i < writers.length; i++){
+            writers[i] = new Thread(() -> {
+                for(int w = 0; w < 50; w++){
+                    group.onWrite(100);
+                }
+            });
+            writers[i].start();
+        }
+        for(Thread writer: writers){
+            writer.join();
+        }
+        //every commit returned only after a sync covered it, concurrent commits shared their syncs
+        Assert.assertEquals(20000,group.getSyncedBytes());
+        Assert.assertTrue(syncs.get() < 200);
+        group.close();
+        Assert.assertEquals(syncs.get(),group.getSyncCount());
+    }
+
+    @Test
+    public void testGroupCommitAsync(){
+        final File file = new File(testSpaceDirectory, "groupCommit.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(10000);
+        final PerformanceTimer syncTimer = new PerformanceTimer("JunitTest-Sync");
+        final WriterInterface wi = new WriterAsyncFileChannel(4096,4,file);
+        wi.setAutomaticFileRemoval(false);
+        wi.setDurabilityPolicy(DurabilityPolicy.GroupCommit,5,syncTimer);
+        for(int i = 0; i < 100; i++){
+            wi.handleData(byteArray);
+        }
+        wi.finish();
+        Assert.assertEquals(1000000,file.length());
+        Assert.assertFalse(syncTimer.getData().isEmpty());
+        //every completed write has to be covered by one of the coalesced syncs
+        long synced = 0;
+        for(Measurement m: syncTimer.getData()){
+            synced += m.getDataLength();
+        }
+        Assert.assertEquals(1000000,synced);
+    }
+}
@@ -2,6 +2,9 @@ package de.b4sh.byter.writer;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -11,7 +14,9 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import de.b4sh.byter.support.TestCaseHelper;
+import de.b4sh.byter.utils.data.ChunkGenerator;
 import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
 import de.b4sh.byter.utils.reader.ReaderInterface;
 import de.b4sh.byter.utils.reader.ReaderRandomAccessFile;
 import de.b4sh.byter.utils.writer.WriterArchival;
@@ -64,4 +69,32 @@ public class WriterArchivalTest {
         //assertions
         Assert.assertEquals(file.length(),dataFile.length());
     }
+
+    @Test
+    public void testWriterArchivalBatchedMappedIndex() throws IOException {
+        final File dataFile = new File(testSpaceDirectory, "dataMapped.file");
+        final File indexFile = new File(testSpaceDirectory, "indexMapped.file");
+        final byte[] byteArray = ChunkGenerator.generateChunk(8192);
+        final PerformanceTimer pt = new PerformanceTimer("JunitTest");
+        //batch of 16 records - 100 chunks cause 6 full batches and a partly filled one on finish
+        final WriterArchival wi = new WriterArchival(dataFile,indexFile,8192,pt,16,true);
+        wi.setAutomaticFileRemoval(false);
+        for(int i = 0; i < 100; i++){
+            wi.handleData(byteArray,4096 + i);
+        }
+        wi.finish();
+        Assert.assertEquals(7f,pt.evaluate().get("indexBatchFlushes"),0f);
+        Assert.assertEquals(100 * WriterArchival.INDEX_RECORD_SIZE,indexFile.length());
+        //every record points to the start of its chunk inside the data file
+        final ByteBuffer index = ByteBuffer.wrap(Files.readAllBytes(indexFile.toPath()));
+        long expectedOffset = 0;
+        for(int i = 0; i < 100; i++){
+            final long start = index.getLong();
+            final long stop = index.getLong();
+            Assert.assertTrue(stop >= start);
+            Assert.assertEquals(expectedOffset,index.getLong());
+            expectedOffset += 4096 + i;
+        }
+        Assert.assertEquals(expectedOffset,dataFile.length());
+    }
 }
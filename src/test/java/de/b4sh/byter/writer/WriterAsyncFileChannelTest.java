@@ -0,0 +1,87 @@
+/*
+ * File: WriterAsyncFileChannelTest
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.writer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.b4sh.byter.utils.data.ChunkGenerator;
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.writer.WriterAsyncFileChannel;
+
+public class WriterAsyncFileChannelTest {
+
+    private static final Logger log = Logger.getLogger(WriterAsyncFileChannelTest.class.getName());
+    private static String testSpaceDirectory = System.getProperty("user.dir") + File.separator + "test-space" + File.separator + "writer_async_test";
+
+    /**
+     * Initialisation of the test environment.
+     */
+    @BeforeClass
+    public static void createTestEnvironment(){
+        //set up test-space if not already done
+        FileManager.createFolder(testSpaceDirectory);
+    }
+
+    /**
+     * Clean up after test.
+     */
+    @AfterClass
+    public static void cleanTestDirectory(){
+        //clean up folder
+        FileManager.removeAllFilesInDirectory(testSpaceDirectory);
+    }
+
+    @Test
+    public void testWriterAsyncFileChannel(){
+        final File file = new File(testSpaceDirectory, "async.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(10000);
+        final WriterAsyncFileChannel wi = new WriterAsyncFileChannel(8192,0,file);
+        wi.setAutomaticFileRemoval(false);
+        for(int i = 0; i < 10; i++){
+            wi.handleData(byteArray);
+        }
+        wi.finish();
+        //check if the file is there and has the correct size
+        Assert.assertTrue(file.exists());
+        Assert.assertEquals(100000,file.length());
+        Assert.assertEquals(WriterAsyncFileChannel.DEFAULT_QUEUE_DEPTH,wi.getQueueDepth());
+        Assert.assertEquals(0,wi.getFailedWrites());
+    }
+
+    @Test
+    public void testWriterAsyncFileChannelWithPerformance() throws IOException {
+        final File file = new File(testSpaceDirectory, "asyncPerformance.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(10000);
+        final PerformanceTimer pt = new PerformanceTimer("JunitTest");
+        final WriterAsyncFileChannel wi = new WriterAsyncFileChannel(4096,2,file,pt);
+        wi.setAutomaticFileRemoval(false);
+        for(int i = 0; i < 100; i++){
+            wi.handleData(byteArray);
+        }
+        wi.finish();
+        Assert.assertTrue(file.exists());
+        Assert.assertEquals(1000000,file.length());
+        //one measurement per completed write: 244 full buffers + the tail
+        Assert.assertEquals(245,pt.getData().size());
+        //positional writes have to land in the right order
+        final byte[] content = Files.readAllBytes(file.toPath());
+        for(int i = 0; i < 100; i++){
+            Assert.assertArrayEquals(byteArray,Arrays.copyOfRange(content,i*10000,(i+1)*10000));
+        }
+    }
+}
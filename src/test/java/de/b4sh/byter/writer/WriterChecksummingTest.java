@@ -0,0 +1,105 @@
+/*
+ * File: WriterChecksummingTest
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.writer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.b4sh.byter.utils.data.ChunkGenerator;
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.writer.ChecksumSidecar;
+import de.b4sh.byter.utils.writer.WriterChecksumming;
+import de.b4sh.byter.utils.writer.WriterFileChannel;
+
+public class WriterChecksummingTest {
+
+    private static final Logger log = Logger.getLogger(WriterChecksummingTest.class.getName());
+    private static String testSpaceDirectory = System.getProperty("user.dir") + File.separator + "test-space" + File.separator + "writer_checksumming_test";
+
+    /**
+     * Initialisation of the test environment.
+     */
+    @BeforeClass
+    public static void createTestEnvironment(){
+        //set up test-space if not already done
+        FileManager.createFolder(testSpaceDirectory);
+    }
+
+    /**
+     * Clean up after test.
+     */
+    @AfterClass
+    public static void cleanTestDirectory(){
+        //clean up folder
+        FileManager.removeAllFilesInDirectory(testSpaceDirectory);
+    }
+
+    @Test
+    public void testWriterChecksumming() throws IOException {
+        final File file = new File(testSpaceDirectory, "checksummed.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(10000);
+        final PerformanceTimer pt = new PerformanceTimer("JunitTest");
+        final WriterChecksumming wi = new WriterChecksumming(new WriterFileChannel(8192,file),file,4096,pt);
+        wi.setAutomaticFileRemoval(false);
+        for(int i = 0; i < 10; i++){
+            wi.handleData(byteArray);
+        }
+        wi.finish();
+        Assert.assertEquals(100000,file.length());
+        final Map<String, Float> eval = pt.evaluate();
+        Assert.assertEquals(25f,eval.get("checksumBlocks"),0f); //24 full + 1 partly filled
+        Assert.assertTrue(eval.containsKey("checksumCpuMs"));
+        //the data file was verified on finish
+        Assert.assertTrue(wi.getVerification().isValid());
+        Assert.assertEquals(0f,eval.get("verifyCorruptBlocks"),0f);
+        Assert.assertTrue(eval.containsKey("verifyMegaBytesPerSecond"));
+        //sidecar matches the written data
+        final ChecksumSidecar sidecar = ChecksumSidecar.read(wi.getSidecarFile());
+        Assert.assertNotNull(sidecar);
+        Assert.assertEquals(wi.getAlgorithm(),sidecar.getAlgorithm());
+        Assert.assertEquals(100000,sidecar.getTotalBytes());
+        Assert.assertEquals(25,sidecar.getChecksums().length);
+        Assert.assertTrue(sidecar.verify(file,4).isValid());
+        //flip a byte inside block 10 - only this block is reported
+        try(final RandomAccessFile raf = new RandomAccessFile(file,"rw")){
+            raf.seek(10 * 4096 + 17);
+            final int value = raf.read();
+            raf.seek(10 * 4096 + 17);
+            raf.write(value ^ 0xFF);
+        }
+        final ChecksumSidecar.Verification verification = sidecar.verify(file,4);
+        Assert.assertFalse(verification.isValid());
+        Assert.assertTrue(verification.isLengthMatching());
+        Assert.assertEquals(1,verification.getCorruptBlocks().size());
+        Assert.assertEquals(10L,(long) verification.getCorruptBlocks().get(0));
+    }
+
+    @Test
+    public void testWriterChecksummingAutomaticRemoval(){
+        final File file = new File(testSpaceDirectory, "checksummedRemoval.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(10000);
+        final WriterChecksumming wi = new WriterChecksumming(new WriterFileChannel(8192,file),file,0);
+        wi.handleData(byteArray);
+        wi.finish();
+        Assert.assertTrue(wi.isFinished());
+        Assert.assertFalse(file.exists());
+        Assert.assertFalse(wi.getSidecarFile().exists());
+        //verified before the files were removed
+        Assert.assertNotNull(wi.getVerification());
+        Assert.assertTrue(wi.getVerification().isValid());
+    }
+}
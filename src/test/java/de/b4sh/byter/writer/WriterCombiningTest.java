@@ -0,0 +1,106 @@
+/*
+ * File: WriterCombiningTest
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.writer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.b4sh.byter.utils.data.ChunkGenerator;
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.writer.BlockSizeAdvisor;
+import de.b4sh.byter.utils.writer.WriterCombining;
+import de.b4sh.byter.utils.writer.WriterFileChannel;
+
+public class WriterCombiningTest {
+
+    private static final Logger log = Logger.getLogger(WriterCombiningTest.class.getName());
+    private static String testSpaceDirectory = System.getProperty("user.dir") + File.separator + "test-space" + File.separator + "writer_combining_test";
+
+    /**
+     * Initialisation of the test environment.
+     */
+    @BeforeClass
+    public static void createTestEnvironment(){
+        //set up test-space if not already done
+        FileManager.createFolder(testSpaceDirectory);
+    }
+
+    /**
+     * Clean up after test.
+     */
+    @AfterClass
+    public static void cleanTestDirectory(){
+        //clean up folder
+        FileManager.removeAllFilesInDirectory(testSpaceDirectory);
+    }
+
+    @Test
+    public void testWriterCombiningSmallRecords() throws IOException {
+        final File file = new File(testSpaceDirectory, "combined.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(4096);
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        final Random random = new Random(42);
+        final PerformanceTimer pt = new PerformanceTimer("JunitTest");
+        final WriterCombining wi = new WriterCombining(new WriterFileChannel(8192,file),4096,4096,65536,pt);
+        wi.setAutomaticFileRemoval(false);
+        //records of 100B - 4KB like the real producers
+        for(int i = 0; i < 5000; i++){
+            final int length = 100 + random.nextInt(3997);
+            wi.handleData(byteArray,length);
+            expected.write(byteArray,0,length);
+        }
+        wi.finish();
+        Assert.assertArrayEquals(expected.toByteArray(),Files.readAllBytes(file.toPath()));
+        Assert.assertTrue(wi.getBlockSize() >= 4096 && wi.getBlockSize() <= 65536);
+        final Map<String, Float> eval = pt.evaluate();
+        Assert.assertEquals(5000f,eval.get("combiningRecords"),0f);
+        Assert.assertEquals((float) wi.getBlockSize(),eval.get("combiningChosenBlockSize"),0f);
+        Assert.assertTrue(eval.get("combiningRecordsPerBlock") > 1f);
+        if(wi.getAdvisor().getAdaptations() > 0)
+            Assert.assertTrue(eval.containsKey("combiningStep0BlockSize"));
+    }
+
+    @Test
+    public void testBlockSizeAdvisor(){
+        final BlockSizeAdvisor advisor = new BlockSizeAdvisor(5000,4096,65536);
+        Assert.assertEquals(4096,advisor.getBlockSize()); //rounded down to a power of two
+        //first window always probes a bigger block
+        Assert.assertEquals(8192,advisor.evaluateWindow(1000000,16,1000000,70000));
+        //throughput improved - keep growing
+        Assert.assertEquals(16384,advisor.evaluateWindow(2000000,16,1000000,70000));
+        //plateau - hold
+        Assert.assertEquals(16384,advisor.evaluateWindow(2010000,16,1000000,70000));
+        Assert.assertEquals(16384,advisor.evaluateWindow(2010000,16,1000000,70000));
+        //latency spike (slowest write > 4x the average) - back off
+        Assert.assertEquals(8192,advisor.evaluateWindow(2010000,16,1000000,500000));
+        Assert.assertTrue(advisor.getHistory().get(advisor.getHistory().size() - 1).isSpike());
+        //calm windows - growing is probed again
+        int size = 8192;
+        for(int i = 0; i < BlockSizeAdvisor.REPROBE_WINDOWS; i++){
+            size = advisor.evaluateWindow(2010000,16,1000000,70000);
+        }
+        Assert.assertEquals(16384,size);
+        //the probe made it worse - step back
+        Assert.assertEquals(8192,advisor.evaluateWindow(1000000,16,1000000,70000));
+        Assert.assertEquals(5,advisor.getAdaptations());
+        //bounds
+        final BlockSizeAdvisor bounded = new BlockSizeAdvisor(65536,4096,65536);
+        Assert.assertEquals(65536,bounded.evaluateWindow(1000000,16,1000000,70000));
+    }
+}
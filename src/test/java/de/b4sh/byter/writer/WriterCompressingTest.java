@@ -0,0 +1,153 @@
+/*
+ * File: WriterCompressingTest
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.writer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.zip.Deflater;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.b4sh.byter.utils.data.ChunkGenerator;
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.writer.WriterCompressing;
+import de.b4sh.byter.utils.writer.WriterFileChannel;
+
+public class WriterCompressingTest {
+
+    private static final Logger log = Logger.getLogger(WriterCompressingTest.class.getName());
+    private static String testSpaceDirectory = System.getProperty("user.dir") + File.separator + "test-space" + File.separator + "writer_compressing_test";
+
+    /**
+     * Initialisation of the test environment.
+     */
+    @BeforeClass
+    public static void createTestEnvironment(){
+        //set up test-space if not already done
+        FileManager.createFolder(testSpaceDirectory);
+    }
+
+    /**
+     * Clean up after test.
+     */
+    @AfterClass
+    public static void cleanTestDirectory(){
+        //clean up folder
+        FileManager.removeAllFilesInDirectory(testSpaceDirectory);
+    }
+
+    @Test
+    public void testWriterCompressing() throws IOException {
+        final File file = new File(testSpaceDirectory, "compressed.txt");
+        //compressible data: the same random chunk repeated
+        final byte[] byteArray = ChunkGenerator.generateChunk(10000);
+        final PerformanceTimer pt = new PerformanceTimer("JunitTest");
+        final WriterCompressing wi = new WriterCompressing(new WriterFileChannel(8192,file),16384,Deflater.DEFAULT_COMPRESSION,pt);
+        wi.setAutomaticFileRemoval(false);
+        for(int i = 0; i < 100; i++){
+            wi.handleData(byteArray,5000);
+        }
+        wi.finish();
+        Assert.assertTrue(file.length() < 500000);
+        Assert.assertTrue(wi.getCompressionRatio() > 1f);
+        //31 blocks (30 full + 1 partly filled)
+        Assert.assertEquals(31,wi.getCompressTimer().getData().size());
+        final Map<String, Float> eval = pt.evaluate();
+        Assert.assertEquals(500000f,eval.get("compressionRawBytes"),0f);
+        Assert.assertEquals((float) file.length(),eval.get("compressionStoredBytes"),0f);
+        Assert.assertTrue(eval.containsKey("avgBlockCompressMs"));
+        Assert.assertTrue(eval.containsKey("endToEndMegaBytesPerSecond"));
+        //frames decompress in order to the written stream
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try(final InputStream in = new FileInputStream(file)){
+            Assert.assertEquals(500000,WriterCompressing.decompress(in,out));
+        }
+        final byte[] content = out.toByteArray();
+        final byte[] expected = Arrays.copyOf(byteArray,5000);
+        for(int i = 0; i < 100; i++){
+            Assert.assertArrayEquals(expected,Arrays.copyOfRange(content,i*5000,(i+1)*5000));
+        }
+    }
+
+    @Test
+    public void testWriterCompressingIncompressibleBlocks() throws IOException {
+        final File file = new File(testSpaceDirectory, "stored.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(100000);
+        final WriterCompressing wi = new WriterCompressing(new WriterFileChannel(8192,file),100000);
+        wi.setAutomaticFileRemoval(false);
+        wi.handleData(byteArray);
+        wi.finish();
+        Assert.assertTrue(wi.isFinished());
+        //random data is stored raw - only the frame header is added
+        Assert.assertEquals(100000 + WriterCompressing.HEADER_SIZE,file.length());
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try(final InputStream in = new FileInputStream(file)){
+            WriterCompressing.decompress(in,out);
+        }
+        Assert.assertArrayEquals(byteArray,out.toByteArray());
+    }
+
+    @Test(timeout = 5000)
+    public void testDecompressTruncatedFrame() {
+        final byte[] raw = new byte[50000];
+        for(int i = 0; i < raw.length; i++){
+            raw[i] = (byte) (i % 7);
+        }
+        final Deflater deflater = new Deflater();
+        deflater.setInput(raw);
+        deflater.finish();
+        final byte[] deflated = new byte[raw.length];
+        final int length = deflater.deflate(deflated);
+        deflater.end();
+        //frame cut to half of its stored length
+        final int half = length / 2;
+        final byte[] frame = frame(raw.length, half, WriterCompressing.METHOD_DEFLATE, Arrays.copyOf(deflated, half));
+        try {
+            WriterCompressing.decompress(new ByteArrayInputStream(frame), new ByteArrayOutputStream());
+            Assert.fail("truncated frame was accepted");
+        } catch (IOException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Corrupt block"));
+        }
+        //stored frame with a length that differs from the raw length
+        final byte[] stored = frame(200, 100, WriterCompressing.METHOD_STORED, new byte[100]);
+        try {
+            WriterCompressing.decompress(new ByteArrayInputStream(stored), new ByteArrayOutputStream());
+            Assert.fail("stored frame with a wrong length was accepted");
+        } catch (IOException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Corrupt block"));
+        }
+        //negative lengths in the frame header
+        for(final byte[] negative: new byte[][]{frame(100, -1, WriterCompressing.METHOD_DEFLATE, new byte[0]),
+                frame(-1, 0, WriterCompressing.METHOD_STORED, new byte[0])}){
+            try {
+                WriterCompressing.decompress(new ByteArrayInputStream(negative), new ByteArrayOutputStream());
+                Assert.fail("frame with a negative length was accepted");
+            } catch (IOException e) {
+                Assert.assertTrue(e.getMessage().startsWith("Corrupt block"));
+            }
+        }
+    }
+
+    private static byte[] frame(final int rawLength, final int storedLength, final byte method, final byte[] data){
+        final ByteBuffer buffer = ByteBuffer.allocate(WriterCompressing.HEADER_SIZE + data.length);
+        buffer.putInt(rawLength).putInt(storedLength).put(method).put(data);
+        return buffer.array();
+    }
+}
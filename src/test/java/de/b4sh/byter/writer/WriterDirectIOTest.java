@@ -0,0 +1,88 @@
+/*
+ * File: WriterDirectIOTest
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.writer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.b4sh.byter.utils.data.ChunkGenerator;
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.writer.WriterDirectIO;
+
+public class WriterDirectIOTest {
+
+    private static final Logger log = Logger.getLogger(WriterDirectIOTest.class.getName());
+    private static String testSpaceDirectory = System.getProperty("user.dir") + File.separator + "test-space" + File.separator + "writer_directio_test";
+
+    /**
+     * Initialisation of the test environment.
+     */
+    @BeforeClass
+    public static void createTestEnvironment(){
+        //set up test-space if not already done
+        FileManager.createFolder(testSpaceDirectory);
+    }
+
+    /**
+     * Clean up after test.
+     */
+    @AfterClass
+    public static void cleanTestDirectory(){
+        //clean up folder
+        FileManager.removeAllFilesInDirectory(testSpaceDirectory);
+    }
+
+    @Test
+    public void testWriterDirectIOWithPerformance() throws IOException {
+        final File file = new File(testSpaceDirectory, "directio.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(10000);
+        final PerformanceTimer pt = new PerformanceTimer("JunitTest");
+        final WriterDirectIO wi = new WriterDirectIO(8192,file,pt);
+        wi.setAutomaticFileRemoval(false);
+        log.log(Level.INFO, "O_DIRECT active: " + wi.isDirectIO() + " | block size: " + wi.getBlockSize());
+        for(int i = 0; i < 10; i++){
+            wi.handleData(byteArray);
+        }
+        wi.finish();
+        //padding of the last block has to be cut off again
+        Assert.assertTrue(file.exists());
+        Assert.assertEquals(100000,file.length());
+        Assert.assertEquals(10,pt.getData().size());
+        final byte[] content = Files.readAllBytes(file.toPath());
+        Assert.assertArrayEquals(byteArray,Arrays.copyOfRange(content,90000,100000));
+    }
+
+    @Test
+    public void testWriterDirectIOAppend() throws IOException {
+        final File file = new File(testSpaceDirectory, "directioAppend.txt");
+        final byte[] head = ChunkGenerator.generateChunk(1000);
+        final byte[] byteArray = ChunkGenerator.generateChunk(10000);
+        Files.write(file.toPath(),head);
+        //unaligned existing file -> tail block has to be preserved
+        final WriterDirectIO wi = new WriterDirectIO(8192,file);
+        wi.setAutomaticFileRemoval(false);
+        wi.handleData(byteArray);
+        wi.handleData(byteArray,123);
+        wi.finish();
+        Assert.assertEquals(11123,file.length());
+        final byte[] content = Files.readAllBytes(file.toPath());
+        Assert.assertArrayEquals(head,Arrays.copyOfRange(content,0,1000));
+        Assert.assertArrayEquals(byteArray,Arrays.copyOfRange(content,1000,11000));
+        Assert.assertArrayEquals(Arrays.copyOf(byteArray,123),Arrays.copyOfRange(content,11000,11123));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * File: WriterDoubleBufferedTest
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.writer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.b4sh.byter.utils.data.ChunkGenerator;
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.io.ThreadManager;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.writer.WriterDoubleBuffered;
+
+public class WriterDoubleBufferedTest {
+
+    private static final Logger log = Logger.getLogger(WriterDoubleBufferedTest.class.getName());
+    private static String testSpaceDirectory = System.getProperty("user.dir") + File.separator + "test-space" + File.separator + "writer_doublebuffered_test";
+
+    /**
+     * Initialisation of the test environment.
+     */
+    @BeforeClass
+    public static void createTestEnvironment(){
+        //set up test-space if not already done
+        FileManager.createFolder(testSpaceDirectory);
+    }
+
+    /**
+     * Clean up after test.
+     */
+    @AfterClass
+    public static void cleanTestDirectory(){
+        //clean up folder
+        FileManager.removeAllFilesInDirectory(testSpaceDirectory);
+    }
+
+    @Test
+    public void testWriterDoubleBuffered() throws IOException {
+        final File file = new File(testSpaceDirectory, "doublebuffered.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(100000);
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        final PerformanceTimer pt = new PerformanceTimer("JunitTest");
+        final WriterDoubleBuffered wi = new WriterDoubleBuffered(1024 * 1024,3,file,pt);
+        wi.setAutomaticFileRemoval(false);
+        for(int i = 0; i < 100; i++){
+            wi.handleData(byteArray,1000 + i * 997);
+            expected.write(byteArray,0,1000 + i * 997);
+        }
+        wi.finish();
+        Assert.assertTrue(wi.isFinished());
+        Assert.assertEquals(3,wi.getBufferCount());
+        Assert.assertArrayEquals(expected.toByteArray(),Files.readAllBytes(file.toPath()));
+        final Map<String, Float> eval = pt.evaluate();
+        Assert.assertTrue(eval.containsKey("producerStallMs"));
+        Assert.assertTrue(eval.get("ioWrites") >= 5f);
+        Assert.assertEquals((float) wi.getIoNanos() / 1000000f,eval.get("ioMs"),0.001f);
+    }
+
+    @Test
+    public void testWriterDoubleBufferedHandoffIsBounded(){
+        final File file = new File(testSpaceDirectory, "handoff.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(128);
+        final WriterDoubleBuffered wi = new WriterDoubleBuffered(1024 * 1024,2,5,file,null);
+        wi.setAutomaticFileRemoval(false);
+        wi.handleData(byteArray);
+        ThreadManager.nap(100); //no further write - the I/O thread hands off the buffer once it is older than 5ms
+        Assert.assertEquals(1,wi.getIoWrites());
+        Assert.assertEquals(128,file.length());
+        wi.handleData(byteArray);
+        ThreadManager.nap(100);
+        Assert.assertEquals(2,wi.getIoWrites());
+        Assert.assertEquals(256,file.length());
+        wi.finish();
+        Assert.assertEquals(256,file.length());
+    }
+
+    @Test
+    public void testWriterDoubleBufferedAsThread() throws InterruptedException {
+        final File file = new File(testSpaceDirectory, "thread.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(65536);
+        final WriterDoubleBuffered wi = new WriterDoubleBuffered(0,0,file);
+        Assert.assertEquals(WriterDoubleBuffered.DEFAULT_BUFFER_COUNT,wi.getBufferCount());
+        wi.setAutomaticFileRemoval(false);
+        wi.setRunParameters(byteArray,new byte[10],64);
+        final Thread t = new Thread(wi);
+        t.start();
+        t.join();
+        Assert.assertTrue(wi.isFinished());
+        Assert.assertEquals(64L * 65536 + 10,file.length());
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * File: WriterEncryptingTest
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.writer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.b4sh.byter.utils.data.ChunkGenerator;
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.writer.EncryptionMode;
+import de.b4sh.byter.utils.writer.WriterEncrypting;
+import de.b4sh.byter.utils.writer.WriterFileChannel;
+
+public class WriterEncryptingTest {
+
+    private static final Logger log = Logger.getLogger(WriterEncryptingTest.class.getName());
+    private static String testSpaceDirectory = System.getProperty("user.dir") + File.separator + "test-space" + File.separator + "writer_encrypting_test";
+
+    /**
+     * Initialisation of the test environment.
+     */
+    @BeforeClass
+    public static void createTestEnvironment(){
+        //set up test-space if not already done
+        FileManager.createFolder(testSpaceDirectory);
+    }
+
+    /**
+     * Clean up after test.
+     */
+    @AfterClass
+    public static void cleanTestDirectory(){
+        //clean up folder
+        FileManager.removeAllFilesInDirectory(testSpaceDirectory);
+    }
+
+    @Test
+    public void testWriterEncryptingCtr() throws IOException {
+        final File file = new File(testSpaceDirectory, "encrypted_ctr.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(10000);
+        final PerformanceTimer pt = new PerformanceTimer("JunitTest");
+        final WriterEncrypting wi = new WriterEncrypting(new WriterFileChannel(8192,file),EncryptionMode.Ctr,16384,4,null,pt);
+        wi.setAutomaticFileRemoval(false);
+        for(int i = 0; i < 100; i++){
+            wi.handleData(byteArray,5000);
+        }
+        wi.finish();
+        //31 blocks (30 full + 1 partly filled), ctr keeps the size - only the frame headers are added
+        Assert.assertEquals(31,wi.getCryptoTimer().getData().size());
+        Assert.assertEquals(500000 + 31 * WriterEncrypting.HEADER_SIZE,file.length());
+        final Map<String, Float> eval = pt.evaluate();
+        Assert.assertEquals(500000f,eval.get("encryptionRawBytes"),0f);
+        Assert.assertEquals((float) file.length(),eval.get("encryptionStoredBytes"),0f);
+        Assert.assertEquals(4f,eval.get("encryptionThreads"),0f);
+        Assert.assertTrue(eval.containsKey("avgBlockEncryptMs"));
+        Assert.assertTrue(eval.containsKey("encryptionWaitMs"));
+        Assert.assertTrue(eval.containsKey("targetWriteMs"));
+        //frames decrypt in order to the written stream
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try(final InputStream in = new FileInputStream(file)){
+            Assert.assertEquals(500000,WriterEncrypting.decrypt(in,out,wi.getKey()));
+        }
+        final byte[] content = out.toByteArray();
+        final byte[] expected = Arrays.copyOf(byteArray,5000);
+        for(int i = 0; i < 100; i++){
+            Assert.assertArrayEquals(expected,Arrays.copyOfRange(content,i*5000,(i+1)*5000));
+        }
+    }
+
+    @Test
+    public void testWriterEncryptingGcmDetectsTampering() throws IOException {
+        final File file = new File(testSpaceDirectory, "encrypted_gcm.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(100000);
+        final WriterEncrypting wi = new WriterEncrypting(new WriterFileChannel(8192,file),EncryptionMode.Gcm,0,0,null,null);
+        wi.setAutomaticFileRemoval(false);
+        wi.handleData(byteArray);
+        wi.finish();
+        Assert.assertTrue(wi.isFinished());
+        //one block with header and authentication tag
+        Assert.assertEquals(100000 + WriterEncrypting.HEADER_SIZE + EncryptionMode.TAG_LENGTH,file.length());
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try(final InputStream in = new FileInputStream(file)){
+            WriterEncrypting.decrypt(in,out,wi.getKey());
+        }
+        Assert.assertArrayEquals(byteArray,out.toByteArray());
+        //flip a byte of the cipher text
+        try(final RandomAccessFile raf = new RandomAccessFile(file,"rw")){
+            raf.seek(WriterEncrypting.HEADER_SIZE + 10);
+            final int b = raf.read();
+            raf.seek(WriterEncrypting.HEADER_SIZE + 10);
+            raf.write(b ^ 0xFF);
+        }
+        try(final InputStream in = new FileInputStream(file)){
+            WriterEncrypting.decrypt(in,new ByteArrayOutputStream(),wi.getKey());
+            Assert.fail("tampered block was accepted");
+        } catch (IOException e) {
+            log.info("tampered block rejected: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * File: WriterErasureCodedTest
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.writer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.b4sh.byter.utils.data.ChunkGenerator;
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.writer.ErasureMap;
+import de.b4sh.byter.utils.writer.WriterErasureCoded;
+
+public class WriterErasureCodedTest {
+
+    private static final Logger log = Logger.getLogger(WriterErasureCodedTest.class.getName());
+    private static String testSpaceDirectory = System.getProperty("user.dir") + File.separator + "test-space" + File.separator + "writer_erasure_test";
+
+    /**
+     * Initialisation of the test environment.
+     */
+    @BeforeClass
+    public static void createTestEnvironment(){
+        //set up test-space if not already done
+        FileManager.createFolder(testSpaceDirectory);
+    }
+
+    /**
+     * Clean up after test.
+     */
+    @AfterClass
+    public static void cleanTestDirectory(){
+        //clean up folder
+        FileManager.removeAllFilesInDirectory(testSpaceDirectory);
+    }
+
+    @Test
+    public void testWriterErasureCoded() throws IOException {
+        final File file = new File(testSpaceDirectory, "erasure.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(10000);
+        final PerformanceTimer pt = new PerformanceTimer("JunitTest");
+        //4 data + 2 parity shards of 4KB = 16KB stripes
+        final WriterErasureCoded wi = new WriterErasureCoded(4096,4,2,null,file,pt);
+        wi.setAutomaticFileRemoval(false);
+        for(int i = 0; i < 100; i++){
+            wi.handleData(byteArray,5000);
+        }
+        wi.finish();
+        //500000 bytes = 31 stripes (30 full + 1 padded)
+        final File[] shards = wi.getShardFiles();
+        Assert.assertEquals(6,shards.length);
+        for(File shard: shards){
+            Assert.assertEquals(31 * 4096,shard.length());
+        }
+        Assert.assertEquals(31,wi.getEncodeTimer().getData().size());
+        final Map<String, Float> eval = pt.evaluate();
+        Assert.assertEquals(500000f,eval.get("erasureRawBytes"),0f);
+        Assert.assertEquals(31f * 4096 * 6,eval.get("erasureStoredBytes"),0f);
+        Assert.assertEquals(31f * 4096 * 6 / 500000,eval.get("erasureStorageOverhead"),0.0001f);
+        Assert.assertTrue(eval.containsKey("encodeMegaBytesPerSecondPerThread"));
+        //a data and a parity shard are lost
+        Assert.assertTrue(shards[1].delete());
+        Assert.assertTrue(shards[4].delete());
+        final ErasureMap map = ErasureMap.read(wi.getErasureMapFile());
+        Assert.assertNotNull(map);
+        final File rebuilt = new File(testSpaceDirectory, "erasure_rebuilt.txt");
+        final PerformanceTimer decodeTimer = new PerformanceTimer("JunitTest-Decode");
+        Assert.assertEquals(2,map.reconstruct(rebuilt,decodeTimer));
+        Assert.assertEquals(31,decodeTimer.getData().size());
+        final byte[] content = Files.readAllBytes(rebuilt.toPath());
+        Assert.assertEquals(500000,content.length);
+        final byte[] expected = Arrays.copyOf(byteArray,5000);
+        for(int i = 0; i < 100; i++){
+            Assert.assertArrayEquals(expected,Arrays.copyOfRange(content,i*5000,(i+1)*5000));
+        }
+    }
+
+    @Test
+    public void testReconstructFromParityOnly() throws IOException {
+        final File file = new File(testSpaceDirectory, "erasure_parity.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(50000);
+        final WriterErasureCoded wi = new WriterErasureCoded(1024,3,3,null,file);
+        wi.setAutomaticFileRemoval(false);
+        wi.handleData(byteArray);
+        wi.finish();
+        final File[] shards = wi.getShardFiles();
+        //every data shard is lost
+        for(int i = 0; i < 3; i++){
+            Assert.assertTrue(shards[i].delete());
+        }
+        final File rebuilt = new File(testSpaceDirectory, "erasure_parity_rebuilt.txt");
+        ErasureMap.read(wi.getErasureMapFile()).reconstruct(rebuilt,null);
+        Assert.assertArrayEquals(byteArray,Files.readAllBytes(rebuilt.toPath()));
+        //one more lost shard can't be rebuilt
+        Assert.assertTrue(shards[3].delete());
+        try{
+            ErasureMap.read(wi.getErasureMapFile()).reconstruct(rebuilt,null);
+            Assert.fail("reconstruct with too many missing shards");
+        } catch (IOException e) {
+            log.info("expected: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testReconstructWithShortAndFailedShards() throws IOException {
+        final File file = new File(testSpaceDirectory, "erasure_short.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(40000);
+        final WriterErasureCoded wi = new WriterErasureCoded(1024,4,2,null,file);
+        wi.setAutomaticFileRemoval(false);
+        wi.handleData(byteArray);
+        wi.finish();
+        final File[] shards = wi.getShardFiles();
+        //a data shard that ended early is treated as missing instead of failing the reconstruct
+        try(final RandomAccessFile raf = new RandomAccessFile(shards[0],"rw")){
+            raf.setLength(shards[0].length() / 2);
+        }
+        final ErasureMap written = ErasureMap.read(wi.getErasureMapFile());
+        Assert.assertTrue(written.getFailedShards().isEmpty());
+        final File rebuilt = new File(testSpaceDirectory, "erasure_short_rebuilt.txt");
+        Assert.assertEquals(1,written.reconstruct(rebuilt,null));
+        Assert.assertArrayEquals(byteArray,Files.readAllBytes(rebuilt.toPath()));
+        //a shard the writer failed is not read even if the file is complete
+        final ErasureMap failed = new ErasureMap(written.getDataShards(),written.getParityShards(),written.getShardSize(),
+                written.getTotalBytes(),written.getShards(),Collections.singletonList(2));
+        Assert.assertEquals(2,failed.reconstruct(rebuilt,null));
+        Assert.assertArrayEquals(byteArray,Files.readAllBytes(rebuilt.toPath()));
+    }
+}
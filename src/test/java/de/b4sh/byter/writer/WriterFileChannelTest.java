@@ -8,6 +8,10 @@
 package de.b4sh.byter.writer;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import org.junit.AfterClass;
@@ -77,4 +81,29 @@ public class WriterFileChannelTest {
         Assert.assertEquals(10,pt.getData().size());
     }
 
+    @Test
+    public void testWriterFileChannelWithDirectStaging() throws IOException {
+        final File file = new File(testSpaceDirectory, "staged.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(10000);
+        final PerformanceTimer pt = new PerformanceTimer("JunitTest");
+        final WriterFileChannel wi = new WriterFileChannel(8192,file,pt,true);
+        wi.setAutomaticFileRemoval(false);
+        for(int i = 0; i < 10; i++){
+            wi.handleData(byteArray);
+        }
+        wi.finish();
+        //check if the file is there and has the correct size and content
+        Assert.assertTrue(file.exists());
+        Assert.assertEquals(100000,file.length());
+        Assert.assertEquals(10,pt.getData().size());
+        //every buffer goes back to the pool before the next one is taken - at most the first one is allocated
+        Assert.assertEquals(13,wi.getPoolHits() + wi.getPoolMisses());
+        Assert.assertTrue(wi.getPoolMisses() <= 1);
+        final Map<String, Float> eval = pt.evaluate();
+        Assert.assertEquals(13f,eval.get("stagingPoolHits") + eval.get("stagingPoolMisses"),0f);
+        Assert.assertTrue(eval.get("stagingPoolGlobalHits") >= eval.get("stagingPoolHits"));
+        final byte[] readBack = Files.readAllBytes(file.toPath());
+        Assert.assertArrayEquals(byteArray, Arrays.copyOfRange(readBack,90000,100000));
+    }
+
 }
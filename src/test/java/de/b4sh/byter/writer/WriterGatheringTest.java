@@ -0,0 +1,91 @@
+/*
+ * File: WriterGatheringTest
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.writer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.b4sh.byter.utils.data.ChunkGenerator;
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.writer.WriterGathering;
+
+public class WriterGatheringTest {
+
+    private static final Logger log = Logger.getLogger(WriterGatheringTest.class.getName());
+    private static String testSpaceDirectory = System.getProperty("user.dir") + File.separator + "test-space" + File.separator + "writer_gathering_test";
+
+    /**
+     * Initialisation of the test environment.
+     */
+    @BeforeClass
+    public static void createTestEnvironment(){
+        //set up test-space if not already done
+        FileManager.createFolder(testSpaceDirectory);
+    }
+
+    /**
+     * Clean up after test.
+     */
+    @AfterClass
+    public static void cleanTestDirectory(){
+        //clean up folder
+        FileManager.removeAllFilesInDirectory(testSpaceDirectory);
+    }
+
+    @Test
+    public void testWriterGathering(){
+        final File file = new File(testSpaceDirectory, "gathering.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(10000);
+        final WriterGathering wi = new WriterGathering(8192*1024,4,file);
+        wi.setAutomaticFileRemoval(false);
+        for(int i = 0; i < 10; i++){
+            wi.handleData(byteArray);
+        }
+        wi.finish();
+        //check if the file is there and has the correct size
+        Assert.assertTrue(file.exists());
+        Assert.assertEquals(100000,file.length());
+        //10 chunks with a batch of 4 -> 2 full batches + 1 remaining
+        Assert.assertEquals(3,wi.getFlushCount());
+    }
+
+    @Test
+    public void testWriterGatheringWithPerformance() throws IOException {
+        final File file = new File(testSpaceDirectory, "gatheringPerformance.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(10000);
+        final PerformanceTimer pt = new PerformanceTimer("JunitTest");
+        final WriterGathering wi = new WriterGathering(8192,0,file,pt);
+        wi.setAutomaticFileRemoval(false);
+        for(int i = 0; i < 10; i++){
+            wi.handleData(byteArray);
+        }
+        //reused array like the network implementations do it
+        final byte[] last = Arrays.copyOf(byteArray,byteArray.length);
+        Arrays.fill(byteArray,(byte)0);
+        wi.handleData(last,500);
+        wi.finish();
+        //check if the file is there and has the correct size
+        Assert.assertTrue(file.exists());
+        Assert.assertEquals(100500,file.length());
+        Assert.assertEquals(11,pt.getData().size());
+        //every chunk is above the byte threshold -> one write per chunk
+        Assert.assertEquals(11,wi.getFlushCount());
+        final byte[] content = Files.readAllBytes(file.toPath());
+        Assert.assertArrayEquals(Arrays.copyOf(last,10000),Arrays.copyOfRange(content,0,10000));
+        Assert.assertArrayEquals(Arrays.copyOf(last,500),Arrays.copyOfRange(content,100000,100500));
+    }
+}
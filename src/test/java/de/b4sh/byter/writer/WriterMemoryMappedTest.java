@@ -0,0 +1,104 @@
+/*
+ * File: WriterMemoryMappedTest
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.writer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.logging.Logger;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.b4sh.byter.utils.data.ChunkGenerator;
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.writer.WriterMemoryMapped;
+import de.b4sh.byter.utils.writer.WriterInterface;
+
+public class WriterMemoryMappedTest {
+
+    private static final Logger log = Logger.getLogger(WriterMemoryMappedTest.class.getName());
+    private static String testSpaceDirectory = System.getProperty("user.dir") + File.separator + "test-space" + File.separator + "writer_mmap_test";
+
+    /**
+     * Initialisation of the test environment.
+     */
+    @BeforeClass
+    public static void createTestEnvironment(){
+        //set up test-space if not already done
+        FileManager.createFolder(testSpaceDirectory);
+    }
+
+    /**
+     * Clean up after test.
+     */
+    @AfterClass
+    public static void cleanTestDirectory(){
+        //clean up folder
+        FileManager.removeAllFilesInDirectory(testSpaceDirectory);
+    }
+
+
+    @Test
+    public void testWriterMemoryMapped(){
+        final File file = new File(testSpaceDirectory, "mapped.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(10000);
+        final WriterInterface wi = new WriterMemoryMapped(8192,file);
+        wi.setAutomaticFileRemoval(false);
+        for(int i = 0; i < 10; i++){
+            wi.handleData(byteArray);
+        }
+        wi.finish();
+        //check if the file is there and has the correct size
+        Assert.assertTrue(file.exists());
+        Assert.assertEquals(100000,file.length());
+    }
+
+    @Test
+    public void testWriterMemoryMappedWithPerformance(){
+        final File file = new File(testSpaceDirectory, "mappedPerformance.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(10000);
+        final PerformanceTimer pt = new PerformanceTimer("JunitTest");
+        final WriterInterface wi = new WriterMemoryMapped(8192,file,pt);
+        wi.setAutomaticFileRemoval(false);
+        for(int i = 0; i < 10; i++){
+            wi.handleData(byteArray);
+        }
+        wi.finish();
+        //check if the file is there and has the correct size
+        Assert.assertTrue(file.exists());
+        Assert.assertEquals(100000,file.length());
+        Assert.assertEquals(10,pt.getData().size());
+    }
+
+    @Test
+    public void testWriterMemoryMappedRegionRoll() throws IOException {
+        final File file = new File(testSpaceDirectory, "mappedRoll.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(1000000);
+        final WriterInterface wi = new WriterMemoryMapped(8192,file);
+        wi.setAutomaticFileRemoval(false);
+        //70 MB crosses the first mapped region
+        for(int i = 0; i < 70; i++){
+            wi.handleData(byteArray);
+        }
+        wi.finish();
+        Assert.assertTrue(file.exists());
+        Assert.assertEquals(70000000,file.length());
+        //check the chunk that is split between both regions
+        final byte[] readBack = new byte[byteArray.length];
+        try(final RandomAccessFile raf = new RandomAccessFile(file,"r")){
+            raf.seek(67000000);
+            raf.readFully(readBack);
+        }
+        Assert.assertArrayEquals(byteArray,readBack);
+    }
+
+}
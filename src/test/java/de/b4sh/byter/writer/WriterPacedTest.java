@@ -0,0 +1,87 @@
+/*
+ * File: WriterPacedTest
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.writer;
+
+import java.io.File;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.b4sh.byter.utils.data.ChunkGenerator;
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.io.ThreadManager;
+import de.b4sh.byter.utils.measurements.Measurement;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.measurements.RatePacer;
+import de.b4sh.byter.utils.writer.WriterFileChannel;
+import de.b4sh.byter.utils.writer.WriterNull;
+import de.b4sh.byter.utils.writer.WriterPaced;
+
+public class WriterPacedTest {
+
+    private static final Logger log = Logger.getLogger(WriterPacedTest.class.getName());
+    private static String testSpaceDirectory = System.getProperty("user.dir") + File.separator + "test-space" + File.separator + "writer_paced_test";
+
+    /**
+     * Initialisation of the test environment.
+     */
+    @BeforeClass
+    public static void createTestEnvironment(){
+        //set up test-space if not already done
+        FileManager.createFolder(testSpaceDirectory);
+    }
+
+    /**
+     * Clean up after test.
+     */
+    @AfterClass
+    public static void cleanTestDirectory(){
+        //clean up folder
+        FileManager.removeAllFilesInDirectory(testSpaceDirectory);
+    }
+
+    @Test
+    public void testWriterPaced(){
+        final File file = new File(testSpaceDirectory, "paced.txt");
+        final byte[] chunk = ChunkGenerator.generateChunk(8192);
+        final PerformanceTimer pt = new PerformanceTimer("JunitTest");
+        //8192 bytes per chunk at 4096000 bytes per second = 500 chunks per second
+        final WriterPaced wi = new WriterPaced(new WriterFileChannel(8192,file),new RatePacer(4096000,0,8192),pt);
+        wi.setAutomaticFileRemoval(false);
+        wi.setRunParameters(chunk,new byte[100],50);
+        final long tStart = System.nanoTime();
+        wi.run();
+        Assert.assertTrue(wi.isFinished());
+        Assert.assertTrue(System.nanoTime() - tStart >= 49 * 2000000L);
+        Assert.assertEquals(50L * 8192 + 100, file.length());
+        final Map<String, Float> eval = pt.evaluate();
+        Assert.assertEquals(51f, eval.get("pacedIssued"), 0f);
+        Assert.assertTrue(eval.containsKey("latencyP99Ms"));
+    }
+
+    @Test
+    public void testWriterPacedMeasuresFromPlannedStart(){
+        final File file = new File(testSpaceDirectory, "stalled.txt");
+        final byte[] chunk = ChunkGenerator.generateChunk(128);
+        final PerformanceTimer pt = new PerformanceTimer("JunitTest");
+        final WriterPaced wi = new WriterPaced(new WriterNull(128,file),new RatePacer(0,1000,128),pt);
+        wi.handleData(chunk);
+        ThreadManager.nap(30); //stall of the producer side
+        wi.handleData(chunk);
+        wi.handleData(chunk);
+        //the chunks after the stall were due ~29ms and ~28ms ago - their latency contains that wait
+        final Measurement afterStall = pt.getData().get(1);
+        Assert.assertTrue(afterStall.getTimeIntervalInNanoSecond() >= 25 * 1000000L);
+        Assert.assertTrue(pt.getData().get(2).getTimeIntervalInNanoSecond() >= 25 * 1000000L);
+        wi.finish();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * File: WriterPipelineTest
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.writer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.b4sh.byter.utils.data.ChunkGenerator;
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.writer.ChecksumSidecar;
+import de.b4sh.byter.utils.writer.WriterChecksumming;
+import de.b4sh.byter.utils.writer.WriterCompressing;
+import de.b4sh.byter.utils.writer.WriterPipeline;
+
+public class WriterPipelineTest {
+
+    private static String testSpaceDirectory = System.getProperty("user.dir") + File.separator + "test-space" + File.separator + "writer_pipeline_test";
+
+    /**
+     * Initialisation of the test environment.
+     */
+    @BeforeClass
+    public static void createTestEnvironment(){
+        //set up test-space if not already done
+        FileManager.createFolder(testSpaceDirectory);
+    }
+
+    /**
+     * Clean up after test.
+     */
+    @AfterClass
+    public static void cleanTestDirectory(){
+        //clean up folder
+        FileManager.removeAllFilesInDirectory(testSpaceDirectory);
+    }
+
+    @Test
+    public void testWriterPipeline() throws IOException {
+        final File file = new File(testSpaceDirectory, "pipeline.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(10000);
+        final PerformanceTimer pt = new PerformanceTimer("JunitTest");
+        final WriterPipeline wi = new WriterPipeline(Arrays.asList("defl","crcw","queue","fich"),8192,file,pt);
+        wi.setAutomaticFileRemoval(false);
+        for(int i = 0; i < 100; i++){
+            wi.handleData(byteArray,5000);
+        }
+        wi.finish();
+        Assert.assertTrue(wi.isFinished());
+        //every stage got its own timer, the stages behind the compressor see the framed blocks
+        Assert.assertEquals(100,wi.getStageTimer(0).getData().size());
+        Assert.assertTrue(wi.getStageTimer(1).getData().size() > 0);
+        Assert.assertEquals(wi.getStageTimer(1).getData().size(),wi.getStageTimer(3).getData().size());
+        final Map<String, Float> eval = pt.evaluate();
+        Assert.assertEquals(4f,eval.get("pipelineStages"),0f);
+        Assert.assertEquals(500000f,eval.get("pipelineStage0Bytes"),0f);
+        Assert.assertEquals((float) file.length(),eval.get("pipelineStage1Bytes"),0f);
+        Assert.assertEquals((float) file.length(),eval.get("pipelineStage3Bytes"),0f);
+        final float bottleneck = eval.get("pipelineBottleneckStage");
+        Assert.assertTrue(bottleneck >= 0f && bottleneck < 4f);
+        Assert.assertTrue(eval.get("pipelineBottleneckShare") > 0f);
+        //own time of a stage never exceeds the time incl. the stages behind it
+        for(int i = 0; i < 4; i++){
+            Assert.assertTrue(eval.get("pipelineStage" + i + "SelfMs")
+                    <= eval.get("pipelineStage" + i + "InclusiveMs") + eval.get("pipelineStage" + i + "FinishMs") + 0.001f);
+        }
+        //the checksum stage sits behind the compressor, its sidecar matches the written file
+        final ChecksumSidecar sidecar = ChecksumSidecar.read(new File(file.getPath() + WriterChecksumming.SIDECAR_SUFFIX));
+        Assert.assertNotNull(sidecar);
+        Assert.assertTrue(sidecar.verify(file,2).isValid());
+        //the file decompresses to the written stream
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try(final InputStream in = new FileInputStream(file)){
+            Assert.assertEquals(500000,WriterCompressing.decompress(in,out));
+        }
+        final byte[] content = out.toByteArray();
+        for(int i = 0; i < 100; i++){
+            Assert.assertArrayEquals(Arrays.copyOf(byteArray,5000),Arrays.copyOfRange(content,i * 5000,(i + 1) * 5000));
+        }
+    }
+
+    @Test
+    public void testWriterPipelineDefaultWithoutMeasurements() {
+        final File file = new File(testSpaceDirectory, "pipeline_default.txt");
+        final WriterPipeline wi = new WriterPipeline(null,8192,file);
+        Assert.assertEquals(WriterPipeline.DEFAULT_STAGES,wi.getStages());
+        Assert.assertNull(wi.getStageTimer(0));
+        wi.setRunParameters(ChunkGenerator.generateChunk(4096),ChunkGenerator.generateChunk(100),10);
+        wi.run();
+        Assert.assertTrue(wi.isFinished());
+        Assert.assertFalse(file.exists()); //removed by the sink
+    }
+
+    @Test
+    public void testWriterPipelineUnknownKeys() {
+        try {
+            new WriterPipeline(Arrays.asList("defl","nope","fich"),8192,new File(testSpaceDirectory, "pipeline_unknown.txt"));
+            Assert.fail("unknown stage was accepted");
+        } catch (IllegalArgumentException e) {
+            //expected
+        }
+        try {
+            new WriterPipeline(Arrays.asList("defl","pipe"),8192,new File(testSpaceDirectory, "pipeline_sink.txt"));
+            Assert.fail("pipeline was accepted as sink");
+        } catch (IllegalArgumentException e) {
+            //expected
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * File: WriterRandomAccessFileTest
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.writer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.logging.Logger;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.b4sh.byter.utils.data.ChunkGenerator;
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.writer.WriterInterface;
+import de.b4sh.byter.utils.writer.WriterRandomAccessFile;
+
+public class WriterRandomAccessFileTest {
+
+    private static final Logger log = Logger.getLogger(WriterRandomAccessFileTest.class.getName());
+    private static String testSpaceDirectory = System.getProperty("user.dir") + File.separator + "test-space" + File.separator + "writer_raf_test";
+
+    /**
+     * Initialisation of the test environment.
+     */
+    @BeforeClass
+    public static void createTestEnvironment(){
+        //set up test-space if not already done
+        FileManager.createFolder(testSpaceDirectory);
+    }
+
+    /**
+     * Clean up after test.
+     */
+    @AfterClass
+    public static void cleanTestDirectory(){
+        //clean up folder
+        FileManager.removeAllFilesInDirectory(testSpaceDirectory);
+    }
+
+    @Test
+    public void testWriterRandomAccessFile(){
+        final File file = new File(testSpaceDirectory, "raf.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(10000);
+        final PerformanceTimer pt = new PerformanceTimer("JunitTest");
+        final WriterInterface wi = new WriterRandomAccessFile(8192,file,pt);
+        wi.setAutomaticFileRemoval(false);
+        for(int i = 0; i < 10; i++){
+            wi.handleData(byteArray,5000);
+        }
+        wi.finish();
+        Assert.assertEquals(50000,file.length());
+        //measurements contain the real written length
+        Assert.assertEquals(5000,pt.getData().get(0).getDataLength());
+    }
+
+    @Test
+    public void testWriterRandomAccessFilePreallocated() throws IOException {
+        final File file = new File(testSpaceDirectory, "rafPreallocated.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(10000);
+        final PerformanceTimer pt = new PerformanceTimer("JunitTest");
+        //preallocate more than is written - the tail has to be cut on finish
+        final WriterRandomAccessFile wi = new WriterRandomAccessFile(8192,file,pt,150000);
+        wi.setAutomaticFileRemoval(false);
+        Assert.assertTrue(wi.isPositionTracking());
+        Assert.assertEquals(150000,file.length());
+        for(int i = 0; i < 10; i++){
+            wi.handleData(byteArray);
+        }
+        wi.finish();
+        Assert.assertEquals(100000,file.length());
+        Assert.assertEquals(150000,wi.getPreallocatedBytes());
+        Assert.assertEquals(150000f,pt.evaluate().get("preallocatedBytes"),0f);
+        //a second writer appends behind the existing data
+        final WriterRandomAccessFile append = new WriterRandomAccessFile(8192,file,null,10000);
+        append.setAutomaticFileRemoval(false);
+        append.handleData(byteArray);
+        append.finish();
+        Assert.assertEquals(110000,file.length());
+        final byte[] content = Files.readAllBytes(file.toPath());
+        for(int i = 0; i < 11; i++){
+            Assert.assertArrayEquals(byteArray,Arrays.copyOfRange(content,i*10000,(i+1)*10000));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * File: WriterSegmentedTest
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.writer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.b4sh.byter.utils.data.ChunkGenerator;
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.io.ThreadManager;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.writer.WriterSegmented;
+
+public class WriterSegmentedTest {
+
+    private static final Logger log = Logger.getLogger(WriterSegmentedTest.class.getName());
+    private static String testSpaceDirectory = System.getProperty("user.dir") + File.separator + "test-space" + File.separator + "writer_segmented_test";
+
+    /**
+     * Initialisation of the test environment.
+     */
+    @BeforeClass
+    public static void createTestEnvironment(){
+        //set up test-space if not already done
+        FileManager.createFolder(testSpaceDirectory);
+    }
+
+    /**
+     * Clean up after test.
+     */
+    @AfterClass
+    public static void cleanTestDirectory(){
+        //clean up folder
+        FileManager.removeAllFilesInDirectory(testSpaceDirectory);
+    }
+
+    @Test
+    public void testWriterSegmentedRetention() throws IOException {
+        final File file = new File(testSpaceDirectory, "segmented.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(10000);
+        final PerformanceTimer pt = new PerformanceTimer("JunitTest");
+        //segments of 30000 bytes, keep 2 closed segments
+        final WriterSegmented wi = new WriterSegmented(30000,2,file,pt);
+        wi.setAutomaticFileRemoval(false);
+        for(int i = 0; i < 10; i++){
+            wi.handleData(byteArray);
+        }
+        wi.finish();
+        Assert.assertTrue(wi.awaitMaintenance(5000));
+        Assert.assertEquals(3,wi.getSegmentRolls());
+        Assert.assertEquals(1,wi.getExpiredSegments());
+        //segment 0 expired, segment 3 is cut to the written length, segment 4 was preallocated only
+        Assert.assertFalse(wi.getSegmentFile(0).exists());
+        Assert.assertEquals(30000,wi.getSegmentFile(1).length());
+        Assert.assertEquals(30000,wi.getSegmentFile(2).length());
+        Assert.assertEquals(10000,wi.getSegmentFile(3).length());
+        Assert.assertFalse(wi.getSegmentFile(4).exists());
+        Assert.assertEquals("segmented.00003.seg",wi.getSegmentFile(3).getName());
+        Assert.assertArrayEquals(byteArray,Files.readAllBytes(wi.getSegmentFile(3).toPath()));
+        final byte[] second = Files.readAllBytes(wi.getSegmentFile(1).toPath());
+        Assert.assertArrayEquals(byteArray,Arrays.copyOfRange(second,0,10000));
+        final Map<String, Float> eval = pt.evaluate();
+        Assert.assertEquals(3f,eval.get("segmentRolls"),0f);
+        //every used segment either got its blocks reserved or is reported as sparse
+        Assert.assertEquals(4 * 30000f,eval.get("preallocatedBytes") + eval.get("preallocationSparseSegments") * 30000f,0f);
+        Assert.assertTrue(eval.containsKey("segmentSteadyStateMegaBytesPerSecond"));
+    }
+
+    @Test
+    public void testWriterSegmentedEndlessRun() throws InterruptedException {
+        final File file = new File(testSpaceDirectory, "endless.txt");
+        final WriterSegmented wi = new WriterSegmented(65536,3,file);
+        wi.setTruncateExpiredSegments(true);
+        wi.setRunParameters(ChunkGenerator.generateChunk(8192),ChunkGenerator.generateChunk(100),-1);
+        final Thread t = new Thread(wi);
+        t.start();
+        ThreadManager.nap(200);
+        wi.stop();
+        t.join(5000);
+        Assert.assertTrue(wi.isFinished());
+        Assert.assertTrue(wi.awaitMaintenance(5000));
+        Assert.assertTrue(wi.getSegmentRolls() > 3);
+        //expired segments are truncated, the retained ones are removed on finish
+        Assert.assertTrue(wi.getSegmentFile(0).exists());
+        Assert.assertEquals(0,wi.getSegmentFile(0).length());
+        Assert.assertFalse(wi.getSegmentFile((int) wi.getSegmentRolls()).exists());
+    }
+}
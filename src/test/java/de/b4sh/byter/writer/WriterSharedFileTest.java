@@ -0,0 +1,112 @@
+/*
+ * File: WriterSharedFileTest
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.writer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.writer.SharedFileGroup;
+import de.b4sh.byter.utils.writer.WriterSharedFile;
+
+public class WriterSharedFileTest {
+
+    private static final Logger log = Logger.getLogger(WriterSharedFileTest.class.getName());
+    private static String testSpaceDirectory = System.getProperty("user.dir") + File.separator + "test-space" + File.separator + "writer_sharedfile_test";
+
+    /**
+     * Initialisation of the test environment.
+     */
+    @BeforeClass
+    public static void createTestEnvironment(){
+        //set up test-space if not already done
+        FileManager.createFolder(testSpaceDirectory);
+    }
+
+    /**
+     * Clean up after test.
+     */
+    @AfterClass
+    public static void cleanTestDirectory(){
+        //clean up folder
+        FileManager.removeAllFilesInDirectory(testSpaceDirectory);
+    }
+
+    @Test
+    public void testSharedFileGroup() throws IOException, InterruptedException {
+        final File file = new File(testSpaceDirectory, "shared.txt");
+        final int threads = 4;
+        final int recordSize = 4096;
+        final int records = 200;
+        final PerformanceTimer pt = new PerformanceTimer("JunitTest");
+        final SharedFileGroup group = new SharedFileGroup(threads,file,pt);
+        group.setAutomaticFileRemoval(false);
+        final ExecutorService service = Executors.newFixedThreadPool(threads);
+        for(final WriterSharedFile wi: group.getMembers()){
+            //every member writes records filled with its own index
+            final byte[] record = new byte[recordSize];
+            Arrays.fill(record,(byte) (wi.getMemberIndex() + 1));
+            wi.setRunParameters(record,new byte[0],records);
+            service.submit(wi);
+        }
+        service.shutdown();
+        Assert.assertTrue(service.awaitTermination(30, TimeUnit.SECONDS));
+        Assert.assertTrue(group.isClosed());
+        //every record is in the file exactly once and no range overlaps
+        final byte[] data = Files.readAllBytes(file.toPath());
+        Assert.assertEquals((long) threads * records * recordSize, data.length);
+        final int[] perMember = new int[threads];
+        for(int r = 0; r < data.length / recordSize; r++){
+            final byte id = data[r * recordSize];
+            for(int i = 1; i < recordSize; i++){
+                Assert.assertEquals(id, data[r * recordSize + i]);
+            }
+            perMember[id - 1]++;
+        }
+        for(int count: perMember){
+            Assert.assertEquals(records, count);
+        }
+        Assert.assertEquals(threads * (records + 1), group.getReservations()); //+1 for the empty edge
+        final Map<String, Float> eval = pt.evaluate();
+        Assert.assertEquals((float) threads, eval.get("sharedFileThreads"), 0f);
+        Assert.assertTrue(eval.containsKey("sharedFileReservationMs"));
+        Assert.assertTrue(eval.containsKey("sharedFileThread0WriteMs"));
+        //every reserved range is written, the completed range reaches the end of the file
+        Assert.assertEquals(data.length, group.getCompletedOffset());
+        Assert.assertTrue(eval.containsKey("sharedFileMegaBytesPerSecond"));
+        Assert.assertEquals((float) records * recordSize, eval.get("sharedFileThread0Bytes"), 0f);
+    }
+
+    @Test
+    public void testSharedFileGroupAppends() throws IOException {
+        final File file = new File(testSpaceDirectory, "append.txt");
+        Files.write(file.toPath(), new byte[100]);
+        final SharedFileGroup group = new SharedFileGroup(2,file);
+        group.setAutomaticFileRemoval(false);
+        group.getMembers().get(0).handleData(new byte[50]);
+        group.getMembers().get(1).handleData(new byte[25]);
+        group.getMembers().get(0).finish();
+        Assert.assertFalse(group.isClosed());
+        group.getMembers().get(1).finish();
+        Assert.assertTrue(group.isClosed());
+        Assert.assertEquals(175, file.length());
+    }
+}
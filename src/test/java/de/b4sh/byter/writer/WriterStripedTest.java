@@ -0,0 +1,137 @@
+/*
+ * File: WriterStripedTest
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.writer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.b4sh.byter.utils.data.ChunkGenerator;
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.writer.StripeMap;
+import de.b4sh.byter.utils.writer.WriterStriped;
+
+public class WriterStripedTest {
+
+    private static final Logger log = Logger.getLogger(WriterStripedTest.class.getName());
+    private static String testSpaceDirectory = System.getProperty("user.dir") + File.separator + "test-space" + File.separator + "writer_striped_test";
+
+    /**
+     * Initialisation of the test environment.
+     */
+    @BeforeClass
+    public static void createTestEnvironment(){
+        //set up test-space if not already done
+        FileManager.createFolder(testSpaceDirectory);
+    }
+
+    /**
+     * Clean up after test.
+     */
+    @AfterClass
+    public static void cleanTestDirectory(){
+        //clean up folder
+        for(int i = 0; i < 3; i++){
+            FileManager.removeAllFilesInDirectory(testSpaceDirectory + File.separator + "disc" + i);
+        }
+        FileManager.removeAllFilesInDirectory(testSpaceDirectory);
+    }
+
+    @Test
+    public void testWriterStriped() throws IOException {
+        final File file = new File(testSpaceDirectory, "striped.txt");
+        final List<String> directories = new ArrayList<>();
+        for(int i = 0; i < 3; i++){
+            directories.add(testSpaceDirectory + File.separator + "disc" + i);
+        }
+        final byte[] byteArray = ChunkGenerator.generateChunk(10000);
+        final PerformanceTimer pt = new PerformanceTimer("JunitTest");
+        final WriterStriped wi = new WriterStriped(4096,directories,file,pt);
+        wi.setAutomaticFileRemoval(false);
+        for(int i = 0; i < 10; i++){
+            wi.handleData(byteArray);
+        }
+        wi.finish();
+        Assert.assertEquals(3,wi.getStripeCount());
+        //25 stripes (24 full + 1 partly filled) round robin: 9 | 8 | 8
+        final StripeMap map = StripeMap.read(wi.getStripeMapFile());
+        Assert.assertNotNull(map);
+        Assert.assertEquals(100000,map.getTotalBytes());
+        Assert.assertEquals(3,map.getStripes().size());
+        Assert.assertEquals(8 * 4096 + 1696,new File(map.getStripes().get(0)).length());
+        Assert.assertEquals(8 * 4096,new File(map.getStripes().get(1)).length());
+        Assert.assertEquals(8 * 4096,new File(map.getStripes().get(2)).length());
+        //reassembled stream has to match the written one
+        final File reassembled = new File(testSpaceDirectory, "reassembled.txt");
+        map.reassemble(reassembled);
+        final byte[] content = Files.readAllBytes(reassembled.toPath());
+        Assert.assertEquals(100000,content.length);
+        for(int i = 0; i < 10; i++){
+            Assert.assertArrayEquals(byteArray,Arrays.copyOfRange(content,i*10000,(i+1)*10000));
+        }
+        final Map<String, Float> eval = pt.evaluate();
+        Assert.assertEquals(3f,eval.get("stripeCount"),0f);
+        Assert.assertEquals(8f * 4096,eval.get("stripe1Bytes"),0f);
+        Assert.assertTrue(eval.containsKey("aggregateMegaBytesPerSecond"));
+        Assert.assertEquals(0f,eval.get("stripeFailedFiles"),0f);
+        Assert.assertTrue(map.getFailedStripes().isEmpty());
+    }
+
+    @Test
+    public void testWriterStripedFailedStripe() throws IOException {
+        final File file = new File(testSpaceDirectory, "stripedFailed.txt");
+        //a regular file in place of the second directory - its stripe file can't be opened
+        final File blocked = new File(testSpaceDirectory, "blocked");
+        Assert.assertTrue(blocked.createNewFile() || blocked.isFile());
+        final List<String> directories = new ArrayList<>();
+        directories.add(testSpaceDirectory + File.separator + "disc0");
+        directories.add(blocked.getPath());
+        final PerformanceTimer pt = new PerformanceTimer("JunitTest");
+        final WriterStriped wi = new WriterStriped(4096,directories,file,pt);
+        wi.setAutomaticFileRemoval(false);
+        wi.handleData(ChunkGenerator.generateChunk(40000));
+        wi.finish();
+        final Map<String, Float> eval = pt.evaluate();
+        Assert.assertEquals(0f,eval.get("stripe1Bytes"),0f);
+        Assert.assertEquals(1f,eval.get("stripeFailedFiles"),0f);
+        final StripeMap map = StripeMap.read(wi.getStripeMapFile());
+        Assert.assertEquals(Collections.singletonList(1),map.getFailedStripes());
+        try {
+            map.reassemble(new File(testSpaceDirectory, "reassembledFailed.txt"));
+            Assert.fail("reassembled a stream with an incomplete stripe file");
+        } catch (IOException e) {
+            log.info("expected: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testWriterStripedAutomaticRemoval(){
+        final File file = new File(testSpaceDirectory, "stripedRemoval.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(10000);
+        final WriterStriped wi = new WriterStriped(8192,null,file);
+        for(int i = 0; i < 10; i++){
+            wi.handleData(byteArray);
+        }
+        wi.finish();
+        Assert.assertTrue(wi.isFinished());
+        Assert.assertFalse(wi.getStripeMapFile().exists());
+        Assert.assertFalse(new File(testSpaceDirectory, "stripedRemoval.txt.0").exists());
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * File: WriterTransferTest
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.writer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.logging.Logger;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.b4sh.byter.support.TestCaseHelper;
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.writer.ReplicationMode;
+import de.b4sh.byter.utils.writer.WriterTransfer;
+
+public class WriterTransferTest {
+
+    private static final Logger log = Logger.getLogger(WriterTransferTest.class.getName());
+    private static String testSpaceDirectory = System.getProperty("user.dir") + File.separator + "test-space" + File.separator + "writer_transfer_test";
+
+    /**
+     * Initialisation of the test environment.
+     */
+    @BeforeClass
+    public static void createTestEnvironment(){
+        //set up test-space if not already done
+        FileManager.createFolder(testSpaceDirectory);
+        //create test dummy file
+        TestCaseHelper.createTestCaseFile(testSpaceDirectory,"source.file",1000000,10);
+    }
+
+    /**
+     * Clean up after test.
+     */
+    @AfterClass
+    public static void cleanTestDirectory(){
+        //clean up folder
+        FileManager.removeAllFilesInDirectory(testSpaceDirectory);
+    }
+
+    @Test
+    public void testWriterTransferEveryMode() throws IOException {
+        final File source = new File(testSpaceDirectory,"source.file");
+        final byte[] expected = Files.readAllBytes(source.toPath());
+        for(ReplicationMode mode: ReplicationMode.values()){
+            final File target = new File(testSpaceDirectory, "replica_" + mode.getKey() + ".file");
+            final PerformanceTimer pt = new PerformanceTimer("JunitTest");
+            final WriterTransfer wi = new WriterTransfer(source,target,65536,mode,pt);
+            wi.setAutomaticFileRemoval(false);
+            wi.run();
+            Assert.assertTrue(mode.getKey(),wi.isFinished());
+            Assert.assertEquals(mode.getKey(),expected.length,wi.getReplicatedBytes());
+            Assert.assertArrayEquals(mode.getKey(),expected,Files.readAllBytes(target.toPath()));
+            //one measurement per slice
+            final int slices = (expected.length + 65535) / 65536;
+            Assert.assertEquals(mode.getKey(),slices,pt.getData().size());
+            Assert.assertEquals(mode.getKey(),(float) slices,pt.evaluate().get("replicationSlices"),0f);
+        }
+    }
+
+    @Test
+    public void testWriterTransferOverwritesTarget() throws IOException {
+        final File source = new File(testSpaceDirectory,"source.file");
+        final File target = new File(testSpaceDirectory, "replica_overwrite.file");
+        Files.write(target.toPath(), new byte[(int) source.length() * 2]);
+        final WriterTransfer wi = new WriterTransfer(source,target,0,ReplicationMode.TransferTo);
+        wi.setAutomaticFileRemoval(false);
+        wi.run();
+        Assert.assertEquals(source.length(),target.length());
+        //automatic removal only removes the replica
+        final WriterTransfer removing = new WriterTransfer(source,target,0,ReplicationMode.TransferFrom);
+        removing.run();
+        Assert.assertFalse(target.exists());
+        Assert.assertTrue(source.exists());
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * File: WriterUringTest
+ * Project: Byter
+ * Author: deB4SH
+ * First-Created: 2026-10-18
+ * Type: Class
+ */
+package de.b4sh.byter.writer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import de.b4sh.byter.utils.data.ChunkGenerator;
+import de.b4sh.byter.utils.io.FileManager;
+import de.b4sh.byter.utils.io.IoUring;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
+import de.b4sh.byter.utils.writer.WriterUring;
+
+public class WriterUringTest {
+
+    private static String testSpaceDirectory = System.getProperty("user.dir") + File.separator + "test-space" + File.separator + "writer_uring_test";
+
+    /**
+     * Initialisation of the test environment.
+     */
+    @BeforeClass
+    public static void createTestEnvironment(){
+        //set up test-space if not already done
+        FileManager.createFolder(testSpaceDirectory);
+    }
+
+    /**
+     * Clean up after test.
+     */
+    @AfterClass
+    public static void cleanTestDirectory(){
+        //clean up folder
+        FileManager.removeAllFilesInDirectory(testSpaceDirectory);
+    }
+
+    @Test
+    public void testWriterUring(){
+        final File file = new File(testSpaceDirectory, "uring.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(10000);
+        final WriterUring wi = new WriterUring(8192,0,0,file);
+        wi.setAutomaticFileRemoval(false);
+        for(int i = 0; i < 10; i++){
+            wi.handleData(byteArray);
+        }
+        wi.finish();
+        //check if the file is there and has the correct size
+        Assert.assertTrue(wi.isFinished());
+        Assert.assertEquals(100000,file.length());
+        Assert.assertEquals(IoUring.isSupported(),wi.isNativeEngine());
+        Assert.assertEquals(WriterUring.DEFAULT_QUEUE_DEPTH,wi.getQueueDepth());
+        Assert.assertEquals(WriterUring.DEFAULT_QUEUE_DEPTH / 4,wi.getBatchSize());
+        Assert.assertEquals(0,wi.getFailedWrites());
+    }
+
+    @Test
+    public void testWriterUringWithPerformance() throws IOException {
+        final File file = new File(testSpaceDirectory, "uringPerformance.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(10000);
+        final PerformanceTimer pt = new PerformanceTimer("JunitTest");
+        final WriterUring wi = new WriterUring(4096,16,4,file,pt);
+        wi.setAutomaticFileRemoval(false);
+        for(int i = 0; i < 100; i++){
+            wi.handleData(byteArray);
+        }
+        wi.finish();
+        Assert.assertEquals(1000000,file.length());
+        //one measurement per completed write: 244 full buffers + the tail
+        Assert.assertEquals(245,pt.getData().size());
+        final Map<String, Float> eval = pt.evaluate();
+        if(wi.isNativeEngine()){
+            //batches of four writes need far less io_uring_enter calls than writes
+            Assert.assertEquals(1f,eval.get("uringEngine"),0f);
+            Assert.assertEquals(245f,eval.get("uringCompletions"),0f);
+            Assert.assertTrue(wi.getEnterCalls() > 0 && wi.getEnterCalls() < 245);
+            Assert.assertTrue(eval.get("uringOpsPerSyscall") > 1f);
+        }else{
+            Assert.assertEquals(0f,eval.get("uringEngine"),0f);
+            Assert.assertEquals(16f,eval.get("queueDepth"),0f);
+        }
+        //positional writes have to land in the right order
+        final byte[] content = Files.readAllBytes(file.toPath());
+        for(int i = 0; i < 100; i++){
+            Assert.assertArrayEquals(byteArray,Arrays.copyOfRange(content,i*10000,(i+1)*10000));
+        }
+    }
+
+    @Test
+    public void testWriterUringAppendsAndRemoves(){
+        final File file = new File(testSpaceDirectory, "uringRemoval.txt");
+        final byte[] byteArray = ChunkGenerator.generateChunk(5000);
+        WriterUring wi = new WriterUring(8192,2,1,file);
+        wi.setAutomaticFileRemoval(false);
+        wi.handleData(byteArray);
+        wi.finish();
+        //a second writer appends to the existing data and removes the file afterwards
+        wi = new WriterUring(8192,2,1,file);
+        wi.setRunParameters(byteArray,new byte[0],2);
+        wi.run();
+        Assert.assertTrue(wi.isFinished());
+        Assert.assertFalse(file.exists());
+    }
+}
@@ -8,6 +8,9 @@
 package de.b4sh.byter.writer;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 import org.junit.AfterClass;
@@ -18,6 +21,7 @@ import org.junit.Test;
 import de.b4sh.byter.utils.data.ChunkGenerator;
 import de.b4sh.byter.utils.io.FileManager;
 import de.b4sh.byter.utils.io.ThreadManager;
+import de.b4sh.byter.utils.measurements.PerformanceTimer;
 import de.b4sh.byter.utils.writer.WriterType;
 import de.b4sh.byter.utils.writer.WriterWorkpile;
 
@@ -69,4 +73,62 @@ public class WriterWorkpileTest {
         final long resultFileSize = writeFile.length();
         Assert.assertEquals(dataLength,resultFileSize);
     }
+
+    /**
+     * Test the workpile with a reused producer array and a small ring to force backpressure.
+     */
+    @Test
+    public void testWriterWorkpileBackpressure() throws IOException {
+        final byte[] chunk = ChunkGenerator.generateChunk(4000);
+        final byte[] reused = new byte[chunk.length];
+        final File writeFile = new File(testSpaceDirectory, "workpileBackpressure.test");
+        final PerformanceTimer pt = new PerformanceTimer("JunitTest");
+        final WriterWorkpile workpileWriter = new WriterWorkpile(writeFile, WriterType.FileChannelWriter,8000,4,pt);
+        workpileWriter.setAutomaticFileRemoval(false);
+        for(int i = 0; i < 500; i++){
+            //network implementations refill the same array after every handleData
+            System.arraycopy(chunk,0,reused,0,chunk.length);
+            workpileWriter.handleData(reused,chunk.length);
+            Arrays.fill(reused,(byte)0);
+        }
+        workpileWriter.finish();
+        Assert.assertTrue(workpileWriter.isFinished());
+        Assert.assertEquals(500L * chunk.length,writeFile.length());
+        Assert.assertEquals(500,pt.getData().size());
+        Assert.assertTrue(workpileWriter.getMaxQueueDepth() <= 4);
+        final byte[] content = Files.readAllBytes(writeFile.toPath());
+        Assert.assertArrayEquals(chunk,Arrays.copyOfRange(content,content.length - chunk.length,content.length));
+    }
+
+    /**
+     * Every writer type should be usable as working writer.
+     */
+    @Test
+    public void testWriterWorkpileWithEveryWriterType(){
+        final byte[] chunk = ChunkGenerator.generateChunk(10000);
+        for(WriterType wt: WriterType.values()){
+            if(wt == WriterType.None)
+                continue;
+            final File writeFile = new File(testSpaceDirectory, "workpile_" + wt.getKey() + ".test");
+            final WriterWorkpile workpileWriter = new WriterWorkpile(writeFile, wt,8192);
+            workpileWriter.setAutomaticFileRemoval(false);
+            for(int i = 0; i < 10; i++){
+                workpileWriter.handleData(chunk);
+            }
+            workpileWriter.finish();
+            Assert.assertTrue(wt.getKey(),workpileWriter.isFinished());
+            if(wt == WriterType.StripedWriter) //single stripe next to the requested file
+                Assert.assertEquals(wt.getKey(),100000,new File(writeFile.getPath() + ".0").length());
+            else if(wt == WriterType.SegmentedWriter) //first segment next to the requested file
+                Assert.assertEquals(wt.getKey(),100000,new File(testSpaceDirectory, "workpile_segm.00000.seg").length());
+            else if(wt == WriterType.CompressingWriter || wt == WriterType.PipelineWriter) //repeated chunk compresses well
+                Assert.assertTrue(wt.getKey(),writeFile.length() > 0 && writeFile.length() < 100000);
+            else if(wt == WriterType.EncryptingCtrWriter || wt == WriterType.EncryptingGcmWriter) //frame headers (and tags)
+                Assert.assertTrue(wt.getKey(),writeFile.length() > 100000);
+            else if(wt == WriterType.ErasureCodedWriter) //shard files and map next to the requested file
+                Assert.assertTrue(wt.getKey(),new File(writeFile.getPath() + ".ecmap").isFile());
+            else if(wt != WriterType.NullWriter)
+                Assert.assertEquals(wt.getKey(),100000,writeFile.length());
+        }
+    }
 }